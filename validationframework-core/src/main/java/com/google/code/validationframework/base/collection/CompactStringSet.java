@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable set of strings, storing all characters in a single array and using open addressing.
+ * <p>
+ * Looking up a string costs O(1), and the set takes about 2 bytes per character and 16 to 24 bytes per string, which is
+ * much less than a {@link java.util.HashSet} of {@link String}s. Any {@link CharSequence} can be looked up without
+ * being converted into a string first.
+ * <p>
+ * Note that this class is thread-safe as it is immutable.
+ *
+ * @see #readFrom(Reader)
+ */
+public final class CompactStringSet {
+
+    /**
+     * Maximum capacity of the table.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Characters of all strings, one after the other.
+     */
+    private final char[] characters;
+
+    /**
+     * Offsets of the strings in the character array, plus the total number of characters.
+     */
+    private final int[] offsets;
+
+    /**
+     * Hash codes of the strings.
+     */
+    private final int[] hashCodes;
+
+    /**
+     * Table of the indexes of the strings plus one, 0 meaning an empty slot.
+     */
+    private final int[] table;
+
+    /**
+     * Constructor specifying the strings of the set.
+     * <p>
+     * Duplicate strings are ignored.
+     *
+     * @param strings Strings of the set.
+     */
+    public CompactStringSet(Collection<? extends CharSequence> strings) {
+        int capacity = 2;
+        while ((capacity < MAX_CAPACITY) && (capacity < 2 * strings.size())) {
+            capacity <<= 1;
+        }
+        if (strings.size() > capacity / 2) {
+            throw new IllegalArgumentException("Too many strings: " + strings.size());
+        }
+        table = new int[capacity];
+
+        int characterCount = 0;
+        for (CharSequence string : strings) {
+            characterCount += string.length();
+        }
+        char[] allCharacters = new char[characterCount];
+        int[] allOffsets = new int[strings.size() + 1];
+        int[] allHashCodes = new int[strings.size()];
+
+        // Add the strings, skipping duplicates
+        int count = 0;
+        int offset = 0;
+        for (CharSequence string : strings) {
+            int hashCode = hashCode(string);
+            int index = indexOf(string, hashCode, allCharacters, allOffsets, allHashCodes);
+            if (table[index] == 0) {
+                for (int i = 0; i < string.length(); i++) {
+                    allCharacters[offset + i] = string.charAt(i);
+                }
+                allHashCodes[count] = hashCode;
+                allOffsets[count] = offset;
+                offset += string.length();
+                count++;
+                allOffsets[count] = offset;
+                table[index] = count;
+            }
+        }
+
+        if (count == strings.size()) {
+            characters = allCharacters;
+            offsets = allOffsets;
+            hashCodes = allHashCodes;
+        } else {
+            // Trim the arrays
+            characters = new char[offset];
+            System.arraycopy(allCharacters, 0, characters, 0, offset);
+            offsets = new int[count + 1];
+            System.arraycopy(allOffsets, 0, offsets, 0, count + 1);
+            hashCodes = new int[count];
+            System.arraycopy(allHashCodes, 0, hashCodes, 0, count);
+        }
+    }
+
+    /**
+     * Reads the strings of a set from the specified reader, one string per line.
+     * <p>
+     * Leading and trailing whitespaces are ignored, as well as empty lines. The reader is not closed.
+     *
+     * @param reader Reader providing the strings.
+     *
+     * @return Set of the read strings.
+     *
+     * @throws IOException If the strings could not be read.
+     */
+    public static CompactStringSet readFrom(Reader reader) throws IOException {
+        BufferedReader bufferedReader = (reader instanceof BufferedReader) ? (BufferedReader) reader : new
+                BufferedReader(reader);
+
+        List<String> strings = new ArrayList<String>();
+        String line = bufferedReader.readLine();
+        while (line != null) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                strings.add(trimmed);
+            }
+            line = bufferedReader.readLine();
+        }
+
+        return new CompactStringSet(strings);
+    }
+
+    /**
+     * Computes the hash code of the specified character sequence, the same way as {@link String#hashCode()}.
+     *
+     * @param string Character sequence.
+     *
+     * @return Hash code.
+     */
+    private static int hashCode(CharSequence string) {
+        int hashCode = 0;
+
+        for (int i = 0; i < string.length(); i++) {
+            hashCode = 31 * hashCode + string.charAt(i);
+        }
+
+        return hashCode;
+    }
+
+    /**
+     * Gets the index of the slot of the table containing the specified string, or of the empty slot where it would be
+     * stored.
+     *
+     * @param string         String to be looked up.
+     * @param hashCode       Hash code of the string.
+     * @param usedCharacters Characters of the strings already in the set.
+     * @param usedOffsets    Offsets of the strings already in the set.
+     * @param usedHashCodes  Hash codes of the strings already in the set.
+     *
+     * @return Index in the table.
+     */
+    private int indexOf(CharSequence string, int hashCode, char[] usedCharacters, int[] usedOffsets,
+                        int[] usedHashCodes) {
+        int mask = table.length - 1;
+        int index = (hashCode ^ (hashCode >>> 16)) & mask;
+
+        boolean found = false;
+        while (!found && (table[index] != 0)) {
+            int stringIndex = table[index] - 1;
+            found = (usedHashCodes[stringIndex] == hashCode) && regionEquals(string, usedCharacters,
+                    usedOffsets[stringIndex], usedOffsets[stringIndex + 1]);
+            if (!found) {
+                index = (index + 1) & mask;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * States whether the specified character sequence is equal to the specified region of the character array.
+     *
+     * @param string     Character sequence.
+     * @param characters Character array.
+     * @param start      Start of the region, included.
+     * @param end        End of the region, excluded.
+     *
+     * @return True if they are equal, false otherwise.
+     */
+    private static boolean regionEquals(CharSequence string, char[] characters, int start, int end) {
+        boolean equal = (string.length() == end - start);
+
+        for (int i = 0; equal && (i < string.length()); i++) {
+            equal = (string.charAt(i) == characters[start + i]);
+        }
+
+        return equal;
+    }
+
+    /**
+     * States whether the set contains the specified string.
+     *
+     * @param string String to be looked up.
+     *
+     * @return True if the set contains the string, false otherwise.
+     */
+    public boolean contains(CharSequence string) {
+        return (string != null) && (table[indexOf(string, hashCode(string), characters, offsets, hashCodes)] != 0);
+    }
+
+    /**
+     * Gets the number of distinct strings in the set.
+     *
+     * @return Number of strings.
+     */
+    public int size() {
+        return hashCodes.length;
+    }
+
+    /**
+     * States whether the set is empty.
+     *
+     * @return True if the set is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return hashCodes.length == 0;
+    }
+}
@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.collection;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of words, stored as a trie in which identical suffixes are shared (also known as directed acyclic word
+ * graph, or minimal acyclic automaton).
+ * <p>
+ * Looking up a word or a prefix costs O(k log a), where k is the length of the word and a the size of the alphabet, and
+ * does not allocate any object. As common prefixes and suffixes are stored only once, large vocabularies (dictionaries,
+ * postal codes, identifiers, etc.) take much less memory than in a {@link java.util.HashSet} of {@link String}s: about
+ * 4 bytes per state and 6 bytes per transition.
+ * <p>
+ * The trie is built in a single pass from sorted words, without keeping the words themselves in memory, so that it can
+ * be loaded quickly from a sorted file.
+ * <p>
+ * Note that this class is thread-safe as it is immutable.
+ *
+ * @see #readFrom(Reader)
+ */
+public final class CompactTrie {
+
+    /**
+     * State of the trie being built.
+     * <p>
+     * Two states are equal if they are both final or both non-final, and if they have the same transitions to the same
+     * target states. As states are registered only after all their target states, comparing the targets by identity is
+     * enough.
+     */
+    private static final class BuildState {
+
+        /**
+         * Characters of the outgoing transitions, in ascending order.
+         */
+        private char[] labels = new char[2];
+
+        /**
+         * Target states of the outgoing transitions.
+         */
+        private BuildState[] targets = new BuildState[2];
+
+        /**
+         * Number of outgoing transitions.
+         */
+        private int transitionCount = 0;
+
+        /**
+         * Flag stating whether a word ends at this state.
+         */
+        private boolean finalState = false;
+
+        /**
+         * Index of the state in the built trie, or -1 if not assigned yet.
+         */
+        private int index = -1;
+
+        /**
+         * Adds a transition after all the existing ones.
+         *
+         * @param label  Character of the transition, greater than the characters of the existing transitions.
+         * @param target Target state.
+         */
+        private void addTransition(char label, BuildState target) {
+            if (transitionCount == labels.length) {
+                labels = Arrays.copyOf(labels, transitionCount * 2);
+                targets = Arrays.copyOf(targets, transitionCount * 2);
+            }
+            labels[transitionCount] = label;
+            targets[transitionCount] = target;
+            transitionCount++;
+        }
+
+        /**
+         * @see Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            int hashCode = finalState ? 1 : 0;
+
+            for (int i = 0; i < transitionCount; i++) {
+                hashCode = 31 * (31 * hashCode + labels[i]) + System.identityHashCode(targets[i]);
+            }
+
+            return hashCode;
+        }
+
+        /**
+         * @see Object#equals(Object)
+         */
+        @Override
+        public boolean equals(Object object) {
+            boolean equal = false;
+
+            if (object instanceof BuildState) {
+                BuildState other = (BuildState) object;
+                equal = (finalState == other.finalState) && (transitionCount == other.transitionCount);
+                for (int i = 0; equal && (i < transitionCount); i++) {
+                    equal = (labels[i] == other.labels[i]) && (targets[i] == other.targets[i]);
+                }
+            }
+
+            return equal;
+        }
+    }
+
+    /**
+     * Builder of tries, adding sorted words one by one and merging equivalent states as soon as they cannot change
+     * anymore (see Daciuk et al., Incremental Construction of Minimal Acyclic Finite-State Automata, 2000).
+     */
+    private static final class Builder {
+
+        /**
+         * Registered states, that will not be modified anymore.
+         */
+        private final Map<BuildState, BuildState> register = new HashMap<BuildState, BuildState>();
+
+        /**
+         * States along the path of the last added word, starting with the root state.
+         */
+        private BuildState[] path = new BuildState[16];
+
+        /**
+         * Last added word, or null if no word was added yet.
+         */
+        private String lastWord = null;
+
+        /**
+         * Number of distinct added words.
+         */
+        private int wordCount = 0;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+            path[0] = new BuildState();
+        }
+
+        /**
+         * Adds the specified word.
+         *
+         * @param word Word to be added, not less than the last added word.
+         *
+         * @throws IllegalArgumentException If the word is less than the last added word.
+         */
+        public void add(String word) {
+            int comparison = (lastWord == null) ? 1 : word.compareTo(lastWord);
+            if (comparison < 0) {
+                throw new IllegalArgumentException("Words are not sorted: '" + word + "' is after '" + lastWord + "'");
+            } else if (comparison > 0) {
+                // Find the common prefix with the last word, whose states can still be modified
+                int prefixLength = 0;
+                if (lastWord != null) {
+                    int maxLength = Math.min(word.length(), lastWord.length());
+                    while ((prefixLength < maxLength) && (word.charAt(prefixLength) == lastWord.charAt
+                            (prefixLength))) {
+                        prefixLength++;
+                    }
+                    registerPath(prefixLength);
+                }
+
+                // Add the states for the suffix of the new word
+                if (path.length <= word.length()) {
+                    path = Arrays.copyOf(path, Math.max(path.length * 2, word.length() + 1));
+                }
+                for (int i = prefixLength; i < word.length(); i++) {
+                    path[i + 1] = new BuildState();
+                    path[i].addTransition(word.charAt(i), path[i + 1]);
+                }
+                path[word.length()].finalState = true;
+
+                lastWord = word;
+                wordCount++;
+            } // Else duplicate word
+        }
+
+        /**
+         * Registers the states of the path of the last word beyond the specified depth, replacing them by equivalent
+         * registered states when possible.
+         *
+         * @param depth Depth of the last state that can still be modified.
+         */
+        private void registerPath(int depth) {
+            for (int i = lastWord.length(); i > depth; i--) {
+                BuildState registered = register.get(path[i]);
+                if (registered == null) {
+                    register.put(path[i], path[i]);
+                } else {
+                    // The replaced state is always the target of the last transition of its parent
+                    BuildState parent = path[i - 1];
+                    parent.targets[parent.transitionCount - 1] = registered;
+                }
+                path[i] = null;
+            }
+        }
+
+        /**
+         * Builds the trie containing all the added words.
+         *
+         * @return Trie.
+         */
+        public CompactTrie build() {
+            if (lastWord != null) {
+                registerPath(0);
+            }
+
+            // Number the states in breadth-first order, starting with the root state
+            List<BuildState> states = new ArrayList<BuildState>();
+            BuildState root = path[0];
+            root.index = 0;
+            states.add(root);
+            int transitionCount = 0;
+            for (int i = 0; i < states.size(); i++) {
+                BuildState state = states.get(i);
+                transitionCount += state.transitionCount;
+                for (int j = 0; j < state.transitionCount; j++) {
+                    BuildState target = state.targets[j];
+                    if (target.index < 0) {
+                        target.index = states.size();
+                        states.add(target);
+                    }
+                }
+            }
+
+            // Flatten the states into arrays
+            int[] firstTransitions = new int[states.size() + 1];
+            char[] labels = new char[transitionCount];
+            int[] targets = new int[transitionCount];
+            long[] finalStates = new long[(states.size() + 63) >>> 6];
+            int transitionIndex = 0;
+            for (int i = 0; i < states.size(); i++) {
+                BuildState state = states.get(i);
+                firstTransitions[i] = transitionIndex;
+                for (int j = 0; j < state.transitionCount; j++) {
+                    labels[transitionIndex] = state.labels[j];
+                    targets[transitionIndex] = state.targets[j].index;
+                    transitionIndex++;
+                }
+                if (state.finalState) {
+                    finalStates[i >>> 6] |= 1L << i;
+                }
+            }
+            firstTransitions[states.size()] = transitionIndex;
+
+            return new CompactTrie(firstTransitions, labels, targets, finalStates, wordCount);
+        }
+    }
+
+    /**
+     * Index of the root state.
+     */
+    private static final int ROOT_STATE = 0;
+
+    /**
+     * Value returned when there is no state for a character sequence.
+     */
+    private static final int NO_STATE = -1;
+
+    /**
+     * Indexes of the first outgoing transitions of the states, plus the total number of transitions.
+     * <p>
+     * The transitions of a state are stored in ascending order of their characters.
+     */
+    private final int[] firstTransitions;
+
+    /**
+     * Characters of all transitions.
+     */
+    private final char[] labels;
+
+    /**
+     * Target states of all transitions.
+     */
+    private final int[] targets;
+
+    /**
+     * Bit set of the states at which a word ends.
+     */
+    private final long[] finalStates;
+
+    /**
+     * Number of words.
+     */
+    private final int wordCount;
+
+    /**
+     * Constructor specifying the words of the trie.
+     * <p>
+     * The words do not need to be sorted, and duplicate words are ignored.
+     *
+     * @param words Words of the trie.
+     */
+    public CompactTrie(Collection<? extends CharSequence> words) {
+        String[] sortedWords = new String[words.size()];
+        int i = 0;
+        for (CharSequence word : words) {
+            sortedWords[i++] = word.toString();
+        }
+        Arrays.sort(sortedWords);
+
+        Builder builder = new Builder();
+        for (String word : sortedWords) {
+            builder.add(word);
+        }
+        CompactTrie trie = builder.build();
+
+        firstTransitions = trie.firstTransitions;
+        labels = trie.labels;
+        targets = trie.targets;
+        finalStates = trie.finalStates;
+        wordCount = trie.wordCount;
+    }
+
+    /**
+     * Constructor specifying the flattened states.
+     *
+     * @param firstTransitions Indexes of the first outgoing transitions of the states.
+     * @param labels           Characters of all transitions.
+     * @param targets          Target states of all transitions.
+     * @param finalStates      Bit set of the final states.
+     * @param wordCount        Number of words.
+     */
+    private CompactTrie(int[] firstTransitions, char[] labels, int[] targets, long[] finalStates, int wordCount) {
+        this.firstTransitions = firstTransitions;
+        this.labels = labels;
+        this.targets = targets;
+        this.finalStates = finalStates;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Reads the words of a trie from the specified reader, one word per line.
+     * <p>
+     * The words are expected to be sorted in ascending order, as by {@link String#compareTo(String)}, so that the trie
+     * can be built in a single pass without keeping all the words in memory. Leading and trailing whitespaces are
+     * ignored, as well as empty lines and duplicate words. The reader is not closed.
+     *
+     * @param reader Reader providing the sorted words.
+     *
+     * @return Trie of the read words.
+     *
+     * @throws IOException              If the words could not be read.
+     * @throws IllegalArgumentException If the words are not sorted.
+     */
+    public static CompactTrie readFrom(Reader reader) throws IOException {
+        BufferedReader bufferedReader = (reader instanceof BufferedReader) ? (BufferedReader) reader : new
+                BufferedReader(reader);
+
+        Builder builder = new Builder();
+        String line = bufferedReader.readLine();
+        while (line != null) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                builder.add(trimmed);
+            }
+            line = bufferedReader.readLine();
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Gets the state reached from the specified state with the specified character.
+     *
+     * @param state     State.
+     * @param character Character of the transition.
+     *
+     * @return Target state, or {@link #NO_STATE} if there is no such transition.
+     */
+    private int getTarget(int state, char character) {
+        int target = NO_STATE;
+
+        int low = firstTransitions[state];
+        int high = firstTransitions[state + 1] - 1;
+        while ((target == NO_STATE) && (low <= high)) {
+            int middle = (low + high) >>> 1;
+            char label = labels[middle];
+            if (label < character) {
+                low = middle + 1;
+            } else if (label > character) {
+                high = middle - 1;
+            } else {
+                target = targets[middle];
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Gets the state reached from the root state with the specified characters.
+     *
+     * @param characters Character sequence.
+     * @param start      Start of the characters, included.
+     * @param end        End of the characters, excluded.
+     *
+     * @return Reached state, or {@link #NO_STATE} if no word starts with the characters.
+     */
+    private int getState(CharSequence characters, int start, int end) {
+        int state = ROOT_STATE;
+
+        for (int i = start; (state != NO_STATE) && (i < end); i++) {
+            state = getTarget(state, characters.charAt(i));
+        }
+
+        return state;
+    }
+
+    /**
+     * States whether the trie contains the specified word.
+     *
+     * @param word Word to be looked up.
+     *
+     * @return True if the trie contains the word, false otherwise.
+     */
+    public boolean contains(CharSequence word) {
+        return (word != null) && contains(word, 0, word.length());
+    }
+
+    /**
+     * States whether the trie contains the word made of the specified characters.
+     * <p>
+     * This allows looking up a part of a larger character sequence without copying it.
+     *
+     * @param characters Character sequence containing the word to be looked up.
+     * @param start      Start of the word, included.
+     * @param end        End of the word, excluded.
+     *
+     * @return True if the trie contains the word, false otherwise.
+     */
+    public boolean contains(CharSequence characters, int start, int end) {
+        int state = getState(characters, start, end);
+        return (state != NO_STATE) && ((finalStates[state >>> 6] & (1L << state)) != 0);
+    }
+
+    /**
+     * States whether the trie contains at least one word starting with the specified prefix.
+     * <p>
+     * This is useful to validate a word as it is being typed. Note that all words start with the empty prefix, and that
+     * each word is a prefix of itself.
+     *
+     * @param prefix Prefix to be looked up.
+     *
+     * @return True if at least one word starts with the prefix, false otherwise.
+     */
+    public boolean containsPrefix(CharSequence prefix) {
+        return (prefix != null) && containsPrefix(prefix, 0, prefix.length());
+    }
+
+    /**
+     * States whether the trie contains at least one word starting with the prefix made of the specified characters.
+     *
+     * @param characters Character sequence containing the prefix to be looked up.
+     * @param start      Start of the prefix, included.
+     * @param end        End of the prefix, excluded.
+     *
+     * @return True if at least one word starts with the prefix, false otherwise.
+     *
+     * @see #containsPrefix(CharSequence)
+     */
+    public boolean containsPrefix(CharSequence characters, int start, int end) {
+        // All states lead to a final state, except the root state of an empty trie
+        return (wordCount > 0) && (getState(characters, start, end) != NO_STATE);
+    }
+
+    /**
+     * Gets the number of distinct words in the trie.
+     *
+     * @return Number of words.
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * States whether the trie is empty.
+     *
+     * @return True if the trie is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return wordCount == 0;
+    }
+
+    /**
+     * Gets the number of states of the trie.
+     * <p>
+     * This gives an idea of the memory used by the trie, which is about 4 bytes per state and 6 bytes per transition.
+     *
+     * @return Number of states.
+     */
+    public int getStateCount() {
+        return firstTransitions.length - 1;
+    }
+
+    /**
+     * Gets the number of transitions of the trie.
+     *
+     * @return Number of transitions.
+     *
+     * @see #getStateCount()
+     */
+    public int getTransitionCount() {
+        return labels.length;
+    }
+}
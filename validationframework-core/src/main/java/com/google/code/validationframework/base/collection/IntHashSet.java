@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Immutable set of int values, using open addressing in a primitive array.
+ * <p>
+ * Looking up a value costs O(1) without any boxing, and the set takes about 8 to 16 bytes per value, which is much less
+ * than a {@link java.util.HashSet} of {@link Integer}s.
+ * <p>
+ * Note that this class is thread-safe as it is immutable.
+ *
+ * @see #readFrom(Reader)
+ */
+public final class IntHashSet {
+
+    /**
+     * Multiplier used to spread the values over the table (golden ratio).
+     */
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * Maximum capacity of the table.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Table of values, 0 meaning an empty slot.
+     */
+    private final int[] table;
+
+    /**
+     * Shift to be applied to the spread values to get the index in the table.
+     */
+    private final int shift;
+
+    /**
+     * Flag indicating whether the set contains 0, which cannot be stored in the table.
+     */
+    private final boolean containsZero;
+
+    /**
+     * Number of distinct values.
+     */
+    private final int size;
+
+    /**
+     * Constructor specifying the values of the set.
+     * <p>
+     * Duplicate values are ignored.
+     *
+     * @param values Values of the set.
+     */
+    public IntHashSet(int... values) {
+        this(values, values.length);
+    }
+
+    /**
+     * Constructor specifying the values of the set in the first positions of the specified array.
+     *
+     * @param values Array containing the values of the set.
+     * @param count  Number of values in the array.
+     */
+    private IntHashSet(int[] values, int count) {
+        int capacity = 2;
+        while ((capacity < MAX_CAPACITY) && (capacity < 2 * count)) {
+            capacity <<= 1;
+        }
+        if (count > capacity / 2) {
+            throw new IllegalArgumentException("Too many values: " + count);
+        }
+        table = new int[capacity];
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+
+        boolean zero = false;
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            int value = values[i];
+            if (value == 0) {
+                if (!zero) {
+                    zero = true;
+                    distinctCount++;
+                }
+            } else {
+                int index = indexOf(value);
+                if (table[index] == 0) {
+                    table[index] = value;
+                    distinctCount++;
+                }
+            }
+        }
+        containsZero = zero;
+        size = distinctCount;
+    }
+
+    /**
+     * Reads the values of a set from the specified reader, one value per line.
+     * <p>
+     * Leading and trailing whitespaces are ignored, as well as empty lines. The reader is not closed.
+     *
+     * @param reader Reader providing the values.
+     *
+     * @return Set of the read values.
+     *
+     * @throws IOException           If the values could not be read.
+     * @throws NumberFormatException If a line is not a valid value.
+     */
+    public static IntHashSet readFrom(Reader reader) throws IOException {
+        BufferedReader bufferedReader = (reader instanceof BufferedReader) ? (BufferedReader) reader : new
+                BufferedReader(reader);
+
+        int[] values = new int[1024];
+        int count = 0;
+        String line = bufferedReader.readLine();
+        while (line != null) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, 2 * count);
+                }
+                values[count++] = Integer.parseInt(trimmed);
+            }
+            line = bufferedReader.readLine();
+        }
+
+        return new IntHashSet(values, count);
+    }
+
+    /**
+     * Gets the index of the slot of the table containing the specified value, or of the empty slot where it would be
+     * stored.
+     *
+     * @param value Non-zero value.
+     *
+     * @return Index in the table.
+     */
+    private int indexOf(int value) {
+        int mask = table.length - 1;
+        int index = (value * GOLDEN_RATIO) >>> shift;
+        while ((table[index] != 0) && (table[index] != value)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * States whether the set contains the specified value.
+     *
+     * @param value Value to be looked up.
+     *
+     * @return True if the set contains the value, false otherwise.
+     */
+    public boolean contains(int value) {
+        boolean contains;
+
+        if (value == 0) {
+            contains = containsZero;
+        } else {
+            contains = (table[indexOf(value)] == value);
+        }
+
+        return contains;
+    }
+
+    /**
+     * Gets the number of distinct values in the set.
+     *
+     * @return Number of values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * States whether the set is empty.
+     *
+     * @return True if the set is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,603 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable {@link java.util.List} sharing its structure with the lists it has been derived from.
+ * <p>
+ * The items are stored in a balanced binary tree indexed by position. Reading, replacing, inserting and removing an item
+ * costs O(log n), and only the nodes on the path to the modified position are copied. All the other nodes are shared
+ * with the original list, which remains unchanged. This makes it suitable for property values that need to be updated
+ * often and for consistent snapshots of large lists.
+ * <p>
+ * Comparing two lists derived from each other (for instance, using {@link #equals(Object)}) will only visit the nodes
+ * that are not shared between them.
+ * <p>
+ * The mutators from the {@link java.util.List} interface are not supported. Use {@link #with(int, Object)}, {@link
+ * #plus(Object)}, {@link #plus(int, Object)} and {@link #minus(int)} instead.
+ * <p>
+ * Note that this class is thread-safe as it is immutable.
+ *
+ * @param <E> Type of items in the list.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    /**
+     * Node of the balanced tree.
+     *
+     * @param <E> Type of item held by the node.
+     */
+    private static final class Node<E> {
+
+        /**
+         * Left sub-tree containing the items before the item of this node.
+         */
+        private final Node<E> left;
+
+        /**
+         * Item held by this node.
+         */
+        private final E item;
+
+        /**
+         * Right sub-tree containing the items after the item of this node.
+         */
+        private final Node<E> right;
+
+        /**
+         * Number of items in the tree rooted at this node.
+         */
+        private final int size;
+
+        /**
+         * Height of the tree rooted at this node.
+         */
+        private final int height;
+
+        /**
+         * Constructor specifying the sub-trees and the item.
+         *
+         * @param left  Left sub-tree, possibly null.
+         * @param item  Item held by this node.
+         * @param right Right sub-tree, possibly null.
+         */
+        Node(Node<E> left, E item, Node<E> right) {
+            this.left = left;
+            this.item = item;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Empty list shared by all item types.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final PersistentList EMPTY = new PersistentList<Object>(null);
+
+    /**
+     * Root of the balanced tree, or null if the list is empty.
+     */
+    private final Node<E> root;
+
+    /**
+     * Cached hash code, or 0 if not yet computed.
+     */
+    private int hashCode = 0;
+
+    /**
+     * Constructor specifying the root of the tree.
+     *
+     * @param root Root of the tree, or null if the list is empty.
+     */
+    private PersistentList(Node<E> root) {
+        super();
+        this.root = root;
+    }
+
+    /**
+     * Gets an empty list.
+     *
+     * @param <E> Type of items in the list.
+     *
+     * @return Empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Creates a list containing the specified items, in the order of the collection iterator.
+     * <p>
+     * This costs O(n).
+     *
+     * @param items Items to be put in the list.
+     * @param <E>   Type of items in the list.
+     *
+     * @return List containing the specified items.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> items) {
+        PersistentList<E> list;
+        if (items instanceof PersistentList) {
+            list = (PersistentList<E>) items;
+        } else if (items.isEmpty()) {
+            list = empty();
+        } else {
+            Object[] array = items.toArray();
+            list = new PersistentList<E>(PersistentList.<E>build(array, 0, array.length));
+        }
+        return list;
+    }
+
+    /**
+     * @see AbstractList#size()
+     */
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * @see AbstractList#get(int)
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        int i = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (i < leftSize) {
+                node = node.left;
+            } else if (i > leftSize) {
+                i -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.item;
+            }
+        }
+    }
+
+    /**
+     * Returns a list in which the item at the specified position is replaced by the specified item.
+     * <p>
+     * The structure of the returned list is the same as this list, which keeps the comparison of both lists cheap.
+     *
+     * @param index Position of the item to be replaced.
+     * @param item  New item.
+     *
+     * @return New list, or this list if the item at the specified position is already the specified item.
+     */
+    public PersistentList<E> with(int index, E item) {
+        checkIndex(index, size());
+        PersistentList<E> list;
+        if (get(index) == item) {
+            list = this;
+        } else {
+            list = new PersistentList<E>(set(root, index, item));
+        }
+        return list;
+    }
+
+    /**
+     * Returns a list in which the specified item is appended.
+     *
+     * @param item Item to be appended.
+     *
+     * @return New list.
+     */
+    public PersistentList<E> plus(E item) {
+        return plus(size(), item);
+    }
+
+    /**
+     * Returns a list in which the specified item is inserted at the specified position.
+     *
+     * @param index Position at which the item is to be inserted.
+     * @param item  Item to be inserted.
+     *
+     * @return New list.
+     */
+    public PersistentList<E> plus(int index, E item) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<E>(insert(root, index, item));
+    }
+
+    /**
+     * Returns a list in which the specified items are inserted at the specified position.
+     *
+     * @param index Position at which the first item is to be inserted.
+     * @param items Items to be inserted.
+     *
+     * @return New list.
+     */
+    public PersistentList<E> plusAll(int index, Collection<? extends E> items) {
+        checkIndex(index, size() + 1);
+        Node<E> newRoot = root;
+        int i = index;
+        for (E item : items) {
+            newRoot = insert(newRoot, i++, item);
+        }
+        return (newRoot == root) ? this : new PersistentList<E>(newRoot);
+    }
+
+    /**
+     * Returns a list in which the item at the specified position is removed.
+     *
+     * @param index Position of the item to be removed.
+     *
+     * @return New list.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return (newRoot == null) ? PersistentList.<E>empty() : new PersistentList<E>(newRoot);
+    }
+
+    /**
+     * @see AbstractList#indexOf(Object)
+     */
+    @Override
+    public int indexOf(Object item) {
+        int index = 0;
+        Iterator<E> iterator = iterator();
+        while (iterator.hasNext() && !areEqual(iterator.next(), item)) {
+            index++;
+        }
+        return (index < size()) ? index : -1;
+    }
+
+    /**
+     * @see AbstractList#iterator()
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new NodeIterator<E>(root);
+    }
+
+    /**
+     * @see AbstractList#equals(Object)
+     */
+    @Override
+    public boolean equals(Object o) {
+        boolean equal;
+        if (o == this) {
+            equal = true;
+        } else if (o instanceof PersistentList) {
+            Node<?> otherRoot = ((PersistentList<?>) o).root;
+            equal = (sizeOf(root) == sizeOf(otherRoot)) && haveEqualItems(root, otherRoot);
+        } else {
+            equal = super.equals(o);
+        }
+        return equal;
+    }
+
+    /**
+     * @see AbstractList#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        int hash = hashCode;
+        if (hash == 0) {
+            hash = super.hashCode();
+            hashCode = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Checks that the specified index is in the range [0, upperBound[.
+     *
+     * @param index      Index to be checked.
+     * @param upperBound Exclusive upper bound.
+     */
+    private static void checkIndex(int index, int upperBound) {
+        if ((index < 0) || (index >= upperBound)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + upperBound);
+        }
+    }
+
+    /**
+     * Gets the number of items in the specified tree.
+     *
+     * @param node Root of the tree, possibly null.
+     *
+     * @return Number of items.
+     */
+    private static int sizeOf(Node<?> node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    /**
+     * Gets the height of the specified tree.
+     *
+     * @param node Root of the tree, possibly null.
+     *
+     * @return Height of the tree.
+     */
+    private static int heightOf(Node<?> node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    /**
+     * Builds a balanced tree from the specified range of items.
+     *
+     * @param items Items.
+     * @param from  Index of the first item in the range (inclusive).
+     * @param to    Index of the last item in the range (exclusive).
+     * @param <E>   Type of items.
+     *
+     * @return Root of the tree, or null if the range is empty.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] items, int from, int to) {
+        Node<E> node = null;
+        if (from < to) {
+            int middle = (from + to) >>> 1;
+            node = new Node<E>(PersistentList.<E>build(items, from, middle), (E) items[middle],
+                    PersistentList.<E>build(items, middle + 1, to));
+        }
+        return node;
+    }
+
+    /**
+     * Replaces the item at the specified position in the specified tree.
+     *
+     * @param node  Root of the tree.
+     * @param index Position of the item to be replaced in the tree.
+     * @param item  New item.
+     * @param <E>   Type of items.
+     *
+     * @return Root of the new tree.
+     */
+    private static <E> Node<E> set(Node<E> node, int index, E item) {
+        int leftSize = sizeOf(node.left);
+        Node<E> newNode;
+        if (index < leftSize) {
+            newNode = new Node<E>(set(node.left, index, item), node.item, node.right);
+        } else if (index > leftSize) {
+            newNode = new Node<E>(node.left, node.item, set(node.right, index - leftSize - 1, item));
+        } else {
+            newNode = new Node<E>(node.left, item, node.right);
+        }
+        return newNode;
+    }
+
+    /**
+     * Inserts the specified item at the specified position in the specified tree.
+     *
+     * @param node  Root of the tree, possibly null.
+     * @param index Position at which the item is to be inserted in the tree.
+     * @param item  Item to be inserted.
+     * @param <E>   Type of items.
+     *
+     * @return Root of the new tree.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E item) {
+        Node<E> newNode;
+        if (node == null) {
+            newNode = new Node<E>(null, item, null);
+        } else {
+            int leftSize = sizeOf(node.left);
+            if (index <= leftSize) {
+                newNode = balance(insert(node.left, index, item), node.item, node.right);
+            } else {
+                newNode = balance(node.left, node.item, insert(node.right, index - leftSize - 1, item));
+            }
+        }
+        return newNode;
+    }
+
+    /**
+     * Removes the item at the specified position from the specified tree.
+     *
+     * @param node  Root of the tree.
+     * @param index Position of the item to be removed from the tree.
+     * @param <E>   Type of items.
+     *
+     * @return Root of the new tree, possibly null.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        Node<E> newNode;
+        if (index < leftSize) {
+            newNode = balance(remove(node.left, index), node.item, node.right);
+        } else if (index > leftSize) {
+            newNode = balance(node.left, node.item, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            newNode = node.right;
+        } else if (node.right == null) {
+            newNode = node.left;
+        } else {
+            Node<E> first = node.right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            newNode = balance(node.left, first.item, remove(node.right, 0));
+        }
+        return newNode;
+    }
+
+    /**
+     * Creates a node from the specified sub-trees and item, and rotates it if the heights of the sub-trees differ by
+     * more than one.
+     *
+     * @param left  Left sub-tree, possibly null.
+     * @param item  Item of the node.
+     * @param right Right sub-tree, possibly null.
+     * @param <E>   Type of items.
+     *
+     * @return Root of the balanced tree.
+     */
+    private static <E> Node<E> balance(Node<E> left, E item, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        Node<E> node;
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                node = new Node<E>(left.left, left.item, new Node<E>(left.right, item, right));
+            } else {
+                Node<E> pivot = left.right;
+                node = new Node<E>(new Node<E>(left.left, left.item, pivot.left), pivot.item, new Node<E>(pivot
+                        .right, item, right));
+            }
+        } else if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                node = new Node<E>(new Node<E>(left, item, right.left), right.item, right.right);
+            } else {
+                Node<E> pivot = right.left;
+                node = new Node<E>(new Node<E>(left, item, pivot.left), pivot.item, new Node<E>(pivot.right,
+                        right.item, right.right));
+            }
+        } else {
+            node = new Node<E>(left, item, right);
+        }
+        return node;
+    }
+
+    /**
+     * Compares the items of the two specified trees of the same size, skipping the shared sub-trees.
+     *
+     * @param node1 Root of the first tree, possibly null.
+     * @param node2 Root of the second tree, possibly null.
+     *
+     * @return True if both trees contain equal items in the same order, false otherwise.
+     */
+    private static boolean haveEqualItems(Node<?> node1, Node<?> node2) {
+        boolean equal;
+        if (node1 == node2) {
+            equal = true;
+        } else if ((node1 == null) || (node2 == null)) {
+            equal = false;
+        } else if (sizeOf(node1.left) == sizeOf(node2.left)) {
+            // Same shape at this level, so compare item by item and sub-tree by sub-tree
+            equal = areEqual(node1.item, node2.item) && haveEqualItems(node1.left, node2.left) && haveEqualItems
+                    (node1.right, node2.right);
+        } else {
+            // Different shapes, so compare sequentially
+            Iterator<?> iterator1 = new NodeIterator<Object>(node1);
+            Iterator<?> iterator2 = new NodeIterator<Object>(node2);
+            equal = true;
+            while (equal && iterator1.hasNext()) {
+                equal = areEqual(iterator1.next(), iterator2.next());
+            }
+        }
+        return equal;
+    }
+
+    /**
+     * Compares the two specified items as specified by {@link java.util.List#equals(Object)}.
+     *
+     * @param item1 First item.
+     * @param item2 Second item.
+     *
+     * @return True if both items are null or equal, false otherwise.
+     */
+    private static boolean areEqual(Object item1, Object item2) {
+        return (item1 == null) ? (item2 == null) : item1.equals(item2);
+    }
+
+    /**
+     * In-order iterator over the items of a tree.
+     *
+     * @param <E> Type of items.
+     */
+    private static final class NodeIterator<E> implements Iterator<E> {
+
+        /**
+         * Nodes whose item and right sub-tree still need to be visited.
+         */
+        private final Object[] stack;
+
+        /**
+         * Number of nodes in the stack.
+         */
+        private int depth = 0;
+
+        /**
+         * Constructor specifying the root of the tree to iterate over.
+         *
+         * @param root Root of the tree, possibly null.
+         */
+        @SuppressWarnings("unchecked")
+        NodeIterator(Node<? extends E> root) {
+            stack = new Object[heightOf(root)];
+            pushLeftPath((Node<E>) root);
+        }
+
+        /**
+         * @see Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        /**
+         * @see Iterator#next()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = (Node<E>) stack[--depth];
+            stack[depth] = null;
+            pushLeftPath(node.right);
+            return node.item;
+        }
+
+        /**
+         * @see Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Pushes the specified node and all its left descendants on the stack.
+         *
+         * @param node Node to start from, possibly null.
+         */
+        private void pushLeftPath(Node<E> node) {
+            Node<E> current = node;
+            while (current != null) {
+                stack[depth++] = current;
+                current = current.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,839 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable {@link Map} sharing its structure with the maps it has been derived from.
+ * <p>
+ * The entries are stored in a hash array mapped trie: each level of the trie consumes 5 bits of the key hash code and
+ * only stores the branches that are actually used. Looking up, adding and removing an entry costs O(log32 n), and only
+ * the nodes on the path to the modified entry are copied. All the other nodes are shared with the original map, which
+ * remains unchanged. This makes it suitable for consistent snapshots of large maps.
+ * <p>
+ * Null keys and null values are supported.
+ * <p>
+ * The mutators from the {@link Map} interface are not supported. Use {@link #plus(Object, Object)} and {@link
+ * #minus(Object)} instead.
+ * <p>
+ * Note that this class is thread-safe as it is immutable.
+ *
+ * @param <K> Type of keys.
+ * @param <V> Type of values.
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * Number of hash code bits consumed by each level of the trie.
+     */
+    private static final int BITS_PER_LEVEL = 5;
+
+    /**
+     * Mask extracting the hash code bits of a level.
+     */
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    /**
+     * Maximum depth of the trie: one level per group of bits of the hash code, plus one level for hash collisions.
+     */
+    private static final int MAX_DEPTH = (32 + BITS_PER_LEVEL - 1) / BITS_PER_LEVEL + 1;
+
+    /**
+     * Immutable entry of the map.
+     *
+     * @param <K> Type of key.
+     * @param <V> Type of value.
+     */
+    private static final class Leaf<K, V> extends SimpleImmutableEntry<K, V> {
+
+        /**
+         * Generated serial UID.
+         */
+        private static final long serialVersionUID = 4120733498394829611L;
+
+        /**
+         * Hash of the key.
+         */
+        private final int hash;
+
+        /**
+         * Constructor specifying the hash of the key, the key and the value.
+         *
+         * @param hash  Hash of the key.
+         * @param key   Key.
+         * @param value Value.
+         */
+        Leaf(int hash, K key, V value) {
+            super(key, value);
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Result of a modification of the trie.
+     */
+    private static final class Change {
+
+        /**
+         * True if an entry was added or removed, false if an entry was only replaced or if nothing changed.
+         */
+        private boolean sizeChanged = false;
+    }
+
+    /**
+     * Node of the trie.
+     *
+     * @param <K> Type of keys.
+     * @param <V> Type of values.
+     */
+    private interface Node<K, V> {
+
+        /**
+         * Finds the entry for the specified key.
+         *
+         * @param shift Number of hash code bits consumed by the parent levels.
+         * @param hash  Hash of the key.
+         * @param key   Key to be looked up.
+         *
+         * @return Entry for the key, or null if there is no such entry.
+         */
+        Leaf<K, V> find(int shift, int hash, Object key);
+
+        /**
+         * Returns a node in which the specified entry is added or replaced.
+         *
+         * @param shift  Number of hash code bits consumed by the parent levels.
+         * @param leaf   Entry to be put.
+         * @param change Result of the modification to be updated.
+         *
+         * @return New node, or this node if it already contains the same entry.
+         */
+        Node<K, V> put(int shift, Leaf<K, V> leaf, Change change);
+
+        /**
+         * Returns a node in which the entry for the specified key is removed.
+         *
+         * @param shift  Number of hash code bits consumed by the parent levels.
+         * @param hash   Hash of the key.
+         * @param key    Key of the entry to be removed.
+         * @param change Result of the modification to be updated.
+         *
+         * @return New node, null if the node became empty, or this node if it does not contain the key.
+         */
+        Node<K, V> remove(int shift, int hash, Object key, Change change);
+
+        /**
+         * Gets the only entry of this node, so that the parent node can inline it.
+         *
+         * @return Only entry of this node, or null if the node contains more than one entry or a sub-node.
+         */
+        Leaf<K, V> getSingleLeaf();
+
+        /**
+         * Gets the entries and sub-nodes of this node.
+         *
+         * @return Entries and sub-nodes that must not be modified.
+         */
+        Object[] getChildren();
+    }
+
+    /**
+     * Node of the trie containing entries and sub-nodes for the hash code bits that are in use at its level.
+     *
+     * @param <K> Type of keys.
+     * @param <V> Type of values.
+     */
+    private static final class BitmapNode<K, V> implements Node<K, V> {
+
+        /**
+         * Bits of the level in use, one bit per child.
+         */
+        private final int bitmap;
+
+        /**
+         * Entries and sub-nodes, in the order of the bits of the bitmap.
+         */
+        private final Object[] children;
+
+        /**
+         * Constructor specifying the bitmap and the children.
+         *
+         * @param bitmap   Bits of the level in use.
+         * @param children Entries and sub-nodes.
+         */
+        BitmapNode(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        /**
+         * @see Node#find(int, int, Object)
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Leaf<K, V> find(int shift, int hash, Object key) {
+            Leaf<K, V> found = null;
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) != 0) {
+                Object child = children[indexOf(bit)];
+                if (child instanceof Leaf) {
+                    Leaf<K, V> leaf = (Leaf<K, V>) child;
+                    if (matches(leaf, hash, key)) {
+                        found = leaf;
+                    }
+                } else {
+                    found = ((Node<K, V>) child).find(shift + BITS_PER_LEVEL, hash, key);
+                }
+            }
+            return found;
+        }
+
+        /**
+         * @see Node#put(int, Leaf, Change)
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Node<K, V> put(int shift, Leaf<K, V> leaf, Change change) {
+            Node<K, V> node = this;
+            int bit = bitFor(leaf.hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                change.sizeChanged = true;
+                Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = leaf;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                node = new BitmapNode<K, V>(bitmap | bit, newChildren);
+            } else {
+                Object child = children[index];
+                Object newChild;
+                if (child instanceof Leaf) {
+                    Leaf<K, V> existing = (Leaf<K, V>) child;
+                    if (!matches(existing, leaf.hash, leaf.getKey())) {
+                        change.sizeChanged = true;
+                        newChild = createNode(shift + BITS_PER_LEVEL, existing, leaf);
+                    } else if (existing.getValue() == leaf.getValue()) {
+                        newChild = existing;
+                    } else {
+                        newChild = leaf;
+                    }
+                } else {
+                    newChild = ((Node<K, V>) child).put(shift + BITS_PER_LEVEL, leaf, change);
+                }
+                if (newChild != child) {
+                    node = new BitmapNode<K, V>(bitmap, replace(children, index, newChild));
+                }
+            }
+            return node;
+        }
+
+        /**
+         * @see Node#remove(int, int, Object, Change)
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Node<K, V> remove(int shift, int hash, Object key, Change change) {
+            Node<K, V> node = this;
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) != 0) {
+                int index = indexOf(bit);
+                Object child = children[index];
+                if (child instanceof Leaf) {
+                    if (matches((Leaf<K, V>) child, hash, key)) {
+                        change.sizeChanged = true;
+                        node = without(index, bit);
+                    }
+                } else {
+                    Node<K, V> newChild = ((Node<K, V>) child).remove(shift + BITS_PER_LEVEL, hash, key, change);
+                    if (newChild == null) {
+                        node = without(index, bit);
+                    } else if (newChild != child) {
+                        Leaf<K, V> singleLeaf = newChild.getSingleLeaf();
+                        node = new BitmapNode<K, V>(bitmap, replace(children, index, (singleLeaf == null) ?
+                                newChild : singleLeaf));
+                    }
+                }
+            }
+            return node;
+        }
+
+        /**
+         * @see Node#getSingleLeaf()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Leaf<K, V> getSingleLeaf() {
+            Leaf<K, V> leaf = null;
+            if ((children.length == 1) && (children[0] instanceof Leaf)) {
+                leaf = (Leaf<K, V>) children[0];
+            }
+            return leaf;
+        }
+
+        /**
+         * @see Node#getChildren()
+         */
+        @Override
+        public Object[] getChildren() {
+            return children;
+        }
+
+        /**
+         * Gets the position in the children array of the child for the specified bit.
+         *
+         * @param bit Bit of the child.
+         *
+         * @return Position of the child.
+         */
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        /**
+         * Returns a node without the specified child.
+         *
+         * @param index Position of the child to be removed.
+         * @param bit   Bit of the child to be removed.
+         *
+         * @return New node, or null if the node became empty.
+         */
+        private Node<K, V> without(int index, int bit) {
+            Node<K, V> node = null;
+            if (children.length > 1) {
+                Object[] newChildren = new Object[children.length - 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+                node = new BitmapNode<K, V>(bitmap & ~bit, newChildren);
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Node of the trie containing entries whose keys have the same hash.
+     *
+     * @param <K> Type of keys.
+     * @param <V> Type of values.
+     */
+    private static final class CollisionNode<K, V> implements Node<K, V> {
+
+        /**
+         * Hash of all the keys.
+         */
+        private final int hash;
+
+        /**
+         * Entries.
+         */
+        private final Object[] leaves;
+
+        /**
+         * Constructor specifying the hash of the keys and the entries.
+         *
+         * @param hash   Hash of all the keys.
+         * @param leaves Entries.
+         */
+        CollisionNode(int hash, Object[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        /**
+         * @see Node#find(int, int, Object)
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Leaf<K, V> find(int shift, int hash, Object key) {
+            int index = indexOf(hash, key);
+            return (index < 0) ? null : (Leaf<K, V>) leaves[index];
+        }
+
+        /**
+         * @see Node#put(int, Leaf, Change)
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Node<K, V> put(int shift, Leaf<K, V> leaf, Change change) {
+            Node<K, V> node = this;
+            if (leaf.hash != hash) {
+                // Nest this node in a node that can distinguish both hashes
+                node = new BitmapNode<K, V>(bitFor(hash, shift), new Object[]{this}).put(shift, leaf, change);
+            } else {
+                int index = indexOf(leaf.hash, leaf.getKey());
+                if (index < 0) {
+                    change.sizeChanged = true;
+                    Object[] newLeaves = new Object[leaves.length + 1];
+                    System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+                    newLeaves[leaves.length] = leaf;
+                    node = new CollisionNode<K, V>(hash, newLeaves);
+                } else if (((Leaf<K, V>) leaves[index]).getValue() != leaf.getValue()) {
+                    node = new CollisionNode<K, V>(hash, replace(leaves, index, leaf));
+                }
+            }
+            return node;
+        }
+
+        /**
+         * @see Node#remove(int, int, Object, Change)
+         */
+        @Override
+        public Node<K, V> remove(int shift, int hash, Object key, Change change) {
+            Node<K, V> node = this;
+            int index = indexOf(hash, key);
+            if (index >= 0) {
+                change.sizeChanged = true;
+                if (leaves.length == 1) {
+                    node = null;
+                } else {
+                    Object[] newLeaves = new Object[leaves.length - 1];
+                    System.arraycopy(leaves, 0, newLeaves, 0, index);
+                    System.arraycopy(leaves, index + 1, newLeaves, index, newLeaves.length - index);
+                    node = new CollisionNode<K, V>(this.hash, newLeaves);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * @see Node#getSingleLeaf()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Leaf<K, V> getSingleLeaf() {
+            return (leaves.length == 1) ? (Leaf<K, V>) leaves[0] : null;
+        }
+
+        /**
+         * @see Node#getChildren()
+         */
+        @Override
+        public Object[] getChildren() {
+            return leaves;
+        }
+
+        /**
+         * Gets the position of the entry for the specified key.
+         *
+         * @param hash Hash of the key.
+         * @param key  Key to be looked up.
+         *
+         * @return Position of the entry, or -1 if there is no such entry.
+         */
+        @SuppressWarnings("unchecked")
+        private int indexOf(int hash, Object key) {
+            int index = -1;
+            for (int i = 0; (index < 0) && (i < leaves.length); i++) {
+                if (matches((Leaf<K, V>) leaves[i], hash, key)) {
+                    index = i;
+                }
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Empty map shared by all key and value types.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final PersistentMap EMPTY = new PersistentMap<Object, Object>(null, 0);
+
+    /**
+     * Root of the trie, or null if the map is empty.
+     */
+    private final Node<K, V> root;
+
+    /**
+     * Number of entries in the map.
+     */
+    private final int size;
+
+    /**
+     * Cached hash code, or 0 if not yet computed.
+     */
+    private int hashCode = 0;
+
+    /**
+     * Cached entry set, or null if not yet created.
+     */
+    private Set<Entry<K, V>> entrySet = null;
+
+    /**
+     * Constructor specifying the root of the trie and the number of entries.
+     *
+     * @param root Root of the trie, or null if the map is empty.
+     * @param size Number of entries in the map.
+     */
+    private PersistentMap(Node<K, V> root, int size) {
+        super();
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets an empty map.
+     *
+     * @param <K> Type of keys.
+     * @param <V> Type of values.
+     *
+     * @return Empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a map containing the specified entries.
+     *
+     * @param entries Entries to be put in the map.
+     * @param <K>     Type of keys.
+     * @param <V>     Type of values.
+     *
+     * @return Map containing the specified entries.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> entries) {
+        PersistentMap<K, V> map;
+        if (entries instanceof PersistentMap) {
+            map = (PersistentMap<K, V>) entries;
+        } else {
+            map = empty();
+            for (Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+                map = map.plus(entry.getKey(), entry.getValue());
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @see AbstractMap#size()
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @see AbstractMap#containsKey(Object)
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return (root != null) && (root.find(0, hash(key), key) != null);
+    }
+
+    /**
+     * @see AbstractMap#get(Object)
+     */
+    @Override
+    public V get(Object key) {
+        Leaf<K, V> leaf = (root == null) ? null : root.find(0, hash(key), key);
+        return (leaf == null) ? null : leaf.getValue();
+    }
+
+    /**
+     * Returns a map in which the specified key is mapped to the specified value.
+     *
+     * @param key   Key to be put.
+     * @param value Value to be mapped to the key.
+     *
+     * @return New map, or this map if the key is already mapped to the specified value.
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        Leaf<K, V> leaf = new Leaf<K, V>(hash(key), key, value);
+        PersistentMap<K, V> map;
+        if (root == null) {
+            map = new PersistentMap<K, V>(new BitmapNode<K, V>(bitFor(leaf.hash, 0), new Object[]{leaf}), 1);
+        } else {
+            Change change = new Change();
+            Node<K, V> newRoot = root.put(0, leaf, change);
+            map = (newRoot == root) ? this : new PersistentMap<K, V>(newRoot, change.sizeChanged ? (size + 1) : size);
+        }
+        return map;
+    }
+
+    /**
+     * Returns a map in which the specified key is not mapped.
+     *
+     * @param key Key to be removed.
+     *
+     * @return New map, or this map if the key is not mapped.
+     */
+    public PersistentMap<K, V> minus(Object key) {
+        PersistentMap<K, V> map = this;
+        if (root != null) {
+            Node<K, V> newRoot = root.remove(0, hash(key), key, new Change());
+            if (newRoot == null) {
+                map = empty();
+            } else if (newRoot != root) {
+                map = new PersistentMap<K, V>(newRoot, size - 1);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @see AbstractMap#entrySet()
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<K, V>>() {
+
+                /**
+                 * @see AbstractSet#size()
+                 */
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                /**
+                 * @see AbstractSet#iterator()
+                 */
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new LeafIterator<Entry<K, V>>(root, false);
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * Gets an iterator over the keys, without going through the entries.
+     *
+     * @return Key iterator.
+     */
+    Iterator<K> keyIterator() {
+        return new LeafIterator<K>(root, true);
+    }
+
+    /**
+     * @see AbstractMap#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        int hash = hashCode;
+        if (hash == 0) {
+            hash = super.hashCode();
+            hashCode = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash of the specified key, spreading the higher bits to the lower levels of the trie.
+     *
+     * @param key Key, possibly null.
+     *
+     * @return Hash of the key.
+     */
+    private static int hash(Object key) {
+        int hash = 0;
+        if (key != null) {
+            hash = key.hashCode();
+            hash ^= hash >>> 16;
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the bit representing the specified hash at the specified level.
+     *
+     * @param hash  Hash of the key.
+     * @param shift Number of hash code bits consumed by the parent levels.
+     *
+     * @return Bit for the hash.
+     */
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * States whether the specified entry is for the specified key.
+     *
+     * @param leaf Entry.
+     * @param hash Hash of the key.
+     * @param key  Key.
+     *
+     * @return True if the entry is for the key, false otherwise.
+     */
+    private static boolean matches(Leaf<?, ?> leaf, int hash, Object key) {
+        Object leafKey = leaf.getKey();
+        return (leaf.hash == hash) && ((leafKey == key) || ((key != null) && key.equals(leafKey)));
+    }
+
+    /**
+     * Creates a node containing the two specified entries for different keys.
+     *
+     * @param shift Number of hash code bits consumed by the parent levels.
+     * @param leaf1 First entry.
+     * @param leaf2 Second entry.
+     * @param <K>   Type of keys.
+     * @param <V>   Type of values.
+     *
+     * @return Node containing both entries.
+     */
+    private static <K, V> Node<K, V> createNode(int shift, Leaf<K, V> leaf1, Leaf<K, V> leaf2) {
+        Node<K, V> node;
+        if (leaf1.hash == leaf2.hash) {
+            node = new CollisionNode<K, V>(leaf1.hash, new Object[]{leaf1, leaf2});
+        } else {
+            int bit1 = bitFor(leaf1.hash, shift);
+            int bit2 = bitFor(leaf2.hash, shift);
+            if (bit1 == bit2) {
+                node = new BitmapNode<K, V>(bit1, new Object[]{createNode(shift + BITS_PER_LEVEL, leaf1, leaf2)});
+            } else if (Integer.numberOfTrailingZeros(bit1) < Integer.numberOfTrailingZeros(bit2)) {
+                node = new BitmapNode<K, V>(bit1 | bit2, new Object[]{leaf1, leaf2});
+            } else {
+                node = new BitmapNode<K, V>(bit1 | bit2, new Object[]{leaf2, leaf1});
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of the specified array in which the element at the specified position is replaced.
+     *
+     * @param array   Array to be copied.
+     * @param index   Position of the element to be replaced.
+     * @param element New element.
+     *
+     * @return Copy of the array.
+     */
+    private static Object[] replace(Object[] array, int index, Object element) {
+        Object[] copy = array.clone();
+        copy[index] = element;
+        return copy;
+    }
+
+    /**
+     * Depth-first iterator over the entries, or the keys, of a trie.
+     *
+     * @param <T> Type of the iterated elements.
+     */
+    private static final class LeafIterator<T> implements Iterator<T> {
+
+        /**
+         * True to iterate over the keys, false to iterate over the entries.
+         */
+        private final boolean keys;
+
+        /**
+         * Children arrays of the nodes being visited.
+         */
+        private final Object[][] stack = new Object[MAX_DEPTH][];
+
+        /**
+         * Position of the next child to be visited in each array of the stack.
+         */
+        private final int[] positions = new int[MAX_DEPTH];
+
+        /**
+         * Number of arrays in the stack.
+         */
+        private int depth = 0;
+
+        /**
+         * Next entry to be returned, or null if there are no more entries.
+         */
+        private Leaf<?, ?> next = null;
+
+        /**
+         * Constructor specifying the root of the trie to iterate over.
+         *
+         * @param root Root of the trie, possibly null.
+         * @param keys True to iterate over the keys, false to iterate over the entries.
+         */
+        LeafIterator(Node<?, ?> root, boolean keys) {
+            this.keys = keys;
+            if (root != null) {
+                stack[depth++] = root.getChildren();
+                advance();
+            }
+        }
+
+        /**
+         * @see Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * @see Iterator#next()
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf<?, ?> current = next;
+            advance();
+            return (T) (keys ? current.getKey() : current);
+        }
+
+        /**
+         * @see Iterator#remove()
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Finds the next entry in the trie.
+         */
+        private void advance() {
+            next = null;
+            while ((next == null) && (depth > 0)) {
+                Object[] children = stack[depth - 1];
+                int position = positions[depth - 1];
+                if (position == children.length) {
+                    stack[--depth] = null;
+                } else {
+                    positions[depth - 1] = position + 1;
+                    Object child = children[position];
+                    if (child instanceof Leaf) {
+                        next = (Leaf<?, ?>) child;
+                    } else {
+                        stack[depth] = ((Node<?, ?>) child).getChildren();
+                        positions[depth] = 0;
+                        depth++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Immutable {@link java.util.Set} sharing its structure with the sets it has been derived from.
+ * <p>
+ * The items are stored as the keys of a {@link PersistentMap}. Looking up, adding and removing an item costs O(log32
+ * n), and only the nodes on the path to the modified item are copied.
+ * <p>
+ * The mutators from the {@link java.util.Set} interface are not supported. Use {@link #plus(Object)} and {@link
+ * #minus(Object)} instead.
+ * <p>
+ * Note that this class is thread-safe as it is immutable.
+ *
+ * @param <E> Type of items in the set.
+ *
+ * @see PersistentMap
+ */
+public final class PersistentSet<E> extends AbstractSet<E> {
+
+    /**
+     * Empty set shared by all item types.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final PersistentSet EMPTY = new PersistentSet<Object>(PersistentMap.<Object, Boolean>empty());
+
+    /**
+     * Map whose keys are the items of the set.
+     */
+    private final PersistentMap<E, Boolean> map;
+
+    /**
+     * Cached hash code, or 0 if not yet computed.
+     */
+    private int hashCode = 0;
+
+    /**
+     * Constructor specifying the map whose keys are the items of the set.
+     *
+     * @param map Map whose keys are the items of the set.
+     */
+    private PersistentSet(PersistentMap<E, Boolean> map) {
+        super();
+        this.map = map;
+    }
+
+    /**
+     * Gets an empty set.
+     *
+     * @param <E> Type of items in the set.
+     *
+     * @return Empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> empty() {
+        return (PersistentSet<E>) EMPTY;
+    }
+
+    /**
+     * Creates a set containing the specified items.
+     *
+     * @param items Items to be put in the set.
+     * @param <E>   Type of items in the set.
+     *
+     * @return Set containing the specified items.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> copyOf(Collection<? extends E> items) {
+        PersistentSet<E> set;
+        if (items instanceof PersistentSet) {
+            set = (PersistentSet<E>) items;
+        } else {
+            set = empty();
+            for (E item : items) {
+                set = set.plus(item);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * @see AbstractSet#size()
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @see AbstractSet#contains(Object)
+     */
+    @Override
+    public boolean contains(Object item) {
+        return map.containsKey(item);
+    }
+
+    /**
+     * Returns a set in which the specified item is added.
+     *
+     * @param item Item to be added.
+     *
+     * @return New set, or this set if it already contains the item.
+     */
+    public PersistentSet<E> plus(E item) {
+        PersistentMap<E, Boolean> newMap = map.plus(item, Boolean.TRUE);
+        return (newMap == map) ? this : new PersistentSet<E>(newMap);
+    }
+
+    /**
+     * Returns a set in which the specified item is removed.
+     *
+     * @param item Item to be removed.
+     *
+     * @return New set, or this set if it does not contain the item.
+     */
+    public PersistentSet<E> minus(Object item) {
+        PersistentMap<E, Boolean> newMap = map.minus(item);
+        PersistentSet<E> set;
+        if (newMap == map) {
+            set = this;
+        } else if (newMap.isEmpty()) {
+            set = empty();
+        } else {
+            set = new PersistentSet<E>(newMap);
+        }
+        return set;
+    }
+
+    /**
+     * @see AbstractSet#iterator()
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return map.keyIterator();
+    }
+
+    /**
+     * @see AbstractSet#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        int hash = hashCode;
+        if (hash == 0) {
+            hash = super.hashCode();
+            hashCode = hash;
+        }
+        return hash;
+    }
+}
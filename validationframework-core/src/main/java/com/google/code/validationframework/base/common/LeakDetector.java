@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class helping to find entities that have not been disposed, for instance, validators of a dialog that has
+ * been closed.
+ * <p>
+ * When leak detection is enabled, the validators record their allocation site (the stack trace at construction time)
+ * and forget about it when they are disposed. The validators that are still alive but not disposed can then be
+ * retrieved with {@link #getUndisposed()} or logged with {@link #logUndisposed()}, together with their allocation site.
+ * <p>
+ * Leak detection is disabled by default because recording the allocation sites is costly. It can be enabled with the
+ * system property {@value #ENABLED_PROPERTY} or by calling {@link #setEnabled(boolean)}. Only the entities created
+ * after it has been enabled are tracked.
+ * <p>
+ * Note that the tracked entities are referenced weakly, so that this utility does not prevent their garbage collection.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class LeakDetector {
+
+    /**
+     * Weak reference to a tracked entity holding its allocation site.
+     */
+    private static class TrackedReference extends WeakReference<Object> {
+
+        /**
+         * Identity hash code of the tracked entity.
+         */
+        private final int identityHashCode;
+
+        /**
+         * Stack trace of the allocation of the tracked entity.
+         */
+        private final Throwable allocationSite;
+
+        /**
+         * Constructor specifying the entity to be tracked.
+         *
+         * @param referent Entity to be tracked.
+         */
+        public TrackedReference(Object referent) {
+            super(referent, QUEUE);
+            this.identityHashCode = System.identityHashCode(referent);
+            this.allocationSite = new Throwable("Allocation site of " + referent.getClass().getName() + "@" + Integer
+                    .toHexString(identityHashCode));
+        }
+    }
+
+    /**
+     * Name of the system property enabling leak detection at startup.
+     */
+    public static final String ENABLED_PROPERTY = "validationframework.leakdetection";
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeakDetector.class);
+
+    /**
+     * Queue to which the references are enqueued once the tracked entities have been garbage collected.
+     */
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<Object>();
+
+    /**
+     * References to the tracked entities, grouped by identity hash code.
+     */
+    private static final Map<Integer, List<TrackedReference>> TRACKED = new HashMap<Integer, List<TrackedReference>>();
+
+    /**
+     * Flag indicating whether leak detection is enabled.
+     */
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Private constructor for utility class.
+     */
+    private LeakDetector() {
+        // Nothing to be done
+    }
+
+    /**
+     * States whether leak detection is enabled.
+     *
+     * @return True if leak detection is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables leak detection.
+     * <p>
+     * Disabling leak detection will also forget about all tracked entities.
+     *
+     * @param enabled True to enable leak detection, false to disable it.
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        LeakDetector.enabled = enabled;
+        if (!enabled) {
+            TRACKED.clear();
+        }
+    }
+
+    /**
+     * Starts tracking the specified entity, if leak detection is enabled.
+     * <p>
+     * This is typically called when constructing the entity.
+     *
+     * @param entity Entity to be tracked until it is disposed.
+     *
+     * @see #untrack(Object)
+     */
+    public static void track(Object entity) {
+        if (enabled) {
+            synchronized (LeakDetector.class) {
+                expungeCollected();
+                TrackedReference reference = new TrackedReference(entity);
+                List<TrackedReference> references = TRACKED.get(reference.identityHashCode);
+                if (references == null) {
+                    references = new ArrayList<TrackedReference>(1);
+                    TRACKED.put(reference.identityHashCode, references);
+                }
+                references.add(reference);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the specified entity.
+     * <p>
+     * This is typically called when disposing the entity.
+     *
+     * @param entity Entity that was tracked.
+     *
+     * @see #track(Object)
+     */
+    public static void untrack(Object entity) {
+        if (enabled) {
+            synchronized (LeakDetector.class) {
+                Integer identityHashCode = System.identityHashCode(entity);
+                List<TrackedReference> references = TRACKED.get(identityHashCode);
+                if (references != null) {
+                    Iterator<TrackedReference> iterator = references.iterator();
+                    while (iterator.hasNext()) {
+                        if (iterator.next().get() == entity) {
+                            iterator.remove();
+                        }
+                    }
+                    if (references.isEmpty()) {
+                        TRACKED.remove(identityHashCode);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the tracked entities that are still alive and that have not been disposed, mapped to their allocation site.
+     * <p>
+     * Note that it may be useful to request a garbage collection before calling this method.
+     *
+     * @return Undisposed entities and their allocation site.
+     */
+    public static synchronized Map<Object, Throwable> getUndisposed() {
+        expungeCollected();
+        Map<Object, Throwable> undisposed = new IdentityHashMap<Object, Throwable>();
+        for (List<TrackedReference> references : TRACKED.values()) {
+            for (TrackedReference reference : references) {
+                Object entity = reference.get();
+                if (entity != null) {
+                    undisposed.put(entity, reference.allocationSite);
+                }
+            }
+        }
+        return undisposed;
+    }
+
+    /**
+     * Logs a warning for each tracked entity that is still alive and that has not been disposed, including its
+     * allocation site.
+     *
+     * @return Number of undisposed entities.
+     *
+     * @see #getUndisposed()
+     */
+    public static int logUndisposed() {
+        Map<Object, Throwable> undisposed = getUndisposed();
+        for (Map.Entry<Object, Throwable> entry : undisposed.entrySet()) {
+            LOGGER.warn("Entity has not been disposed: " + entry.getKey(), entry.getValue());
+        }
+        return undisposed.size();
+    }
+
+    /**
+     * Forgets about the tracked entities that have been garbage collected.
+     */
+    private static void expungeCollected() {
+        TrackedReference reference = (TrackedReference) QUEUE.poll();
+        while (reference != null) {
+            List<TrackedReference> references = TRACKED.get(reference.identityHashCode);
+            if (references != null) {
+                references.remove(reference);
+                if (references.isEmpty()) {
+                    TRACKED.remove(reference.identityHashCode);
+                }
+            }
+            reference = (TrackedReference) QUEUE.poll();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.common;
+
+import com.google.code.validationframework.api.common.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Utility class keeping track of weakly referenced objects and disposing the entities that depend on them once they
+ * have been garbage collected.
+ * <p>
+ * This is typically used by weak listeners: the weak listener is registered on the event source, but it refers to the
+ * actual listener through a weak reference created with {@link #track(Object, Disposable)}. Once the actual listener
+ * has been garbage collected, calling {@link #sweep()} will dispose the weak listener, which will then unregister
+ * itself from the event source.
+ * <p>
+ * The sweep is never done implicitly: it is to be done explicitly by the application, for instance, periodically or
+ * when closing a dialog. This is because disposing a weak listener unregisters it from its event source, and the
+ * event sources (properties, documents, etc.) are generally not thread-safe. The disposal is performed on the thread
+ * calling {@link #sweep()}, which should therefore be the thread owning all the event sources. In a Swing application,
+ * this should typically be the Event Dispatch Thread.
+ * <p>
+ * Independently of the sweep, the weak listeners also dispose themselves when they receive an event after their
+ * delegate has been garbage collected, on the thread owning their event source.
+ *
+ * @see com.google.code.validationframework.base.property.WeakValueChangeListener
+ * @see com.google.code.validationframework.base.trigger.WeakTriggerListener
+ */
+public final class ReferenceSweeper {
+
+    /**
+     * Weak reference holding the entity to be disposed after the referent has been garbage collected.
+     *
+     * @param <T> Type of referent.
+     */
+    private static class SweepableReference<T> extends WeakReference<T> {
+
+        /**
+         * Entity to be disposed after the referent has been garbage collected.
+         */
+        private final Disposable dependent;
+
+        /**
+         * Constructor specifying the referent and the entity to be disposed after the referent has been garbage
+         * collected.
+         *
+         * @param referent  Object to be referenced weakly.
+         * @param dependent Entity to be disposed after the referent has been garbage collected.
+         */
+        public SweepableReference(T referent, Disposable dependent) {
+            super(referent, QUEUE);
+            this.dependent = dependent;
+        }
+    }
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceSweeper.class);
+
+    /**
+     * Queue to which the references are enqueued once their referents have been garbage collected.
+     */
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<Object>();
+
+    /**
+     * Private constructor for utility class.
+     */
+    private ReferenceSweeper() {
+        // Nothing to be done
+    }
+
+    /**
+     * Creates a weak reference to the specified object and keeps track of it so that the specified dependent entity is
+     * disposed after the object has been garbage collected.
+     * <p>
+     * Note that the returned reference must be kept strongly reachable (typically by the dependent entity itself),
+     * otherwise the dependent entity will not be disposed.
+     * <p>
+     * Note that this method does not sweep anything, so that it can be called from any thread without disposing the
+     * entities depending on other objects.
+     *
+     * @param referent  Object to be referenced weakly.
+     * @param dependent Entity to be disposed after the referent has been garbage collected.
+     * @param <T>       Type of referent.
+     *
+     * @return Weak reference to the specified object.
+     *
+     * @see #sweep()
+     */
+    public static <T> WeakReference<T> track(T referent, Disposable dependent) {
+        return new SweepableReference<T>(referent, dependent);
+    }
+
+    /**
+     * Disposes the dependent entities of all the tracked objects that have been garbage collected.
+     * <p>
+     * This method is to be called on the thread owning the event sources of the dependent entities.
+     *
+     * @return Number of disposed entities.
+     */
+    public static int sweep() {
+        int count = 0;
+        Reference<?> reference = QUEUE.poll();
+        while (reference != null) {
+            try {
+                ((SweepableReference<?>) reference).dependent.dispose();
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed disposing entity depending on a garbage collected object", e);
+            }
+            count++;
+            reference = QUEUE.poll();
+        }
+        return count;
+    }
+}
@@ -29,10 +29,9 @@ import com.google.code.validationframework.api.property.ReadableProperty;
 import com.google.code.validationframework.api.property.ValueChangeListener;
 import com.google.code.validationframework.base.utils.ValueUtils;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 
 /**
  * Abstract implementation of a {@link ReadableProperty}.
@@ -43,11 +42,15 @@ import java.util.List;
  * <p>
  * This abstract implementation allows to inhibit the firing of value change events. When the property is inhibited,
  * changing its value will not fire any value change event. When the property is un-inhibited again, one single value
- * change event will be fired only if the last property value is different than the property value of the last change
- * event fired.
+ * change event will be fired only if the last property value is different than the property value when it was
+ * inhibited.
  * <p>
  * By default, the property is not inhibited.
  * <p>
+ * Because applications may create a very large number of properties, this implementation keeps its footprint small: a
+ * single listener is stored without any collection, and the inhibition state is only allocated while the property is
+ * inhibited.
+ * <p>
  * Note that this class is not thread-safe.
  *
  * @param <R> Type of data that can be read from this property.
@@ -55,35 +58,44 @@ import java.util.List;
 public abstract class AbstractReadableProperty<R> implements ReadableProperty<R> {
 
     /**
-     * Writable properties to be updated.
+     * State of the property while it is inhibited.
+     *
+     * @param <R> Type of data that can be read from the property.
      */
-    private final List<ValueChangeListener<R>> listeners = new ArrayList<ValueChangeListener<R>>();
+    private static class InhibitionState<R> {
 
-    /**
-     * Flag stating whether the inhibit the firing of value change events.
-     */
-    private boolean inhibited = false;
+        /**
+         * Number of inhibited value change events since the property was inhibited.
+         */
+        private int inhibitCount = 0;
 
-    /**
-     * Number of inhibited value change events since the property was inhibited.
-     */
-    private int inhibitCount = 0;
+        /**
+         * Property value before the first inhibited value change event.
+         * <p>
+         * It should be read only when un-inhibiting and {@link #inhibitCount} is not 0.
+         */
+        private R lastNonInhibitedValue = null;
+
+        /**
+         * Property value when the last value change event was inhibited (not fired).
+         * <p>
+         * It should be read only when un-inhibiting and {@link #inhibitCount} is not 0.
+         */
+        private R lastInhibitedValue = null;
+    }
 
     /**
-     * Property value when the last (non-inhibited) value change event was fired.
+     * Value change listeners: null if there is none, the listener itself if there is only one, or an array of listeners
+     * otherwise.
      * <p>
-     * It should be updated only if {@link #inhibited} is false. It should be read read only when un-inhibiting and
-     * {@link #inhibitCount} is 0.
+     * The array is never modified once set, so that it can be iterated while listeners are added or removed.
      */
-    private R lastNonInhibitedValue = null;
+    private Object listeners = null;
 
     /**
-     * Property value when the last value change event was inhibited (not fired).
-     * <p>
-     * It should be updated at least when {@link #inhibited} is true. It should be read only when un-inhibiting and
-     * {@link #inhibitCount} is 0.
+     * Inhibition state, or null if the property is not inhibited.
      */
-    private R lastInhibitedValue = null;
+    private InhibitionState<R> inhibition = null;
 
     /**
      * Flag indicating whether the property is currently notifying its value change listeners.
@@ -99,8 +111,17 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      *
      * @return Value change listeners.
      */
+    @SuppressWarnings("unchecked")
     public Collection<ValueChangeListener<R>> getValueChangeListeners() {
-        return Collections.unmodifiableList(listeners);
+        Collection<ValueChangeListener<R>> listenersView;
+        if (listeners == null) {
+            listenersView = Collections.emptyList();
+        } else if (listeners instanceof Object[]) {
+            listenersView = Collections.unmodifiableList(Arrays.asList((ValueChangeListener<R>[]) listeners));
+        } else {
+            listenersView = Collections.singletonList((ValueChangeListener<R>) listeners);
+        }
+        return listenersView;
     }
 
     /**
@@ -108,7 +129,17 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      */
     @Override
     public void addValueChangeListener(ValueChangeListener<R> listener) {
-        listeners.add(listener);
+        if (listeners == null) {
+            listeners = listener;
+        } else if (listeners instanceof Object[]) {
+            Object[] oldListeners = (Object[]) listeners;
+            ValueChangeListener<?>[] newListeners = new ValueChangeListener<?>[oldListeners.length + 1];
+            System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
+            newListeners[oldListeners.length] = listener;
+            listeners = newListeners;
+        } else {
+            listeners = new ValueChangeListener<?>[]{(ValueChangeListener<?>) listeners, listener};
+        }
     }
 
     /**
@@ -116,7 +147,22 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      */
     @Override
     public void removeValueChangeListener(ValueChangeListener<R> listener) {
-        listeners.remove(listener);
+        if (listeners instanceof Object[]) {
+            Object[] oldListeners = (Object[]) listeners;
+            int index = Arrays.asList(oldListeners).indexOf(listener);
+            if (index >= 0) {
+                if (oldListeners.length == 2) {
+                    listeners = oldListeners[1 - index];
+                } else {
+                    ValueChangeListener<?>[] newListeners = new ValueChangeListener<?>[oldListeners.length - 1];
+                    System.arraycopy(oldListeners, 0, newListeners, 0, index);
+                    System.arraycopy(oldListeners, index + 1, newListeners, index, newListeners.length - index);
+                    listeners = newListeners;
+                }
+            }
+        } else if ((listeners != null) && listeners.equals(listener)) {
+            listeners = null;
+        }
     }
 
     /**
@@ -125,7 +171,7 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      * @return True if this property is inhibited, false otherwise.
      */
     public boolean isInhibited() {
-        return inhibited;
+        return inhibition != null;
     }
 
     /**
@@ -134,14 +180,16 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      * @param inhibited True if this property should be inhibited, false otherwise.
      */
     public void setInhibited(boolean inhibited) {
-        boolean wasInhibited = this.inhibited;
-        this.inhibited = inhibited;
-
-        if (wasInhibited && !inhibited) {
-            if (inhibitCount > 0) {
-                maybeNotifyListeners(lastNonInhibitedValue, lastInhibitedValue);
+        if (inhibited) {
+            if (inhibition == null) {
+                inhibition = new InhibitionState<R>();
+            }
+        } else if (inhibition != null) {
+            InhibitionState<R> wasInhibition = inhibition;
+            inhibition = null;
+            if (wasInhibition.inhibitCount > 0) {
+                maybeNotifyListeners(wasInhibition.lastNonInhibitedValue, wasInhibition.lastInhibitedValue);
             }
-            inhibitCount = 0;
         }
     }
 
@@ -175,13 +223,14 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      * @see #doNotifyListeners(Object, Object)
      */
     private void notifyListenersIfUninhibited(R oldValue, R newValue) {
-        if (inhibited) {
-            inhibitCount++;
-            lastInhibitedValue = newValue;
-        } else {
-            lastInhibitedValue = newValue; // Just in case, even though not really necessary
-            lastNonInhibitedValue = newValue;
+        if (inhibition == null) {
             doNotifyListeners(oldValue, newValue);
+        } else {
+            if (inhibition.inhibitCount == 0) {
+                inhibition.lastNonInhibitedValue = oldValue;
+            }
+            inhibition.inhibitCount++;
+            inhibition.lastInhibitedValue = newValue;
         }
     }
 
@@ -200,11 +249,17 @@ public abstract class AbstractReadableProperty<R> implements ReadableProperty<R>
      * @param oldValue Previous value.
      * @param newValue New value.
      */
+    @SuppressWarnings("unchecked")
     private void doNotifyListeners(R oldValue, R newValue) {
-        List<ValueChangeListener<R>> listenersCopy = new ArrayList<ValueChangeListener<R>>(listeners);
+        // No need to copy the listeners because the array is never modified
+        Object currentListeners = listeners;
         notifyingListeners = true;
-        for (ValueChangeListener<R> listener : listenersCopy) {
-            listener.valueChanged(this, oldValue, newValue);
+        if (currentListeners instanceof Object[]) {
+            for (Object listener : (Object[]) currentListeners) {
+                ((ValueChangeListener<R>) listener).valueChanged(this, oldValue, newValue);
+            }
+        } else if (currentListeners != null) {
+            ((ValueChangeListener<R>) currentListeners).valueChanged(this, oldValue, newValue);
         }
         notifyingListeners = false;
     }
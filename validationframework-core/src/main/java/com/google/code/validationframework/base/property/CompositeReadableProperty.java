@@ -27,11 +27,11 @@ package com.google.code.validationframework.base.property;
 
 import com.google.code.validationframework.api.property.ReadableProperty;
 import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.base.collection.PersistentList;
 import com.google.code.validationframework.base.utils.ValueUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -40,7 +40,10 @@ import java.util.List;
  * Whenever a sub-property changes, this composite property will trigger its change listeners. Also, reading the value
  * from this property will return the collection of values from all sub-properties.
  * <p>
- * The value returned by {@link #getValue()} will never be null, but it may very well be an empty collection.
+ * The value returned by {@link #getValue()} will never be null, but it may very well be an empty collection. It is an
+ * immutable {@link PersistentList}: when a sub-property changes, only the value at the position of this sub-property is
+ * replaced, and the new collection shares the rest of its structure with the previous one. So the cost of a change does
+ * not grow linearly with the number of sub-properties.
  *
  * @param <R> Type of data that can be read from the sub-properties.
  */
@@ -49,17 +52,17 @@ public class CompositeReadableProperty<R> extends AbstractReadableProperty<Colle
     /**
      * Sub-properties.
      */
-    private final Collection<ReadableProperty<R>> properties = new ArrayList<ReadableProperty<R>>();
+    private final List<ReadableProperty<R>> properties = new ArrayList<ReadableProperty<R>>();
 
     /**
-     * Listener to changes in the sub-properties.
+     * Listeners to changes in the sub-properties, at the same positions as the sub-properties.
      */
-    private final ValueChangeListener<R> changeAdapter = new ValueChangeAdapter();
+    private final List<ValueChangeAdapter> changeAdapters = new ArrayList<ValueChangeAdapter>();
 
     /**
      * Collection of current values of the sub-properties.
      */
-    private Collection<R> values = Collections.emptyList();
+    private PersistentList<R> values = PersistentList.empty();
 
     /**
      * Default constructor.
@@ -113,9 +116,11 @@ public class CompositeReadableProperty<R> extends AbstractReadableProperty<Colle
      * @param property Sub-property to be added.
      */
     public void addProperty(ReadableProperty<R> property) {
+        ValueChangeAdapter changeAdapter = new ValueChangeAdapter(properties.size());
         property.addValueChangeListener(changeAdapter);
         properties.add(property);
-        updateFromProperties();
+        changeAdapters.add(changeAdapter);
+        setValue(values.plus(property.getValue()));
     }
 
     /**
@@ -127,9 +132,19 @@ public class CompositeReadableProperty<R> extends AbstractReadableProperty<Colle
      * @see #clear()
      */
     public void removeProperty(ReadableProperty<R> property) {
-        property.removeValueChangeListener(changeAdapter);
-        properties.remove(property);
-        updateFromProperties();
+        int index = properties.indexOf(property);
+        if (index >= 0) {
+            property.removeValueChangeListener(changeAdapters.get(index));
+            properties.remove(index);
+            changeAdapters.remove(index);
+
+            // Shift the positions of the following sub-properties
+            for (int i = index; i < changeAdapters.size(); i++) {
+                changeAdapters.get(i).index = i;
+            }
+
+            setValue(values.minus(index));
+        }
     }
 
     /**
@@ -138,8 +153,12 @@ public class CompositeReadableProperty<R> extends AbstractReadableProperty<Colle
      * @see #removeProperty(ReadableProperty)
      */
     public void clear() {
+        for (int i = 0; i < properties.size(); i++) {
+            properties.get(i).removeValueChangeListener(changeAdapters.get(i));
+        }
         properties.clear();
-        updateFromProperties();
+        changeAdapters.clear();
+        setValue(PersistentList.<R>empty());
     }
 
     /**
@@ -157,31 +176,41 @@ public class CompositeReadableProperty<R> extends AbstractReadableProperty<Colle
      *
      * @param values New collection of values.
      */
-    private void setValue(Collection<R> values) {
+    private void setValue(PersistentList<R> values) {
         Collection<R> oldValues = this.values;
         this.values = values;
         maybeNotifyListeners(oldValues, values);
     }
 
     /**
-     * Updates the current collection of values from the sub-properties and notifies the listeners.
+     * Updates the value at the specified position from the corresponding sub-property and notifies the listeners.
+     *
+     * @param index Position of the sub-property that changed.
      */
-    private void updateFromProperties() {
-        // Get value from all properties: use a new collection so that equals() returns false
-        List<R> newValues = new ArrayList<R>();
-        for (ReadableProperty<R> master : properties) {
-            newValues.add(master.getValue());
-        }
-
-        // Notify slaves
-        setValue(newValues);
+    private void updateFromProperty(int index) {
+        // Only replace the changed value: the new collection is a different object so that equals() is relevant
+        setValue(values.with(index, properties.get(index).getValue()));
     }
 
     /**
-     * Listener to changes in the sub-properties.
+     * Listener to changes in a sub-property.
      */
     private class ValueChangeAdapter implements ValueChangeListener<R> {
 
+        /**
+         * Position of the sub-property in the composite property.
+         */
+        private int index;
+
+        /**
+         * Constructor specifying the position of the sub-property.
+         *
+         * @param index Position of the sub-property in the composite property.
+         */
+        public ValueChangeAdapter(int index) {
+            this.index = index;
+        }
+
         /**
          * {@inheritDoc}
          *
@@ -190,7 +219,7 @@ public class CompositeReadableProperty<R> extends AbstractReadableProperty<Colle
         @Override
         public void valueChanged(ReadableProperty<R> property, R oldValue, R newValue) {
             if (!ValueUtils.areEqual(oldValue, newValue)) {
-                updateFromProperties();
+                updateFromProperty(index);
             }
         }
     }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.property;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.base.common.ReferenceSweeper;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Value change listener forwarding the value change events to a delegate listener that is only referenced weakly.
+ * <p>
+ * This allows a long-lived property to notify a short-lived listener without preventing the garbage collection of the
+ * listener, for instance, when the listener belongs to a dialog that is closed without being disposed. Once the
+ * delegate listener has been garbage collected, this weak listener unregisters itself from the property, either on the
+ * next value change or when the {@link ReferenceSweeper} sweeps.
+ * <p>
+ * Note that the delegate listener must be strongly referenced elsewhere (typically by its owner) for as long as it
+ * needs to be notified.
+ * <p>
+ * The weak listener registers itself on the property at construction time.
+ *
+ * @param <R> Type of data that can be read from the property.
+ *
+ * @see ReferenceSweeper
+ */
+public class WeakValueChangeListener<R> implements ValueChangeListener<R>, Disposable {
+
+    /**
+     * Property to which this listener is registered.
+     */
+    private ReadableProperty<R> property;
+
+    /**
+     * Weak reference to the delegate listener.
+     */
+    private final WeakReference<ValueChangeListener<R>> delegate;
+
+    /**
+     * Constructor specifying the property to listen to and the delegate listener to be referenced weakly.
+     *
+     * @param property Property to listen to.
+     * @param delegate Listener to be notified as long as it is not garbage collected.
+     */
+    public WeakValueChangeListener(ReadableProperty<R> property, ValueChangeListener<R> delegate) {
+        this.property = property;
+        this.delegate = ReferenceSweeper.track(delegate, this);
+        property.addValueChangeListener(this);
+    }
+
+    /**
+     * Gets the delegate listener.
+     *
+     * @return Delegate listener, or null if it has been garbage collected.
+     */
+    public ValueChangeListener<R> getDelegate() {
+        return delegate.get();
+    }
+
+    /**
+     * Gets the weak reference to the delegate listener.
+     * <p>
+     * This allows the tests to simulate the garbage collection of the delegate listener.
+     *
+     * @return Weak reference to the delegate listener.
+     */
+    WeakReference<ValueChangeListener<R>> getDelegateReference() {
+        return delegate;
+    }
+
+    /**
+     * @see ValueChangeListener#valueChanged(ReadableProperty, Object, Object)
+     */
+    @Override
+    public void valueChanged(ReadableProperty<R> property, R oldValue, R newValue) {
+        ValueChangeListener<R> listener = delegate.get();
+        if (listener == null) {
+            dispose();
+        } else {
+            listener.valueChanged(property, oldValue, newValue);
+        }
+    }
+
+    /**
+     * Unregisters this listener from the property.
+     *
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (property != null) {
+            property.removeValueChangeListener(this);
+            property = null;
+        }
+        delegate.clear();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.property.concurrent;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Concurrent property holding a {@link Boolean} value.
+ *
+ * @see ConcurrentProperty
+ */
+public class ConcurrentBooleanProperty extends ConcurrentProperty<Boolean> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ConcurrentProperty#ConcurrentProperty()
+     */
+    public ConcurrentBooleanProperty() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ConcurrentProperty#ConcurrentProperty(Object)
+     */
+    public ConcurrentBooleanProperty(Boolean value) {
+        super(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ConcurrentProperty#ConcurrentProperty(Object, Executor, boolean)
+     */
+    public ConcurrentBooleanProperty(Boolean value, Executor executor, boolean conflating) {
+        super(value, executor, conflating);
+    }
+
+    /**
+     * Atomically inverts the current value.
+     * <p>
+     * A null value is considered as false.
+     *
+     * @return Updated value.
+     */
+    public boolean toggleAndGet() {
+        Boolean currentValue;
+        Boolean updatedValue;
+        do {
+            currentValue = getValue();
+            updatedValue = !Boolean.TRUE.equals(currentValue);
+        } while (!compareAndSet(currentValue, updatedValue));
+        return updatedValue;
+    }
+}
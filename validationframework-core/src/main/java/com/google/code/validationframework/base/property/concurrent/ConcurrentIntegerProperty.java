@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.property.concurrent;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Concurrent property holding a {@link Integer} value.
+ *
+ * @see ConcurrentProperty
+ */
+public class ConcurrentIntegerProperty extends ConcurrentProperty<Integer> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ConcurrentProperty#ConcurrentProperty()
+     */
+    public ConcurrentIntegerProperty() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ConcurrentProperty#ConcurrentProperty(Object)
+     */
+    public ConcurrentIntegerProperty(Integer value) {
+        super(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ConcurrentProperty#ConcurrentProperty(Object, Executor, boolean)
+     */
+    public ConcurrentIntegerProperty(Integer value, Executor executor, boolean conflating) {
+        super(value, executor, conflating);
+    }
+
+    /**
+     * Atomically adds the specified delta to the current value.
+     * <p>
+     * A null value is considered as 0.
+     *
+     * @param delta Value to be added.
+     *
+     * @return Updated value.
+     */
+    public int addAndGet(int delta) {
+        Integer currentValue;
+        Integer updatedValue;
+        do {
+            currentValue = getValue();
+            updatedValue = ((currentValue == null) ? 0 : currentValue) + delta;
+        } while (!compareAndSet(currentValue, updatedValue));
+        return updatedValue;
+    }
+
+    /**
+     * Atomically increments the current value by one.
+     * <p>
+     * A null value is considered as 0.
+     *
+     * @return Updated value.
+     */
+    public int incrementAndGet() {
+        return addAndGet(1);
+    }
+
+    /**
+     * Atomically decrements the current value by one.
+     * <p>
+     * A null value is considered as 0.
+     *
+     * @return Updated value.
+     */
+    public int decrementAndGet() {
+        return addAndGet(-1);
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.property.concurrent;
+
+import com.google.code.validationframework.api.property.ReadableWritableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.base.utils.ValueUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe implementation of a property that is both readable and writable.
+ * <p>
+ * The value is published atomically (using compare-and-set operations) so that it can be written by one thread (for
+ * instance, a thread receiving market data) and read by another thread (for instance, the Event Dispatch Thread).
+ * <p>
+ * Every new value is appended to a chain of versions, in the order in which the values were published. The listeners
+ * are notified by following this chain, one event at a time, so that no change is lost and the events are always
+ * consistent: the old value of an event is the new value of the previous event. Only one thread notifies the listeners
+ * at a time. If a value is set while the listeners are being notified, the corresponding event will be fired after the
+ * current one, without recursion.
+ * <p>
+ * By default, the listeners are notified on the thread setting the value. Alternatively, an {@link Executor} can be
+ * specified to notify the listeners on a target thread (for instance, the Event Dispatch Thread).
+ * <p>
+ * The property can also conflate the value changes: if several values are set before the listeners are notified, only
+ * one event will be fired, from the last notified value to the latest value. This is useful when the listeners are
+ * slower than the updates and only the latest value matters.
+ * <p>
+ * As for the other properties, the listeners are only notified if the new value differs from the previous one.
+ *
+ * @param <T> Type of data that can be read from and written to this property.
+ */
+public class ConcurrentProperty<T> implements ReadableWritableProperty<T, T> {
+
+    /**
+     * Version of the property value, linked to the next version.
+     *
+     * @param <T> Type of value.
+     */
+    private static final class Version<T> {
+
+        /**
+         * Property value.
+         */
+        private final T value;
+
+        /**
+         * Next version, or null if this is the latest one or if it is not linked yet.
+         */
+        private volatile Version<T> next = null;
+
+        /**
+         * Constructor specifying the property value.
+         *
+         * @param value Property value.
+         */
+        public Version(T value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentProperty.class);
+
+    /**
+     * Value change listeners.
+     */
+    private final List<ValueChangeListener<T>> listeners = new CopyOnWriteArrayList<ValueChangeListener<T>>();
+
+    /**
+     * Latest version of the property value.
+     */
+    private final AtomicReference<Version<T>> latest;
+
+    /**
+     * Number of requests to notify the listeners since the last notification started.
+     * <p>
+     * The thread that increments it from 0 is the one notifying the listeners.
+     */
+    private final AtomicInteger pendingNotifications = new AtomicInteger(0);
+
+    /**
+     * Executor to be used to notify the listeners, or null to notify them on the thread setting the value.
+     */
+    private final Executor executor;
+
+    /**
+     * Flag indicating whether successive value changes should be conflated into one single event.
+     */
+    private final boolean conflating;
+
+    /**
+     * Task notifying the listeners on the executor.
+     */
+    private final Runnable notificationTask = new Runnable() {
+
+        /**
+         * @see Runnable#run()
+         */
+        @Override
+        public void run() {
+            notifyListeners();
+        }
+    };
+
+    /**
+     * Last version for which the listeners have been notified.
+     * <p>
+     * It is only accessed by the thread notifying the listeners.
+     */
+    private Version<T> lastNotified;
+
+    /**
+     * Default constructor using null as the initial property value.
+     * <p>
+     * The listeners will be notified on the thread setting the value, and value changes will not be conflated.
+     */
+    public ConcurrentProperty() {
+        this(null);
+    }
+
+    /**
+     * Constructor specifying the initial property value.
+     * <p>
+     * The listeners will be notified on the thread setting the value, and value changes will not be conflated.
+     *
+     * @param value Initial property value.
+     */
+    public ConcurrentProperty(T value) {
+        this(value, null, false);
+    }
+
+    /**
+     * Constructor specifying the initial property value, the executor to be used to notify the listeners and whether
+     * value changes should be conflated.
+     *
+     * @param value      Initial property value.
+     * @param executor   Executor to be used to notify the listeners, or null to notify them on the thread setting the
+     *                   value.
+     * @param conflating True to fire only one event for all the values set before the listeners are notified, false to
+     *                   fire one event per value change.
+     */
+    public ConcurrentProperty(T value, Executor executor, boolean conflating) {
+        Version<T> initialVersion = new Version<T>(value);
+        this.latest = new AtomicReference<Version<T>>(initialVersion);
+        this.lastNotified = initialVersion;
+        this.executor = executor;
+        this.conflating = conflating;
+    }
+
+    /**
+     * Gets the executor used to notify the listeners.
+     *
+     * @return Executor used to notify the listeners, or null if they are notified on the thread setting the value.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * States whether successive value changes are conflated into one single event.
+     *
+     * @return True if value changes are conflated, false otherwise.
+     */
+    public boolean isConflating() {
+        return conflating;
+    }
+
+    /**
+     * Gets the registered value change listeners.
+     * <p>
+     * Note that the returned collection is not modifiable.
+     *
+     * @return Value change listeners.
+     */
+    public Collection<ValueChangeListener<T>> getValueChangeListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * @see ReadableWritableProperty#addValueChangeListener(ValueChangeListener)
+     */
+    @Override
+    public void addValueChangeListener(ValueChangeListener<T> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @see ReadableWritableProperty#removeValueChangeListener(ValueChangeListener)
+     */
+    @Override
+    public void removeValueChangeListener(ValueChangeListener<T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @see ReadableWritableProperty#getValue()
+     */
+    @Override
+    public T getValue() {
+        return latest.get().value;
+    }
+
+    /**
+     * @see ReadableWritableProperty#setValue(Object)
+     */
+    @Override
+    public void setValue(T value) {
+        if (!ValueUtils.areEqual(getValue(), value)) {
+            Version<T> newVersion = new Version<T>(value);
+            Version<T> previousVersion = latest.getAndSet(newVersion);
+            previousVersion.next = newVersion;
+            scheduleNotification();
+        }
+    }
+
+    /**
+     * Sets the specified value only if the current value is equal to the expected value.
+     *
+     * @param expectedValue Expected current value.
+     * @param newValue      New value.
+     *
+     * @return True if the value was set, false if the current value was not equal to the expected value.
+     */
+    public boolean compareAndSet(T expectedValue, T newValue) {
+        boolean set = false;
+        Version<T> currentVersion = latest.get();
+        while (!set && ValueUtils.areEqual(currentVersion.value, expectedValue)) {
+            if (ValueUtils.areEqual(expectedValue, newValue)) {
+                // Nothing to be changed
+                set = true;
+            } else {
+                Version<T> newVersion = new Version<T>(newValue);
+                if (latest.compareAndSet(currentVersion, newVersion)) {
+                    currentVersion.next = newVersion;
+                    scheduleNotification();
+                    set = true;
+                } else {
+                    currentVersion = latest.get();
+                }
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Requests the notification of the listeners, unless a notification is already requested.
+     */
+    private void scheduleNotification() {
+        if (pendingNotifications.getAndIncrement() == 0) {
+            submitNotification();
+        }
+    }
+
+    /**
+     * Notifies the listeners, either directly or using the executor.
+     * <p>
+     * This method is to be called only by the thread that incremented the number of requests from 0.
+     */
+    private void submitNotification() {
+        boolean submitted = false;
+        while (!submitted) {
+            if (executor == null) {
+                notifyListeners();
+                submitted = true;
+            } else {
+                try {
+                    executor.execute(notificationTask);
+                    submitted = true;
+                } catch (RuntimeException e) {
+                    // Undo only this request: if other threads made requests in the meantime, retry on their behalf
+                    if (pendingNotifications.addAndGet(-1) == 0) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners of all the value changes that have not been notified yet, until no more notification is
+     * requested.
+     * <p>
+     * If an error is thrown while notifying the listeners, the requests made in the meantime are submitted again, so
+     * that the next value changes are not blocked forever.
+     */
+    private void notifyListeners() {
+        int missed = 1;
+        boolean failed = true;
+        try {
+            do {
+                if (conflating) {
+                    notifyLatestVersion();
+                } else {
+                    notifyAllVersions();
+                }
+                missed = pendingNotifications.addAndGet(-missed);
+            } while (missed != 0);
+            failed = false;
+        } finally {
+            if (failed && (pendingNotifications.addAndGet(-missed) != 0)) {
+                submitNotification();
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners of each version following the last notified version.
+     */
+    private void notifyAllVersions() {
+        Version<T> fromVersion = lastNotified;
+        Version<T> toVersion = fromVersion.next;
+        while (toVersion != null) {
+            lastNotified = toVersion;
+            doNotifyListeners(fromVersion.value, toVersion.value);
+            fromVersion = toVersion;
+            toVersion = fromVersion.next;
+        }
+    }
+
+    /**
+     * Notifies the listeners of the change from the last notified version to the latest linked version.
+     */
+    private void notifyLatestVersion() {
+        Version<T> fromVersion = lastNotified;
+        Version<T> toVersion = fromVersion;
+        while (toVersion.next != null) {
+            toVersion = toVersion.next;
+        }
+        if (toVersion != fromVersion) {
+            lastNotified = toVersion;
+            doNotifyListeners(fromVersion.value, toVersion.value);
+        }
+    }
+
+    /**
+     * Notifies the listeners of the specified value change, if the values are different.
+     *
+     * @param oldValue Previous value.
+     * @param newValue New value.
+     */
+    private void doNotifyListeners(T oldValue, T newValue) {
+        if (!ValueUtils.areEqual(oldValue, newValue)) {
+            for (ValueChangeListener<T> listener : listeners) {
+                try {
+                    listener.valueChanged(this, oldValue, newValue);
+                } catch (RuntimeException e) {
+                    // Do not let one listener break the notification chain
+                    LOGGER.error("Value change listener failed: " + listener, e);
+                }
+            }
+        }
+    }
+}
@@ -30,6 +30,9 @@ import java.text.Format;
 
 /**
  * Simple property holding a {@link Format} value.
+ * <p>
+ * If the format is to be used by several threads, consider holding a {@link
+ * com.google.code.validationframework.base.utils.PooledFormat}.
  *
  * @see SimpleProperty
  */
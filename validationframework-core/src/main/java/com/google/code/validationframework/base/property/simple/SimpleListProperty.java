@@ -26,9 +26,11 @@
 package com.google.code.validationframework.base.property.simple;
 
 import com.google.code.validationframework.api.property.ListValueChangeListener;
+import com.google.code.validationframework.base.collection.PersistentList;
 import com.google.code.validationframework.base.property.AbstractReadableWritableListProperty;
 import com.google.code.validationframework.base.utils.ValueUtils;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -37,21 +39,54 @@ import java.util.List;
 import java.util.ListIterator;
 
 /**
- * Readable/writable list property backed by a {@link List}.
+ * Readable/writable list property backed by a {@link PersistentList}.
+ * <p>
+ * Each modification replaces the proxied list by a new version sharing most of its structure with the previous one.
+ * This makes {@link #snapshot()} cost O(1), while modifications cost O(log n).
  *
  * @param <T> Type of values handled by this list property and the proxied list.
  */
 public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<T, T> implements List<T> {
 
     /**
-     * Proxied list.
+     * Read-only view of the current version of the proxied list.
      */
-    private final List<T> internal = new ArrayList<T>();
+    private final class UnmodifiableView extends AbstractList<T> {
+
+        /**
+         * @see AbstractList#size()
+         */
+        @Override
+        public int size() {
+            return internal.size();
+        }
+
+        /**
+         * @see AbstractList#get(int)
+         */
+        @Override
+        public T get(int index) {
+            return internal.get(index);
+        }
+
+        /**
+         * @see AbstractList#iterator()
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return internal.iterator();
+        }
+    }
+
+    /**
+     * Current version of the proxied list.
+     */
+    private PersistentList<T> internal = PersistentList.empty();
 
     /**
      * Read-only version of the proxied list.
      */
-    private final List<T> unmodifiable = Collections.unmodifiableList(internal);
+    private final List<T> unmodifiable = new UnmodifiableView();
 
     /**
      * Default constructor.
@@ -76,7 +111,7 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
      */
     public SimpleListProperty(List<T> items) {
         super();
-        internal.addAll(items);
+        internal = PersistentList.copyOf(items);
     }
 
     /**
@@ -90,7 +125,7 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
     public SimpleListProperty(List<T> items, ListValueChangeListener<T>... listeners) {
         super(); // Without listeners
 
-        internal.addAll(items);
+        internal = PersistentList.copyOf(items);
 
         for (ListValueChangeListener<T> listener : listeners) {
             addValueChangeListener(listener);
@@ -130,11 +165,12 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
      */
     @Override
     public T set(int index, T item) {
-        T oldItem = internal.set(index, item);
+        T oldItem = internal.get(index);
+        internal = internal.with(index, item);
 
         if (!ValueUtils.areEqual(oldItem, item)) {
             List<T> oldItems = Collections.unmodifiableList(Collections.singletonList(oldItem));
-            List<T> newItems = Collections.unmodifiableList(Collections.singletonList(oldItem));
+            List<T> newItems = Collections.unmodifiableList(Collections.singletonList(item));
             doNotifyListenersOfChangedValues(index, oldItems, newItems);
         }
 
@@ -147,14 +183,10 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
      */
     @Override
     public boolean add(T item) {
-        boolean added = internal.add(item);
-
-        if (added) {
-            doNotifyListenersOfAddedValues(internal.size() - 1, Collections.unmodifiableList(Collections.singletonList
-                    (item)));
-        }
-
-        return added;
+        internal = internal.plus(item);
+        doNotifyListenersOfAddedValues(internal.size() - 1, Collections.unmodifiableList(Collections.singletonList
+                (item)));
+        return true;
     }
 
     /**
@@ -163,7 +195,7 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
      */
     @Override
     public void add(int index, T item) {
-        internal.add(index, item);
+        internal = internal.plus(index, item);
         doNotifyListenersOfAddedValues(index, Collections.singletonList(item));
     }
 
@@ -186,7 +218,8 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
      */
     @Override
     public T remove(int index) {
-        T oldItem = internal.remove(index);
+        T oldItem = internal.get(index);
+        internal = internal.minus(index);
         doNotifyListenersOfRemovedValues(index, Collections.singletonList(oldItem));
         return oldItem;
     }
@@ -198,9 +231,9 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
     @Override
     public boolean addAll(Collection<? extends T> items) {
         int firstIndex = internal.size();
-        boolean added = internal.addAll(items);
+        internal = internal.plusAll(firstIndex, items);
         doNotifyListenersOfAddedValues(firstIndex, new ArrayList<T>(items));
-        return added;
+        return !items.isEmpty();
     }
 
     /**
@@ -209,9 +242,9 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
      */
     @Override
     public boolean addAll(int index, Collection<? extends T> items) {
-        boolean added = internal.addAll(index, items);
+        internal = internal.plusAll(index, items);
         doNotifyListenersOfAddedValues(index, new ArrayList<T>(items));
-        return added;
+        return !items.isEmpty();
     }
 
     /**
@@ -251,8 +284,8 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
     @Override
     public void clear() {
         if (!internal.isEmpty()) {
-            List<T> removed = new ArrayList<T>(internal);
-            internal.clear();
+            List<T> removed = internal;
+            internal = PersistentList.empty();
             doNotifyListenersOfRemovedValues(0, removed);
         }
     }
@@ -340,6 +373,18 @@ public class SimpleListProperty<T> extends AbstractReadableWritableListProperty<
         return unmodifiable.subList(fromIndex, toIndex);
     }
 
+    /**
+     * Gets an immutable snapshot of the current items.
+     * <p>
+     * This costs O(1) as the snapshot shares its structure with the proxied list. The snapshot is not affected by the
+     * later modifications of this property, so it can be kept for later use or passed to another thread.
+     *
+     * @return Immutable snapshot of the items.
+     */
+    public PersistentList<T> snapshot() {
+        return internal;
+    }
+
     /**
      * @see AbstractReadableWritableListProperty#asUnmodifiableList()
      */
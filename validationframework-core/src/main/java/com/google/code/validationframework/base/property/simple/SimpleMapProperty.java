@@ -26,19 +26,25 @@
 package com.google.code.validationframework.base.property.simple;
 
 import com.google.code.validationframework.api.property.MapValueChangeListener;
+import com.google.code.validationframework.base.collection.PersistentMap;
 import com.google.code.validationframework.base.property.AbstractReadableWritableMapProperty;
 import com.google.code.validationframework.base.utils.ValueUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * Readable/writable map property backed by a {@link Map}.
+ * Readable/writable map property backed by a {@link PersistentMap}.
+ * <p>
+ * Each modification replaces the proxied map by a new version sharing most of its structure with the previous one.
+ * This makes {@link #snapshot()} cost O(1), while modifications cost O(log n).
  *
  * @param <K> Type of keys maintained by this map property and the proxied map.
  * @param <V> Type mapped values.
@@ -51,14 +57,69 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
     private static final Logger LOGGER = LoggerFactory.getLogger(SimpleMapProperty.class);
 
     /**
-     * Proxied map.
+     * Read-only view of the current version of the proxied map.
      */
-    private final Map<K, V> internal = new HashMap<K, V>();
+    private final class UnmodifiableView extends AbstractMap<K, V> {
+
+        /**
+         * @see AbstractMap#size()
+         */
+        @Override
+        public int size() {
+            return internal.size();
+        }
+
+        /**
+         * @see AbstractMap#containsKey(Object)
+         */
+        @Override
+        public boolean containsKey(Object key) {
+            return internal.containsKey(key);
+        }
+
+        /**
+         * @see AbstractMap#get(Object)
+         */
+        @Override
+        public V get(Object key) {
+            return internal.get(key);
+        }
+
+        /**
+         * @see AbstractMap#entrySet()
+         */
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+
+                /**
+                 * @see AbstractSet#size()
+                 */
+                @Override
+                public int size() {
+                    return internal.size();
+                }
+
+                /**
+                 * @see AbstractSet#iterator()
+                 */
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return internal.entrySet().iterator();
+                }
+            };
+        }
+    }
+
+    /**
+     * Current version of the proxied map.
+     */
+    private PersistentMap<K, V> internal = PersistentMap.empty();
 
     /**
      * Read-only version of the proxied map.
      */
-    private final Map<K, V> unmodifiable = Collections.unmodifiableMap(internal);
+    private final Map<K, V> unmodifiable = new UnmodifiableView();
 
     /**
      * Default constructor.
@@ -83,7 +144,7 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
      */
     public SimpleMapProperty(Map<K, V> entries) {
         super();
-        internal.putAll(entries);
+        internal = PersistentMap.copyOf(entries);
     }
 
     /**
@@ -97,7 +158,7 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
     public SimpleMapProperty(Map<K, V> entries, MapValueChangeListener<K, V>... listeners) {
         super(); // Without listeners
 
-        internal.putAll(entries);
+        internal = PersistentMap.copyOf(entries);
 
         for (MapValueChangeListener<K, V> listener : listeners) {
             addValueChangeListener(listener);
@@ -150,7 +211,8 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
     @Override
     public V put(K key, V value) {
         boolean alreadyExists = internal.containsKey(key);
-        V oldValue = internal.put(key, value);
+        V oldValue = internal.get(key);
+        internal = internal.plus(key, value);
 
         if (alreadyExists) {
             // Changed existing entry
@@ -182,7 +244,8 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
 
         for (Entry<? extends K, ? extends V> entry : entries.entrySet()) {
             boolean alreadyExists = internal.containsKey(entry.getKey());
-            V oldValue = internal.put(entry.getKey(), entry.getValue());
+            V oldValue = internal.get(entry.getKey());
+            internal = internal.plus(entry.getKey(), entry.getValue());
 
             if (alreadyExists) {
                 // Changed existing entry
@@ -215,7 +278,8 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
         V previousValue = null;
 
         if (exists) {
-            previousValue = internal.remove(key);
+            previousValue = internal.get(key);
+            internal = internal.minus(key);
 
             try {
                 Map<K, V> removed = new HashMap<K, V>();
@@ -236,8 +300,8 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
     @Override
     public void clear() {
         if (!internal.isEmpty()) {
-            Map<K, V> removed = new HashMap<K, V>(internal);
-            internal.clear();
+            Map<K, V> removed = internal;
+            internal = PersistentMap.empty();
             doNotifyListenersOfRemovedValues(removed);
         }
     }
@@ -278,6 +342,18 @@ public class SimpleMapProperty<K, V> extends AbstractReadableWritableMapProperty
         return unmodifiable.entrySet();
     }
 
+    /**
+     * Gets an immutable snapshot of the current entries.
+     * <p>
+     * This costs O(1) as the snapshot shares its structure with the proxied map. The snapshot is not affected by the
+     * later modifications of this property, so it can be kept for later use or passed to another thread.
+     *
+     * @return Immutable snapshot of the entries.
+     */
+    public PersistentMap<K, V> snapshot() {
+        return internal;
+    }
+
     /**
      * @see AbstractReadableWritableMapProperty#asUnmodifiableMap()
      */
@@ -26,8 +26,10 @@
 package com.google.code.validationframework.base.property.simple;
 
 import com.google.code.validationframework.api.property.SetValueChangeListener;
+import com.google.code.validationframework.base.collection.PersistentSet;
 import com.google.code.validationframework.base.property.AbstractReadableWritableSetProperty;
 
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -35,21 +37,54 @@ import java.util.Iterator;
 import java.util.Set;
 
 /**
- * Readable/writable set property backed by a {@link Set}.
+ * Readable/writable set property backed by a {@link PersistentSet}.
+ * <p>
+ * Each modification replaces the proxied set by a new version sharing most of its structure with the previous one.
+ * This makes {@link #snapshot()} cost O(1), while modifications cost O(log n).
  *
  * @param <T> Type of values handled by this set property and the proxied set.
  */
 public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T, T> implements Set<T> {
 
     /**
-     * Proxied set.
+     * Read-only view of the current version of the proxied set.
      */
-    private final Set<T> internal = new HashSet<T>();
+    private final class UnmodifiableView extends AbstractSet<T> {
+
+        /**
+         * @see AbstractSet#size()
+         */
+        @Override
+        public int size() {
+            return internal.size();
+        }
+
+        /**
+         * @see AbstractSet#contains(Object)
+         */
+        @Override
+        public boolean contains(Object item) {
+            return internal.contains(item);
+        }
+
+        /**
+         * @see AbstractSet#iterator()
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return internal.iterator();
+        }
+    }
+
+    /**
+     * Current version of the proxied set.
+     */
+    private PersistentSet<T> internal = PersistentSet.empty();
 
     /**
      * Read-only version of the proxied set.
      */
-    private final Set<T> unmodifiable = Collections.unmodifiableSet(internal);
+    private final Set<T> unmodifiable = new UnmodifiableView();
 
     /**
      * Default constructor.
@@ -74,7 +109,7 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
      */
     public SimpleSetProperty(Set<T> items) {
         super();
-        internal.addAll(items);
+        internal = PersistentSet.copyOf(items);
     }
 
     /**
@@ -88,7 +123,7 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
     public SimpleSetProperty(Set<T> items, SetValueChangeListener<T>... listeners) {
         super(); // Without listeners
 
-        internal.addAll(items);
+        internal = PersistentSet.copyOf(items);
 
         for (SetValueChangeListener<T> listener : listeners) {
             addValueChangeListener(listener);
@@ -119,7 +154,9 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
      */
     @Override
     public boolean add(T item) {
-        boolean modified = internal.add(item);
+        PersistentSet<T> newInternal = internal.plus(item);
+        boolean modified = newInternal != internal;
+        internal = newInternal;
 
         if (modified) {
             doNotifyListenersOfAddedValues(Collections.singleton(item));
@@ -137,7 +174,9 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
         Set<T> added = new HashSet<T>();
 
         for (T item : items) {
-            if (internal.add(item)) {
+            PersistentSet<T> newInternal = internal.plus(item);
+            if (newInternal != internal) {
+                internal = newInternal;
                 added.add(item);
             }
         }
@@ -155,7 +194,9 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
      */
     @Override
     public boolean remove(Object item) {
-        boolean modified = internal.remove(item);
+        PersistentSet<T> newInternal = internal.minus(item);
+        boolean modified = newInternal != internal;
+        internal = newInternal;
 
         if (modified) {
             doNotifyListenersOfRemovedValues(Collections.singleton((T) item));
@@ -173,7 +214,9 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
         Set<T> removed = new HashSet<T>();
 
         for (Object item : items) {
-            if (internal.remove(item)) {
+            PersistentSet<T> newInternal = internal.minus(item);
+            if (newInternal != internal) {
+                internal = newInternal;
                 removed.add((T) item);
             }
         }
@@ -200,7 +243,9 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
         }
 
         if (!toBeRemoved.isEmpty()) {
-            internal.removeAll(toBeRemoved);
+            for (T item : toBeRemoved) {
+                internal = internal.minus(item);
+            }
             doNotifyListenersOfRemovedValues(toBeRemoved);
         }
 
@@ -214,8 +259,8 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
     @Override
     public void clear() {
         if (!internal.isEmpty()) {
-            Set<T> removed = new HashSet<T>(internal);
-            internal.clear();
+            Set<T> removed = internal;
+            internal = PersistentSet.empty();
             doNotifyListenersOfRemovedValues(removed);
         }
     }
@@ -264,6 +309,18 @@ public class SimpleSetProperty<T> extends AbstractReadableWritableSetProperty<T,
         return unmodifiable.iterator();
     }
 
+    /**
+     * Gets an immutable snapshot of the current items.
+     * <p>
+     * This costs O(1) as the snapshot shares its structure with the proxied set. The snapshot is not affected by the
+     * later modifications of this property, so it can be kept for later use or passed to another thread.
+     *
+     * @return Immutable snapshot of the items.
+     */
+    public PersistentSet<T> snapshot() {
+        return internal;
+    }
+
     /**
      * @see AbstractReadableWritableSetProperty#asUnmodifiableSet()
      */
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.resulthandler;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import com.google.code.validationframework.base.utils.ValueUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Result handler wrapper delivering only the latest result to the wrapped result handler, and only if it differs from
+ * the last delivered one.
+ * <p>
+ * The results are delivered using an {@link Executor} (for instance, one running the tasks on the Event Dispatch Thread
+ * or on the FX Application Thread). If several results are handled before the executor runs the delivery, only the
+ * latest one is delivered. At most one delivery task is scheduled at a time, so that results produced faster than the
+ * target thread can process them do not flood its queue.
+ * <p>
+ * Besides, the result is not delivered at all if it is equal to the last delivered result, so that the wrapped result
+ * handler does not repaint or recompute anything for nothing. Note that the first result is always delivered.
+ * <p>
+ * This class is thread-safe: results can be handled from any thread, and the wrapped result handler is never called
+ * concurrently.
+ *
+ * @param <RHI> Type of result handler input.
+ *
+ * @see ResultHandler
+ * @see Disposable
+ */
+public class CoalescingResultHandler<RHI> implements ResultHandler<RHI>, Disposable {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingResultHandler.class);
+
+    /**
+     * Marker for the absence of result, as null is a valid result.
+     */
+    private static final Object NO_RESULT = new Object();
+
+    /**
+     * Wrapped result handler to which the results are delivered.
+     */
+    private final ResultHandler<RHI> wrappedResultHandler;
+
+    /**
+     * Executor to be used to deliver the results, or null to deliver them on the thread handling them.
+     */
+    private final Executor executor;
+
+    /**
+     * Latest result that has not been delivered yet, or {@link #NO_RESULT}.
+     */
+    private final AtomicReference<Object> pendingResult = new AtomicReference<Object>(NO_RESULT);
+
+    /**
+     * Number of requests to deliver a result since the last delivery started.
+     * <p>
+     * The thread that increments it from 0 is the one scheduling the delivery.
+     */
+    private final AtomicInteger pendingDeliveries = new AtomicInteger(0);
+
+    /**
+     * Task delivering the pending result on the executor.
+     */
+    private final Runnable deliveryTask = new Runnable() {
+
+        /**
+         * @see Runnable#run()
+         */
+        @Override
+        public void run() {
+            deliverResults();
+        }
+    };
+
+    /**
+     * Last result delivered to the wrapped result handler, or {@link #NO_RESULT}.
+     * <p>
+     * It is only accessed by the thread delivering the results.
+     */
+    private Object lastDeliveredResult = NO_RESULT;
+
+    /**
+     * Flag indicating whether this result handler has been disposed.
+     */
+    private volatile boolean disposed = false;
+
+    /**
+     * Constructor specifying the wrapped result handler and the executor to be used to deliver the results.
+     *
+     * @param wrappedResultHandler Wrapped result handler to which the results are delivered.
+     * @param executor             Executor to be used to deliver the results, or null to deliver them on the thread
+     *                             handling them.
+     */
+    public CoalescingResultHandler(ResultHandler<RHI> wrappedResultHandler, Executor executor) {
+        this.wrappedResultHandler = wrappedResultHandler;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the wrapped result handler.
+     *
+     * @return Wrapped result handler to which the results are delivered.
+     */
+    public ResultHandler<RHI> getWrappedResultHandler() {
+        return wrappedResultHandler;
+    }
+
+    /**
+     * Gets the executor used to deliver the results.
+     *
+     * @return Executor used to deliver the results, or null if they are delivered on the thread handling them.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @see ResultHandler#handleResult(Object)
+     */
+    @Override
+    public void handleResult(RHI result) {
+        if (!disposed) {
+            pendingResult.set(result);
+            scheduleDelivery();
+        }
+    }
+
+    /**
+     * Requests the delivery of the pending result, unless a delivery is already requested.
+     */
+    private void scheduleDelivery() {
+        if (pendingDeliveries.getAndIncrement() == 0) {
+            submitDelivery();
+        }
+    }
+
+    /**
+     * Delivers the pending result, either directly or using the executor.
+     * <p>
+     * This method is to be called only by the thread that incremented the number of requests from 0.
+     */
+    private void submitDelivery() {
+        boolean submitted = false;
+        while (!submitted) {
+            if (executor == null) {
+                deliverResults();
+                submitted = true;
+            } else {
+                try {
+                    executor.execute(deliveryTask);
+                    submitted = true;
+                } catch (RuntimeException e) {
+                    // Undo only this request: if other threads made requests in the meantime, retry on their behalf
+                    if (pendingDeliveries.addAndGet(-1) == 0) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Delivers the pending result until no more delivery is requested.
+     * <p>
+     * If an error is thrown while delivering a result, the requests made in the meantime are submitted again, so that
+     * the next results are not blocked forever.
+     */
+    private void deliverResults() {
+        int missed = 1;
+        boolean failed = true;
+        try {
+            do {
+                deliverPendingResult();
+                missed = pendingDeliveries.addAndGet(-missed);
+            } while (missed != 0);
+            failed = false;
+        } finally {
+            if (failed && (pendingDeliveries.addAndGet(-missed) != 0)) {
+                submitDelivery();
+            }
+        }
+    }
+
+    /**
+     * Delivers the pending result to the wrapped result handler, if any and if it differs from the last delivered one.
+     */
+    @SuppressWarnings("unchecked")
+    private void deliverPendingResult() {
+        Object result = pendingResult.getAndSet(NO_RESULT);
+        boolean changed = (lastDeliveredResult == NO_RESULT) || !ValueUtils.areEqual(lastDeliveredResult, result);
+        if (!disposed && (result != NO_RESULT) && changed) {
+            lastDeliveredResult = result;
+            try {
+                wrappedResultHandler.handleResult((RHI) result);
+            } catch (RuntimeException e) {
+                // Do not prevent the next results from being delivered
+                LOGGER.error("Result handler failed: " + wrappedResultHandler, e);
+            }
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        disposed = true;
+        pendingResult.set(NO_RESULT);
+
+        if (wrappedResultHandler instanceof Disposable) {
+            ((Disposable) wrappedResultHandler).dispose();
+        }
+    }
+}
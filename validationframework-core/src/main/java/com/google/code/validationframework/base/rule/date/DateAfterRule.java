@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.date;
+
+import com.google.code.validationframework.api.rule.Rule;
+
+/**
+ * Rule checking whether the data, being a date, is strictly after a specific date.
+ * <p>
+ * Any comparable representation of a point in time can be used, for instance {@link java.util.Date}, {@link
+ * java.util.Calendar} or, on Java 8 and above, the types of the java.time package. No conversion is made, so the data
+ * and the minimum date should be of the same type.
+ * <p>
+ * Null data is considered invalid. If the minimum date is null, any non-null data is considered valid.
+ *
+ * @param <RI> Type of date handled by this rule.
+ *
+ * @see Rule
+ */
+public class DateAfterRule<RI extends Comparable<? super RI>> implements Rule<RI, Boolean> {
+
+    /**
+     * Date to which the data is to be compared.
+     */
+    private RI minimumDate = null;
+
+    /**
+     * Default constructor.
+     */
+    public DateAfterRule() {
+        // Nothing to be done
+    }
+
+    /**
+     * Constructor specifying the date to which the data is to be compared.
+     *
+     * @param minimumDate Date to which the data is to be compared.
+     */
+    public DateAfterRule(RI minimumDate) {
+        setMinimumDate(minimumDate);
+    }
+
+    /**
+     * Gets the date to which the data is compared.
+     *
+     * @return Date to which the data is compared.
+     */
+    public RI getMinimumDate() {
+        return minimumDate;
+    }
+
+    /**
+     * Sets the date to which the data is to be compared.
+     *
+     * @param minimumDate Date to which the data is to be compared.
+     */
+    public void setMinimumDate(RI minimumDate) {
+        this.minimumDate = minimumDate;
+    }
+
+    /**
+     * @see Rule#validate(Object)
+     */
+    @Override
+    public Boolean validate(RI data) {
+        boolean valid;
+
+        if (data == null) {
+            valid = false;
+        } else if (minimumDate == null) {
+            valid = true;
+        } else {
+            valid = (data.compareTo(minimumDate) > 0);
+        }
+
+        return valid;
+    }
+}
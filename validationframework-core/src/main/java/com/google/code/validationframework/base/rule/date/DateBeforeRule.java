@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.date;
+
+import com.google.code.validationframework.api.rule.Rule;
+
+/**
+ * Rule checking whether the data, being a date, is strictly before a specific date.
+ * <p>
+ * Any comparable representation of a point in time can be used, for instance {@link java.util.Date}, {@link
+ * java.util.Calendar} or, on Java 8 and above, the types of the java.time package. No conversion is made, so the data
+ * and the maximum date should be of the same type.
+ * <p>
+ * Null data is considered invalid. If the maximum date is null, any non-null data is considered valid.
+ *
+ * @param <RI> Type of date handled by this rule.
+ *
+ * @see Rule
+ */
+public class DateBeforeRule<RI extends Comparable<? super RI>> implements Rule<RI, Boolean> {
+
+    /**
+     * Date to which the data is to be compared.
+     */
+    private RI maximumDate = null;
+
+    /**
+     * Default constructor.
+     */
+    public DateBeforeRule() {
+        // Nothing to be done
+    }
+
+    /**
+     * Constructor specifying the date to which the data is to be compared.
+     *
+     * @param maximumDate Date to which the data is to be compared.
+     */
+    public DateBeforeRule(RI maximumDate) {
+        setMaximumDate(maximumDate);
+    }
+
+    /**
+     * Gets the date to which the data is compared.
+     *
+     * @return Date to which the data is compared.
+     */
+    public RI getMaximumDate() {
+        return maximumDate;
+    }
+
+    /**
+     * Sets the date to which the data is to be compared.
+     *
+     * @param maximumDate Date to which the data is to be compared.
+     */
+    public void setMaximumDate(RI maximumDate) {
+        this.maximumDate = maximumDate;
+    }
+
+    /**
+     * @see Rule#validate(Object)
+     */
+    @Override
+    public Boolean validate(RI data) {
+        boolean valid;
+
+        if (data == null) {
+            valid = false;
+        } else if (maximumDate == null) {
+            valid = true;
+        } else {
+            valid = (data.compareTo(maximumDate) < 0);
+        }
+
+        return valid;
+    }
+}
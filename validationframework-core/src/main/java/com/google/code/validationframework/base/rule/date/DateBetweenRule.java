@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.date;
+
+import com.google.code.validationframework.api.rule.Rule;
+
+/**
+ * Rule checking whether the data, being a date, is between two specific dates, both included.
+ * <p>
+ * Any comparable representation of a point in time can be used, for instance {@link java.util.Date}, {@link
+ * java.util.Calendar} or, on Java 8 and above, the types of the java.time package. No conversion is made, so the data
+ * and the minimum and maximum dates should be of the same type.
+ * <p>
+ * Null data is considered invalid. A null minimum or maximum date means that there is no lower or upper bound.
+ *
+ * @param <RI> Type of date handled by this rule.
+ *
+ * @see DateAfterRule
+ * @see DateBeforeRule
+ */
+public class DateBetweenRule<RI extends Comparable<? super RI>> implements Rule<RI, Boolean> {
+
+    /**
+     * Earliest valid date.
+     */
+    private RI minimumDate = null;
+
+    /**
+     * Latest valid date.
+     */
+    private RI maximumDate = null;
+
+    /**
+     * Default constructor.
+     */
+    public DateBetweenRule() {
+        // Nothing to be done
+    }
+
+    /**
+     * Constructor specifying the earliest and latest valid dates.
+     *
+     * @param minimumDate Earliest valid date, or null.
+     * @param maximumDate Latest valid date, or null.
+     */
+    public DateBetweenRule(RI minimumDate, RI maximumDate) {
+        setMinimumDate(minimumDate);
+        setMaximumDate(maximumDate);
+    }
+
+    /**
+     * Gets the earliest valid date.
+     *
+     * @return Earliest valid date, or null.
+     */
+    public RI getMinimumDate() {
+        return minimumDate;
+    }
+
+    /**
+     * Sets the earliest valid date.
+     *
+     * @param minimumDate Earliest valid date, or null.
+     */
+    public void setMinimumDate(RI minimumDate) {
+        this.minimumDate = minimumDate;
+    }
+
+    /**
+     * Gets the latest valid date.
+     *
+     * @return Latest valid date, or null.
+     */
+    public RI getMaximumDate() {
+        return maximumDate;
+    }
+
+    /**
+     * Sets the latest valid date.
+     *
+     * @param maximumDate Latest valid date, or null.
+     */
+    public void setMaximumDate(RI maximumDate) {
+        this.maximumDate = maximumDate;
+    }
+
+    /**
+     * @see Rule#validate(Object)
+     */
+    @Override
+    public Boolean validate(RI data) {
+        boolean valid;
+
+        if (data == null) {
+            valid = false;
+        } else {
+            valid = ((minimumDate == null) || (data.compareTo(minimumDate) >= 0)) && ((maximumDate == null) || (data
+                    .compareTo(maximumDate) <= 0));
+        }
+
+        return valid;
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.number;
+
+import com.google.code.validationframework.api.rule.Rule;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rule checking whether the data, being a number, is within at least one of several ranges.
+ * <p>
+ * The ranges are indexed in arrays sorted by lower bound, so that finding the range matching a value takes O(log n)
+ * for non-overlapping ranges, whatever the number of ranges. This makes it suitable for large tables of allowed ranges
+ * (for instance tariff bands or tick tables), which would otherwise require composing many {@link
+ * NumberGreaterThanOrEqualToRule}s and {@link NumberLessThanOrEqualToRule}s.
+ * <p>
+ * Both bounds of the ranges are included. Integral data ({@link Long}, {@link Integer}, {@link Short}, {@link Byte} and
+ * {@link BigInteger} within the long range) is compared to the bounds as longs, and any other data is compared as
+ * doubles, without any boxing or {@link Comparable} dispatch. The methods {@link #indexOfRange(long)} and {@link
+ * #indexOfRange(double)} can also be used directly on primitive values, and tell which range matched.
+ * <p>
+ * Null data and NaN are considered invalid.
+ *
+ * @param <RI> Type of number handled by this rule.<br>
+ *             It is not strictly required for the internal logic of the rule, but it helps in reducing compilation
+ *             warnings and/or errors.
+ *
+ * @see Rule
+ */
+public class NumberRangesRule<RI extends Number> implements Rule<RI, Boolean> {
+
+    /**
+     * Value returned when no range contains the value.
+     */
+    public static final int NO_RANGE = -1;
+
+    /**
+     * Range as specified by the user.
+     */
+    private static final class Range {
+
+        /**
+         * Lower bound, included.
+         */
+        private final Number minimum;
+
+        /**
+         * Upper bound, included.
+         */
+        private final Number maximum;
+
+        /**
+         * Constructor specifying the bounds.
+         *
+         * @param minimum Lower bound, included.
+         * @param maximum Upper bound, included.
+         */
+        public Range(Number minimum, Number maximum) {
+            this.minimum = minimum;
+            this.maximum = maximum;
+        }
+    }
+
+    /**
+     * Index of the ranges, with the bounds as longs.
+     */
+    private static final class LongIndex {
+
+        /**
+         * Lower bounds, sorted.
+         */
+        private final long[] minimums;
+
+        /**
+         * Upper bounds, in the same order as the lower bounds.
+         */
+        private final long[] maximums;
+
+        /**
+         * Greatest upper bound of all ranges up to each position.
+         */
+        private final long[] greatestMaximums;
+
+        /**
+         * Index of the ranges, as specified by the user, in the same order as the lower bounds.
+         */
+        private final int[] rangeIndexes;
+
+        /**
+         * Constructor specifying the ranges to be indexed.
+         *
+         * @param ranges Ranges to be indexed.
+         */
+        public LongIndex(List<Range> ranges) {
+            int count = ranges.size();
+            final long[] unsortedMinimums = new long[count];
+            long[] unsortedMaximums = new long[count];
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                Range range = ranges.get(i);
+                if (isBeyondLongs(range)) {
+                    // Empty range for integral values
+                    unsortedMinimums[i] = Long.MAX_VALUE;
+                    unsortedMaximums[i] = Long.MIN_VALUE;
+                } else {
+                    unsortedMinimums[i] = toLowerLongBound(range.minimum);
+                    unsortedMaximums[i] = toUpperLongBound(range.maximum);
+                }
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+
+                /**
+                 * @see Comparator#compare(Object, Object)
+                 */
+                @Override
+                public int compare(Integer index1, Integer index2) {
+                    long minimum1 = unsortedMinimums[index1];
+                    long minimum2 = unsortedMinimums[index2];
+                    return (minimum1 < minimum2) ? -1 : ((minimum1 == minimum2) ? 0 : 1);
+                }
+            });
+
+            minimums = new long[count];
+            maximums = new long[count];
+            greatestMaximums = new long[count];
+            rangeIndexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                rangeIndexes[i] = order[i];
+                minimums[i] = unsortedMinimums[rangeIndexes[i]];
+                maximums[i] = unsortedMaximums[rangeIndexes[i]];
+                greatestMaximums[i] = (i == 0) ? maximums[i] : Math.max(greatestMaximums[i - 1], maximums[i]);
+            }
+        }
+
+        /**
+         * Finds a range containing the specified value.
+         *
+         * @param value Value to be looked up.
+         *
+         * @return Index of the range as specified by the user, or {@link #NO_RANGE}.
+         */
+        public int indexOf(long value) {
+            int rangeIndex = NO_RANGE;
+
+            // Find the last range starting before or at the value
+            int low = 0;
+            int high = minimums.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (minimums[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            // Go back as long as previous ranges can still contain the value
+            for (int i = high; (rangeIndex == NO_RANGE) && (i >= 0) && (greatestMaximums[i] >= value); i--) {
+                if (maximums[i] >= value) {
+                    rangeIndex = rangeIndexes[i];
+                }
+            }
+
+            return rangeIndex;
+        }
+    }
+
+    /**
+     * Index of the ranges, with the bounds as doubles.
+     */
+    private static final class DoubleIndex {
+
+        /**
+         * Lower bounds, sorted.
+         */
+        private final double[] minimums;
+
+        /**
+         * Upper bounds, in the same order as the lower bounds.
+         */
+        private final double[] maximums;
+
+        /**
+         * Greatest upper bound of all ranges up to each position.
+         */
+        private final double[] greatestMaximums;
+
+        /**
+         * Index of the ranges, as specified by the user, in the same order as the lower bounds.
+         */
+        private final int[] rangeIndexes;
+
+        /**
+         * Constructor specifying the ranges to be indexed.
+         *
+         * @param ranges Ranges to be indexed.
+         */
+        public DoubleIndex(List<Range> ranges) {
+            int count = ranges.size();
+            final double[] unsortedMinimums = new double[count];
+            double[] unsortedMaximums = new double[count];
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                unsortedMinimums[i] = ranges.get(i).minimum.doubleValue();
+                unsortedMaximums[i] = ranges.get(i).maximum.doubleValue();
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+
+                /**
+                 * @see Comparator#compare(Object, Object)
+                 */
+                @Override
+                public int compare(Integer index1, Integer index2) {
+                    return Double.compare(unsortedMinimums[index1], unsortedMinimums[index2]);
+                }
+            });
+
+            minimums = new double[count];
+            maximums = new double[count];
+            greatestMaximums = new double[count];
+            rangeIndexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                rangeIndexes[i] = order[i];
+                minimums[i] = unsortedMinimums[rangeIndexes[i]];
+                maximums[i] = unsortedMaximums[rangeIndexes[i]];
+                greatestMaximums[i] = (i == 0) ? maximums[i] : Math.max(greatestMaximums[i - 1], maximums[i]);
+            }
+        }
+
+        /**
+         * Finds a range containing the specified value.
+         *
+         * @param value Value to be looked up.
+         *
+         * @return Index of the range as specified by the user, or {@link #NO_RANGE}.
+         */
+        public int indexOf(double value) {
+            int rangeIndex = NO_RANGE;
+
+            // Find the last range starting before or at the value (none for NaN)
+            int low = 0;
+            int high = minimums.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (minimums[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            // Go back as long as previous ranges can still contain the value
+            for (int i = high; (rangeIndex == NO_RANGE) && (i >= 0) && (greatestMaximums[i] >= value); i--) {
+                if (maximums[i] >= value) {
+                    rangeIndex = rangeIndexes[i];
+                }
+            }
+
+            return rangeIndex;
+        }
+    }
+
+    /**
+     * Absolute value of {@link Long#MIN_VALUE} as a double, that is to say the smallest double greater than all longs.
+     */
+    private static final double LONG_RANGE_LIMIT = -(double) Long.MIN_VALUE;
+
+    /**
+     * Minimum long value as a big integer.
+     */
+    private static final BigInteger LONG_MIN_VALUE = BigInteger.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Maximum long value as a big integer.
+     */
+    private static final BigInteger LONG_MAX_VALUE = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Ranges in the order they were added.
+     */
+    private final List<Range> ranges = new ArrayList<Range>();
+
+    /**
+     * Index of the ranges for integral values, lazily built.
+     */
+    private volatile LongIndex longIndex = null;
+
+    /**
+     * Index of the ranges for decimal values, lazily built.
+     */
+    private volatile DoubleIndex doubleIndex = null;
+
+    /**
+     * Default constructor.
+     */
+    public NumberRangesRule() {
+        // Nothing to be done
+    }
+
+    /**
+     * Adds the specified range of integral values.
+     * <p>
+     * Decimal data will be compared to the bounds converted into doubles.
+     *
+     * @param minimum Lower bound, included.
+     * @param maximum Upper bound, included.
+     *
+     * @return Index of the added range.
+     */
+    public int addRange(long minimum, long maximum) {
+        if (minimum > maximum) {
+            throw new IllegalArgumentException("Minimum " + minimum + " is greater than maximum " + maximum);
+        }
+        return doAddRange(minimum, maximum);
+    }
+
+    /**
+     * Adds the specified range of decimal values.
+     * <p>
+     * Integral data will be considered within the range if it is greater than or equal to the lower bound and less than
+     * or equal to the upper bound.
+     *
+     * @param minimum Lower bound, included.
+     * @param maximum Upper bound, included.
+     *
+     * @return Index of the added range.
+     */
+    public int addRange(double minimum, double maximum) {
+        if (Double.isNaN(minimum) || Double.isNaN(maximum) || (minimum > maximum)) {
+            throw new IllegalArgumentException("Invalid range: [" + minimum + ", " + maximum + "]");
+        }
+        return doAddRange(minimum, maximum);
+    }
+
+    /**
+     * Adds the specified range and invalidates the indexes.
+     *
+     * @param minimum Lower bound, included.
+     * @param maximum Upper bound, included.
+     *
+     * @return Index of the added range.
+     */
+    private int doAddRange(Number minimum, Number maximum) {
+        ranges.add(new Range(minimum, maximum));
+        longIndex = null;
+        doubleIndex = null;
+        return ranges.size() - 1;
+    }
+
+    /**
+     * Removes all ranges.
+     */
+    public void clearRanges() {
+        ranges.clear();
+        longIndex = null;
+        doubleIndex = null;
+    }
+
+    /**
+     * Gets the number of ranges.
+     *
+     * @return Number of ranges.
+     */
+    public int getRangeCount() {
+        return ranges.size();
+    }
+
+    /**
+     * Gets the lower bound of the specified range.
+     *
+     * @param rangeIndex Index of the range, as returned when it was added.
+     *
+     * @return Lower bound of the range, as a {@link Long} or a {@link Double}.
+     */
+    public Number getRangeMinimum(int rangeIndex) {
+        return ranges.get(rangeIndex).minimum;
+    }
+
+    /**
+     * Gets the upper bound of the specified range.
+     *
+     * @param rangeIndex Index of the range, as returned when it was added.
+     *
+     * @return Upper bound of the range, as a {@link Long} or a {@link Double}.
+     */
+    public Number getRangeMaximum(int rangeIndex) {
+        return ranges.get(rangeIndex).maximum;
+    }
+
+    /**
+     * Finds a range containing the specified integral value.
+     * <p>
+     * If several ranges contain the value, any of them may be returned.
+     *
+     * @param value Value to be looked up.
+     *
+     * @return Index of the range containing the value, as returned when it was added, or {@link #NO_RANGE}.
+     */
+    public int indexOfRange(long value) {
+        LongIndex index = longIndex;
+        if (index == null) {
+            index = new LongIndex(ranges);
+            longIndex = index;
+        }
+        return index.indexOf(value);
+    }
+
+    /**
+     * Finds a range containing the specified decimal value.
+     * <p>
+     * If several ranges contain the value, any of them may be returned.
+     *
+     * @param value Value to be looked up.
+     *
+     * @return Index of the range containing the value, as returned when it was added, or {@link #NO_RANGE}.
+     */
+    public int indexOfRange(double value) {
+        DoubleIndex index = doubleIndex;
+        if (index == null) {
+            index = new DoubleIndex(ranges);
+            doubleIndex = index;
+        }
+        return index.indexOf(value);
+    }
+
+    /**
+     * Finds a range containing the specified value.
+     * <p>
+     * If several ranges contain the value, any of them may be returned.
+     *
+     * @param value Value to be looked up.
+     *
+     * @return Index of the range containing the value, as returned when it was added, or {@link #NO_RANGE}.
+     */
+    public int indexOfRange(Number value) {
+        int rangeIndex;
+
+        if (value == null) {
+            rangeIndex = NO_RANGE;
+        } else if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value
+                instanceof Byte)) {
+            rangeIndex = indexOfRange(value.longValue());
+        } else if ((value instanceof BigInteger) && (((BigInteger) value).compareTo(LONG_MIN_VALUE) >= 0) && ((
+                (BigInteger) value).compareTo(LONG_MAX_VALUE) <= 0)) {
+            rangeIndex = indexOfRange(value.longValue());
+        } else {
+            rangeIndex = indexOfRange(value.doubleValue());
+        }
+
+        return rangeIndex;
+    }
+
+    /**
+     * @see Rule#validate(Object)
+     */
+    @Override
+    public Boolean validate(RI data) {
+        return indexOfRange(data) != NO_RANGE;
+    }
+
+    /**
+     * States whether the specified range is entirely outside the range of longs.
+     *
+     * @param range Range to be checked.
+     *
+     * @return True if no long is within the range, false otherwise.
+     */
+    private static boolean isBeyondLongs(Range range) {
+        return (!(range.minimum instanceof Long) && (range.minimum.doubleValue() >= LONG_RANGE_LIMIT)) || (!(range
+                .maximum instanceof Long) && (range.maximum.doubleValue() < -LONG_RANGE_LIMIT));
+    }
+
+    /**
+     * Converts the specified lower bound into a long, so that integral values greater than or equal to the bound are
+     * also greater than or equal to the converted bound.
+     *
+     * @param bound Lower bound.
+     *
+     * @return Converted bound.
+     */
+    private static long toLowerLongBound(Number bound) {
+        long longBound;
+
+        if (bound instanceof Long) {
+            longBound = bound.longValue();
+        } else {
+            // Saturates to the long range
+            longBound = (long) Math.ceil(bound.doubleValue());
+        }
+
+        return longBound;
+    }
+
+    /**
+     * Converts the specified upper bound into a long, so that integral values less than or equal to the bound are also
+     * less than or equal to the converted bound.
+     *
+     * @param bound Upper bound.
+     *
+     * @return Converted bound.
+     */
+    private static long toUpperLongBound(Number bound) {
+        long longBound;
+
+        if (bound instanceof Long) {
+            longBound = bound.longValue();
+        } else {
+            // Saturates to the long range
+            longBound = (long) Math.floor(bound.doubleValue());
+        }
+
+        return longBound;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.object;
+
+import com.google.code.validationframework.api.rule.Rule;
+
+/**
+ * Abstract implementation of a rule checking whether the data belongs to a set of allowed values.
+ * <p>
+ * The set is expected to be immutable. It can be replaced at any time using {@link #setValues(Object)}, for instance
+ * after having loaded a new version of the allowed values in the background: the replacement is atomic, so that
+ * concurrent validations use either the old or the new set, and never a partially loaded set.
+ * <p>
+ * Null data is considered invalid. If no set is specified, any data is considered invalid.
+ *
+ * @param <RI> Type of data to be validated.
+ * @param <S>  Type of set of allowed values.
+ *
+ * @see Rule
+ */
+public abstract class AbstractInSetRule<RI, S> implements Rule<RI, Boolean> {
+
+    /**
+     * Current set of allowed values.
+     */
+    private volatile S values;
+
+    /**
+     * Constructor specifying the initial set of allowed values.
+     *
+     * @param values Immutable set of allowed values, or null.
+     */
+    public AbstractInSetRule(S values) {
+        this.values = values;
+    }
+
+    /**
+     * Gets the current set of allowed values.
+     *
+     * @return Set of allowed values, or null.
+     */
+    public S getValues() {
+        return values;
+    }
+
+    /**
+     * Replaces the set of allowed values.
+     *
+     * @param values Immutable set of allowed values, or null.
+     */
+    public void setValues(S values) {
+        this.values = values;
+    }
+
+    /**
+     * @see Rule#validate(Object)
+     */
+    @Override
+    public Boolean validate(RI data) {
+        S currentValues = values;
+        return (data != null) && (currentValues != null) && contains(currentValues, data);
+    }
+
+    /**
+     * States whether the specified set contains the specified data.
+     *
+     * @param values Set of allowed values.
+     * @param data   Data to be checked, never null.
+     *
+     * @return True if the set contains the data, false otherwise.
+     */
+    protected abstract boolean contains(S values, RI data);
+}
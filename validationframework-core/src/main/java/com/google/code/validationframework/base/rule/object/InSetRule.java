@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.object;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Rule checking whether the data belongs to a set of allowed objects.
+ * <p>
+ * For large sets of numbers or strings, prefer the {@link IntInSetRule}, {@link LongInSetRule} and {@link
+ * StringInSetRule}, which use much less memory.
+ *
+ * @param <RI> Type of data to be validated.
+ *
+ * @see AbstractInSetRule
+ */
+public class InSetRule<RI> extends AbstractInSetRule<RI, Set<RI>> {
+
+    /**
+     * Constructor specifying the allowed objects.
+     *
+     * @param values Allowed objects.
+     */
+    public InSetRule(RI... values) {
+        super(toSet(Arrays.asList(values)));
+    }
+
+    /**
+     * Constructor specifying the allowed objects.
+     *
+     * @param values Allowed objects.
+     */
+    public InSetRule(Collection<? extends RI> values) {
+        super(toSet(values));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The specified set is copied, so that it can be modified afterwards without affecting this rule.
+     *
+     * @see AbstractInSetRule#setValues(Object)
+     */
+    @Override
+    public void setValues(Set<RI> values) {
+        super.setValues(toSet(values));
+    }
+
+    /**
+     * Copies the specified objects into an immutable set.
+     *
+     * @param values Objects to be copied, or null.
+     * @param <RI>   Type of objects.
+     *
+     * @return Immutable set, or null.
+     */
+    private static <RI> Set<RI> toSet(Collection<? extends RI> values) {
+        Set<RI> set = null;
+
+        if (values != null) {
+            set = Collections.unmodifiableSet(new HashSet<RI>(values));
+        }
+
+        return set;
+    }
+
+    /**
+     * @see AbstractInSetRule#contains(Object, Object)
+     */
+    @Override
+    protected boolean contains(Set<RI> values, RI data) {
+        return values.contains(data);
+    }
+}
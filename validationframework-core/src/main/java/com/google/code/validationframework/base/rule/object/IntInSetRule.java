@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.object;
+
+import com.google.code.validationframework.base.collection.IntHashSet;
+
+/**
+ * Rule checking whether the data, being a number, belongs to a set of allowed int values.
+ * <p>
+ * The values are held in an {@link IntHashSet}, so that the lookup is done without any boxing. Data that is not an
+ * integral number or that does not fit into an int is considered invalid.
+ *
+ * @param <RI> Type of number handled by this rule.
+ *
+ * @see IntHashSet#readFrom(java.io.Reader)
+ * @see AbstractInSetRule
+ */
+public class IntInSetRule<RI extends Number> extends AbstractInSetRule<RI, IntHashSet> {
+
+    /**
+     * Constructor specifying the allowed values.
+     *
+     * @param values Allowed values.
+     */
+    public IntInSetRule(int... values) {
+        this(new IntHashSet(values));
+    }
+
+    /**
+     * Constructor specifying the set of allowed values.
+     *
+     * @param values Set of allowed values, or null.
+     */
+    public IntInSetRule(IntHashSet values) {
+        super(values);
+    }
+
+    /**
+     * @see AbstractInSetRule#contains(Object, Object)
+     */
+    @Override
+    protected boolean contains(IntHashSet values, RI data) {
+        boolean contains;
+
+        if ((data instanceof Integer) || (data instanceof Long) || (data instanceof Short) || (data instanceof Byte)) {
+            long value = data.longValue();
+            contains = (value >= Integer.MIN_VALUE) && (value <= Integer.MAX_VALUE) && values.contains((int) value);
+        } else {
+            double value = data.doubleValue();
+            contains = (value == Math.rint(value)) && (value >= Integer.MIN_VALUE) && (value <= Integer.MAX_VALUE) &&
+                    values.contains((int) value);
+        }
+
+        return contains;
+    }
+}
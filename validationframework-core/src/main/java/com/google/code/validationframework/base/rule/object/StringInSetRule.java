@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.object;
+
+import com.google.code.validationframework.base.collection.CompactStringSet;
+
+import java.util.Arrays;
+
+/**
+ * Rule checking whether the data, being a character sequence, belongs to a set of allowed strings.
+ * <p>
+ * The strings are held in a {@link CompactStringSet}, so that large sets (for instance, all ISO codes or instrument
+ * identifiers) take little memory, and the data does not need to be converted into a string for the lookup.
+ *
+ * @param <RI> Type of character sequence handled by this rule.
+ *
+ * @see CompactStringSet#readFrom(java.io.Reader)
+ * @see AbstractInSetRule
+ */
+public class StringInSetRule<RI extends CharSequence> extends AbstractInSetRule<RI, CompactStringSet> {
+
+    /**
+     * Constructor specifying the allowed strings.
+     *
+     * @param values Allowed strings.
+     */
+    public StringInSetRule(String... values) {
+        this(new CompactStringSet(Arrays.asList(values)));
+    }
+
+    /**
+     * Constructor specifying the set of allowed strings.
+     *
+     * @param values Set of allowed strings, or null.
+     */
+    public StringInSetRule(CompactStringSet values) {
+        super(values);
+    }
+
+    /**
+     * @see AbstractInSetRule#contains(Object, Object)
+     */
+    @Override
+    protected boolean contains(CompactStringSet values, RI data) {
+        return values.contains(data);
+    }
+}
@@ -74,6 +74,88 @@ public abstract class AbstractStringBooleanRule implements Rule<String, Boolean>
         this.trimDataBeforeValidation = trimDataBeforeValidation;
     }
 
+    /**
+     * Validates the specified character sequence.
+     * <p>
+     * The default implementation converts the character sequence into a string and calls {@link #validate(Object)}.
+     * The rules of this package override this method to validate the character sequence directly, so that large texts
+     * (for instance, Swing documents) can be validated without being copied into a string.
+     *
+     * @param data Character sequence to be validated.
+     *
+     * @return Validation result.
+     */
+    public Boolean validate(final CharSequence data) {
+        return validate((data == null) ? null : data.toString());
+    }
+
+    /**
+     * Gets a view of this rule accepting any character sequence as input.
+     * <p>
+     * This is useful to use this rule with data providers providing character sequences instead of strings.
+     *
+     * @return Rule delegating to {@link #validate(CharSequence)}.
+     */
+    public Rule<CharSequence, Boolean> asCharSequenceRule() {
+        return new Rule<CharSequence, Boolean>() {
+
+            /**
+             * @see Rule#validate(Object)
+             */
+            @Override
+            public Boolean validate(final CharSequence data) {
+                return AbstractStringBooleanRule.this.validate(data);
+            }
+        };
+    }
+
+    /**
+     * Gets the position of the first character to be validated in the specified character sequence, skipping the
+     * leading white spaces if the {@link #trimDataBeforeValidation} is set.<br>This is the equivalent of {@link
+     * #trimIfNeeded(String)} for character sequences, without copying the data.
+     *
+     * @param data Character sequence to be validated.
+     *
+     * @return Position of the first character to be validated.
+     */
+    protected int getStartIndex(final CharSequence data) {
+        int start = 0;
+
+        if (trimDataBeforeValidation) {
+            // Same as String.trim()
+            final int length = data.length();
+            while ((start < length) && (data.charAt(start) <= ' ')) {
+                start++;
+            }
+        }
+
+        return start;
+    }
+
+    /**
+     * Gets the position following the last character to be validated in the specified character sequence, skipping
+     * the trailing white spaces if the {@link #trimDataBeforeValidation} is set.<br>This is the equivalent of {@link
+     * #trimIfNeeded(String)} for character sequences, without copying the data.
+     *
+     * @param data       Character sequence to be validated.
+     * @param startIndex Position of the first character to be validated, as returned by {@link
+     *                   #getStartIndex(CharSequence)}.
+     *
+     * @return Position following the last character to be validated, not less than the start index.
+     */
+    protected int getEndIndex(final CharSequence data, final int startIndex) {
+        int end = data.length();
+
+        if (trimDataBeforeValidation) {
+            // Same as String.trim()
+            while ((end > startIndex) && (data.charAt(end - 1) <= ' ')) {
+                end--;
+            }
+        }
+
+        return end;
+    }
+
     /**
      * Trims the data string if the {@link #trimDataBeforeValidation} is set.<br>This method is to be called by concrete
      * sub-classes before validation.
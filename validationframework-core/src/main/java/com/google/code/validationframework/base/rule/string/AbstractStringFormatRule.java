@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Abstract implementation of a rule checking that the input string has a specific format, using a hand-written scanner
+ * instead of a regular expression.
+ * <p>
+ * The scanners read the input data only once, without backtracking and without allocating any object. Besides the
+ * validation result, they give the position of the first character not matching the format, so that it can be shown
+ * to the user.
+ * <p>
+ * Null input strings are considered to be invalid.
+ *
+ * @see #getErrorIndex(CharSequence)
+ */
+public abstract class AbstractStringFormatRule extends AbstractStringBooleanRule {
+
+    /**
+     * Error index returned when the input data matches the format.
+     */
+    public static final int NO_ERROR = -1;
+
+    /**
+     * Default constructor.
+     */
+    public AbstractStringFormatRule() {
+        super();
+    }
+
+    /**
+     * Gets the position of the first character of the specified data not matching the format.
+     * <p>
+     * If the data is too short, the position following its last character is returned.
+     *
+     * @param data Data to be checked.
+     *
+     * @return Position of the first character not matching the format, or {@link #NO_ERROR} if the data matches the
+     * format.
+     */
+    public int getErrorIndex(final CharSequence data) {
+        int errorIndex = 0;
+
+        if (data != null) {
+            int start = getStartIndex(data);
+            errorIndex = scan(data, start, getEndIndex(data, start));
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(Object)
+     */
+    @Override
+    public Boolean validate(final String data) {
+        return validate((CharSequence) data);
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(CharSequence)
+     */
+    @Override
+    public Boolean validate(final CharSequence data) {
+        return getErrorIndex(data) == NO_ERROR;
+    }
+
+    /**
+     * Scans the specified characters to check that they match the format.
+     *
+     * @param data  Character sequence containing the characters to be scanned.
+     * @param start Position of the first character to be scanned.
+     * @param end   Position following the last character to be scanned.
+     *
+     * @return Position of the first character not matching the format, or {@link #NO_ERROR} if the characters match
+     * the format.
+     */
+    protected abstract int scan(CharSequence data, int start, int end);
+
+    /**
+     * States whether the specified character is an ASCII digit.
+     *
+     * @param character Character to be checked.
+     *
+     * @return True if the character is between '0' and '9', false otherwise.
+     */
+    protected static boolean isDigit(final char character) {
+        return (character >= '0') && (character <= '9');
+    }
+
+    /**
+     * States whether the specified character is an ASCII hexadecimal digit, in lower or upper case.
+     *
+     * @param character Character to be checked.
+     *
+     * @return True if the character is an hexadecimal digit, false otherwise.
+     */
+    protected static boolean isHexDigit(final char character) {
+        return isDigit(character) || ((character >= 'a') && (character <= 'f')) || ((character >= 'A') && (character
+                <= 'F'));
+    }
+
+    /**
+     * States whether the specified character is an ASCII letter, in lower or upper case.
+     *
+     * @param character Character to be checked.
+     *
+     * @return True if the character is a letter, false otherwise.
+     */
+    protected static boolean isLetter(final char character) {
+        return ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Character sequence wrapping another one and counting the characters read from it, so that a regular expression
+ * matching can be aborted once it has read too many characters or taken too much time.
+ * <p>
+ * {@link java.util.regex.Matcher} has no way to be interrupted, but it reads all the characters through {@link
+ * #charAt(int)}. Each call is therefore counted as a step of the matching, and {@link BudgetExceededException} is
+ * thrown as soon as the budget is exceeded. The elapsed time is only checked every {@link #TIME_CHECK_INTERVAL} steps,
+ * to keep the overhead low.
+ * <p>
+ * Note that this class is not thread-safe: it is meant to be reset and reused by a single thread.
+ *
+ * @see StringRegexRule
+ */
+final class BudgetedCharSequence implements CharSequence {
+
+    /**
+     * Exception thrown when the budget of a matching is exceeded.
+     * <p>
+     * As it is only used to unwind the matching, a single instance without stack trace is shared.
+     */
+    static final class BudgetExceededException extends RuntimeException {
+
+        /**
+         * Generated serial UID.
+         */
+        private static final long serialVersionUID = -4326713948530745812L;
+
+        /**
+         * Default constructor.
+         */
+        private BudgetExceededException() {
+            super("Regular expression matching budget exceeded");
+        }
+
+        /**
+         * @see RuntimeException#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // No need for the stack trace
+            return this;
+        }
+    }
+
+    /**
+     * Value meaning that there is no limit on the number of steps or on the time.
+     */
+    static final long UNLIMITED = 0;
+
+    /**
+     * Number of steps between two checks of the elapsed time.
+     */
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    /**
+     * Shared exception thrown when the budget is exceeded.
+     */
+    private static final BudgetExceededException BUDGET_EXCEEDED = new BudgetExceededException();
+
+    /**
+     * Wrapped character sequence.
+     */
+    private CharSequence data = "";
+
+    /**
+     * Remaining number of steps, or a negative value if unlimited.
+     */
+    private long remainingSteps = -1;
+
+    /**
+     * Time at which the matching must be aborted, in nanoseconds, as returned by {@link System#nanoTime()}.
+     */
+    private long deadline = 0;
+
+    /**
+     * Flag stating whether the time is limited.
+     */
+    private boolean timeLimited = false;
+
+    /**
+     * Number of steps before the next check of the elapsed time.
+     */
+    private int stepsBeforeTimeCheck = TIME_CHECK_INTERVAL;
+
+    /**
+     * Default constructor.
+     */
+    public BudgetedCharSequence() {
+        super();
+    }
+
+    /**
+     * Wraps the specified character sequence and resets the budget.
+     *
+     * @param data     Character sequence to be wrapped.
+     * @param maxSteps Maximum number of characters that can be read, or {@link #UNLIMITED}.
+     * @param maxTime  Maximum time in milliseconds from now, or {@link #UNLIMITED}.
+     */
+    public void reset(final CharSequence data, final long maxSteps, final long maxTime) {
+        this.data = data;
+        remainingSteps = (maxSteps == UNLIMITED) ? -1 : maxSteps;
+        timeLimited = (maxTime != UNLIMITED);
+        deadline = timeLimited ? (System.nanoTime() + maxTime * 1000000L) : 0;
+        stepsBeforeTimeCheck = TIME_CHECK_INTERVAL;
+    }
+
+    /**
+     * Releases the wrapped character sequence, so that it is not retained.
+     */
+    public void release() {
+        data = "";
+    }
+
+    /**
+     * @see CharSequence#length()
+     */
+    @Override
+    public int length() {
+        return data.length();
+    }
+
+    /**
+     * Reads the specified character and counts one step.
+     *
+     * @param index Position of the character.
+     *
+     * @return Character.
+     *
+     * @throws BudgetExceededException If the maximum number of steps is exceeded or if the time is up.
+     * @see CharSequence#charAt(int)
+     */
+    @Override
+    public char charAt(final int index) {
+        if (remainingSteps >= 0) {
+            if (remainingSteps == 0) {
+                throw BUDGET_EXCEEDED;
+            }
+            remainingSteps--;
+        }
+        if (timeLimited && (--stepsBeforeTimeCheck == 0)) {
+            stepsBeforeTimeCheck = TIME_CHECK_INTERVAL;
+            if (System.nanoTime() - deadline > 0) {
+                throw BUDGET_EXCEEDED;
+            }
+        }
+        return data.charAt(index);
+    }
+
+    /**
+     * @see CharSequence#subSequence(int, int)
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return data.subSequence(start, end);
+    }
+
+    /**
+     * @see Object#toString()
+     */
+    @Override
+    public String toString() {
+        return data.toString();
+    }
+}
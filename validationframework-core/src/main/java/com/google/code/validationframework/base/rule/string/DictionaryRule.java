@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import com.google.code.validationframework.base.collection.CompactTrie;
+
+/**
+ * Rule checking that the input string is a word of a dictionary, for instance a large vocabulary loaded from a file.
+ * <p>
+ * The dictionary is stored in a {@link CompactTrie}, so that large vocabularies take little memory and are looked up
+ * without copying the input data. Optionally, the rule can also accept the prefixes of the words, so that the input can
+ * be validated while it is being typed.
+ * <p>
+ * Null input strings are considered to be invalid.
+ *
+ * @see CompactTrie
+ */
+public class DictionaryRule extends AbstractStringBooleanRule {
+
+    /**
+     * Words accepted by this rule.
+     */
+    private final CompactTrie dictionary;
+
+    /**
+     * Flag stating whether the prefixes of the words are also accepted.
+     */
+    private final boolean prefixAccepted;
+
+    /**
+     * Constructor specifying the dictionary, accepting only complete words.
+     *
+     * @param dictionary Words accepted by this rule.
+     */
+    public DictionaryRule(final CompactTrie dictionary) {
+        this(dictionary, false);
+    }
+
+    /**
+     * Constructor specifying the dictionary and whether the prefixes of the words are also accepted.
+     *
+     * @param dictionary     Words accepted by this rule.
+     * @param prefixAccepted True to also accept the prefixes of the words, false to accept only complete words.
+     */
+    public DictionaryRule(final CompactTrie dictionary, final boolean prefixAccepted) {
+        super();
+        this.dictionary = dictionary;
+        this.prefixAccepted = prefixAccepted;
+    }
+
+    /**
+     * Gets the words accepted by this rule.
+     *
+     * @return Dictionary.
+     */
+    public CompactTrie getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * States whether the prefixes of the words are also accepted.
+     *
+     * @return True if the prefixes are accepted, false if only complete words are accepted.
+     */
+    public boolean isPrefixAccepted() {
+        return prefixAccepted;
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(Object)
+     */
+    @Override
+    public Boolean validate(final String data) {
+        return validate((CharSequence) data);
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(CharSequence)
+     */
+    @Override
+    public Boolean validate(final CharSequence data) {
+        boolean valid = false;
+
+        if (data != null) {
+            int start = getStartIndex(data);
+            int end = getEndIndex(data, start);
+            if (prefixAccepted) {
+                valid = dictionary.containsPrefix(data, start, end);
+            } else {
+                valid = dictionary.contains(data, start, end);
+            }
+        }
+
+        return valid;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is an e-mail address, using a simplified version of the syntax defined by RFC
+ * 5322.
+ * <p>
+ * The local part must be a dot-atom of up to 64 characters: letters, digits and the special characters
+ * <code>!#$%&amp;'*+-/=?^_`{|}~</code>, with single dots between them. The domain must be made of at least two labels
+ * of up to 63 letters, digits and hyphens, not starting or ending with a hyphen, separated by dots, and must not exceed
+ * 253 characters.
+ * <p>
+ * Note that quoted local parts, comments and address literals are not supported, as they are hardly ever used in
+ * practice.
+ */
+public class EmailAddressRule extends AbstractStringFormatRule {
+
+    /**
+     * Special characters allowed in the local part, besides letters and digits.
+     */
+    private static final String SPECIAL_CHARACTERS = "!#$%&'*+-/=?^_`{|}~";
+
+    /**
+     * Maximum length of the local part.
+     */
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    /**
+     * Maximum length of the domain.
+     */
+    private static final int MAX_DOMAIN_LENGTH = 253;
+
+    /**
+     * Maximum length of a label of the domain.
+     */
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    /**
+     * Default constructor.
+     */
+    public EmailAddressRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+
+        // Local part
+        int i = start;
+        while ((errorIndex == NO_ERROR) && (i < end) && (data.charAt(i) != '@')) {
+            char character = data.charAt(i);
+            if (i - start >= MAX_LOCAL_PART_LENGTH) {
+                errorIndex = i;
+            } else if (character == '.') {
+                if ((i == start) || (data.charAt(i - 1) == '.')) {
+                    errorIndex = i;
+                }
+            } else if (!isLetter(character) && !isDigit(character) && (SPECIAL_CHARACTERS.indexOf(character) < 0)) {
+                errorIndex = i;
+            }
+            i++;
+        }
+        if (errorIndex == NO_ERROR) {
+            if (i == end) {
+                errorIndex = end;
+            } else if ((i == start) || (data.charAt(i - 1) == '.')) {
+                errorIndex = i;
+            }
+        }
+
+        // Domain
+        int domainStart = i + 1;
+        int labelStart = domainStart;
+        int labelCount = 0;
+        for (i = domainStart; (errorIndex == NO_ERROR) && (i < end); i++) {
+            char character = data.charAt(i);
+            if (i - domainStart >= MAX_DOMAIN_LENGTH) {
+                errorIndex = i;
+            } else if (character == '.') {
+                if ((i == labelStart) || (data.charAt(i - 1) == '-')) {
+                    errorIndex = i;
+                } else {
+                    labelCount++;
+                    labelStart = i + 1;
+                }
+            } else if ((i - labelStart >= MAX_LABEL_LENGTH) || ((character == '-') && (i == labelStart)) ||
+                    ((character != '-') && !isLetter(character) && !isDigit(character))) {
+                errorIndex = i;
+            }
+        }
+        if (errorIndex == NO_ERROR) {
+            if ((labelStart >= end) || (labelCount == 0)) {
+                errorIndex = end;
+            } else if (data.charAt(end - 1) == '-') {
+                errorIndex = end - 1;
+            }
+        }
+
+        return errorIndex;
+    }
+}
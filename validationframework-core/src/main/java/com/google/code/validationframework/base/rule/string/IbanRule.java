@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is an International Bank Account Number (IBAN) with valid check digits, as
+ * defined by ISO 13616.
+ * <p>
+ * The input string must be in electronic format, that is without spaces: a two-letter country code, two check digits
+ * and up to 30 alphanumeric characters, in upper case. The check digits are verified with the ISO 7064 mod 97-10
+ * algorithm, streaming the digits instead of converting the whole number into a {@link java.math.BigInteger}. If they
+ * are wrong, the error index is the position of the first check digit.
+ * <p>
+ * Note that the length of the account number specific to each country is not checked.
+ */
+public class IbanRule extends AbstractStringFormatRule {
+
+    /**
+     * Minimum length of an IBAN.
+     */
+    private static final int MIN_LENGTH = 5;
+
+    /**
+     * Maximum length of an IBAN.
+     */
+    private static final int MAX_LENGTH = 34;
+
+    /**
+     * Length of the country code and check digits, moved to the end for the computation of the checksum.
+     */
+    private static final int HEADER_LENGTH = 4;
+
+    /**
+     * Default constructor.
+     */
+    public IbanRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+
+        // Check the characters
+        for (int i = start; (errorIndex == NO_ERROR) && (i < end); i++) {
+            char character = data.charAt(i);
+            int offset = i - start;
+            if ((offset >= MAX_LENGTH) || ((offset < 2) && !isUpperCaseLetter(character)) || ((offset >= 2) &&
+                    (offset < HEADER_LENGTH) && !isDigit(character)) || (!isDigit(character) && !isUpperCaseLetter
+                    (character))) {
+                errorIndex = i;
+            }
+        }
+        if ((errorIndex == NO_ERROR) && (end - start < MIN_LENGTH)) {
+            errorIndex = end;
+        }
+
+        // Check the check digits, processing the account number before the header
+        if (errorIndex == NO_ERROR) {
+            int remainder = 0;
+            for (int i = start + HEADER_LENGTH; i < end; i++) {
+                remainder = addToRemainder(remainder, data.charAt(i));
+            }
+            for (int i = start; i < start + HEADER_LENGTH; i++) {
+                remainder = addToRemainder(remainder, data.charAt(i));
+            }
+            if (remainder != 1) {
+                errorIndex = start + 2;
+            }
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Appends the value of the specified character to a number and returns the remainder of its division by 97.
+     * <p>
+     * Letters are replaced by two digits, from 10 for 'A' to 35 for 'Z'.
+     *
+     * @param remainder Remainder of the division of the number by 97.
+     * @param character Digit or upper case letter.
+     *
+     * @return Remainder of the division of the new number by 97.
+     */
+    private static int addToRemainder(final int remainder, final char character) {
+        int result;
+
+        if (isDigit(character)) {
+            result = (remainder * 10 + (character - '0')) % 97;
+        } else {
+            result = (remainder * 100 + (character - 'A' + 10)) % 97;
+        }
+
+        return result;
+    }
+
+    /**
+     * States whether the specified character is an ASCII upper case letter.
+     *
+     * @param character Character to be checked.
+     *
+     * @return True if the character is between 'A' and 'Z', false otherwise.
+     */
+    private static boolean isUpperCaseLetter(final char character) {
+        return (character >= 'A') && (character <= 'Z');
+    }
+}
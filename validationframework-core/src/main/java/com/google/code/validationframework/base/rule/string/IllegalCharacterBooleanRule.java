@@ -25,23 +25,29 @@
 
 package com.google.code.validationframework.base.rule.string;
 
-import com.google.code.validationframework.api.rule.Rule;
-import com.google.code.validationframework.base.rule.NegateBooleanRule;
-
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 /**
  * Rule checking that the input does not contain any characters from  a specified string.<br>This is a simple
  * alternative to the {@link StringRegexRule}.
+ * <p>
+ * The check is a single pass over the input, without any allocation: the illegal characters of the Basic Multilingual
+ * Plane are looked up in a bit table, and the supplementary characters (surrogate pairs) are looked up in a sorted
+ * array.
  *
  * @see StringRegexRule
  */
 public class IllegalCharacterBooleanRule extends AbstractStringBooleanRule {
 
     /**
-     * Simple implementation of the rule that will actually do the check.
+     * Bit table containing one bit per illegal character of the Basic Multilingual Plane.
+     */
+    private long[] bmpTable;
+
+    /**
+     * Sorted illegal supplementary code points.
      */
-    private Rule<String, Boolean> delegatePattern;
+    private int[] supplementaryCodePoints;
 
     /**
      * String containing all illegal characters.
@@ -77,21 +83,38 @@ public class IllegalCharacterBooleanRule extends AbstractStringBooleanRule {
      * @param illegalCharacters String containing all illegal characters.
      */
     public void setIllegalCharacters(final String illegalCharacters) {
-        // Create a simple sub-rule taking care of the check
         this.illegalCharacters = illegalCharacters;
-        delegatePattern = new NegateBooleanRule<String>(new StringRegexRule("[" + Pattern.quote(illegalCharacters) +
-                "]"));
 
-        // Create a nicely space-separated list of illegal characters
+        // Build the lookup tables and a nicely space-separated list of illegal characters
         final int illegalCharacterCount = illegalCharacters.length();
         final StringBuilder illegalCharactersSeparatedBySpacesStringBuilder = new StringBuilder(illegalCharacterCount
                 * 2);
-        for (int i = 0; i < illegalCharacterCount; i++) {
-            illegalCharactersSeparatedBySpacesStringBuilder.append(illegalCharacters.toCharArray()[i]);
-            if (i < (illegalCharacterCount - 1)) {
+        long[] newBmpTable = new long[0];
+        int[] newSupplementaryCodePoints = new int[0];
+        int i = 0;
+        while (i < illegalCharacterCount) {
+            final int codePoint = illegalCharacters.codePointAt(i);
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                final int wordIndex = codePoint >>> 6;
+                if (wordIndex >= newBmpTable.length) {
+                    newBmpTable = Arrays.copyOf(newBmpTable, wordIndex + 1);
+                }
+                newBmpTable[wordIndex] |= 1L << codePoint;
+            } else if (Arrays.binarySearch(newSupplementaryCodePoints, codePoint) < 0) {
+                newSupplementaryCodePoints = Arrays.copyOf(newSupplementaryCodePoints, newSupplementaryCodePoints
+                        .length + 1);
+                newSupplementaryCodePoints[newSupplementaryCodePoints.length - 1] = codePoint;
+                Arrays.sort(newSupplementaryCodePoints);
+            }
+
+            illegalCharactersSeparatedBySpacesStringBuilder.appendCodePoint(codePoint);
+            i += Character.charCount(codePoint);
+            if (i < illegalCharacterCount) {
                 illegalCharactersSeparatedBySpacesStringBuilder.append(' ');
             }
         }
+        bmpTable = newBmpTable;
+        supplementaryCodePoints = newSupplementaryCodePoints;
         illegalCharactersSeparatedBySpaces = illegalCharactersSeparatedBySpacesStringBuilder.toString();
     }
 
@@ -105,12 +128,59 @@ public class IllegalCharacterBooleanRule extends AbstractStringBooleanRule {
         return illegalCharactersSeparatedBySpaces;
     }
 
+    /**
+     * Gets the position of the first illegal character in the specified text.
+     * <p>
+     * If the text is to be trimmed before validation, the leading and trailing white spaces are skipped, but the
+     * returned position is still relative to the beginning of the specified text.
+     *
+     * @param text Text to be checked.
+     *
+     * @return Position of the first illegal character (or of the high surrogate of the first illegal supplementary
+     * character), or -1 if the text is null or does not contain any illegal character.
+     */
+    public int indexOfIllegalCharacter(final CharSequence text) {
+        int index = -1;
+
+        if (text != null) {
+            final int start = getStartIndex(text);
+            final int end = getEndIndex(text, start);
+
+            int i = start;
+            while ((index < 0) && (i < end)) {
+                final char c = text.charAt(i);
+                if (Character.isHighSurrogate(c) && (i + 1 < end) && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    if (Arrays.binarySearch(supplementaryCodePoints, Character.toCodePoint(c, text.charAt(i + 1)))
+                            >= 0) {
+                        index = i;
+                    }
+                    i += 2;
+                } else {
+                    final int wordIndex = c >>> 6;
+                    if ((wordIndex < bmpTable.length) && ((bmpTable[wordIndex] & (1L << c)) != 0)) {
+                        index = i;
+                    }
+                    i++;
+                }
+            }
+        }
+
+        return index;
+    }
+
     /**
      * @see AbstractStringBooleanRule#validate(Object)
      */
     @Override
     public Boolean validate(final String text) {
-        final String trimmedText = trimIfNeeded(text);
-        return delegatePattern.validate(trimmedText);
+        return validate((CharSequence) text);
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(CharSequence)
+     */
+    @Override
+    public Boolean validate(final CharSequence text) {
+        return indexOfIllegalCharacter(text) < 0;
     }
 }
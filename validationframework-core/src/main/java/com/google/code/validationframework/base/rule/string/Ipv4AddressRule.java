@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is an IPv4 address in dotted-decimal notation, for instance
+ * <code>192.168.0.1</code>.
+ * <p>
+ * Each of the 4 numbers must be between 0 and 255, without leading zeros, as they are ambiguous (some parsers read them
+ * as octal numbers).
+ *
+ * @see Ipv6AddressRule
+ */
+public class Ipv4AddressRule extends AbstractStringFormatRule {
+
+    /**
+     * Default constructor.
+     */
+    public Ipv4AddressRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        return scanAddress(data, start, end);
+    }
+
+    /**
+     * Scans the IPv4 address made of the specified characters.
+     *
+     * @param data  Character sequence containing the address.
+     * @param start Position of the first character of the address.
+     * @param end   Position following the last character of the address.
+     *
+     * @return Position of the first character not matching the format, or {@link #NO_ERROR} if the characters are an
+     * IPv4 address.
+     */
+    static int scanAddress(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+
+        int i = start;
+        for (int number = 0; (errorIndex == NO_ERROR) && (number < 4); number++) {
+            if (number > 0) {
+                if (i >= end) {
+                    errorIndex = end;
+                } else if (data.charAt(i) != '.') {
+                    errorIndex = i;
+                } else {
+                    i++;
+                }
+            }
+
+            int numberStart = i;
+            int value = 0;
+            while ((errorIndex == NO_ERROR) && (i < end) && isDigit(data.charAt(i))) {
+                value = value * 10 + (data.charAt(i) - '0');
+                if (((i > numberStart) && (data.charAt(numberStart) == '0')) || (value > 255)) {
+                    errorIndex = i;
+                } else {
+                    i++;
+                }
+            }
+            if ((errorIndex == NO_ERROR) && (i == numberStart)) {
+                errorIndex = i;
+            }
+        }
+
+        if ((errorIndex == NO_ERROR) && (i < end)) {
+            errorIndex = i;
+        }
+
+        return errorIndex;
+    }
+}
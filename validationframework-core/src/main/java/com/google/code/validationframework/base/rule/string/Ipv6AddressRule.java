@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is an IPv6 address in the text representation defined by RFC 4291, for instance
+ * <code>2001:db8::ff00:42:8329</code> or <code>::ffff:192.168.0.1</code>.
+ * <p>
+ * The address is made of 8 groups of up to 4 hexadecimal digits separated by colons. Consecutive groups of zeros can be
+ * replaced by a double colon once, and the last two groups can be written as an IPv4 address.
+ * <p>
+ * Note that zone indexes (for instance <code>fe80::1%eth0</code>) and prefix lengths are not supported.
+ *
+ * @see Ipv4AddressRule
+ */
+public class Ipv6AddressRule extends AbstractStringFormatRule {
+
+    /**
+     * Number of groups of an address.
+     */
+    private static final int GROUP_COUNT = 8;
+
+    /**
+     * Maximum number of hexadecimal digits in a group.
+     */
+    private static final int MAX_GROUP_LENGTH = 4;
+
+    /**
+     * Default constructor.
+     */
+    public Ipv6AddressRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+        int groupCount = 0;
+        boolean compressed = false;
+
+        // Leading double colon
+        int i = start;
+        if ((i < end) && (data.charAt(i) == ':')) {
+            if (i + 1 >= end) {
+                errorIndex = end;
+            } else if (data.charAt(i + 1) != ':') {
+                errorIndex = i + 1;
+            } else {
+                compressed = true;
+                i += 2;
+            }
+        }
+
+        boolean done = (errorIndex != NO_ERROR) || (compressed && (i == end));
+        while (!done) {
+            // Group or embedded IPv4 address
+            int groupStart = i;
+            while ((i < end) && isHexDigit(data.charAt(i))) {
+                i++;
+            }
+            if ((i < end) && (data.charAt(i) == '.')) {
+                if (groupCount > (compressed ? GROUP_COUNT - 3 : GROUP_COUNT - 2)) {
+                    errorIndex = groupStart;
+                } else {
+                    errorIndex = Ipv4AddressRule.scanAddress(data, groupStart, end);
+                    groupCount += 2;
+                }
+                i = end;
+            } else if (i == groupStart) {
+                errorIndex = i;
+            } else if (i - groupStart > MAX_GROUP_LENGTH) {
+                errorIndex = groupStart + MAX_GROUP_LENGTH;
+            } else if (groupCount >= (compressed ? GROUP_COUNT - 1 : GROUP_COUNT)) {
+                errorIndex = groupStart;
+            } else {
+                groupCount++;
+            }
+
+            // Separator
+            if ((errorIndex == NO_ERROR) && (i < end)) {
+                if (data.charAt(i) != ':') {
+                    errorIndex = i;
+                } else {
+                    i++;
+                    if ((i < end) && (data.charAt(i) == ':')) {
+                        if (compressed || (groupCount >= GROUP_COUNT)) {
+                            errorIndex = i;
+                        } else {
+                            compressed = true;
+                            i++;
+                            done = (i == end);
+                        }
+                    }
+                }
+            } else {
+                done = true;
+            }
+            done |= (errorIndex != NO_ERROR);
+        }
+
+        if ((errorIndex == NO_ERROR) && !compressed && (groupCount < GROUP_COUNT)) {
+            errorIndex = end;
+        }
+
+        return errorIndex;
+    }
+}
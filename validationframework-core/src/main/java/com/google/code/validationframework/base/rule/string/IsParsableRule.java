@@ -28,14 +28,18 @@ package com.google.code.validationframework.base.rule.string;
 import com.google.code.validationframework.api.property.ReadableWritableProperty;
 import com.google.code.validationframework.api.rule.Rule;
 import com.google.code.validationframework.base.property.simple.SimpleProperty;
+import com.google.code.validationframework.base.transform.ParseResult;
 
 import java.text.Format;
-import java.text.ParseException;
 
 /**
  * Rule checking whether the input can be parsed using a specific format object.
  * <p>
  * Note that if not format object is specified, the input will be considered parsable.
+ * <p>
+ * The parsing is not strict: the input is considered parsable as soon as its beginning can be parsed. If the parsed
+ * value is also needed by other rules, consider using a {@link com.google.code.validationframework.base.transform
+ * .ParseResultTransformer} and an {@link IsParsedRule} so that the input is parsed only once.
  */
 public class IsParsableRule implements Rule<String, Boolean> {
 
@@ -77,15 +81,11 @@ public class IsParsableRule implements Rule<String, Boolean> {
      */
     @Override
     public Boolean validate(String input) {
-        boolean parsable;
+        boolean parsable = true;
 
-        try {
-            if (formatProperty.getValue() != null) {
-                formatProperty.getValue().parseObject(input);
-            }
-            parsable = true;
-        } catch (ParseException e) {
-            parsable = false;
+        Format format = formatProperty.getValue();
+        if (format != null) {
+            parsable = ParseResult.parse(format, input, false).isSuccessful();
         }
 
         return parsable;
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.string;
+
+import com.google.code.validationframework.api.rule.Rule;
+import com.google.code.validationframework.base.transform.ParseResult;
+import com.google.code.validationframework.base.transform.ParseResultTransformer;
+
+/**
+ * Rule checking that a text was successfully parsed.
+ * <p>
+ * Unlike the {@link IsParsableRule}, this rule does not parse the text itself, but checks the {@link ParseResult}
+ * produced by a {@link ParseResultTransformer}, so that the same parsing can be used by other rules.
+ *
+ * @param <T> Type of parsed value.
+ *
+ * @see ParseResult
+ * @see ParseResultTransformer
+ * @see IsParsableRule
+ */
+public class IsParsedRule<T> implements Rule<ParseResult<T>, Boolean> {
+
+    /**
+     * @see Rule#validate(Object)
+     */
+    @Override
+    public Boolean validate(ParseResult<T> input) {
+        return (input != null) && input.isSuccessful();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is a calendar date in the ISO 8601 extended format: <code>YYYY-MM-DD</code>.
+ * <p>
+ * The month and day are checked against the Gregorian calendar, including leap years. If they are out of range, the
+ * error index is the position of their first digit.
+ *
+ * @see IsoDateTimeRule
+ */
+public class IsoDateRule extends AbstractStringFormatRule {
+
+    /**
+     * Length of a date.
+     */
+    static final int DATE_LENGTH = 10;
+
+    /**
+     * Number of days of each month in non-leap years.
+     */
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+     * Default constructor.
+     */
+    public IsoDateRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = scanDate(data, start, end);
+
+        if ((errorIndex == NO_ERROR) && (end > start + DATE_LENGTH)) {
+            errorIndex = start + DATE_LENGTH;
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Scans the date starting at the specified position.
+     *
+     * @param data  Character sequence containing the date.
+     * @param start Position of the first character of the date.
+     * @param end   Position following the last character that can be scanned.
+     *
+     * @return Position of the first character not matching the format, or {@link #NO_ERROR} if the {@link
+     * #DATE_LENGTH} characters at the start position are a date.
+     */
+    static int scanDate(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+
+        // Check the characters
+        for (int i = start; (errorIndex == NO_ERROR) && (i < start + DATE_LENGTH); i++) {
+            if (i >= end) {
+                errorIndex = end;
+            } else if ((i == start + 4) || (i == start + 7)) {
+                if (data.charAt(i) != '-') {
+                    errorIndex = i;
+                }
+            } else if (!isDigit(data.charAt(i))) {
+                errorIndex = i;
+            }
+        }
+
+        // Check the values
+        if (errorIndex == NO_ERROR) {
+            int year = toInt(data, start, start + 4);
+            int month = toInt(data, start + 5, start + 7);
+            int day = toInt(data, start + 8, start + 10);
+            if ((month < 1) || (month > 12)) {
+                errorIndex = start + 5;
+            } else {
+                boolean leapYear = ((year % 4) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+                int dayCount = ((month == 2) && leapYear) ? 29 : DAYS_IN_MONTH[month - 1];
+                if ((day < 1) || (day > dayCount)) {
+                    errorIndex = start + 8;
+                }
+            }
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Converts the specified digits into an integer.
+     *
+     * @param data  Character sequence containing the digits.
+     * @param start Position of the first digit.
+     * @param end   Position following the last digit.
+     *
+     * @return Integer value.
+     */
+    static int toInt(final CharSequence data, final int start, final int end) {
+        int value = 0;
+
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (data.charAt(i) - '0');
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is a date and time in the ISO 8601 extended format:
+ * <code>YYYY-MM-DDThh:mm[:ss[.s+]][Z|&plusmn;hh:mm]</code>.
+ * <p>
+ * This covers the timestamps defined by RFC 3339. The seconds may be 60 to allow leap seconds, and the decimal
+ * separator may be a dot or a comma. The time zone designator is optional, so that local times are accepted as well.
+ *
+ * @see IsoDateRule
+ */
+public class IsoDateTimeRule extends AbstractStringFormatRule {
+
+    /**
+     * Default constructor.
+     */
+    public IsoDateTimeRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = IsoDateRule.scanDate(data, start, end);
+        int i = start + IsoDateRule.DATE_LENGTH;
+
+        // Hours and minutes
+        if (errorIndex == NO_ERROR) {
+            errorIndex = scanCharacter(data, i, end, 'T');
+            i++;
+        }
+        if (errorIndex == NO_ERROR) {
+            errorIndex = scanTime(data, i, end);
+            i += 5;
+        }
+
+        // Optional seconds and fraction of second
+        if ((errorIndex == NO_ERROR) && (i < end) && (data.charAt(i) == ':')) {
+            errorIndex = scanField(data, i + 1, end, 60);
+            i += 3;
+            if ((errorIndex == NO_ERROR) && (i < end) && ((data.charAt(i) == '.') || (data.charAt(i) == ','))) {
+                i++;
+                int fractionStart = i;
+                while ((i < end) && isDigit(data.charAt(i))) {
+                    i++;
+                }
+                if (i == fractionStart) {
+                    errorIndex = i;
+                }
+            }
+        }
+
+        // Optional time zone designator
+        if ((errorIndex == NO_ERROR) && (i < end)) {
+            char character = data.charAt(i);
+            if (character == 'Z') {
+                i++;
+            } else if ((character == '+') || (character == '-')) {
+                errorIndex = scanTime(data, i + 1, end);
+                i += 6;
+            } else {
+                errorIndex = i;
+            }
+        }
+
+        if ((errorIndex == NO_ERROR) && (i < end)) {
+            errorIndex = i;
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Scans the hours and minutes starting at the specified position, in the <code>hh:mm</code> format.
+     *
+     * @param data  Character sequence containing the time.
+     * @param start Position of the first character of the time.
+     * @param end   Position following the last character that can be scanned.
+     *
+     * @return Position of the first character not matching the format, or {@link #NO_ERROR} if the 5 characters at the
+     * start position are a valid time.
+     */
+    private static int scanTime(final CharSequence data, final int start, final int end) {
+        int errorIndex = scanField(data, start, end, 23);
+
+        if (errorIndex == NO_ERROR) {
+            errorIndex = scanCharacter(data, start + 2, end, ':');
+        }
+        if (errorIndex == NO_ERROR) {
+            errorIndex = scanField(data, start + 3, end, 59);
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Scans the two-digit field starting at the specified position.
+     *
+     * @param data     Character sequence containing the field.
+     * @param start    Position of the first digit of the field.
+     * @param end      Position following the last character that can be scanned.
+     * @param maxValue Maximum value of the field.
+     *
+     * @return Position of the first character not matching the format, or {@link #NO_ERROR} if the field is valid.
+     */
+    private static int scanField(final CharSequence data, final int start, final int end, final int maxValue) {
+        int errorIndex = NO_ERROR;
+
+        for (int i = start; (errorIndex == NO_ERROR) && (i < start + 2); i++) {
+            if (i >= end) {
+                errorIndex = end;
+            } else if (!isDigit(data.charAt(i))) {
+                errorIndex = i;
+            }
+        }
+        if ((errorIndex == NO_ERROR) && (IsoDateRule.toInt(data, start, start + 2) > maxValue)) {
+            errorIndex = start;
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Scans the specified separator at the specified position.
+     *
+     * @param data      Character sequence containing the separator.
+     * @param index     Position of the separator.
+     * @param end       Position following the last character that can be scanned.
+     * @param separator Expected separator.
+     *
+     * @return Position of the separator if it is missing or wrong, or {@link #NO_ERROR} otherwise.
+     */
+    private static int scanCharacter(final CharSequence data, final int index, final int end, final char separator) {
+        int errorIndex = NO_ERROR;
+
+        if (index >= end) {
+            errorIndex = end;
+        } else if (data.charAt(index) != separator) {
+            errorIndex = index;
+        }
+
+        return errorIndex;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is a number with a valid Luhn check digit, for instance a credit card number or
+ * an IMEI.
+ * <p>
+ * The input string must only contain digits, at least two of them. If the check digit is wrong, the error index is the
+ * position of the check digit, that is the last digit.
+ */
+public class LuhnRule extends AbstractStringFormatRule {
+
+    /**
+     * Default constructor.
+     */
+    public LuhnRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+
+        // Digits at an odd distance from the check digit are doubled
+        boolean doubled = ((end - start) % 2) == 0;
+        int sum = 0;
+        for (int i = start; (errorIndex == NO_ERROR) && (i < end); i++) {
+            char character = data.charAt(i);
+            if (isDigit(character)) {
+                int digit = character - '0';
+                if (doubled) {
+                    digit *= 2;
+                    if (digit > 9) {
+                        digit -= 9;
+                    }
+                }
+                sum += digit;
+                doubled = !doubled;
+            } else {
+                errorIndex = i;
+            }
+        }
+
+        if (errorIndex == NO_ERROR) {
+            if (end - start < 2) {
+                errorIndex = end;
+            } else if ((sum % 10) != 0) {
+                errorIndex = end - 1;
+            }
+        }
+
+        return errorIndex;
+    }
+}
@@ -77,9 +77,18 @@ public class StringLengthLessThanOrEqualToRule extends AbstractStringBooleanRule
      */
     @Override
     public Boolean validate(final String data) {
+        return validate((CharSequence) data);
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(CharSequence)
+     */
+    @Override
+    public Boolean validate(final CharSequence data) {
         int length = 0;
         if (data != null) {
-            length = trimIfNeeded(data).length();
+            final int start = getStartIndex(data);
+            length = getEndIndex(data, start) - start;
         }
 
         return (length <= maxLength);
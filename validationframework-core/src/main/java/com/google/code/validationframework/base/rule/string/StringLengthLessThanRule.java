@@ -77,9 +77,18 @@ public class StringLengthLessThanRule extends AbstractStringBooleanRule {
      */
     @Override
     public Boolean validate(String data) {
+        return validate((CharSequence) data);
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(CharSequence)
+     */
+    @Override
+    public Boolean validate(CharSequence data) {
         int length = 0;
         if (data != null) {
-            length = trimIfNeeded(data).length();
+            final int start = getStartIndex(data);
+            length = getEndIndex(data, start) - start;
         }
 
         return (length < lengthLimit);
@@ -25,16 +25,34 @@
 
 package com.google.code.validationframework.base.rule.string;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Rule checking string data against one or several regular expressions and returning a boolean as a result.<br>The
  * result will be valid if the data matches at least one of the patterns (OR operation).<br>Note that the validation is
  * based on the method {@link Matcher#find()} and not {@link Matcher#matches()}. As a result, if you need the matching
  * to be done strictly on the whole input data, you should surround the patterns with the '^' and '$' characters.
+ * <p>
+ * When several patterns are added, they are combined into a single alternation so that the input data is scanned only
+ * once. The patterns that cannot be safely combined (for instance, patterns containing back references, or using the
+ * {@link Pattern#COMMENTS} or {@link Pattern#CANON_EQ} flags) are matched separately. The matchers are reused for
+ * each thread.
+ * <p>
+ * Patterns with nested quantifiers, like <code>(a+)+</code>, may need exponential time to reject some inputs, which can
+ * freeze the application (also known as ReDoS). They are logged as warnings when added, and can be rejected altogether
+ * (see {@link #setRejectNestedQuantifiers(boolean)}). For patterns provided by the user, a guarded mode can also be
+ * enabled by limiting the number of steps or the time of the matching (see {@link #setMaxSteps(long)} and {@link
+ * #setMaxTime(long)}). When the limit is exceeded, the matching is aborted and a fallback result is returned (see
+ * {@link #setBudgetExceededResult(Boolean)}).
  *
  * @see AbstractStringBooleanRule
  * @see Pattern
@@ -43,11 +61,83 @@ import java.util.regex.Pattern;
  */
 public class StringRegexRule extends AbstractStringBooleanRule {
 
+    /**
+     * Value meaning that there is no limit on the number of steps or on the time of the matching.
+     */
+    public static final long UNLIMITED = BudgetedCharSequence.UNLIMITED;
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(StringRegexRule.class);
+
+    /**
+     * Pattern flags that can be expressed inline, in the same order as {@link #INLINE_FLAG_CHARACTERS}.
+     */
+    private static final int[] INLINE_FLAGS = {Pattern.CASE_INSENSITIVE, Pattern.MULTILINE, Pattern.DOTALL, Pattern
+            .UNICODE_CASE, Pattern.UNIX_LINES};
+
+    /**
+     * Inline flag characters, in the same order as {@link #INLINE_FLAGS}.
+     */
+    private static final String INLINE_FLAG_CHARACTERS = "imsud";
+
+    /**
+     * Pattern flags that do not prevent a regular expression from being combined with others.
+     */
+    private static final int INLINABLE_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL |
+            Pattern.UNICODE_CASE | Pattern.UNIX_LINES | Pattern.LITERAL;
+
+    /**
+     * Pattern finding embedded flags enabling comments, which could comment out the end of a combined expression.
+     */
+    private static final Pattern EMBEDDED_COMMENTS = Pattern.compile("\\(\\?[a-zA-Z]*x");
+
     /**
      * Mapping between regex expression string and compiled patterns.
      */
     private final Map<String, Pattern> patterns = new HashMap<String, Pattern>();
 
+    /**
+     * Flags of the patterns, by regular expression string.
+     */
+    private final Map<String, Integer> patternFlags = new HashMap<String, Integer>();
+
+    /**
+     * Patterns actually used for the validation, combined as much as possible, or null if they need to be rebuilt.
+     */
+    private volatile Pattern[] scanPatterns = null;
+
+    /**
+     * Matchers of the scan patterns, reused for each thread.
+     */
+    private final ThreadLocal<Matcher[]> matchers = new ThreadLocal<Matcher[]>();
+
+    /**
+     * Maximum number of characters read by the matching of a data, or {@link #UNLIMITED}.
+     */
+    private volatile long maxSteps = UNLIMITED;
+
+    /**
+     * Maximum time of the matching of a data in milliseconds, or {@link #UNLIMITED}.
+     */
+    private volatile long maxTime = UNLIMITED;
+
+    /**
+     * Result returned when the matching is aborted because it exceeded its budget.
+     */
+    private volatile Boolean budgetExceededResult = false;
+
+    /**
+     * Wrappers counting the characters read by the matching, reused for each thread.
+     */
+    private final ThreadLocal<BudgetedCharSequence> budgetedData = new ThreadLocal<BudgetedCharSequence>();
+
+    /**
+     * Flag stating whether patterns with nested quantifiers should be rejected when added.
+     */
+    private boolean rejectNestedQuantifiers = false;
+
     /**
      * Default constructor.
      */
@@ -97,11 +187,21 @@ public class StringRegexRule extends AbstractStringBooleanRule {
      * @param pattern Regular expression to be added.
      * @param flags   Regular expression pattern flags.<br>Refer to {@link Pattern#compile(String, int)}.
      *
+     * @throws IllegalArgumentException If the pattern has nested quantifiers and such patterns are rejected.
      * @see #addPattern(String)
+     * @see #setRejectNestedQuantifiers(boolean)
      * @see Matcher#find()
      */
     public void addPattern(final String pattern, final int flags) {
+        if (((flags & Pattern.LITERAL) == 0) && hasNestedQuantifiers(pattern)) {
+            if (rejectNestedQuantifiers) {
+                throw new IllegalArgumentException("Pattern with nested quantifiers rejected: " + pattern);
+            }
+            LOGGER.warn("Pattern with nested quantifiers may cause catastrophic backtracking: " + pattern);
+        }
         patterns.put(pattern, Pattern.compile(pattern, flags));
+        patternFlags.put(pattern, flags);
+        scanPatterns = null;
     }
 
     /**
@@ -111,6 +211,96 @@ public class StringRegexRule extends AbstractStringBooleanRule {
      */
     public void removePattern(final String pattern) {
         patterns.remove(pattern);
+        patternFlags.remove(pattern);
+        scanPatterns = null;
+    }
+
+    /**
+     * States whether patterns with nested quantifiers are rejected when added.
+     *
+     * @return True if such patterns are rejected, false if they are only logged as warnings.
+     */
+    public boolean getRejectNestedQuantifiers() {
+        return rejectNestedQuantifiers;
+    }
+
+    /**
+     * States whether patterns with nested quantifiers should be rejected when added.
+     * <p>
+     * Note that this only applies to the patterns added afterwards.
+     *
+     * @param rejectNestedQuantifiers True to reject such patterns, false to only log them as warnings.
+     *
+     * @see #hasNestedQuantifiers(String)
+     */
+    public void setRejectNestedQuantifiers(final boolean rejectNestedQuantifiers) {
+        this.rejectNestedQuantifiers = rejectNestedQuantifiers;
+    }
+
+    /**
+     * Gets the maximum number of characters read by the matching of a data.
+     *
+     * @return Maximum number of steps, or {@link #UNLIMITED}.
+     */
+    public long getMaxSteps() {
+        return maxSteps;
+    }
+
+    /**
+     * Sets the maximum number of characters read by the matching of a data.
+     * <p>
+     * Each character read by the matcher counts as a step, including the characters read again when backtracking. A
+     * budget of a few hundred times the maximum length of the data is usually plenty for sane patterns.
+     *
+     * @param maxSteps Maximum number of steps, or {@link #UNLIMITED}.
+     *
+     * @see #setBudgetExceededResult(Boolean)
+     */
+    public void setMaxSteps(final long maxSteps) {
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Gets the maximum time of the matching of a data.
+     *
+     * @return Maximum time in milliseconds, or {@link #UNLIMITED}.
+     */
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    /**
+     * Sets the maximum time of the matching of a data.
+     *
+     * @param maxTime Maximum time in milliseconds, or {@link #UNLIMITED}.
+     *
+     * @see #setBudgetExceededResult(Boolean)
+     */
+    public void setMaxTime(final long maxTime) {
+        this.maxTime = maxTime;
+    }
+
+    /**
+     * Gets the result returned when the matching is aborted because it exceeded its budget.
+     *
+     * @return Fallback result.
+     */
+    public Boolean getBudgetExceededResult() {
+        return budgetExceededResult;
+    }
+
+    /**
+     * Sets the result returned when the matching is aborted because it exceeded its budget.
+     * <p>
+     * By default, the data is considered invalid.
+     *
+     * @param budgetExceededResult Fallback result, possibly null.
+     *
+     * @see #setMaxSteps(long)
+     * @see #setMaxTime(long)
+     */
+    public void setBudgetExceededResult(final Boolean budgetExceededResult) {
+        this.budgetExceededResult = budgetExceededResult;
     }
 
     /**
@@ -119,19 +309,359 @@ public class StringRegexRule extends AbstractStringBooleanRule {
      */
     @Override
     public Boolean validate(final String data) {
+        return validate((CharSequence) data);
+    }
+
+    /**
+     * @see AbstractStringBooleanRule#validate(CharSequence)
+     * @see Matcher#find()
+     */
+    @Override
+    public Boolean validate(final CharSequence data) {
         Boolean result = false;
 
         if (data != null) {
-            final String dataToBeValidated = trimIfNeeded(data);
-            for (final Pattern pattern : patterns.values()) {
-                final Matcher matcher = pattern.matcher(dataToBeValidated);
-                if (matcher.find()) {
-                    result = true;
-                    break;
+            final int start = getStartIndex(data);
+            final int end = getEndIndex(data, start);
+            final long currentMaxSteps = maxSteps;
+            final long currentMaxTime = maxTime;
+            if ((currentMaxSteps == UNLIMITED) && (currentMaxTime == UNLIMITED)) {
+                result = find(data, start, end);
+            } else {
+                // Guarded mode
+                BudgetedCharSequence budgeted = budgetedData.get();
+                if (budgeted == null) {
+                    budgeted = new BudgetedCharSequence();
+                    budgetedData.set(budgeted);
+                }
+                budgeted.reset(data, currentMaxSteps, currentMaxTime);
+                try {
+                    result = find(budgeted, start, end);
+                } catch (BudgetedCharSequence.BudgetExceededException e) {
+                    LOGGER.debug("Matching aborted after exceeding its budget");
+                    result = budgetExceededResult;
+                } finally {
+                    // Do not retain the data
+                    budgeted.release();
                 }
             }
         }
 
         return result;
     }
+
+    /**
+     * Looks for any of the patterns in the specified region of the specified data.
+     *
+     * @param data  Data to be matched.
+     * @param start Start of the region to be matched.
+     * @param end   End of the region to be matched.
+     *
+     * @return True if any of the patterns was found, false otherwise.
+     */
+    private boolean find(final CharSequence data, final int start, final int end) {
+        boolean found = false;
+
+        for (final Matcher matcher : getMatchers()) {
+            try {
+                // Restrict the matching to the trimmed data without copying it
+                matcher.reset(data).region(start, end);
+                found = matcher.find();
+            } finally {
+                // Do not retain the data
+                matcher.reset("");
+            }
+            if (found) {
+                break;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Gets the matchers of the scan patterns for the current thread, creating them if needed.
+     *
+     * @return Matchers to be used for the validation.
+     */
+    private Matcher[] getMatchers() {
+        Pattern[] currentScanPatterns = scanPatterns;
+        if (currentScanPatterns == null) {
+            currentScanPatterns = buildScanPatterns();
+            scanPatterns = currentScanPatterns;
+        }
+
+        Matcher[] currentMatchers = matchers.get();
+        if ((currentMatchers == null) || !areMatchersOf(currentMatchers, currentScanPatterns)) {
+            currentMatchers = new Matcher[currentScanPatterns.length];
+            for (int i = 0; i < currentScanPatterns.length; i++) {
+                currentMatchers[i] = currentScanPatterns[i].matcher("");
+            }
+            matchers.set(currentMatchers);
+        }
+
+        return currentMatchers;
+    }
+
+    /**
+     * States whether the specified matchers are the matchers of the specified patterns.
+     *
+     * @param matchers Matchers to be checked.
+     * @param patterns Patterns.
+     *
+     * @return True if the matchers correspond to the patterns, false otherwise.
+     */
+    private static boolean areMatchersOf(final Matcher[] matchers, final Pattern[] patterns) {
+        boolean same = matchers.length == patterns.length;
+        for (int i = 0; same && (i < matchers.length); i++) {
+            same = matchers[i].pattern() == patterns[i];
+        }
+        return same;
+    }
+
+    /**
+     * Builds the patterns to be used for the validation, by combining the patterns that can be safely combined into a
+     * single alternation.
+     *
+     * @return Patterns to be used for the validation.
+     */
+    private Pattern[] buildScanPatterns() {
+        final List<Pattern> result = new ArrayList<Pattern>();
+        final List<String> combinable = new ArrayList<String>();
+
+        for (final Map.Entry<String, Pattern> entry : patterns.entrySet()) {
+            final String inlined = toInlineExpression(entry.getKey(), patternFlags.get(entry.getKey()));
+            if (inlined == null) {
+                result.add(entry.getValue());
+            } else {
+                combinable.add(inlined);
+            }
+        }
+
+        if (combinable.size() == 1) {
+            result.add(Pattern.compile(combinable.get(0)));
+        } else if (combinable.size() > 1) {
+            final StringBuilder alternation = new StringBuilder();
+            for (final String expression : combinable) {
+                if (alternation.length() > 0) {
+                    alternation.append('|');
+                }
+                alternation.append(expression);
+            }
+            try {
+                result.add(Pattern.compile(alternation.toString()));
+            } catch (PatternSyntaxException e) {
+                // Some expression could not be combined after all, so match all of them separately
+                result.clear();
+                result.addAll(patterns.values());
+            }
+        }
+
+        return result.toArray(new Pattern[result.size()]);
+    }
+
+    /**
+     * Converts the specified regular expression and flags into a group that can be part of an alternation.
+     *
+     * @param pattern Regular expression.
+     * @param flags   Regular expression pattern flags.
+     *
+     * @return Group with inline flags, or null if the regular expression cannot be safely combined with others.
+     */
+    private static String toInlineExpression(final String pattern, final int flags) {
+        String expression = null;
+
+        if (((flags & ~INLINABLE_FLAGS) == 0) && !EMBEDDED_COMMENTS.matcher(pattern).find() && !hasBackReference
+                (pattern)) {
+            final StringBuilder group = new StringBuilder("(?");
+            for (int i = 0; i < INLINE_FLAGS.length; i++) {
+                if ((flags & INLINE_FLAGS[i]) != 0) {
+                    group.append(INLINE_FLAG_CHARACTERS.charAt(i));
+                }
+            }
+            group.append(':');
+            group.append(((flags & Pattern.LITERAL) == 0) ? pattern : Pattern.quote(pattern));
+            group.append(')');
+            expression = group.toString();
+        }
+
+        return expression;
+    }
+
+    /**
+     * States whether the specified regular expression may contain a back reference, whose group number would change
+     * once combined with other expressions.
+     *
+     * @param pattern Regular expression.
+     *
+     * @return True if the expression may contain a back reference, false otherwise.
+     */
+    private static boolean hasBackReference(final String pattern) {
+        boolean found = false;
+        for (int i = 0; !found && (i < pattern.length() - 1); i++) {
+            if (pattern.charAt(i) == '\\') {
+                final char next = pattern.charAt(i + 1);
+                found = ((next >= '1') && (next <= '9')) || (next == 'k');
+                // Skip the escaped character
+                i++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * States whether the specified regular expression contains nested quantifiers, that is a repeated group containing
+     * a repeated element, like <code>(a+)+</code> or <code>(\w*\s?)*</code>.
+     * <p>
+     * This is the most common cause of catastrophic backtracking: when the data does not match, the matcher tries all
+     * the ways of splitting it between the inner and outer repetitions. Possessive quantifiers and atomic groups do not
+     * backtrack, so they are not reported. Note that this is only a heuristic: some safe patterns are reported, like
+     * <code>[a-z]+(\.[a-z]+)*</code> where the dot delimits the repetitions, and some other patterns, like overlapping
+     * alternatives in a repeated group, can also backtrack badly.
+     *
+     * @param pattern Regular expression.
+     *
+     * @return True if the expression contains nested quantifiers, false otherwise.
+     */
+    public static boolean hasNestedQuantifiers(final String pattern) {
+        boolean found = false;
+
+        // Flags stating whether each open group contains a repeated element, and whether it is an atomic group
+        final boolean[] repeated = new boolean[pattern.length() + 1];
+        final boolean[] atomic = new boolean[pattern.length() + 1];
+        int depth = 0;
+
+        int i = 0;
+        while (!found && (i < pattern.length())) {
+            final char character = pattern.charAt(i);
+            boolean quantifiable = true;
+            boolean repeatedGroup = false;
+
+            // Skip the element
+            if (character == '\\') {
+                if ((i + 1 < pattern.length()) && (pattern.charAt(i + 1) == 'Q')) {
+                    final int quoteEnd = pattern.indexOf("\\E", i + 2);
+                    i = (quoteEnd < 0) ? pattern.length() : (quoteEnd + 2);
+                } else {
+                    i += 2;
+                }
+            } else if (character == '[') {
+                i = skipCharacterClass(pattern, i);
+            } else if (character == '(') {
+                depth++;
+                repeated[depth] = false;
+                atomic[depth] = pattern.startsWith("(?>", i);
+                // What follows is part of the group, not a quantifier
+                quantifiable = false;
+                i++;
+            } else if ((character == ')') && (depth > 0)) {
+                repeatedGroup = repeated[depth] && !atomic[depth];
+                depth--;
+                repeated[depth] |= repeatedGroup;
+                i++;
+            } else {
+                i++;
+            }
+
+            // Check the quantifier following the element, if any
+            final int quantifierEnd = quantifiable ? skipQuantifier(pattern, i) : i;
+            if (quantifierEnd > i) {
+                final boolean possessive = (quantifierEnd - i > 1) && (pattern.charAt(quantifierEnd - 1) == '+');
+                if (isRepeating(pattern, i) && !possessive) {
+                    found = repeatedGroup;
+                    repeated[depth] = true;
+                }
+                i = quantifierEnd;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Skips the character class starting at the specified position.
+     *
+     * @param pattern Regular expression.
+     * @param start   Position of the opening bracket of the character class.
+     *
+     * @return Position following the closing bracket of the character class.
+     */
+    private static int skipCharacterClass(final String pattern, final int start) {
+        int i = start + 1;
+        int depth = 1;
+
+        // A closing bracket at the beginning is a literal
+        if ((i < pattern.length()) && (pattern.charAt(i) == '^')) {
+            i++;
+        }
+        if ((i < pattern.length()) && (pattern.charAt(i) == ']')) {
+            i++;
+        }
+
+        while ((depth > 0) && (i < pattern.length())) {
+            final char character = pattern.charAt(i);
+            if (character == '\\') {
+                i++;
+            } else if (character == '[') {
+                depth++;
+            } else if (character == ']') {
+                depth--;
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Skips the quantifier starting at the specified position, if any, including its lazy or possessive suffix.
+     *
+     * @param pattern Regular expression.
+     * @param start   Position following a pattern element.
+     *
+     * @return Position following the quantifier, or the start position if there is no quantifier.
+     */
+    private static int skipQuantifier(final String pattern, final int start) {
+        int i = start;
+
+        if (i < pattern.length()) {
+            final char character = pattern.charAt(i);
+            if ((character == '*') || (character == '+') || (character == '?')) {
+                i++;
+            } else if (character == '{') {
+                final int closing = pattern.indexOf('}', i);
+                if ((closing > i + 1) && pattern.substring(i + 1, closing).matches("\\d+(,\\d*)?")) {
+                    i = closing + 1;
+                }
+            }
+            if ((i > start) && (i < pattern.length()) && ((pattern.charAt(i) == '?') || (pattern.charAt(i) == '+'))) {
+                i++;
+            }
+        }
+
+        return i;
+    }
+
+    /**
+     * States whether the quantifier starting at the specified position allows more than one repetition.
+     *
+     * @param pattern Regular expression.
+     * @param start   Position of the quantifier.
+     *
+     * @return True if the quantifier allows more than one repetition, false otherwise.
+     */
+    private static boolean isRepeating(final String pattern, final int start) {
+        boolean repeating;
+
+        final char character = pattern.charAt(start);
+        if (character == '{') {
+            final String bounds = pattern.substring(start + 1, pattern.indexOf('}', start));
+            final String maximum = bounds.substring(bounds.indexOf(',') + 1);
+            repeating = !maximum.matches("0*[01]");
+        } else {
+            repeating = (character != '?');
+        }
+
+        return repeating;
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+/**
+ * Rule checking that the input string is a UUID in its canonical textual representation, as defined by RFC 4122: 32
+ * hexadecimal digits, in lower or upper case, separated by hyphens in groups of 8-4-4-4-12 digits.
+ * <p>
+ * Note that the version and variant of the UUID are not checked.
+ */
+public class UuidRule extends AbstractStringFormatRule {
+
+    /**
+     * Length of a UUID.
+     */
+    private static final int LENGTH = 36;
+
+    /**
+     * Default constructor.
+     */
+    public UuidRule() {
+        super();
+    }
+
+    /**
+     * @see AbstractStringFormatRule#scan(CharSequence, int, int)
+     */
+    @Override
+    protected int scan(final CharSequence data, final int start, final int end) {
+        int errorIndex = NO_ERROR;
+
+        for (int i = start; (errorIndex == NO_ERROR) && (i < end); i++) {
+            char character = data.charAt(i);
+            int offset = i - start;
+            if (offset >= LENGTH) {
+                errorIndex = i;
+            } else if ((offset == 8) || (offset == 13) || (offset == 18) || (offset == 23)) {
+                if (character != '-') {
+                    errorIndex = i;
+                }
+            } else if (!isHexDigit(character)) {
+                errorIndex = i;
+            }
+        }
+        if ((errorIndex == NO_ERROR) && (end - start < LENGTH)) {
+            errorIndex = end;
+        }
+
+        return errorIndex;
+    }
+}
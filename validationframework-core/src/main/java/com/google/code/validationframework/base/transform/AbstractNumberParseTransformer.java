@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.api.transform.Transformer;
+
+import java.text.ParsePosition;
+
+/**
+ * Abstract transformer using a {@link NumberParser} to parse the input text into a number.
+ * <p>
+ * Like the {@link ParseTransformer}, it is possible to specify whether strict parsing should be enabled or not. If the
+ * input text is null or cannot be parsed, the output will be null.
+ * <p>
+ * The parser being thread-safe, the transformer can be used by several threads as long as the strictness is not
+ * changed concurrently. The parse position is reused per thread, so that no object is allocated for each input.
+ * <p>
+ * If the position of the parsing error is needed, use {@link #parseResult(CharSequence)} instead of {@link
+ * #transform(CharSequence)}.
+ *
+ * @param <I> Type of input text.
+ * @param <O> Type of parsed number.
+ *
+ * @see NumberParser
+ */
+public abstract class AbstractNumberParseTransformer<I extends CharSequence, O extends Number> implements
+        Transformer<I, O> {
+
+    /**
+     * Parse position of each thread, reset before each parsing.
+     */
+    private static final ThreadLocal<ParsePosition> POSITIONS = new ThreadLocal<ParsePosition>() {
+
+        /**
+         * @see ThreadLocal#initialValue()
+         */
+        @Override
+        protected ParsePosition initialValue() {
+            return new ParsePosition(0);
+        }
+    };
+
+    /**
+     * Parser to be used.
+     */
+    private final NumberParser parser;
+
+    /**
+     * Flag indicating whether strict parsing is enabled or not.
+     */
+    private boolean strictParsing;
+
+    /**
+     * Constructor specifying the parser to be used and whether strict parsing should be enabled.
+     *
+     * @param parser        Parser to be used.
+     * @param strictParsing True to enable strict parsing, false otherwise.
+     */
+    public AbstractNumberParseTransformer(NumberParser parser, boolean strictParsing) {
+        if (parser == null) {
+            throw new IllegalArgumentException("Parser cannot be null");
+        }
+        this.parser = parser;
+        this.strictParsing = strictParsing;
+    }
+
+    /**
+     * Gets the parser used by this transformer.
+     *
+     * @return Parser used by this transformer.
+     */
+    public NumberParser getParser() {
+        return parser;
+    }
+
+    /**
+     * States whether strict parsing is enabled or not.
+     *
+     * @return True if strict parsing is enabled, false otherwise.
+     */
+    public boolean getStrictParsing() {
+        return strictParsing;
+    }
+
+    /**
+     * States whether strict parsing should be enabled or not.
+     *
+     * @param strictParsing True to enabled strict parsing, false otherwise.
+     */
+    public void setStrictParsing(boolean strictParsing) {
+        this.strictParsing = strictParsing;
+    }
+
+    /**
+     * @see Transformer#transform(Object)
+     */
+    @Override
+    public O transform(I input) {
+        O output = null;
+
+        if (input != null) {
+            ParsePosition pos = getResetPosition();
+            O parsed = parse(parser, input, pos);
+            if ((pos.getIndex() != 0) && (!strictParsing || (pos.getIndex() == input.length()))) {
+                output = parsed;
+            }
+        }
+
+        return output;
+    }
+
+    /**
+     * Parses the specified input like {@link #transform(CharSequence)}, but also tells where the parsing failed.
+     *
+     * @param input Text to be parsed.
+     *
+     * @return Result of the parsing, failed at position 0 if the input is null.
+     */
+    public ParseResult<O> parseResult(I input) {
+        ParseResult<O> result;
+
+        if (input == null) {
+            result = ParseResult.failure(0);
+        } else {
+            ParsePosition pos = getResetPosition();
+            O parsed = parse(parser, input, pos);
+            if (pos.getIndex() == 0) {
+                result = ParseResult.failure(pos.getErrorIndex());
+            } else if (strictParsing && (pos.getIndex() != input.length())) {
+                result = ParseResult.failure(pos.getIndex());
+            } else {
+                result = ParseResult.success(parsed);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the parse position of the current thread, reset to the beginning of the text.
+     *
+     * @return Parse position to be used.
+     */
+    private static ParsePosition getResetPosition() {
+        ParsePosition pos = POSITIONS.get();
+        pos.setIndex(0);
+        pos.setErrorIndex(-1);
+        return pos;
+    }
+
+    /**
+     * Parses the specified text using the specified parser.
+     *
+     * @param parser Parser to be used.
+     * @param text   Text to be parsed.
+     * @param pos    Position at which the parsing starts, and where it stopped on return.
+     *
+     * @return Parsed number.
+     */
+    protected abstract O parse(NumberParser parser, CharSequence text, ParsePosition pos);
+}
@@ -28,10 +28,13 @@ package com.google.code.validationframework.base.transform;
 import com.google.code.validationframework.api.transform.Transformer;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Composite transformer.
+ * <p>
+ * Once the chain is complete, it can be fused into a flat pipeline using {@link #fuse()}.
  *
  * @param <I> Type of input of the first transformer of the chain.
  * @param <O> Type of output of the last transformer of the chain.
@@ -41,12 +44,7 @@ public class ChainedTransformer<I, O> implements Transformer<I, O> {
     /**
      * Transformers that are part of the chain.
      */
-    private final Collection<Transformer<?, ?>> transformers = new ArrayList<Transformer<?, ?>>();
-
-    /**
-     * Last transformer casting the output to the wanted type.
-     */
-    private final Transformer<Object, O> lastTransformer = new CastTransformer<Object, O>();
+    private final List<Transformer<?, ?>> transformers = new ArrayList<Transformer<?, ?>>();
 
     /**
      * Constructor specifying the first transformer.
@@ -74,8 +72,33 @@ public class ChainedTransformer<I, O> implements Transformer<I, O> {
         return (ChainedTransformer<I, TO>) this;
     }
 
+    /**
+     * Gets the transformers that are currently part of the chain.
+     *
+     * @return Read-only list of the chained transformers.
+     */
+    List<Transformer<?, ?>> getTransformers() {
+        return Collections.unmodifiableList(transformers);
+    }
+
+    /**
+     * Fuses the transformers currently part of the chain into a flat pipeline producing the same output.
+     * <p>
+     * Transformers chained afterwards to this chain will not be part of the returned pipeline.
+     *
+     * @return Fused pipeline.
+     *
+     * @see FusedTransformer#fuse(Transformer)
+     */
+    public Transformer<I, O> fuse() {
+        return FusedTransformer.fuse(this);
+    }
+
     /**
      * {@inheritDoc}
+     * <p>
+     * Note that the output is cast to the wanted type without any {@link CastTransformer}, as such a cast never fails
+     * because of type erasure.
      *
      * @see Transformer#transform(Object)
      */
@@ -84,10 +107,10 @@ public class ChainedTransformer<I, O> implements Transformer<I, O> {
     public O transform(I input) {
         Object rawOutput = input;
 
-        for (Transformer transformer : transformers) {
-            rawOutput = transformer.transform(rawOutput);
+        for (int i = 0; i < transformers.size(); i++) {
+            rawOutput = ((Transformer<Object, Object>) transformers.get(i)).transform(rawOutput);
         }
 
-        return lastTransformer.transform(rawOutput);
+        return (O) rawOutput;
     }
 }
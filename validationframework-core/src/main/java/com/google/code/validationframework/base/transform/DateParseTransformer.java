@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.base.utils.DateFormats;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Transformer parsing the input string into a {@link Date} using a cached and thread-safe date format.
+ * <p>
+ * The parsing is not lenient: for instance, February 30th is considered invalid. Strict parsing is enabled by default,
+ * as for the {@link ParseTransformer}.
+ * <p>
+ * The parsed dates are directly comparable, for instance using the rules of package {@link
+ * com.google.code.validationframework.base.rule.date}.
+ *
+ * @see DateFormats
+ * @see DateFormatTransformer
+ */
+public class DateParseTransformer extends ParseTransformer<Date> {
+
+    /**
+     * Constructor specifying the pattern of the dates, using the default locale and time zone.
+     *
+     * @param pattern Pattern as accepted by {@link java.text.SimpleDateFormat}.
+     */
+    public DateParseTransformer(String pattern) {
+        super(DateFormats.getDateFormat(pattern));
+    }
+
+    /**
+     * Constructor specifying the pattern of the dates and the locale, using the default time zone.
+     *
+     * @param pattern Pattern as accepted by {@link java.text.SimpleDateFormat}.
+     * @param locale  Locale whose symbols are to be used.
+     */
+    public DateParseTransformer(String pattern, Locale locale) {
+        super(DateFormats.getDateFormat(pattern, locale));
+    }
+
+    /**
+     * Constructor specifying the pattern of the dates, the locale and the time zone.
+     *
+     * @param pattern  Pattern as accepted by {@link java.text.SimpleDateFormat}.
+     * @param locale   Locale whose symbols are to be used.
+     * @param timeZone Time zone in which the dates are to be interpreted.
+     */
+    public DateParseTransformer(String pattern, Locale locale, TimeZone timeZone) {
+        super(DateFormats.getDateFormat(pattern, locale, timeZone));
+    }
+}
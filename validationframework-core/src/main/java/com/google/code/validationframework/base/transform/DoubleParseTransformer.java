@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+/**
+ * Transformer parsing the input text into a double using a {@link NumberParser}.
+ * <p>
+ * It gives the same results as a {@link ParseTransformer} using {@link java.text.NumberFormat#getInstance(Locale)},
+ * followed by a conversion to double.
+ *
+ * @param <I> Type of input text.
+ *
+ * @see NumberParser#parseDouble(CharSequence, ParsePosition)
+ */
+public class DoubleParseTransformer<I extends CharSequence> extends AbstractNumberParseTransformer<I, Double> {
+
+    /**
+     * Default constructor using the symbols of the default locale.
+     * <p>
+     * Note that by default, strict parsing is enabled.
+     */
+    public DoubleParseTransformer() {
+        this(new NumberParser(), true);
+    }
+
+    /**
+     * Constructor using the symbols of the specified locale.
+     * <p>
+     * Note that by default, strict parsing is enabled.
+     *
+     * @param locale Locale whose symbols are to be used.
+     */
+    public DoubleParseTransformer(Locale locale) {
+        this(new NumberParser(locale), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see AbstractNumberParseTransformer#AbstractNumberParseTransformer(NumberParser, boolean)
+     */
+    public DoubleParseTransformer(NumberParser parser, boolean strictParsing) {
+        super(parser, strictParsing);
+    }
+
+    /**
+     * @see AbstractNumberParseTransformer#parse(NumberParser, CharSequence, ParsePosition)
+     */
+    @Override
+    protected Double parse(NumberParser parser, CharSequence text, ParsePosition pos) {
+        return parser.parseDouble(text, pos);
+    }
+}
@@ -37,6 +37,10 @@ import java.text.Format;
  * If the specified format object or the input object to be formatted are null, then the output will be null. If the
  * input object cannot be formatted (the {@link Format} object throwing an {@link IllegalArgumentException}), then the
  * output will be null.
+ * <p>
+ * As most {@link Format} implementations are not thread-safe, a {@link
+ * com.google.code.validationframework.base.utils.PooledFormat} should be used if this transformer is shared by several
+ * threads.
  *
  * @see ParseTransformer
  */
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.api.transform.Transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transformer executing a flattened pipeline of transformers.
+ * <p>
+ * This transformer is typically created by {@link #fuse(Transformer)} or {@link ChainedTransformer#fuse()} once a chain
+ * is known to be complete. Fusing a chain:
+ * <ul>
+ * <li>flattens the nested {@link ChainedTransformer}s and {@link FusedTransformer}s into a single array, so that the
+ * data goes through one loop instead of one {@link Transformer#transform(Object)} call per nesting level (subclasses
+ * of {@link ChainedTransformer} are kept as is, since they may override {@link Transformer#transform(Object)});</li>
+ * <li>removes the {@link CastTransformer}s, which never fail because of type erasure and are therefore identity
+ * transformations;</li>
+ * <li>returns the single remaining transformer as is, if any, so that no indirection is left at all.</li>
+ * </ul>
+ * The resulting transformer produces the same output as the original chain for any input. However, it takes a
+ * snapshot of the chain: transformers chained afterwards to the original {@link ChainedTransformer} will not be part of
+ * the fused pipeline.
+ * <p>
+ * The transformers of the pipeline are shared with the original chain, which keeps owning them: like the {@link
+ * ChainedTransformer}, this transformer is not {@link com.google.code.validationframework.api.common.Disposable} and
+ * never disposes them, since they may still be used by the original chain or by other fused pipelines. They are to be
+ * disposed by whoever created them.
+ *
+ * @param <I> Type of input of the first transformer of the pipeline.
+ * @param <O> Type of output of the last transformer of the pipeline.
+ */
+public final class FusedTransformer<I, O> implements Transformer<I, O> {
+
+    /**
+     * Transformers of the pipeline, in the order in which they are to be executed.
+     */
+    private final Transformer<Object, Object>[] stages;
+
+    /**
+     * Constructor specifying the already flattened transformers of the pipeline.
+     *
+     * @param stages Transformers of the pipeline.
+     */
+    @SuppressWarnings("unchecked")
+    private FusedTransformer(List<Transformer<?, ?>> stages) {
+        this.stages = stages.toArray(new Transformer[stages.size()]);
+    }
+
+    /**
+     * Fuses the specified transformer into the shortest equivalent pipeline.
+     *
+     * @param transformer Transformer to be fused, typically a {@link ChainedTransformer}.
+     * @param <I>         Type of input of the transformer.
+     * @param <O>         Type of output of the transformer.
+     * @return Transformer producing the same output as the specified transformer.
+     */
+    @SuppressWarnings("unchecked")
+    public static <I, O> Transformer<I, O> fuse(Transformer<I, O> transformer) {
+        List<Transformer<?, ?>> stages = new ArrayList<Transformer<?, ?>>();
+        flatten(transformer, stages);
+
+        Transformer<I, O> fused;
+        if (stages.size() == 1) {
+            fused = (Transformer<I, O>) stages.get(0);
+        } else {
+            fused = new FusedTransformer<I, O>(stages);
+        }
+        return fused;
+    }
+
+    /**
+     * Adds the transformers of the pipeline represented by the specified transformer to the specified list.
+     *
+     * @param transformer Transformer to be flattened.
+     * @param stages      List to which the transformers of the pipeline are to be added.
+     */
+    private static void flatten(Transformer<?, ?> transformer, List<Transformer<?, ?>> stages) {
+        if ((transformer != null) && (transformer.getClass() == ChainedTransformer.class)) {
+            for (Transformer<?, ?> chained : ((ChainedTransformer<?, ?>) transformer).getTransformers()) {
+                flatten(chained, stages);
+            }
+        } else if (transformer instanceof FusedTransformer) {
+            for (Transformer<?, ?> stage : ((FusedTransformer<?, ?>) transformer).stages) {
+                stages.add(stage);
+            }
+        } else if ((transformer != null) && (transformer.getClass() != CastTransformer.class)) {
+            stages.add(transformer);
+        }
+    }
+
+    /**
+     * Gets the number of transformers in the pipeline.
+     *
+     * @return Number of transformers executed for each transformation.
+     */
+    public int getStageCount() {
+        return stages.length;
+    }
+
+    /**
+     * @see Transformer#transform(Object)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public O transform(I input) {
+        Object output = input;
+
+        for (int i = 0; i < stages.length; i++) {
+            output = stages[i].transform(output);
+        }
+
+        return (O) output;
+    }
+}
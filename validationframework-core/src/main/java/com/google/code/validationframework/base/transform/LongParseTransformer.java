@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+/**
+ * Transformer parsing the input text into a long integer using a {@link NumberParser}.
+ * <p>
+ * It gives the same results as a {@link ParseTransformer} using {@link
+ * java.text.NumberFormat#getIntegerInstance(Locale)}, except that values not fitting into a long are considered
+ * invalid.
+ *
+ * @param <I> Type of input text.
+ *
+ * @see NumberParser#parseLong(CharSequence, ParsePosition)
+ */
+public class LongParseTransformer<I extends CharSequence> extends AbstractNumberParseTransformer<I, Long> {
+
+    /**
+     * Default constructor using the symbols of the default locale.
+     * <p>
+     * Note that by default, strict parsing is enabled.
+     */
+    public LongParseTransformer() {
+        this(new NumberParser(), true);
+    }
+
+    /**
+     * Constructor using the symbols of the specified locale.
+     * <p>
+     * Note that by default, strict parsing is enabled.
+     *
+     * @param locale Locale whose symbols are to be used.
+     */
+    public LongParseTransformer(Locale locale) {
+        this(new NumberParser(locale), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see AbstractNumberParseTransformer#AbstractNumberParseTransformer(NumberParser, boolean)
+     */
+    public LongParseTransformer(NumberParser parser, boolean strictParsing) {
+        super(parser, strictParsing);
+    }
+
+    /**
+     * @see AbstractNumberParseTransformer#parse(NumberParser, CharSequence, ParsePosition)
+     */
+    @Override
+    protected Long parse(NumberParser parser, CharSequence text, ParsePosition pos) {
+        return parser.parseLong(text, pos);
+    }
+}
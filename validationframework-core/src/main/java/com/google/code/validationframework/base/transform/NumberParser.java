@@ -0,0 +1,546 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+/**
+ * Locale-aware parser of integer and decimal numbers, producing primitive values without going through a {@link
+ * java.text.NumberFormat}.
+ * <p>
+ * It parses the same texts as a {@link java.text.DecimalFormat} built with the same symbols and a pattern without any
+ * prefix or suffix other than the minus sign (like the patterns used by {@link
+ * java.text.NumberFormat#getInstance(Locale)} and {@link java.text.NumberFormat#getIntegerInstance(Locale)}), and
+ * produces the same values and the same parse positions: grouping separators are ignored in the integer part, the
+ * decimal separator and the exponent separator are recognized, and all Unicode decimal digits are accepted.
+ * <p>
+ * Unlike a {@link java.text.DecimalFormat}, it works on any {@link CharSequence}, it is immutable and thread-safe, and
+ * it does not allocate anything while parsing, except for some rare decimal numbers with more than 15 significant
+ * digits. A {@link ParsePosition} is used to specify where the parsing starts and to report where it stopped or where
+ * the error is, so that the same object can be re-used for several calls.
+ *
+ * @see LongParseTransformer
+ * @see IntegerParseTransformer
+ * @see DoubleParseTransformer
+ */
+public class NumberParser {
+
+    /**
+     * Value returned by {@link #parseExponent(CharSequence, int)} when no exponent could be parsed.
+     */
+    private static final long NO_EXPONENT = -1L;
+
+    /**
+     * Maximum number of significant digits for which the decimal value can be computed exactly with doubles.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /**
+     * Powers of ten that can be represented exactly as doubles.
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Localized zero digit.
+     */
+    private final char zeroDigit;
+
+    /**
+     * Localized decimal separator.
+     */
+    private final char decimalSeparator;
+
+    /**
+     * Localized grouping separator.
+     */
+    private final char groupingSeparator;
+
+    /**
+     * Flag indicating whether grouping separators are accepted in the integer part.
+     */
+    private final boolean groupingUsed;
+
+    /**
+     * Localized minus sign.
+     */
+    private final String minusSign;
+
+    /**
+     * Localized exponent separator.
+     */
+    private final String exponentSeparator;
+
+    /**
+     * Localized representation of infinity.
+     */
+    private final String infinity;
+
+    /**
+     * Localized representation of NaN.
+     */
+    private final String nan;
+
+    /**
+     * Default constructor using the symbols of the default locale and accepting grouping separators.
+     */
+    public NumberParser() {
+        this(Locale.getDefault());
+    }
+
+    /**
+     * Constructor using the symbols of the specified locale and accepting grouping separators.
+     *
+     * @param locale Locale whose symbols are to be used.
+     */
+    public NumberParser(Locale locale) {
+        this(new DecimalFormatSymbols(locale), true);
+    }
+
+    /**
+     * Constructor specifying the symbols to be used and whether grouping separators are accepted.
+     *
+     * @param symbols      Symbols to be used.
+     * @param groupingUsed True to accept and ignore grouping separators in the integer part, false otherwise.
+     */
+    public NumberParser(DecimalFormatSymbols symbols, boolean groupingUsed) {
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.groupingUsed = groupingUsed;
+        this.minusSign = String.valueOf(symbols.getMinusSign());
+        this.exponentSeparator = symbols.getExponentSeparator();
+        this.infinity = symbols.getInfinity();
+        this.nan = symbols.getNaN();
+    }
+
+    /**
+     * States whether grouping separators are accepted in the integer part.
+     *
+     * @return True if grouping separators are accepted, false otherwise.
+     */
+    public boolean isGroupingUsed() {
+        return groupingUsed;
+    }
+
+    /**
+     * Parses an integer from the specified text, starting at the index of the specified parse position.
+     * <p>
+     * The text is parsed like {@link java.text.NumberFormat#getIntegerInstance(Locale)} would do: the parsing stops at
+     * the decimal separator.
+     * <p>
+     * If the parsing succeeds, the index of the parse position is set after the last parsed character. Otherwise, the
+     * index is left unchanged, the error index is set and 0 is returned. Values that do not fit into an int are
+     * considered as errors.
+     *
+     * @param text Text to be parsed.
+     * @param pos  Position at which the parsing starts, and where it stopped on return.
+     *
+     * @return Parsed value, or 0 if the parsing failed.
+     */
+    public int parseInt(CharSequence text, ParsePosition pos) {
+        int value = 0;
+
+        int start = pos.getIndex();
+        long longValue = parseLong(text, pos);
+        if ((longValue < Integer.MIN_VALUE) || (longValue > Integer.MAX_VALUE)) {
+            pos.setIndex(start);
+            pos.setErrorIndex(start);
+        } else {
+            value = (int) longValue;
+        }
+
+        return value;
+    }
+
+    /**
+     * Parses a long integer from the specified text, starting at the index of the specified parse position.
+     * <p>
+     * The text is parsed like {@link java.text.NumberFormat#getIntegerInstance(Locale)} would do: the parsing stops at
+     * the decimal separator.
+     * <p>
+     * If the parsing succeeds, the index of the parse position is set after the last parsed character. Otherwise, the
+     * index is left unchanged, the error index is set and 0 is returned. Values that do not fit into a long (including
+     * infinity and NaN) are considered as errors.
+     *
+     * @param text Text to be parsed.
+     * @param pos  Position at which the parsing starts, and where it stopped on return.
+     *
+     * @return Parsed value, or 0 if the parsing failed.
+     */
+    public long parseLong(CharSequence text, ParsePosition pos) {
+        long value = 0;
+
+        int start = pos.getIndex();
+        int position = start;
+        boolean negative = regionMatches(text, position, minusSign);
+        if (negative) {
+            position += minusSign.length();
+        }
+
+        // Accumulate negatively to be able to represent Long.MIN_VALUE
+        long accumulator = 0;
+        boolean overflow = false;
+        boolean sawDigit = false;
+        int digitCount = 0; // Number of digits since the first significant digit
+        int trailingZeroCount = 0;
+        int exponent = 0;
+        int backup = -1;
+
+        if (!regionMatches(text, start, nan) && !regionMatches(text, position, infinity)) {
+            for (; position < text.length(); position++) {
+                char ch = text.charAt(position);
+                int digit = toDigit(ch);
+
+                if (digit == 0) {
+                    backup = -1;
+                    sawDigit = true;
+                    if (digitCount > 0) {
+                        digitCount++;
+                        trailingZeroCount++;
+                    }
+                } else if (digit > 0) {
+                    backup = -1;
+                    sawDigit = true;
+                    digitCount++;
+                    if (!overflow) {
+                        accumulator = appendDigit(accumulator, trailingZeroCount, digit);
+                        overflow = (accumulator > 0);
+                    }
+                    trailingZeroCount = 0;
+                } else if (ch == decimalSeparator) {
+                    // Integer only
+                    break;
+                } else if (groupingUsed && (ch == groupingSeparator)) {
+                    // Ignore grouping separators, but only if they are followed by a digit
+                    backup = position;
+                } else if (regionMatches(text, position, exponentSeparator)) {
+                    long parsedExponent = parseExponent(text, position + exponentSeparator.length());
+                    if (parsedExponent != NO_EXPONENT) {
+                        position = (int) (parsedExponent >>> 32);
+                        exponent = (int) parsedExponent;
+                    }
+                    break;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        if (backup != -1) {
+            position = backup;
+        }
+
+        if (!sawDigit) {
+            // Nothing could be parsed, or infinity or NaN
+            pos.setErrorIndex(start);
+        } else {
+            int significantDigitCount = digitCount - trailingZeroCount;
+            int scale = digitCount + exponent - significantDigitCount;
+            if (significantDigitCount > 0) {
+                for (int i = 0; !overflow && (i < scale); i++) {
+                    overflow = (accumulator < Long.MIN_VALUE / 10);
+                    accumulator *= 10;
+                }
+                // Fractional values do not fit either
+                overflow |= (scale < 0) || (!negative && (accumulator == Long.MIN_VALUE));
+            }
+
+            if (overflow) {
+                pos.setErrorIndex(start);
+            } else {
+                value = negative ? accumulator : -accumulator;
+                pos.setIndex(position);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Parses a decimal number from the specified text, starting at the index of the specified parse position.
+     * <p>
+     * The text is parsed like {@link java.text.NumberFormat#getInstance(Locale)} would do, and the result is the same
+     * as the double value of the number it would return.
+     * <p>
+     * If the parsing succeeds, the index of the parse position is set after the last parsed character. Otherwise, the
+     * index is left unchanged, the error index is set and 0 is returned.
+     *
+     * @param text Text to be parsed.
+     * @param pos  Position at which the parsing starts, and where it stopped on return.
+     *
+     * @return Parsed value, or 0 if the parsing failed.
+     */
+    public double parseDouble(CharSequence text, ParsePosition pos) {
+        double value = 0.0;
+
+        int start = pos.getIndex();
+        if (regionMatches(text, start, nan)) {
+            value = Double.NaN;
+            pos.setIndex(start + nan.length());
+        } else {
+            int position = start;
+            boolean negative = regionMatches(text, position, minusSign);
+            if (negative) {
+                position += minusSign.length();
+            }
+
+            if (regionMatches(text, position, infinity)) {
+                value = negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                pos.setIndex(position + infinity.length());
+            } else {
+                int digitStart = position;
+                long mantissa = 0;
+                boolean sawDigit = false;
+                boolean sawDecimal = false;
+                int digitCount = 0; // Number of digits since the first significant digit
+                int trailingZeroCount = 0;
+                int decimalAt = 0;
+                int exponent = 0;
+                int backup = -1;
+
+                for (; position < text.length(); position++) {
+                    char ch = text.charAt(position);
+                    int digit = toDigit(ch);
+
+                    if (digit == 0) {
+                        backup = -1;
+                        sawDigit = true;
+                        if (digitCount > 0) {
+                            digitCount++;
+                            trailingZeroCount++;
+                        } else if (sawDecimal) {
+                            // Leading zero in fractional part
+                            decimalAt--;
+                        }
+                    } else if (digit > 0) {
+                        backup = -1;
+                        sawDigit = true;
+                        digitCount++;
+                        if (digitCount <= MAX_EXACT_DIGITS) {
+                            for (int i = 0; i < trailingZeroCount; i++) {
+                                mantissa *= 10;
+                            }
+                            mantissa = mantissa * 10 + digit;
+                        }
+                        trailingZeroCount = 0;
+                    } else if (ch == decimalSeparator) {
+                        if (sawDecimal) {
+                            break;
+                        }
+                        decimalAt = digitCount;
+                        sawDecimal = true;
+                    } else if (groupingUsed && (ch == groupingSeparator)) {
+                        if (sawDecimal) {
+                            break;
+                        }
+                        // Ignore grouping separators, but only if they are followed by a digit
+                        backup = position;
+                    } else if (regionMatches(text, position, exponentSeparator)) {
+                        long parsedExponent = parseExponent(text, position + exponentSeparator.length());
+                        if (parsedExponent != NO_EXPONENT) {
+                            position = (int) (parsedExponent >>> 32);
+                            exponent = (int) parsedExponent;
+                        }
+                        break;
+                    } else {
+                        break;
+                    }
+                }
+
+                if (backup != -1) {
+                    position = backup;
+                }
+                if (!sawDecimal) {
+                    decimalAt = digitCount;
+                }
+                decimalAt += exponent;
+
+                if (!sawDigit) {
+                    pos.setErrorIndex(start);
+                } else {
+                    int significantDigitCount = digitCount - trailingZeroCount;
+                    int scale = decimalAt - significantDigitCount;
+                    if (significantDigitCount == 0) {
+                        value = 0.0;
+                    } else if ((significantDigitCount <= MAX_EXACT_DIGITS) && (scale >= 0) && (scale <
+                            EXACT_POWERS_OF_TEN.length)) {
+                        value = mantissa * EXACT_POWERS_OF_TEN[scale];
+                    } else if ((significantDigitCount <= MAX_EXACT_DIGITS) && (scale < 0) && (-scale <
+                            EXACT_POWERS_OF_TEN.length)) {
+                        value = mantissa / EXACT_POWERS_OF_TEN[-scale];
+                    } else {
+                        value = toDouble(text, digitStart, significantDigitCount, decimalAt);
+                    }
+
+                    if (negative) {
+                        value = -value;
+                    }
+                    pos.setIndex(position);
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Parses the exponent starting at the specified position.
+     *
+     * @param text     Text to be parsed.
+     * @param position Position of the first character after the exponent separator.
+     *
+     * @return Position after the exponent in the 32 upper bits and exponent in the 32 lower bits, or {@link
+     * #NO_EXPONENT} if no exponent could be parsed.
+     */
+    private long parseExponent(CharSequence text, int position) {
+        long result = NO_EXPONENT;
+
+        boolean negative = regionMatches(text, position, minusSign);
+        int current = negative ? (position + minusSign.length()) : position;
+
+        // Accumulate negatively to be able to represent Long.MIN_VALUE
+        long accumulator = 0;
+        boolean overflow = false;
+        boolean sawDigit = false;
+        for (; current < text.length(); current++) {
+            int digit = toDigit(text.charAt(current));
+            if ((digit < 0) || (digit > 9)) {
+                break;
+            }
+            sawDigit = true;
+            if (!overflow) {
+                accumulator = appendDigit(accumulator, 0, digit);
+                overflow = (accumulator > 0);
+            }
+        }
+        overflow |= (!negative && (accumulator == Long.MIN_VALUE));
+
+        if (sawDigit && !overflow) {
+            // Truncate to an int like DecimalFormat does
+            int exponent = (int) -accumulator;
+            if (negative) {
+                exponent = -exponent;
+            }
+            result = ((long) current << 32) | (exponent & 0xFFFFFFFFL);
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the digits of the specified text into a double, for the numbers that cannot be computed exactly with
+     * doubles.
+     *
+     * @param text                  Text containing the digits.
+     * @param digitStart            Position of the first digit or separator.
+     * @param significantDigitCount Number of significant digits, without leading and trailing zeros.
+     * @param decimalAt             Position of the decimal separator relatively to the first significant digit.
+     *
+     * @return Double value of the digits.
+     */
+    private double toDouble(CharSequence text, int digitStart, int significantDigitCount, int decimalAt) {
+        StringBuilder digits = new StringBuilder(significantDigitCount + 16);
+        digits.append('.');
+        // All significant digits are before the exponent, if any
+        for (int i = digitStart; digits.length() <= significantDigitCount; i++) {
+            int digit = toDigit(text.charAt(i));
+            if ((digit > 0) || ((digit == 0) && (digits.length() > 1))) {
+                digits.append((char) ('0' + digit));
+            }
+        }
+        digits.append('E').append(decimalAt);
+        return Double.parseDouble(digits.toString());
+    }
+
+    /**
+     * Gets the value of the specified character if it is a localized or Unicode decimal digit.
+     *
+     * @param ch Character.
+     *
+     * @return Value of the digit, or -1 if the character is not a digit.
+     */
+    private int toDigit(char ch) {
+        int digit = ch - zeroDigit;
+
+        if ((digit < 0) || (digit > 9)) {
+            digit = Character.digit(ch, 10);
+        }
+
+        return digit;
+    }
+
+    /**
+     * Appends the specified zeros and digit to the specified negative accumulator.
+     *
+     * @param accumulator Negative value of the digits parsed so far.
+     * @param zeroCount   Number of zeros to be appended before the digit.
+     * @param digit       Digit to be appended.
+     *
+     * @return New negative value, or 1 in case of overflow.
+     */
+    private static long appendDigit(long accumulator, int zeroCount, int digit) {
+        long result = accumulator;
+
+        for (int i = 0; (result <= 0) && (i <= zeroCount); i++) {
+            if (result < Long.MIN_VALUE / 10) {
+                result = 1;
+            } else {
+                result *= 10;
+            }
+        }
+        if (result <= 0) {
+            if (result < Long.MIN_VALUE + digit) {
+                result = 1;
+            } else {
+                result -= digit;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * States whether the specified text contains the specified string at the specified position.
+     *
+     * @param text     Text to be checked.
+     * @param position Position in the text.
+     * @param string   String to be found.
+     *
+     * @return True if the string is found at the position, false otherwise.
+     */
+    private static boolean regionMatches(CharSequence text, int position, String string) {
+        boolean matches = !string.isEmpty() && (position + string.length() <= text.length());
+
+        for (int i = 0; matches && (i < string.length()); i++) {
+            matches = (text.charAt(position + i) == string.charAt(i));
+        }
+
+        return matches;
+    }
+}
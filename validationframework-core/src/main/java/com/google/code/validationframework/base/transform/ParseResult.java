@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import java.text.Format;
+import java.text.ParsePosition;
+
+/**
+ * Result of the parsing of a text, carrying either the parsed value or the position of the error.
+ * <p>
+ * It allows a text to be parsed once and the result to be shared by several rules and transformers: for instance, a
+ * rule checking that the text could be parsed, and a range rule checking the parsed value.
+ * <p>
+ * The {@link #parse(Format, String, boolean)} method is the single parsing path used by the {@link ParseTransformer},
+ * the {@link ParseResultTransformer} and the {@link com.google.code.validationframework.base.rule.string
+ * .IsParsableRule}.
+ *
+ * @param <T> Type of parsed value.
+ *
+ * @see ParseResultTransformer
+ */
+public final class ParseResult<T> {
+
+    /**
+     * Parsed value, or null if the parsing failed.
+     */
+    private final T value;
+
+    /**
+     * Position of the error in the text, or -1 if the parsing succeeded.
+     */
+    private final int errorIndex;
+
+    /**
+     * Constructor specifying the parsed value and the position of the error.
+     *
+     * @param value      Parsed value, or null if the parsing failed.
+     * @param errorIndex Position of the error in the text, or -1 if the parsing succeeded.
+     */
+    private ParseResult(T value, int errorIndex) {
+        this.value = value;
+        this.errorIndex = errorIndex;
+    }
+
+    /**
+     * Creates a result for a successful parsing.
+     *
+     * @param value Parsed value.
+     * @param <T>   Type of parsed value.
+     *
+     * @return Successful result.
+     */
+    public static <T> ParseResult<T> success(T value) {
+        return new ParseResult<T>(value, -1);
+    }
+
+    /**
+     * Creates a result for a failed parsing.
+     *
+     * @param errorIndex Position of the error in the text.
+     * @param <T>        Type of value that was expected.
+     *
+     * @return Failed result.
+     */
+    public static <T> ParseResult<T> failure(int errorIndex) {
+        return new ParseResult<T>(null, Math.max(0, errorIndex));
+    }
+
+    /**
+     * Parses the specified text using the specified format.
+     * <p>
+     * The parsing fails if the format could not parse anything, or, in case of strict parsing, if some characters are
+     * left after the parsed value.
+     *
+     * @param parser        Format to be used to parse the text.
+     * @param text          Text to be parsed.
+     * @param strictParsing True if the whole text needs to be parsed, false otherwise.
+     * @param <T>           Type of parsed value.
+     *
+     * @return Result of the parsing.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParseResult<T> parse(Format parser, String text, boolean strictParsing) {
+        ParseResult<T> result;
+
+        ParsePosition pos = new ParsePosition(0);
+        Object object = parser.parseObject(text, pos);
+        if (pos.getIndex() == 0) {
+            result = failure(pos.getErrorIndex());
+        } else if (strictParsing && (pos.getIndex() != text.length())) {
+            result = failure(pos.getIndex());
+        } else {
+            result = success((T) object);
+        }
+
+        return result;
+    }
+
+    /**
+     * States whether the parsing succeeded.
+     *
+     * @return True if the parsing succeeded, false otherwise.
+     */
+    public boolean isSuccessful() {
+        return errorIndex < 0;
+    }
+
+    /**
+     * Gets the parsed value.
+     *
+     * @return Parsed value, or null if the parsing failed.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the position of the error in the text.
+     *
+     * @return Position of the error, or -1 if the parsing succeeded.
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * @see Object#toString()
+     */
+    @Override
+    public String toString() {
+        return isSuccessful() ? ("ParseResult[value=" + value + "]") : ("ParseResult[errorIndex=" + errorIndex +
+                "]");
+    }
+}
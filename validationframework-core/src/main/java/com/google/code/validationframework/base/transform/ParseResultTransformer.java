@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.api.property.ReadableWritableProperty;
+import com.google.code.validationframework.api.transform.Transformer;
+import com.google.code.validationframework.base.property.simple.SimpleFormatProperty;
+
+import java.text.Format;
+
+/**
+ * Transformer parsing the input text using a {@link Format} and returning a {@link ParseResult}.
+ * <p>
+ * Unlike the {@link ParseTransformer}, the result tells whether the parsing succeeded and where it failed, so that a
+ * single parsing can serve both the rules checking that the text is parsable and the rules checking the parsed value.
+ * <p>
+ * Only the result of the last parsing is cached, there is no notion of trigger wave: if the same transformer instance
+ * is used by several validators (for instance, one validator checking that a field is parsable and another one checking
+ * the range of the value), the text is parsed only once as long as these validators transform the same text one after
+ * the other. If another text is transformed in between, for instance because the instance is shared by validators
+ * reading different fields, the text will be parsed again. The cache is invalidated when the input, the parser or the
+ * strictness changes. If the parser itself is modified, call {@link #clearCache()}.
+ * <p>
+ * The input is converted into a string using its {@link Object#toString()} method, so that any character sequence can
+ * be parsed.
+ *
+ * @param <T> Type of parsed value.
+ *
+ * @see ParseResult
+ * @see ParseTransformer
+ */
+public class ParseResultTransformer<T> implements Transformer<Object, ParseResult<T>> {
+
+    /**
+     * Entry of the cache holding the last result.
+     *
+     * @param <T> Type of parsed value.
+     */
+    private static final class CacheEntry<T> {
+
+        /**
+         * Parsed text.
+         */
+        private final String text;
+
+        /**
+         * Parser used.
+         */
+        private final Format parser;
+
+        /**
+         * Strictness used.
+         */
+        private final boolean strictParsing;
+
+        /**
+         * Result of the parsing.
+         */
+        private final ParseResult<T> result;
+
+        /**
+         * Constructor specifying the parsing parameters and its result.
+         *
+         * @param text          Parsed text.
+         * @param parser        Parser used.
+         * @param strictParsing Strictness used.
+         * @param result        Result of the parsing.
+         */
+        public CacheEntry(String text, Format parser, boolean strictParsing, ParseResult<T> result) {
+            this.text = text;
+            this.parser = parser;
+            this.strictParsing = strictParsing;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Property holding the format to be used to parse the input.
+     */
+    private final ReadableWritableProperty<Format, Format> parserProperty;
+
+    /**
+     * True if the whole input needs to be parsed, false otherwise.
+     */
+    private boolean strictParsing;
+
+    /**
+     * Last parsing and its result, or null if nothing is cached.
+     */
+    private volatile CacheEntry<T> cache = null;
+
+    /**
+     * Constructor specifying the format to be used to parse the input.
+     * <p>
+     * Note that strict parsing will be used.
+     *
+     * @param parser Format to be used to parse the input.
+     */
+    public ParseResultTransformer(Format parser) {
+        this(parser, true);
+    }
+
+    /**
+     * Constructor specifying the format to be used to parse the input and whether parsing should be strict.
+     *
+     * @param parser        Format to be used to parse the input.
+     * @param strictParsing True if the whole input needs to be parsed, false otherwise.
+     */
+    public ParseResultTransformer(Format parser, boolean strictParsing) {
+        this(new SimpleFormatProperty(parser), strictParsing);
+    }
+
+    /**
+     * Constructor specifying the property holding the format to be used to parse the input and whether parsing should
+     * be strict.
+     *
+     * @param parserProperty Property holding the format to be used to parse the input.
+     * @param strictParsing  True if the whole input needs to be parsed, false otherwise.
+     */
+    public ParseResultTransformer(ReadableWritableProperty<Format, Format> parserProperty, boolean strictParsing) {
+        this.parserProperty = parserProperty;
+        this.strictParsing = strictParsing;
+    }
+
+    /**
+     * Gets the property holding the format to be used to parse the input.
+     *
+     * @return Property holding the format to be used to parse the input.
+     */
+    public ReadableWritableProperty<Format, Format> getParserProperty() {
+        return parserProperty;
+    }
+
+    /**
+     * States whether the whole input needs to be parsed.
+     *
+     * @return True if the whole input needs to be parsed, false otherwise.
+     */
+    public boolean getStrictParsing() {
+        return strictParsing;
+    }
+
+    /**
+     * Sets whether the whole input needs to be parsed.
+     *
+     * @param strictParsing True if the whole input needs to be parsed, false otherwise.
+     */
+    public void setStrictParsing(boolean strictParsing) {
+        this.strictParsing = strictParsing;
+    }
+
+    /**
+     * Clears the cached result, so that the next input will be parsed even if it is the same as the previous one.
+     */
+    public void clearCache() {
+        cache = null;
+    }
+
+    /**
+     * @see Transformer#transform(Object)
+     */
+    @Override
+    public ParseResult<T> transform(Object input) {
+        ParseResult<T> result;
+
+        Format parser = parserProperty.getValue();
+        if ((input == null) || (parser == null)) {
+            result = ParseResult.failure(0);
+        } else {
+            String text = input.toString();
+            CacheEntry<T> entry = cache;
+            if ((entry != null) && (entry.parser == parser) && (entry.strictParsing == strictParsing) && entry.text
+                    .equals(text)) {
+                result = entry.result;
+            } else {
+                result = ParseResult.parse(parser, text, strictParsing);
+                cache = new CacheEntry<T>(text, parser, strictParsing, result);
+            }
+        }
+
+        return result;
+    }
+}
@@ -30,7 +30,6 @@ import com.google.code.validationframework.api.transform.Transformer;
 import com.google.code.validationframework.base.property.simple.SimpleFormatProperty;
 
 import java.text.Format;
-import java.text.ParsePosition;
 
 /**
  * Transformer using a {@link Format} to parse the input string into an object.
@@ -41,6 +40,12 @@ import java.text.ParsePosition;
  * be 1.4.
  * <p>
  * If the format object or the input string to be parsed are null, then the output will be null.
+ * <p>
+ * If the position of the parsing error is needed, or if the parsing is to be shared by several rules, use the
+ * {@link ParseResultTransformer} instead.
+ * <p>
+ * Note that most {@link Format} implementations are not thread-safe. If this transformer is used by several threads,
+ * give it a {@link com.google.code.validationframework.base.utils.PooledFormat}.
  *
  * @param <O> Type of parsed object.
  *
@@ -165,12 +170,11 @@ public class ParseTransformer<O> implements Transformer<String, O> {
 
         if ((input != null) && (parserProperty.getValue() != null)) {
             // Parse
-            ParsePosition pos = new ParsePosition(0);
-            Object object = parserProperty.getValue().parseObject(input, pos);
+            ParseResult<Object> result = ParseResult.parse(parserProperty.getValue(), input, strictParsing);
 
             // Cast if valid
-            if ((pos.getIndex() != 0) && (!strictParsing || (pos.getIndex() == input.length()))) {
-                value = typeTransformer.transform(object);
+            if (result.isSuccessful()) {
+                value = typeTransformer.transform(result.getValue());
             }
         }
 
@@ -125,7 +125,8 @@ public abstract class AbstractTrigger implements Trigger, Disposable {
      */
     @Override
     public void dispose() {
-        for (TriggerListener listener : listeners) {
+        // Iterate over a copy because disposing a listener may unregister it
+        for (TriggerListener listener : new ArrayList<TriggerListener>(listeners)) {
             if (listener instanceof Disposable) {
                 ((Disposable) listener).dispose();
             }
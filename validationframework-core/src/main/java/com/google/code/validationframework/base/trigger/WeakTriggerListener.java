@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.trigger;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.trigger.Trigger;
+import com.google.code.validationframework.api.trigger.TriggerEvent;
+import com.google.code.validationframework.api.trigger.TriggerListener;
+import com.google.code.validationframework.base.common.ReferenceSweeper;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Trigger listener forwarding the trigger events to a delegate listener that is only referenced weakly.
+ * <p>
+ * This allows a long-lived trigger to initiate the validation of a short-lived validator without preventing its garbage
+ * collection, for instance, when the validator belongs to a dialog that is closed without being disposed. Once the
+ * delegate listener has been garbage collected, this weak listener unregisters itself from the trigger when the {@link
+ * ReferenceSweeper} sweeps.
+ * <p>
+ * Note that the delegate listener must be strongly referenced elsewhere (typically by its owner) for as long as it
+ * needs to be notified.
+ * <p>
+ * The weak listener registers itself on the trigger at construction time.
+ *
+ * @see ReferenceSweeper
+ */
+public class WeakTriggerListener implements TriggerListener, Disposable {
+
+    /**
+     * Trigger to which this listener is registered.
+     */
+    private Trigger trigger;
+
+    /**
+     * Weak reference to the delegate listener.
+     */
+    private final WeakReference<TriggerListener> delegate;
+
+    /**
+     * Constructor specifying the trigger to listen to and the delegate listener to be referenced weakly.
+     *
+     * @param trigger  Trigger to listen to.
+     * @param delegate Listener to be notified as long as it is not garbage collected.
+     */
+    public WeakTriggerListener(Trigger trigger, TriggerListener delegate) {
+        this.trigger = trigger;
+        this.delegate = ReferenceSweeper.track(delegate, this);
+        trigger.addTriggerListener(this);
+    }
+
+    /**
+     * Gets the delegate listener.
+     *
+     * @return Delegate listener, or null if it has been garbage collected.
+     */
+    public TriggerListener getDelegate() {
+        return delegate.get();
+    }
+
+    /**
+     * @see TriggerListener#triggerValidation(TriggerEvent)
+     */
+    @Override
+    public void triggerValidation(TriggerEvent event) {
+        // Do not unregister here because the trigger may be iterating over its listeners
+        TriggerListener listener = delegate.get();
+        if (listener != null) {
+            listener.triggerValidation(event);
+        }
+    }
+
+    /**
+     * Unregisters this listener from the trigger.
+     *
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (trigger != null) {
+            trigger.removeTriggerListener(this);
+            trigger = null;
+        }
+        delegate.clear();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Abstract executor batching the tasks to be run on a UI thread.
+ * <p>
+ * Instead of posting one runnable per task to the event queue of the UI toolkit, the tasks are appended to a single
+ * queue, and only one drain task is posted at a time to run all the queued tasks in order. This prevents bulk updates
+ * from flooding the event queue with thousands of small runnables, delaying the input and paint events.
+ * <p>
+ * Optionally, a maximum drain time can be set. When it is exceeded, the remaining tasks are left in the queue and a new
+ * drain task is posted, so that the event loop can process the other events in between.
+ * <p>
+ * Each drain only runs the tasks that were queued when it started: the tasks queued in the meantime are run by the
+ * next drain, posted behind the events already in the event queue.
+ * <p>
+ * A task throwing an exception does not prevent the other tasks from being run: the exception is logged.
+ * <p>
+ * This class is thread-safe: tasks can be submitted from any thread.
+ */
+public abstract class AbstractBatchingDispatcher implements Executor {
+
+    /**
+     * Value meaning that there is no limit on the drain time.
+     */
+    public static final long UNLIMITED = 0;
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractBatchingDispatcher.class);
+
+    /**
+     * Tasks waiting to be run on the UI thread.
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+    /**
+     * Number of tasks in the queue.
+     * <p>
+     * It is incremented after a task is added and decremented after a task is removed, so that it never exceeds the
+     * number of tasks actually in the queue.
+     */
+    private final AtomicInteger pendingTaskCount = new AtomicInteger(0);
+
+    /**
+     * Flag indicating whether a drain task is posted or running.
+     */
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    /**
+     * Task running the queued tasks on the UI thread.
+     */
+    private final Runnable drainTask = new Runnable() {
+
+        /**
+         * @see Runnable#run()
+         */
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    /**
+     * Maximum time in milliseconds to be spent running tasks in one drain, or {@link #UNLIMITED}.
+     */
+    private volatile long maxDrainTime = UNLIMITED;
+
+    /**
+     * Gets the maximum time to be spent running tasks before yielding back to the event loop.
+     *
+     * @return Maximum drain time in milliseconds, or {@link #UNLIMITED}.
+     */
+    public long getMaxDrainTime() {
+        return maxDrainTime;
+    }
+
+    /**
+     * Sets the maximum time to be spent running tasks before yielding back to the event loop.
+     * <p>
+     * Note that a running task is never interrupted: the limit is checked between tasks.
+     *
+     * @param maxDrainTime Maximum drain time in milliseconds, or {@link #UNLIMITED}.
+     */
+    public void setMaxDrainTime(long maxDrainTime) {
+        if (maxDrainTime < 0) {
+            throw new IllegalArgumentException("Maximum drain time cannot be negative: " + maxDrainTime);
+        }
+        this.maxDrainTime = maxDrainTime;
+    }
+
+    /**
+     * Gets the number of tasks waiting to be run.
+     *
+     * @return Number of queued tasks.
+     */
+    public int getPendingTaskCount() {
+        return pendingTaskCount.get();
+    }
+
+    /**
+     * States whether the calling thread is the UI thread on which the tasks are run.
+     *
+     * @return True if the calling thread is the UI thread, false otherwise.
+     */
+    public abstract boolean isDispatchThread();
+
+    /**
+     * Posts the specified task to the event queue of the UI toolkit.
+     *
+     * @param task Task to be run later on the UI thread.
+     */
+    protected abstract void post(Runnable task);
+
+    /**
+     * Queues the specified task to be run later on the UI thread.
+     * <p>
+     * The task will be run after all the tasks already queued, even if the calling thread is the UI thread.
+     *
+     * @see Executor#execute(Runnable)
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+        tasks.add(task);
+        pendingTaskCount.incrementAndGet();
+        scheduleDrain();
+    }
+
+    /**
+     * Posts the drain task, unless it is already posted or running.
+     */
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                post(drainTask);
+            } catch (RuntimeException e) {
+                // Allow the next task to retry
+                drainScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks that were queued when the drain started, until they have all been run or the maximum drain time is
+     * exceeded.
+     * <p>
+     * The tasks queued in the meantime, for instance by the tasks themselves, are left for the next drain, which is
+     * posted behind the events already in the event queue. This preserves the "later" semantics of the tasks submitted
+     * from the UI thread, and prevents a task re-submitting itself from blocking the event loop.
+     */
+    private void drain() {
+        long budget = maxDrainTime;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget);
+
+        try {
+            int remaining = pendingTaskCount.get();
+            boolean expired = false;
+            while ((remaining > 0) && !expired) {
+                Runnable task = tasks.poll();
+                pendingTaskCount.decrementAndGet();
+                remaining--;
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    // Do not let one task prevent the other ones from being run
+                    LOGGER.error("Task failed: " + task, e);
+                }
+                expired = (budget != UNLIMITED) && ((System.nanoTime() - deadline) > 0);
+            }
+        } finally {
+            // Even if a task threw an error, post a new drain for the remaining tasks
+            drainScheduled.set(false);
+            if (pendingTaskCount.get() > 0) {
+                scheduleDrain();
+            }
+        }
+    }
+}
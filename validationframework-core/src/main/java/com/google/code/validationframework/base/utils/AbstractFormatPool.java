@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import java.text.Format;
+
+/**
+ * Abstract implementation of a {@link FormatPool} creating its format objects by cloning a prototype.
+ * <p>
+ * The prototype itself is never used for formatting or parsing, so it should not be modified once the pool is created.
+ */
+public abstract class AbstractFormatPool implements FormatPool {
+
+    /**
+     * Format object from which all pooled format objects are cloned.
+     */
+    private final Format prototype;
+
+    /**
+     * Constructor specifying the prototype from which all pooled format objects will be cloned.
+     *
+     * @param prototype Format object to be cloned.
+     */
+    public AbstractFormatPool(Format prototype) {
+        if (prototype == null) {
+            throw new IllegalArgumentException("Prototype format cannot be null");
+        }
+        this.prototype = prototype;
+    }
+
+    /**
+     * Gets the prototype from which all pooled format objects are cloned.
+     *
+     * @return Format object to be cloned.
+     */
+    public Format getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * Creates a new format object by cloning the prototype.
+     *
+     * @return New format object.
+     */
+    protected Format createFormat() {
+        Format format;
+
+        synchronized (prototype) {
+            format = (Format) prototype.clone();
+        }
+
+        return format;
+    }
+}
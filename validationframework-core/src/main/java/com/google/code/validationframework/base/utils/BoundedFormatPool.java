@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import java.text.Format;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Format pool keeping a bounded number of clones of a prototype format object.
+ * <p>
+ * When no idle format object is available, a new clone is created, so that acquiring a format object never blocks.
+ * When a format object is released while the pool already holds the maximum number of idle format objects, it is simply
+ * discarded. This pool is well suited for short-lived or numerous threads, for which a {@link ThreadLocalFormatPool}
+ * would keep too many clones.
+ *
+ * @see ThreadLocalFormatPool
+ */
+public class BoundedFormatPool extends AbstractFormatPool {
+
+    /**
+     * Default maximum number of idle format objects.
+     */
+    private static final int DEFAULT_MAX_IDLE_COUNT = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Idle format objects.
+     */
+    private final Queue<Format> idleFormats;
+
+    /**
+     * Constructor specifying the prototype from which all pooled format objects will be cloned.
+     * <p>
+     * By default, the pool will keep at most twice as many idle format objects as there are available processors.
+     *
+     * @param prototype Format object to be cloned.
+     */
+    public BoundedFormatPool(Format prototype) {
+        this(prototype, DEFAULT_MAX_IDLE_COUNT);
+    }
+
+    /**
+     * Constructor specifying the prototype from which all pooled format objects will be cloned and the maximum number
+     * of idle format objects to be kept.
+     *
+     * @param prototype    Format object to be cloned.
+     * @param maxIdleCount Maximum number of idle format objects to be kept.
+     */
+    public BoundedFormatPool(Format prototype, int maxIdleCount) {
+        super(prototype);
+        if (maxIdleCount <= 0) {
+            throw new IllegalArgumentException("Maximum number of idle formats must be positive: " + maxIdleCount);
+        }
+        idleFormats = new ArrayBlockingQueue<Format>(maxIdleCount);
+    }
+
+    /**
+     * Gets the number of format objects currently idle in the pool.
+     *
+     * @return Number of idle format objects.
+     */
+    public int getIdleCount() {
+        return idleFormats.size();
+    }
+
+    /**
+     * @see FormatPool#acquire()
+     */
+    @Override
+    public Format acquire() {
+        Format format = idleFormats.poll();
+
+        if (format == null) {
+            format = createFormat();
+        }
+
+        return format;
+    }
+
+    /**
+     * @see FormatPool#release(Format)
+     */
+    @Override
+    public void release(Format format) {
+        if (format != null) {
+            // Discard the format object if the pool is full
+            idleFormats.offer(format);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import java.text.Format;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Utility class providing cached and thread-safe date formats.
+ * <p>
+ * The formats are {@link PooledFormat}s of non-lenient {@link SimpleDateFormat}s, created once for each pattern,
+ * locale and time zone, and then shared by all callers. Creating a {@link SimpleDateFormat} is expensive (the pattern
+ * has to be compiled and the localized symbols loaded), so the formats are kept for the lifetime of the application:
+ * this is intended for the small set of patterns used by an application, not for patterns built dynamically from user
+ * input.
+ */
+public final class DateFormats {
+
+    /**
+     * Cached formats by pattern, locale and time zone.
+     */
+    private static final ConcurrentMap<String, Format> FORMATS = new ConcurrentHashMap<String, Format>();
+
+    /**
+     * Private constructor for utility class.
+     */
+    private DateFormats() {
+        // Nothing to be done
+    }
+
+    /**
+     * Gets the thread-safe date format for the specified pattern, using the default locale and time zone.
+     *
+     * @param pattern Pattern as accepted by {@link SimpleDateFormat}.
+     *
+     * @return Thread-safe date format.
+     */
+    public static Format getDateFormat(String pattern) {
+        return getDateFormat(pattern, Locale.getDefault(), TimeZone.getDefault());
+    }
+
+    /**
+     * Gets the thread-safe date format for the specified pattern and locale, using the default time zone.
+     *
+     * @param pattern Pattern as accepted by {@link SimpleDateFormat}.
+     * @param locale  Locale whose symbols are to be used.
+     *
+     * @return Thread-safe date format.
+     */
+    public static Format getDateFormat(String pattern, Locale locale) {
+        return getDateFormat(pattern, locale, TimeZone.getDefault());
+    }
+
+    /**
+     * Gets the thread-safe date format for the specified pattern, locale and time zone.
+     *
+     * @param pattern  Pattern as accepted by {@link SimpleDateFormat}.
+     * @param locale   Locale whose symbols are to be used.
+     * @param timeZone Time zone in which the dates are to be interpreted.
+     *
+     * @return Thread-safe date format.
+     */
+    public static Format getDateFormat(String pattern, Locale locale, TimeZone timeZone) {
+        String key = pattern + '\u0000' + locale + '\u0000' + timeZone.getID();
+
+        Format format = FORMATS.get(key);
+        if (format == null) {
+            SimpleDateFormat prototype = new SimpleDateFormat(pattern, locale);
+            prototype.setTimeZone(timeZone);
+            prototype.setLenient(false);
+            format = new PooledFormat(prototype);
+
+            Format existingFormat = FORMATS.putIfAbsent(key, format);
+            if (existingFormat != null) {
+                format = existingFormat;
+            }
+        }
+
+        return format;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import java.text.Format;
+
+/**
+ * Interface to be implemented by pools of {@link Format} objects.
+ * <p>
+ * Most {@link Format} implementations (for instance {@link java.text.DecimalFormat} and {@link
+ * java.text.SimpleDateFormat}) are not thread-safe. A pool provides each caller with a format object that is not used
+ * concurrently by any other thread, until it is released.
+ * <p>
+ * Typically, a pool will be used through a {@link PooledFormat}, that can then be shared by several threads and given
+ * to the transformers, rules and properties expecting a {@link Format}.
+ *
+ * @see PooledFormat
+ * @see ThreadLocalFormatPool
+ * @see BoundedFormatPool
+ */
+public interface FormatPool {
+
+    /**
+     * Gets a format object that will not be used by any other thread until it is released.
+     *
+     * @return Format object.
+     */
+    Format acquire();
+
+    /**
+     * Gives back the specified format object, previously acquired from this pool, so that it can be re-used.
+     *
+     * @param format Format object previously acquired from this pool.
+     */
+    void release(Format format);
+}
@@ -53,6 +53,9 @@ import java.text.ParsePosition;
  * a number format, for example, that does not return always the same type of parsed {@link java.lang.Number} (sometimes
  * a Long, sometimes a Double, sometimes an Integer, etc.). So this wrapper makes sure that the type of output is always
  * the same, what can be more convenient to applications.
+ * <p>
+ * The wrapper is only as thread-safe as its delegate format. To use it from several threads, wrap a {@link
+ * PooledFormat}.
  *
  * @param <T> Type of parsed objects.
  *
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import java.text.AttributedCharacterIterator;
+import java.text.FieldPosition;
+import java.text.Format;
+import java.text.ParsePosition;
+
+/**
+ * Thread-safe {@link Format} delegating the formatting and the parsing to format objects taken from a {@link
+ * FormatPool}.
+ * <p>
+ * It can be shared by several threads and given to anything expecting a {@link Format}, for instance a {@link
+ * com.google.code.validationframework.base.transform.ParseTransformer}, a {@link
+ * com.google.code.validationframework.base.transform.FormatTransformer}, a {@link FormatWrapper} or a {@link
+ * com.google.code.validationframework.base.property.simple.SimpleFormatProperty}.
+ * <p>
+ * Note that this format object cannot be serialized, because the pools are not serializable.
+ *
+ * @see FormatPool
+ */
+public class PooledFormat extends Format {
+
+    /**
+     * Generated serial UID.
+     */
+    private static final long serialVersionUID = -5094358206374516718L;
+
+    /**
+     * Pool providing the format objects to be used.
+     */
+    private final FormatPool pool;
+
+    /**
+     * Constructor specifying the prototype format object, to be cloned for each thread.
+     *
+     * @param prototype Format object to be cloned for each thread.
+     *
+     * @see ThreadLocalFormatPool
+     */
+    public PooledFormat(Format prototype) {
+        this(new ThreadLocalFormatPool(prototype));
+    }
+
+    /**
+     * Constructor specifying the pool providing the format objects to be used.
+     *
+     * @param pool Pool providing the format objects to be used.
+     */
+    public PooledFormat(FormatPool pool) {
+        super();
+        if (pool == null) {
+            throw new IllegalArgumentException("Format pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Gets the pool providing the format objects to be used.
+     *
+     * @return Pool providing the format objects.
+     */
+    public FormatPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @see Format#format(Object, StringBuffer, FieldPosition)
+     */
+    @Override
+    public StringBuffer format(Object obj, StringBuffer toAppendTo, FieldPosition pos) {
+        Format format = pool.acquire();
+        try {
+            return format.format(obj, toAppendTo, pos);
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    /**
+     * @see Format#formatToCharacterIterator(Object)
+     */
+    @Override
+    public AttributedCharacterIterator formatToCharacterIterator(Object obj) {
+        Format format = pool.acquire();
+        try {
+            return format.formatToCharacterIterator(obj);
+        } finally {
+            pool.release(format);
+        }
+    }
+
+    /**
+     * @see Format#parseObject(String, ParsePosition)
+     */
+    @Override
+    public Object parseObject(String source, ParsePosition pos) {
+        Format format = pool.acquire();
+        try {
+            return format.parseObject(source, pos);
+        } finally {
+            pool.release(format);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import java.text.Format;
+
+/**
+ * Format pool providing each thread with its own clone of a prototype format object.
+ * <p>
+ * Acquiring and releasing a format object does not involve any locking, so this pool is well suited for a limited set
+ * of long-lived threads, like the threads of an executor. However, a clone is kept for each thread that ever used the
+ * pool, as long as the thread and the pool are alive.
+ *
+ * @see BoundedFormatPool
+ */
+public class ThreadLocalFormatPool extends AbstractFormatPool {
+
+    /**
+     * Format objects of the threads.
+     */
+    private final ThreadLocal<Format> formats = new ThreadLocal<Format>() {
+
+        /**
+         * @see ThreadLocal#initialValue()
+         */
+        @Override
+        protected Format initialValue() {
+            return createFormat();
+        }
+    };
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see AbstractFormatPool#AbstractFormatPool(Format)
+     */
+    public ThreadLocalFormatPool(Format prototype) {
+        super(prototype);
+    }
+
+    /**
+     * @see FormatPool#acquire()
+     */
+    @Override
+    public Format acquire() {
+        return formats.get();
+    }
+
+    /**
+     * @see FormatPool#release(Format)
+     */
+    @Override
+    public void release(Format format) {
+        // Nothing to be done because the format object remains attached to the thread
+    }
+}
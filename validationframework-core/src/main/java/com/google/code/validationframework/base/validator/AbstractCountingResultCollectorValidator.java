@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import com.google.code.validationframework.api.trigger.TriggerEvent;
+import com.google.code.validationframework.api.trigger.TriggerListener;
+import com.google.code.validationframework.base.resulthandler.ResultCollector;
+import com.google.code.validationframework.base.utils.ValueUtils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abstract implementation of a validator aggregating the boolean results collected from other validators, by counting
+ * them incrementally.
+ * <p>
+ * Unlike the {@link ResultCollectorValidator}, which reads the data of all its result collectors and aggregates them
+ * each time one of them is triggered, this validator keeps the last result of each result collector, as well as the
+ * number of true, false and null results. When a result collector is triggered, only its own result is read and the
+ * counts are updated by difference, so that the aggregated result is computed in constant time whatever the number of
+ * result collectors. This makes it suitable for page-level indicators (for instance, "all fields valid") over a large
+ * number of field validators.
+ * <p>
+ * The aggregated result is passed to the result handlers each time one of the result collectors is triggered.
+ * <p>
+ * Note that, like the other validators, this validator is not thread-safe.
+ *
+ * @see AndResultCollectorValidator
+ * @see OrResultCollectorValidator
+ * @see ResultCollector
+ */
+public abstract class AbstractCountingResultCollectorValidator implements Disposable {
+
+    /**
+     * Listener to the result collectors, updating the counts and processing the aggregated result.
+     */
+    private class ResultCollectorAdapter implements TriggerListener {
+
+        /**
+         * @see TriggerListener#triggerValidation(TriggerEvent)
+         */
+        @Override
+        public void triggerValidation(TriggerEvent event) {
+            Object source = event.getSource();
+            ResultCollector<?, Boolean> resultCollector = resultCollectors.get(source);
+            if (resultCollector != null) {
+                updateResult(resultCollector);
+                processResult(getResult());
+            }
+        }
+    }
+
+    /**
+     * Result collectors, mapped by themselves to be looked up by the source of their trigger events.
+     */
+    private final Map<Object, ResultCollector<?, Boolean>> resultCollectors = new IdentityHashMap<Object,
+            ResultCollector<?, Boolean>>();
+
+    /**
+     * Last result read from each result collector.
+     */
+    private final Map<ResultCollector<?, Boolean>, Boolean> lastResults = new IdentityHashMap<ResultCollector<?,
+            Boolean>, Boolean>();
+
+    /**
+     * Result handlers to process the aggregated result.
+     */
+    private final List<ResultHandler<Boolean>> resultHandlers = new ArrayList<ResultHandler<Boolean>>();
+
+    /**
+     * Listener to all the result collectors.
+     */
+    private final TriggerListener resultCollectorAdapter = new ResultCollectorAdapter();
+
+    /**
+     * Aggregated result when there is no result collector.
+     */
+    private final Boolean emptyCollectionValue;
+
+    /**
+     * Value to be used for the null results, or null to ignore them.
+     */
+    private final Boolean nullElementValue;
+
+    /**
+     * Number of result collectors whose last result is true.
+     */
+    private int trueCount = 0;
+
+    /**
+     * Number of result collectors whose last result is false.
+     */
+    private int falseCount = 0;
+
+    /**
+     * Number of result collectors whose last result is null.
+     */
+    private int nullCount = 0;
+
+    /**
+     * Constructor specifying the boolean values to be used when there is no result collector and for null results.
+     *
+     * @param emptyCollectionValue Aggregated result when there is no result collector.
+     * @param nullElementValue     Value to be used for the null results.<br>
+     *                             If this value is set to null, then the null results will be ignored.
+     */
+    public AbstractCountingResultCollectorValidator(Boolean emptyCollectionValue, Boolean nullElementValue) {
+        this.emptyCollectionValue = emptyCollectionValue;
+        this.nullElementValue = nullElementValue;
+    }
+
+    /**
+     * Adds the specified result collector.
+     * <p>
+     * Its current result is counted immediately, but the result handlers are only called when one of the result
+     * collectors is triggered.
+     *
+     * @param resultCollector Result collector being a result handler for another validator.
+     */
+    public void addResultCollector(ResultCollector<?, Boolean> resultCollector) {
+        if ((resultCollector != null) && !resultCollectors.containsKey(resultCollector)) {
+            resultCollectors.put(resultCollector, resultCollector);
+            Boolean result = resultCollector.getData();
+            lastResults.put(resultCollector, result);
+            count(result, 1);
+            resultCollector.addTriggerListener(resultCollectorAdapter);
+        }
+    }
+
+    /**
+     * Removes the specified result collector.
+     *
+     * @param resultCollector Result collector being a result handler for another validator.
+     */
+    public void removeResultCollector(ResultCollector<?, Boolean> resultCollector) {
+        if (resultCollectors.remove(resultCollector) != null) {
+            resultCollector.removeTriggerListener(resultCollectorAdapter);
+            count(lastResults.remove(resultCollector), -1);
+        }
+    }
+
+    /**
+     * Gets the number of result collectors.
+     *
+     * @return Number of result collectors.
+     */
+    public int getResultCollectorCount() {
+        return resultCollectors.size();
+    }
+
+    /**
+     * Adds the specified result handler to process the aggregated result.
+     *
+     * @param resultHandler Result handler to be added.
+     */
+    public void addResultHandler(ResultHandler<Boolean> resultHandler) {
+        resultHandlers.add(resultHandler);
+    }
+
+    /**
+     * Removes the specified result handler.
+     *
+     * @param resultHandler Result handler to be removed.
+     */
+    public void removeResultHandler(ResultHandler<Boolean> resultHandler) {
+        resultHandlers.remove(resultHandler);
+    }
+
+    /**
+     * Gets the number of result collectors whose last result is true.
+     *
+     * @return Number of true results.
+     */
+    public int getTrueCount() {
+        return trueCount;
+    }
+
+    /**
+     * Gets the number of result collectors whose last result is false.
+     *
+     * @return Number of false results.
+     */
+    public int getFalseCount() {
+        return falseCount;
+    }
+
+    /**
+     * Gets the number of result collectors whose last result is null.
+     *
+     * @return Number of null results.
+     */
+    public int getNullCount() {
+        return nullCount;
+    }
+
+    /**
+     * Gets the aggregated result of all the result collectors.
+     * <p>
+     * This costs O(1) as it only relies on the counts.
+     *
+     * @return Aggregated result.
+     */
+    public Boolean getResult() {
+        Boolean result;
+
+        if (resultCollectors.isEmpty()) {
+            result = emptyCollectionValue;
+        } else {
+            int effectiveTrueCount = trueCount;
+            int effectiveFalseCount = falseCount;
+            if (Boolean.TRUE.equals(nullElementValue)) {
+                effectiveTrueCount += nullCount;
+            } else if (Boolean.FALSE.equals(nullElementValue)) {
+                effectiveFalseCount += nullCount;
+            }
+            result = aggregate(effectiveTrueCount, effectiveFalseCount);
+        }
+
+        return result;
+    }
+
+    /**
+     * Aggregates the results from their counts.
+     *
+     * @param effectiveTrueCount  Number of true results, including the null results counted as true.
+     * @param effectiveFalseCount Number of false results, including the null results counted as false.
+     *
+     * @return Aggregated result.
+     */
+    protected abstract Boolean aggregate(int effectiveTrueCount, int effectiveFalseCount);
+
+    /**
+     * Reads the result of the specified result collector and updates the counts if it changed.
+     *
+     * @param resultCollector Triggered result collector.
+     */
+    private void updateResult(ResultCollector<?, Boolean> resultCollector) {
+        Boolean oldResult = lastResults.get(resultCollector);
+        Boolean newResult = resultCollector.getData();
+        if (!ValueUtils.areEqual(oldResult, newResult)) {
+            lastResults.put(resultCollector, newResult);
+            count(oldResult, -1);
+            count(newResult, 1);
+        }
+    }
+
+    /**
+     * Updates the count corresponding to the specified result.
+     *
+     * @param result Result to be counted.
+     * @param delta  Difference to be applied to the count.
+     */
+    private void count(Boolean result, int delta) {
+        if (result == null) {
+            nullCount += delta;
+        } else if (result) {
+            trueCount += delta;
+        } else {
+            falseCount += delta;
+        }
+    }
+
+    /**
+     * Handles the specified aggregated result using all result handlers.
+     *
+     * @param aggregatedResult Aggregated result to be processed by all result handlers.
+     */
+    protected void processResult(Boolean aggregatedResult) {
+        for (ResultHandler<Boolean> resultHandler : resultHandlers) {
+            resultHandler.handleResult(aggregatedResult);
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        for (ResultCollector<?, Boolean> resultCollector : resultCollectors.values()) {
+            resultCollector.removeTriggerListener(resultCollectorAdapter);
+        }
+        resultCollectors.clear();
+        lastResults.clear();
+        resultHandlers.clear();
+        trueCount = 0;
+        falseCount = 0;
+        nullCount = 0;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.rule.Rule;
+import com.google.code.validationframework.base.property.simple.SimpleBooleanProperty;
+import com.google.code.validationframework.base.property.simple.SimpleIntegerProperty;
+import com.google.code.validationframework.base.property.wrap.ReadOnlyPropertyWrapper;
+
+/**
+ * Abstract implementation of a validator checking each element of a collection property separately against a rule.
+ * <p>
+ * Instead of transforming and validating the whole collection on each change, the sub-classes listen to the change
+ * events of the collection property and only validate the added or changed elements. The result of each element is
+ * kept, and the number of invalid elements is maintained incrementally, so that the aggregated result is always
+ * available without going through all the elements.
+ * <p>
+ * An element is considered valid if the rule returns {@link Boolean#TRUE} for it, and invalid otherwise (including
+ * if the rule returns null).
+ * <p>
+ * Note that, like the properties, the element validators are not thread-safe: the collection property should always be
+ * modified from the same thread.
+ *
+ * @param <E> Type of elements to be validated.
+ *
+ * @see ListElementValidator
+ * @see SetElementValidator
+ * @see MapValueValidator
+ */
+public abstract class AbstractElementValidator<E> implements Disposable {
+
+    /**
+     * Rule checking each element.
+     */
+    protected final Rule<? super E, Boolean> rule;
+
+    /**
+     * Number of invalid elements.
+     */
+    private final SimpleIntegerProperty invalidCount = new SimpleIntegerProperty(0);
+
+    /**
+     * Flag stating whether all elements are valid.
+     */
+    private final SimpleBooleanProperty allValid = new SimpleBooleanProperty(true);
+
+    /**
+     * Read-only view of the number of invalid elements.
+     */
+    private final ReadOnlyPropertyWrapper<Integer> invalidCountView = new ReadOnlyPropertyWrapper<Integer>
+            (invalidCount);
+
+    /**
+     * Read-only view of the flag stating whether all elements are valid.
+     */
+    private final ReadOnlyPropertyWrapper<Boolean> allValidView = new ReadOnlyPropertyWrapper<Boolean>(allValid);
+
+    /**
+     * Constructor specifying the rule checking each element.
+     *
+     * @param rule Rule checking each element.
+     */
+    public AbstractElementValidator(Rule<? super E, Boolean> rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Validates the specified element.
+     *
+     * @param element Element to be validated.
+     *
+     * @return Result of the rule for the element.
+     */
+    protected Boolean validate(E element) {
+        return rule.validate(element);
+    }
+
+    /**
+     * States whether the specified result means that the element is invalid.
+     *
+     * @param result Result of the rule for an element.
+     *
+     * @return 1 if the element is invalid, 0 otherwise.
+     */
+    protected static int countInvalid(Boolean result) {
+        return Boolean.TRUE.equals(result) ? 0 : 1;
+    }
+
+    /**
+     * Updates the number of invalid elements and notifies the listeners of the aggregated result properties.
+     * <p>
+     * This method is to be called by concrete sub-classes once for each change event of the collection property.
+     *
+     * @param delta Number of elements that became invalid, minus the number of elements that became valid or that were
+     *              invalid and have been removed.
+     */
+    protected void updateInvalidCount(int delta) {
+        if (delta != 0) {
+            int count = invalidCount.getValue() + delta;
+            invalidCount.setValue(count);
+            allValid.setValue(count == 0);
+        }
+    }
+
+    /**
+     * Gets the number of invalid elements.
+     *
+     * @return Number of invalid elements.
+     */
+    public int getInvalidCount() {
+        return invalidCount.getValue();
+    }
+
+    /**
+     * States whether all elements are valid.
+     *
+     * @return True if all elements are valid or if there is no element, false otherwise.
+     */
+    public boolean isAllValid() {
+        return allValid.getValue();
+    }
+
+    /**
+     * Gets the read-only property holding the number of invalid elements.
+     *
+     * @return Property that can be bound to the rest of the application.
+     */
+    public ReadableProperty<Integer> getInvalidCountProperty() {
+        return invalidCountView;
+    }
+
+    /**
+     * Gets the read-only property stating whether all elements are valid.
+     *
+     * @return Property that can be bound to the rest of the application, for instance to enable a button.
+     */
+    public ReadableProperty<Boolean> getAllValidProperty() {
+        return allValidView;
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        invalidCountView.dispose();
+        allValidView.dispose();
+    }
+}
@@ -33,6 +33,7 @@ import com.google.code.validationframework.api.trigger.Trigger;
 import com.google.code.validationframework.api.trigger.TriggerEvent;
 import com.google.code.validationframework.api.trigger.TriggerListener;
 import com.google.code.validationframework.api.validator.MappableValidator;
+import com.google.code.validationframework.base.common.LeakDetector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -127,6 +128,17 @@ public abstract class AbstractMappableValidator<T extends Trigger, DP extends Da
      */
     protected final Map<R, List<RH>> rulesToResultHandlers = new HashMap<R, List<RH>>();
 
+    /**
+     * Default constructor.
+     * <p>
+     * If leak detection is enabled, the validator will be tracked until it is disposed.
+     *
+     * @see LeakDetector
+     */
+    public AbstractMappableValidator() {
+        LeakDetector.track(this);
+    }
+
     /**
      * Registers a trigger listener to start the validation flow.<br>If a trigger listener was already previously
      * registered, calling this method will have no effect.
@@ -304,6 +316,8 @@ public abstract class AbstractMappableValidator<T extends Trigger, DP extends Da
      */
     @Override
     public void dispose() {
+        LeakDetector.untrack(this);
+
         disposeTriggersAndDataProviders();
         disposeDataProvidersAndRules();
         disposeRulesAndResultHandlers();
@@ -33,6 +33,7 @@ import com.google.code.validationframework.api.trigger.Trigger;
 import com.google.code.validationframework.api.trigger.TriggerEvent;
 import com.google.code.validationframework.api.trigger.TriggerListener;
 import com.google.code.validationframework.api.validator.SimpleValidator;
+import com.google.code.validationframework.base.common.LeakDetector;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -122,6 +123,17 @@ public abstract class AbstractSimpleValidator<T extends Trigger, DP extends Data
      */
     protected final List<RH> resultHandlers = new ArrayList<RH>();
 
+    /**
+     * Default constructor.
+     * <p>
+     * If leak detection is enabled, the validator will be tracked until it is disposed.
+     *
+     * @see LeakDetector
+     */
+    public AbstractSimpleValidator() {
+        LeakDetector.track(this);
+    }
+
     /**
      * Gets the triggers known to this validator.
      *
@@ -244,6 +256,8 @@ public abstract class AbstractSimpleValidator<T extends Trigger, DP extends Data
      */
     @Override
     public void dispose() {
+        LeakDetector.untrack(this);
+
         // Disconnect all installed triggers
         for (T trigger : triggers) {
             // Disconnect trigger adapter and forget about the trigger
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.property.ListValueChangeListener;
+import com.google.code.validationframework.api.property.ReadableListProperty;
+import com.google.code.validationframework.api.rule.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validator checking each element of a list property separately against a rule.
+ * <p>
+ * Only the added and changed elements are validated. The results are kept by index, and shifted when elements are
+ * inserted or removed, so that they always match the elements of the list property.
+ *
+ * @param <E> Type of elements to be validated.
+ *
+ * @see AbstractElementValidator
+ */
+public class ListElementValidator<E> extends AbstractElementValidator<E> implements ListValueChangeListener<E> {
+
+    /**
+     * List property whose elements are validated.
+     */
+    private final ReadableListProperty<E> listProperty;
+
+    /**
+     * Results of the elements, by index.
+     */
+    private final List<Boolean> results = new ArrayList<Boolean>();
+
+    /**
+     * Read-only view of the results.
+     */
+    private final List<Boolean> unmodifiableResults = Collections.unmodifiableList(results);
+
+    /**
+     * Constructor specifying the list property whose elements are to be validated and the rule checking each element.
+     * <p>
+     * The current elements of the list property are validated immediately.
+     *
+     * @param listProperty List property whose elements are to be validated.
+     * @param rule         Rule checking each element.
+     */
+    public ListElementValidator(ReadableListProperty<E> listProperty, Rule<? super E, Boolean> rule) {
+        super(rule);
+        this.listProperty = listProperty;
+
+        int delta = 0;
+        for (E element : listProperty) {
+            Boolean result = validate(element);
+            results.add(result);
+            delta += countInvalid(result);
+        }
+        updateInvalidCount(delta);
+
+        listProperty.addValueChangeListener(this);
+    }
+
+    /**
+     * Gets the result of the element at the specified index.
+     *
+     * @param index Index of the element.
+     *
+     * @return Result of the rule for the element.
+     */
+    public Boolean getResult(int index) {
+        return results.get(index);
+    }
+
+    /**
+     * Gets the results of all the elements.
+     *
+     * @return Read-only list of the results, by index of the elements.
+     */
+    public List<Boolean> getResults() {
+        return unmodifiableResults;
+    }
+
+    /**
+     * @see ListValueChangeListener#valuesAdded(ReadableListProperty, int, List)
+     */
+    @Override
+    public void valuesAdded(ReadableListProperty<E> listProperty, int startIndex, List<E> newValues) {
+        List<Boolean> newResults = new ArrayList<Boolean>(newValues.size());
+        int delta = 0;
+        for (E element : newValues) {
+            Boolean result = validate(element);
+            newResults.add(result);
+            delta += countInvalid(result);
+        }
+        results.addAll(startIndex, newResults);
+        updateInvalidCount(delta);
+    }
+
+    /**
+     * @see ListValueChangeListener#valuesChanged(ReadableListProperty, int, List, List)
+     */
+    @Override
+    public void valuesChanged(ReadableListProperty<E> listProperty, int startIndex, List<E> oldValues,
+                              List<E> newValues) {
+        int delta = 0;
+        int index = startIndex;
+        for (E element : newValues) {
+            Boolean result = validate(element);
+            Boolean oldResult = results.set(index, result);
+            delta += countInvalid(result) - countInvalid(oldResult);
+            index++;
+        }
+        updateInvalidCount(delta);
+    }
+
+    /**
+     * @see ListValueChangeListener#valuesRemoved(ReadableListProperty, int, List)
+     */
+    @Override
+    public void valuesRemoved(ReadableListProperty<E> listProperty, int startIndex, List<E> oldValues) {
+        List<Boolean> oldResults = results.subList(startIndex, startIndex + oldValues.size());
+        int delta = 0;
+        for (Boolean oldResult : oldResults) {
+            delta -= countInvalid(oldResult);
+        }
+        oldResults.clear();
+        updateInvalidCount(delta);
+    }
+
+    /**
+     * @see AbstractElementValidator#dispose()
+     */
+    @Override
+    public void dispose() {
+        listProperty.removeValueChangeListener(this);
+        super.dispose();
+    }
+}
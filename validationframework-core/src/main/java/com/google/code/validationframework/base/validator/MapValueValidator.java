@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.property.MapValueChangeListener;
+import com.google.code.validationframework.api.property.ReadableMapProperty;
+import com.google.code.validationframework.api.rule.Rule;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Validator checking each value of a map property separately against a rule.
+ * <p>
+ * Only the added and changed values are validated. The results are kept by key, and forgotten when the entries are
+ * removed.
+ *
+ * @param <K> Type of keys of the map property.
+ * @param <V> Type of values to be validated.
+ *
+ * @see AbstractElementValidator
+ */
+public class MapValueValidator<K, V> extends AbstractElementValidator<V> implements MapValueChangeListener<K, V> {
+
+    /**
+     * Map property whose values are validated.
+     */
+    private final ReadableMapProperty<K, V> mapProperty;
+
+    /**
+     * Results of the values, by key.
+     */
+    private final Map<K, Boolean> results = new HashMap<K, Boolean>();
+
+    /**
+     * Constructor specifying the map property whose values are to be validated and the rule checking each value.
+     * <p>
+     * The current values of the map property are validated immediately.
+     *
+     * @param mapProperty Map property whose values are to be validated.
+     * @param rule        Rule checking each value.
+     */
+    public MapValueValidator(ReadableMapProperty<K, V> mapProperty, Rule<? super V, Boolean> rule) {
+        super(rule);
+        this.mapProperty = mapProperty;
+
+        int delta = 0;
+        for (Map.Entry<K, V> entry : mapProperty.entrySet()) {
+            Boolean result = validate(entry.getValue());
+            results.put(entry.getKey(), result);
+            delta += countInvalid(result);
+        }
+        updateInvalidCount(delta);
+
+        mapProperty.addValueChangeListener(this);
+    }
+
+    /**
+     * Gets the result of the value for the specified key.
+     *
+     * @param key Key of the map property.
+     *
+     * @return Result of the rule for the value, or null if the key is not in the map property.
+     */
+    public Boolean getResult(K key) {
+        return results.get(key);
+    }
+
+    /**
+     * @see MapValueChangeListener#valuesAdded(ReadableMapProperty, Map)
+     */
+    @Override
+    public void valuesAdded(ReadableMapProperty<K, V> mapProperty, Map<K, V> newValues) {
+        updateInvalidCount(putResults(newValues));
+    }
+
+    /**
+     * @see MapValueChangeListener#valuesChanged(ReadableMapProperty, Map, Map)
+     */
+    @Override
+    public void valuesChanged(ReadableMapProperty<K, V> mapProperty, Map<K, V> oldValues, Map<K, V> newValues) {
+        updateInvalidCount(putResults(newValues));
+    }
+
+    /**
+     * @see MapValueChangeListener#valuesRemoved(ReadableMapProperty, Map)
+     */
+    @Override
+    public void valuesRemoved(ReadableMapProperty<K, V> mapProperty, Map<K, V> oldValues) {
+        int delta = 0;
+        for (K key : oldValues.keySet()) {
+            if (results.containsKey(key)) {
+                delta -= countInvalid(results.remove(key));
+            }
+        }
+        updateInvalidCount(delta);
+    }
+
+    /**
+     * Validates the specified values and replaces the results for their keys.
+     *
+     * @param values Values to be validated, by key.
+     *
+     * @return Change of the number of invalid values.
+     */
+    private int putResults(Map<K, V> values) {
+        int delta = 0;
+
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            Boolean result = validate(entry.getValue());
+            delta += countInvalid(result);
+            if (results.containsKey(entry.getKey())) {
+                delta -= countInvalid(results.get(entry.getKey()));
+            }
+            results.put(entry.getKey(), result);
+        }
+
+        return delta;
+    }
+
+    /**
+     * @see AbstractElementValidator#dispose()
+     */
+    @Override
+    public void dispose() {
+        mapProperty.removeValueChangeListener(this);
+        super.dispose();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.base.transform.OrBooleanAggregator;
+
+/**
+ * Validator aggregating the boolean results collected from other validators using the OR operator, by counting them
+ * incrementally.
+ * <p>
+ * The aggregated result is true if at least one of the results is true, and false otherwise.
+ * <p>
+ * It is the same as the one of a {@link ResultCollectorValidator} using a {@link OrBooleanAggregator}, but it is
+ * computed in constant time.
+ *
+ * @see AbstractCountingResultCollectorValidator
+ * @see OrBooleanAggregator
+ */
+public class OrResultCollectorValidator extends AbstractCountingResultCollectorValidator {
+
+    /**
+     * Default constructor using the default values for empty collections and null results.
+     *
+     * @see OrBooleanAggregator#DEFAULT_EMPTY_COLLECTION_VALUE
+     * @see OrBooleanAggregator#DEFAULT_NULL_ELEMENT_VALUE
+     */
+    public OrResultCollectorValidator() {
+        this(OrBooleanAggregator.DEFAULT_EMPTY_COLLECTION_VALUE, OrBooleanAggregator.DEFAULT_NULL_ELEMENT_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see AbstractCountingResultCollectorValidator#AbstractCountingResultCollectorValidator(Boolean, Boolean)
+     */
+    public OrResultCollectorValidator(Boolean emptyCollectionValue, Boolean nullElementValue) {
+        super(emptyCollectionValue, nullElementValue);
+    }
+
+    /**
+     * @see AbstractCountingResultCollectorValidator#aggregate(int, int)
+     */
+    @Override
+    protected Boolean aggregate(int effectiveTrueCount, int effectiveFalseCount) {
+        return effectiveTrueCount > 0;
+    }
+}
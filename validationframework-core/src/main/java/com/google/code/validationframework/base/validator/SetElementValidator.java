@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.property.ReadableSetProperty;
+import com.google.code.validationframework.api.property.SetValueChangeListener;
+import com.google.code.validationframework.api.rule.Rule;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validator checking each element of a set property separately against a rule.
+ * <p>
+ * Only the added elements are validated, and the results of the removed elements are forgotten.
+ *
+ * @param <E> Type of elements to be validated.
+ *
+ * @see AbstractElementValidator
+ */
+public class SetElementValidator<E> extends AbstractElementValidator<E> implements SetValueChangeListener<E> {
+
+    /**
+     * Set property whose elements are validated.
+     */
+    private final ReadableSetProperty<E> setProperty;
+
+    /**
+     * Results of the elements.
+     */
+    private final Map<E, Boolean> results = new HashMap<E, Boolean>();
+
+    /**
+     * Constructor specifying the set property whose elements are to be validated and the rule checking each element.
+     * <p>
+     * The current elements of the set property are validated immediately.
+     *
+     * @param setProperty Set property whose elements are to be validated.
+     * @param rule        Rule checking each element.
+     */
+    public SetElementValidator(ReadableSetProperty<E> setProperty, Rule<? super E, Boolean> rule) {
+        super(rule);
+        this.setProperty = setProperty;
+
+        int delta = 0;
+        for (E element : setProperty) {
+            Boolean result = validate(element);
+            results.put(element, result);
+            delta += countInvalid(result);
+        }
+        updateInvalidCount(delta);
+
+        setProperty.addValueChangeListener(this);
+    }
+
+    /**
+     * Gets the result of the specified element.
+     *
+     * @param element Element of the set property.
+     *
+     * @return Result of the rule for the element, or null if the element is not in the set property.
+     */
+    public Boolean getResult(E element) {
+        return results.get(element);
+    }
+
+    /**
+     * @see SetValueChangeListener#valuesAdded(ReadableSetProperty, Set)
+     */
+    @Override
+    public void valuesAdded(ReadableSetProperty<E> setProperty, Set<E> newValues) {
+        int delta = 0;
+        for (E element : newValues) {
+            Boolean result = validate(element);
+            delta += countInvalid(result);
+            if (results.containsKey(element)) {
+                // Just in case
+                delta -= countInvalid(results.get(element));
+            }
+            results.put(element, result);
+        }
+        updateInvalidCount(delta);
+    }
+
+    /**
+     * @see SetValueChangeListener#valuesRemoved(ReadableSetProperty, Set)
+     */
+    @Override
+    public void valuesRemoved(ReadableSetProperty<E> setProperty, Set<E> oldValues) {
+        int delta = 0;
+        for (E element : oldValues) {
+            if (results.containsKey(element)) {
+                delta -= countInvalid(results.remove(element));
+            }
+        }
+        updateInvalidCount(delta);
+    }
+
+    /**
+     * @see AbstractElementValidator#dispose()
+     */
+    @Override
+    public void dispose() {
+        setProperty.removeValueChangeListener(this);
+        super.dispose();
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import com.google.code.validationframework.api.transform.Transformer;
+import com.google.code.validationframework.base.property.simple.SimpleBooleanProperty;
+import com.google.code.validationframework.base.property.simple.SimpleIntegerProperty;
+import com.google.code.validationframework.base.property.wrap.ReadOnlyPropertyWrapper;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Index of the validation status of all the fields of a form, kept up to date by the validators reporting their
+ * results into it.
+ * <p>
+ * Each field (or component, or any other key) is reported valid or invalid, typically through the result handler
+ * returned by {@link #getResultHandler(Object)}. The invalid keys are kept sorted in the order of the specified
+ * comparator (for instance, the tab order), so that the number of invalid fields, the first invalid field and the next
+ * or previous invalid field are available in O(log n) at most, without polling the validators.
+ * <p>
+ * Optionally, the keys can be grouped (for instance, by tab), so that the same information is available for each
+ * group.
+ * <p>
+ * The numbers of invalid keys are also exposed as read-only properties, so that they can be bound to the rest of the
+ * application, for instance to update a status bar or to enable a save button.
+ * <p>
+ * Note that the comparator must be consistent with {@link Object#equals(Object)} for the keys, and that, like the
+ * properties, this index is not thread-safe: the results should always be reported from the same thread.
+ *
+ * @param <K> Type of keys identifying the fields.
+ */
+public class ValidationStatusIndex<K> implements Disposable {
+
+    /**
+     * Result handler reporting the results of a validator for a specific key.
+     */
+    private class KeyResultHandler implements ResultHandler<Boolean> {
+
+        /**
+         * Key for which the results are reported.
+         */
+        private final K key;
+
+        /**
+         * Constructor specifying the key for which the results are reported.
+         *
+         * @param key Key for which the results are reported.
+         */
+        public KeyResultHandler(K key) {
+            this.key = key;
+        }
+
+        /**
+         * @see ResultHandler#handleResult(Object)
+         */
+        @Override
+        public void handleResult(Boolean result) {
+            setResult(key, result);
+        }
+    }
+
+    /**
+     * Invalid keys of the whole index or of one group, with their number as a property.
+     */
+    private class InvalidKeys {
+
+        /**
+         * Invalid keys sorted in the order of the comparator.
+         */
+        private final TreeSet<K> keys = new TreeSet<K>(comparator);
+
+        /**
+         * Number of invalid keys.
+         */
+        private final SimpleIntegerProperty count = new SimpleIntegerProperty(0);
+
+        /**
+         * Read-only view of the number of invalid keys.
+         */
+        private final ReadOnlyPropertyWrapper<Integer> countView = new ReadOnlyPropertyWrapper<Integer>(count);
+
+        /**
+         * Adds the specified key to the invalid keys.
+         *
+         * @param key Key that became invalid.
+         */
+        public void add(K key) {
+            keys.add(key);
+            count.setValue(keys.size());
+        }
+
+        /**
+         * Removes the specified key from the invalid keys.
+         *
+         * @param key Key that became valid or that is no longer indexed.
+         */
+        public void remove(K key) {
+            keys.remove(key);
+            count.setValue(keys.size());
+        }
+
+        /**
+         * Disposes the properties.
+         */
+        public void dispose() {
+            countView.dispose();
+        }
+    }
+
+    /**
+     * Comparator defining the order of the keys, or null to use their natural order.
+     */
+    private final Comparator<? super K> comparator;
+
+    /**
+     * Transformer giving the group of a key, or null if the keys are not grouped.
+     */
+    private final Transformer<? super K, ?> groupTransformer;
+
+    /**
+     * Group of each indexed key, null if the key is not part of any group.
+     */
+    private final Map<K, Object> keyGroups = new HashMap<K, Object>();
+
+    /**
+     * Invalid keys of the whole index.
+     */
+    private final InvalidKeys allInvalidKeys;
+
+    /**
+     * Invalid keys of each group.
+     */
+    private final Map<Object, InvalidKeys> groupInvalidKeys = new HashMap<Object, InvalidKeys>();
+
+    /**
+     * Flag stating whether all keys are valid.
+     */
+    private final SimpleBooleanProperty allValid = new SimpleBooleanProperty(true);
+
+    /**
+     * Read-only view of the flag stating whether all keys are valid.
+     */
+    private final ReadOnlyPropertyWrapper<Boolean> allValidView = new ReadOnlyPropertyWrapper<Boolean>(allValid);
+
+    /**
+     * Default constructor using the natural order of the keys, without any group.
+     */
+    public ValidationStatusIndex() {
+        this(null, null);
+    }
+
+    /**
+     * Constructor specifying the order of the keys, without any group.
+     *
+     * @param comparator Comparator defining the order of the keys, or null to use their natural order.
+     */
+    public ValidationStatusIndex(Comparator<? super K> comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Constructor specifying the order of the keys and their group.
+     *
+     * @param comparator       Comparator defining the order of the keys, or null to use their natural order.
+     * @param groupTransformer Transformer giving the group of a key (or null if the key is not part of any group), or
+     *                         null if the keys are not grouped.<br>
+     *                         It is called once, when the key is first reported.
+     */
+    public ValidationStatusIndex(Comparator<? super K> comparator, Transformer<? super K, ?> groupTransformer) {
+        this.comparator = comparator;
+        this.groupTransformer = groupTransformer;
+        this.allInvalidKeys = new InvalidKeys();
+    }
+
+    /**
+     * Gets a result handler reporting the results of a validator for the specified key.
+     *
+     * @param key Key for which the results are to be reported.
+     *
+     * @return Result handler to be added to the validator of the key.
+     *
+     * @see #setResult(Object, Boolean)
+     */
+    public ResultHandler<Boolean> getResultHandler(K key) {
+        return new KeyResultHandler(key);
+    }
+
+    /**
+     * Reports the specified result for the specified key.
+     * <p>
+     * The key is considered valid if the result is {@link Boolean#TRUE}, and invalid otherwise (including if the result
+     * is null).
+     *
+     * @param key    Key for which the result is reported.
+     * @param result Latest validation result for the key.
+     */
+    public void setResult(K key, Boolean result) {
+        if (!keyGroups.containsKey(key)) {
+            Object group = null;
+            if (groupTransformer != null) {
+                group = groupTransformer.transform(key);
+            }
+            keyGroups.put(key, group);
+        }
+
+        boolean wasInvalid = allInvalidKeys.keys.contains(key);
+        boolean invalid = !Boolean.TRUE.equals(result);
+        if (invalid && !wasInvalid) {
+            addInvalidKey(key);
+        } else if (!invalid && wasInvalid) {
+            removeInvalidKey(key);
+        }
+    }
+
+    /**
+     * Removes the specified key from the index, for instance when the corresponding field is removed from the form.
+     *
+     * @param key Key to be removed.
+     */
+    public void remove(K key) {
+        if (keyGroups.containsKey(key)) {
+            if (allInvalidKeys.keys.contains(key)) {
+                removeInvalidKey(key);
+            }
+            keyGroups.remove(key);
+        }
+    }
+
+    /**
+     * Adds the specified key to the invalid keys of the whole index and of its group.
+     *
+     * @param key Key that became invalid.
+     */
+    private void addInvalidKey(K key) {
+        Object group = keyGroups.get(key);
+        if (group != null) {
+            getOrCreateGroupInvalidKeys(group).add(key);
+        }
+        allInvalidKeys.add(key);
+        allValid.setValue(false);
+    }
+
+    /**
+     * Removes the specified key from the invalid keys of the whole index and of its group.
+     *
+     * @param key Key that became valid or that is no longer indexed.
+     */
+    private void removeInvalidKey(K key) {
+        Object group = keyGroups.get(key);
+        if (group != null) {
+            getOrCreateGroupInvalidKeys(group).remove(key);
+        }
+        allInvalidKeys.remove(key);
+        allValid.setValue(allInvalidKeys.keys.isEmpty());
+    }
+
+    /**
+     * Gets the invalid keys of the specified group, creating them if needed.
+     *
+     * @param group Group of keys.
+     *
+     * @return Invalid keys of the group.
+     */
+    private InvalidKeys getOrCreateGroupInvalidKeys(Object group) {
+        InvalidKeys invalidKeys = groupInvalidKeys.get(group);
+        if (invalidKeys == null) {
+            invalidKeys = new InvalidKeys();
+            groupInvalidKeys.put(group, invalidKeys);
+        }
+        return invalidKeys;
+    }
+
+    /**
+     * Gets the number of indexed keys.
+     *
+     * @return Number of keys for which a result has been reported.
+     */
+    public int size() {
+        return keyGroups.size();
+    }
+
+    /**
+     * States whether the specified key is currently invalid.
+     *
+     * @param key Key to be checked.
+     *
+     * @return True if the last result reported for the key is invalid, false otherwise or if no result was reported.
+     */
+    public boolean isInvalid(K key) {
+        return allInvalidKeys.keys.contains(key);
+    }
+
+    /**
+     * States whether all keys are valid.
+     *
+     * @return True if all keys are valid or if there is no key, false otherwise.
+     */
+    public boolean isAllValid() {
+        return allValid.getValue();
+    }
+
+    /**
+     * Gets the number of invalid keys.
+     *
+     * @return Number of invalid keys.
+     */
+    public int getInvalidCount() {
+        return allInvalidKeys.keys.size();
+    }
+
+    /**
+     * Gets the number of invalid keys in the specified group.
+     *
+     * @param group Group of keys.
+     *
+     * @return Number of invalid keys in the group.
+     */
+    public int getInvalidCount(Object group) {
+        InvalidKeys invalidKeys = groupInvalidKeys.get(group);
+        return (invalidKeys == null) ? 0 : invalidKeys.keys.size();
+    }
+
+    /**
+     * Gets the invalid keys, sorted in the order of the comparator.
+     * <p>
+     * The returned set is a read-only view reflecting the later changes of the index.
+     *
+     * @return Sorted invalid keys.
+     */
+    public SortedSet<K> getInvalidKeys() {
+        return Collections.unmodifiableSortedSet(allInvalidKeys.keys);
+    }
+
+    /**
+     * Gets the invalid keys of the specified group, sorted in the order of the comparator.
+     * <p>
+     * The returned set is a read-only view reflecting the later changes of the index.
+     *
+     * @param group Group of keys.
+     *
+     * @return Sorted invalid keys of the group.
+     */
+    public SortedSet<K> getInvalidKeys(Object group) {
+        return Collections.unmodifiableSortedSet(getOrCreateGroupInvalidKeys(group).keys);
+    }
+
+    /**
+     * Gets the first invalid key in the order of the comparator.
+     *
+     * @return First invalid key, or null if all keys are valid.
+     */
+    public K getFirstInvalid() {
+        return allInvalidKeys.keys.isEmpty() ? null : allInvalidKeys.keys.first();
+    }
+
+    /**
+     * Gets the first invalid key of the specified group in the order of the comparator.
+     *
+     * @param group Group of keys.
+     *
+     * @return First invalid key of the group, or null if all keys of the group are valid.
+     */
+    public K getFirstInvalid(Object group) {
+        InvalidKeys invalidKeys = groupInvalidKeys.get(group);
+        return ((invalidKeys == null) || invalidKeys.keys.isEmpty()) ? null : invalidKeys.keys.first();
+    }
+
+    /**
+     * Gets the first invalid key after the specified key in the order of the comparator.
+     * <p>
+     * This can be used to navigate to the next invalid field from the focused one.
+     *
+     * @param key Key after which the invalid key is to be found, not necessarily indexed.
+     *
+     * @return Next invalid key, or null if there is none.
+     */
+    public K getNextInvalid(K key) {
+        return allInvalidKeys.keys.higher(key);
+    }
+
+    /**
+     * Gets the last invalid key before the specified key in the order of the comparator.
+     *
+     * @param key Key before which the invalid key is to be found, not necessarily indexed.
+     *
+     * @return Previous invalid key, or null if there is none.
+     */
+    public K getPreviousInvalid(K key) {
+        return allInvalidKeys.keys.lower(key);
+    }
+
+    /**
+     * Gets the read-only property holding the number of invalid keys.
+     *
+     * @return Property that can be bound to the rest of the application, for instance to a status bar.
+     */
+    public ReadableProperty<Integer> getInvalidCountProperty() {
+        return allInvalidKeys.countView;
+    }
+
+    /**
+     * Gets the read-only property holding the number of invalid keys in the specified group.
+     *
+     * @param group Group of keys.
+     *
+     * @return Property that can be bound to the rest of the application, for instance to decorate a tab.
+     */
+    public ReadableProperty<Integer> getInvalidCountProperty(Object group) {
+        return getOrCreateGroupInvalidKeys(group).countView;
+    }
+
+    /**
+     * Gets the read-only property stating whether all keys are valid.
+     *
+     * @return Property that can be bound to the rest of the application, for instance to enable a save button.
+     */
+    public ReadableProperty<Boolean> getAllValidProperty() {
+        return allValidView;
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        allInvalidKeys.dispose();
+        for (InvalidKeys invalidKeys : groupInvalidKeys.values()) {
+            invalidKeys.dispose();
+        }
+        groupInvalidKeys.clear();
+        allValidView.dispose();
+        keyGroups.clear();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator.crossfield;
+
+import java.util.Collection;
+
+/**
+ * Interface to be implemented by rules reading several fields, for instance to check that the end date of a form is
+ * after its start date.
+ * <p>
+ * Unlike a {@link com.google.code.validationframework.api.rule.Rule}, a cross-field rule is not given the data to be
+ * validated: it reads the fields it declares itself, so that the {@link CrossFieldValidator} only re-evaluates it when
+ * one of these fields changes.
+ *
+ * @param <RO> Type of validation result.
+ *
+ * @see AbstractCrossFieldRule
+ * @see CrossFieldValidator
+ */
+public interface CrossFieldRule<RO> {
+
+    /**
+     * Gets the fields read by this rule.
+     * <p>
+     * The fields are typically properties, but can also be data providers or any other object identifying a field (see
+     * {@link CrossFieldValidator#fieldChanged(Object)}). They are compared by identity.
+     *
+     * @return Fields read by this rule.
+     */
+    Collection<?> getFields();
+
+    /**
+     * Reads the fields and validates them.
+     *
+     * @return Validation result.
+     */
+    RO validate();
+}
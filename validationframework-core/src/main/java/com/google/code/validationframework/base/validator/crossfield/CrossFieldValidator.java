@@ -0,0 +1,559 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator.crossfield;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.api.property.WritableProperty;
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Validator of rules spanning several fields, re-evaluating only the rules depending on the changed fields.
+ * <p>
+ * Each {@link CrossFieldRule} declares the fields it reads. The validator keeps a dependency graph between the fields
+ * and the rules, and listens to the fields that are readable properties. When a field changes, only the rules reading
+ * this field are re-evaluated, instead of collecting all the fields and re-evaluating all the rules (as a {@link
+ * com.google.code.validationframework.base.validator.generalvalidator.GeneralValidator} with a {@link
+ * com.google.code.validationframework.base.dataprovider.MapCompositeDataProvider} would do). The other fields, like
+ * data providers, can be signaled with {@link #fieldChanged(Object)}, for instance from a trigger.
+ * <p>
+ * The result of a rule can be written to a property that is itself a field of other rules (a derived field). The rules
+ * are therefore evaluated in their topological order, so that all the rules affected by a change (called a change
+ * wave) are evaluated at most once, after the rules they depend on. Only the affected rules are visited during a change
+ * wave: they are queued by their topological index. Rules depending on each other in a cycle are rejected when added.
+ * <p>
+ * Note that this validator is not thread-safe: the fields should always be modified from the same thread.
+ *
+ * @see CrossFieldRule
+ */
+public class CrossFieldValidator implements Disposable {
+
+    /**
+     * Node of the dependency graph representing a field.
+     */
+    private final class Field implements ValueChangeListener<Object> {
+
+        /**
+         * Object identifying the field.
+         */
+        private final Object key;
+
+        /**
+         * Rules reading this field.
+         */
+        private final List<RuleNode<?>> dependentRules = new ArrayList<RuleNode<?>>();
+
+        /**
+         * Rule writing its result to this field, or null if none.
+         */
+        private RuleNode<?> producer = null;
+
+        /**
+         * Constructor specifying the object identifying the field.
+         *
+         * @param key Object identifying the field.
+         */
+        public Field(Object key) {
+            this.key = key;
+        }
+
+        /**
+         * @see ValueChangeListener#valueChanged(ReadableProperty, Object, Object)
+         */
+        @Override
+        public void valueChanged(ReadableProperty<Object> property, Object oldValue, Object newValue) {
+            fieldChanged(key);
+        }
+    }
+
+    /**
+     * Node of the dependency graph representing a rule.
+     *
+     * @param <RO> Type of validation result.
+     */
+    private static final class RuleNode<RO> {
+
+        /**
+         * Cross-field rule.
+         */
+        private final CrossFieldRule<RO> rule;
+
+        /**
+         * Property to which the result is written, or null if none.
+         */
+        private final WritableProperty<? super RO> output;
+
+        /**
+         * Result handlers to which the result is passed.
+         */
+        private final List<ResultHandler<? super RO>> resultHandlers = new ArrayList<ResultHandler<? super RO>>();
+
+        /**
+         * Fields read by the rule.
+         */
+        private final List<Field> inputFields = new ArrayList<Field>();
+
+        /**
+         * Field to which the result is written, or null if none.
+         */
+        private Field outputField = null;
+
+        /**
+         * Position of the rule in the topological order.
+         */
+        private int index = 0;
+
+        /**
+         * Flag stating whether the rule is queued to be evaluated in the current change wave.
+         */
+        private boolean pending = false;
+
+        /**
+         * Number of the last change wave in which the rule was evaluated.
+         */
+        private int evaluatedWave = 0;
+
+        /**
+         * Constructor specifying the rule and the property to which its result is to be written.
+         *
+         * @param rule   Cross-field rule.
+         * @param output Property to which the result is to be written, or null.
+         */
+        public RuleNode(CrossFieldRule<RO> rule, WritableProperty<? super RO> output) {
+            this.rule = rule;
+            this.output = output;
+        }
+
+        /**
+         * Evaluates the rule and processes its result.
+         */
+        public void evaluate() {
+            RO result = rule.validate();
+            if (output != null) {
+                output.setValue(result);
+            }
+            for (ResultHandler<? super RO> resultHandler : resultHandlers) {
+                resultHandler.handleResult(result);
+            }
+        }
+    }
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrossFieldValidator.class);
+
+    /**
+     * Comparator ordering the rule nodes by their position in the topological order.
+     */
+    private static final Comparator<RuleNode<?>> TOPOLOGICAL_ORDER = new Comparator<RuleNode<?>>() {
+
+        /**
+         * @see Comparator#compare(Object, Object)
+         */
+        @Override
+        public int compare(RuleNode<?> node1, RuleNode<?> node2) {
+            return (node1.index < node2.index) ? -1 : ((node1.index == node2.index) ? 0 : 1);
+        }
+    };
+
+    /**
+     * Fields of all the rules, by identity of their keys.
+     */
+    private final Map<Object, Field> fields = new IdentityHashMap<Object, Field>();
+
+    /**
+     * Rules, in topological order.
+     */
+    private List<RuleNode<?>> rules = new ArrayList<RuleNode<?>>();
+
+    /**
+     * Nodes of the rules, by identity of the rules.
+     */
+    private final Map<CrossFieldRule<?>, RuleNode<?>> ruleNodes = new IdentityHashMap<CrossFieldRule<?>, RuleNode<?>>();
+
+    /**
+     * Rules to be evaluated in the current change wave, by topological index.
+     */
+    private final Queue<RuleNode<?>> pendingRules = new PriorityQueue<RuleNode<?>>(11, TOPOLOGICAL_ORDER);
+
+    /**
+     * Number of the current or last change wave.
+     */
+    private int wave = 0;
+
+    /**
+     * Flag stating whether a change wave is being processed.
+     */
+    private boolean inWave = false;
+
+    /**
+     * Default constructor.
+     */
+    public CrossFieldValidator() {
+        super();
+    }
+
+    /**
+     * Adds the specified rule.
+     * <p>
+     * The result of the rule can be processed by adding result handlers with {@link #addResultHandler(CrossFieldRule,
+     * ResultHandler)}.
+     *
+     * @param rule Cross-field rule to be added.
+     * @param <RO> Type of validation result.
+     *
+     * @throws IllegalArgumentException If the rule is already added.
+     */
+    public <RO> void addRule(CrossFieldRule<RO> rule) {
+        addRule(rule, null);
+    }
+
+    /**
+     * Adds the specified rule, whose result is to be written to the specified property.
+     * <p>
+     * The output property can be declared as a field by other rules, which will then be evaluated after this rule.
+     *
+     * @param rule   Cross-field rule to be added.
+     * @param output Property to which the result is to be written, or null.
+     * @param <RO>   Type of validation result.
+     *
+     * @throws IllegalArgumentException If the rule is already added, if the output property is already written by
+     *                                  another rule, or if the rule would be part of a dependency cycle.
+     */
+    public <RO> void addRule(CrossFieldRule<RO> rule, WritableProperty<? super RO> output) {
+        if (ruleNodes.containsKey(rule)) {
+            throw new IllegalArgumentException("Rule already added: " + rule);
+        }
+        if ((output != null) && fields.containsKey(output) && (fields.get(output).producer != null)) {
+            throw new IllegalArgumentException("Output property already written by another rule: " + output);
+        }
+
+        RuleNode<RO> node = new RuleNode<RO>(rule, output);
+        for (Object key : rule.getFields()) {
+            Field field = getOrCreateField(key);
+            node.inputFields.add(field);
+            field.dependentRules.add(node);
+        }
+        if (output != null) {
+            node.outputField = getOrCreateField(output);
+            node.outputField.producer = node;
+        }
+
+        List<RuleNode<?>> candidateRules = new ArrayList<RuleNode<?>>(rules);
+        candidateRules.add(node);
+        List<RuleNode<?>> sortedRules = sort(candidateRules);
+        if (sortedRules == null) {
+            unlink(node);
+            throw new IllegalArgumentException("Rule would be part of a dependency cycle: " + rule);
+        }
+        rules = sortedRules;
+        ruleNodes.put(rule, node);
+        updateIndices();
+    }
+
+    /**
+     * Adds the specified result handler to process the result of the specified rule.
+     *
+     * @param rule          Cross-field rule whose result is to be processed.
+     * @param resultHandler Result handler to be added.
+     * @param <RO>          Type of validation result.
+     *
+     * @throws IllegalArgumentException If the rule is not added.
+     */
+    public <RO> void addResultHandler(CrossFieldRule<RO> rule, ResultHandler<? super RO> resultHandler) {
+        getRuleNode(rule).resultHandlers.add(resultHandler);
+    }
+
+    /**
+     * Removes the specified result handler processing the result of the specified rule.
+     *
+     * @param rule          Cross-field rule whose result is processed.
+     * @param resultHandler Result handler to be removed.
+     * @param <RO>          Type of validation result.
+     *
+     * @throws IllegalArgumentException If the rule is not added.
+     */
+    public <RO> void removeResultHandler(CrossFieldRule<RO> rule, ResultHandler<? super RO> resultHandler) {
+        getRuleNode(rule).resultHandlers.remove(resultHandler);
+    }
+
+    /**
+     * Gets the node of the specified rule.
+     *
+     * @param rule Cross-field rule.
+     * @param <RO> Type of validation result.
+     *
+     * @return Node of the rule.
+     *
+     * @throws IllegalArgumentException If the rule is not added.
+     */
+    @SuppressWarnings("unchecked")
+    private <RO> RuleNode<RO> getRuleNode(CrossFieldRule<RO> rule) {
+        RuleNode<RO> node = (RuleNode<RO>) ruleNodes.get(rule);
+        if (node == null) {
+            throw new IllegalArgumentException("Rule not added: " + rule);
+        }
+        return node;
+    }
+
+    /**
+     * Removes the specified rule.
+     *
+     * @param rule Cross-field rule to be removed.
+     */
+    public void removeRule(CrossFieldRule<?> rule) {
+        RuleNode<?> node = ruleNodes.remove(rule);
+        if (node != null) {
+            unlink(node);
+            rules.remove(node);
+            if (node.pending) {
+                node.pending = false;
+                pendingRules.remove(node);
+            }
+            updateIndices();
+        }
+    }
+
+    /**
+     * Updates the topological index of all the rules after the order changed.
+     * <p>
+     * The rules queued in the current change wave, if any, are queued again according to their new index.
+     */
+    private void updateIndices() {
+        for (int i = 0; i < rules.size(); i++) {
+            rules.get(i).index = i;
+        }
+
+        if (!pendingRules.isEmpty()) {
+            List<RuleNode<?>> queuedRules = new ArrayList<RuleNode<?>>(pendingRules);
+            pendingRules.clear();
+            pendingRules.addAll(queuedRules);
+        }
+    }
+
+    /**
+     * Gets the field identified by the specified object, creating it and listening to it if needed.
+     *
+     * @param key Object identifying the field.
+     *
+     * @return Field.
+     */
+    @SuppressWarnings("unchecked")
+    private Field getOrCreateField(Object key) {
+        Field field = fields.get(key);
+
+        if (field == null) {
+            field = new Field(key);
+            fields.put(key, field);
+            if (key instanceof ReadableProperty) {
+                ((ReadableProperty<Object>) key).addValueChangeListener(field);
+            }
+        }
+
+        return field;
+    }
+
+    /**
+     * Removes the specified rule node from the dependency graph, as well as the fields that are no longer used.
+     *
+     * @param node Rule node to be removed.
+     */
+    @SuppressWarnings("unchecked")
+    private void unlink(RuleNode<?> node) {
+        List<Field> linkedFields = new ArrayList<Field>(node.inputFields);
+        if (node.outputField != null) {
+            node.outputField.producer = null;
+            linkedFields.add(node.outputField);
+        }
+
+        for (Field field : linkedFields) {
+            field.dependentRules.remove(node);
+            if (field.dependentRules.isEmpty() && (field.producer == null) && (fields.remove(field.key) != null) &&
+                    (field.key instanceof ReadableProperty)) {
+                ((ReadableProperty<Object>) field.key).removeValueChangeListener(field);
+            }
+        }
+    }
+
+    /**
+     * Sorts the specified rules in topological order, so that each rule comes after the rules writing the fields it
+     * reads.
+     *
+     * @param unsortedRules Rules to be sorted.
+     *
+     * @return Sorted rules, or null if the rules have a dependency cycle.
+     */
+    private static List<RuleNode<?>> sort(List<RuleNode<?>> unsortedRules) {
+        Map<RuleNode<?>, Integer> inDegrees = new IdentityHashMap<RuleNode<?>, Integer>();
+        List<RuleNode<?>> sortedRules = new ArrayList<RuleNode<?>>(unsortedRules.size());
+
+        // Count the rules each rule depends on, and start with the independent ones, in their original order
+        for (RuleNode<?> node : unsortedRules) {
+            int inDegree = 0;
+            for (Field field : node.inputFields) {
+                if (field.producer != null) {
+                    inDegree++;
+                }
+            }
+            inDegrees.put(node, inDegree);
+            if (inDegree == 0) {
+                sortedRules.add(node);
+            }
+        }
+
+        // Add the rules once all the rules they depend on have been added
+        for (int i = 0; i < sortedRules.size(); i++) {
+            Field outputField = sortedRules.get(i).outputField;
+            if (outputField != null) {
+                for (RuleNode<?> dependentRule : outputField.dependentRules) {
+                    int inDegree = inDegrees.get(dependentRule) - 1;
+                    inDegrees.put(dependentRule, inDegree);
+                    if (inDegree == 0) {
+                        sortedRules.add(dependentRule);
+                    }
+                }
+            }
+        }
+
+        return (sortedRules.size() == unsortedRules.size()) ? sortedRules : null;
+    }
+
+    /**
+     * Re-evaluates the rules reading the specified field, as well as the rules depending on their results.
+     * <p>
+     * The fields that are readable properties are listened to, so this method only needs to be called for the other
+     * kinds of fields, for instance from a trigger.
+     *
+     * @param field Object identifying the changed field.
+     */
+    public void fieldChanged(Object field) {
+        Field changedField = fields.get(field);
+
+        if (changedField != null) {
+            for (RuleNode<?> node : changedField.dependentRules) {
+                markPending(node);
+            }
+            processWave();
+        }
+    }
+
+    /**
+     * Evaluates all the rules, for instance to initialize the result handlers.
+     */
+    public void validateAll() {
+        for (RuleNode<?> node : rules) {
+            markPending(node);
+        }
+        processWave();
+    }
+
+    /**
+     * Marks the specified rule to be evaluated in the current change wave.
+     *
+     * @param node Rule node to be evaluated.
+     */
+    private void markPending(RuleNode<?> node) {
+        if (inWave && (node.evaluatedWave == wave)) {
+            // Probably because a result handler modifies a field that is not declared as output
+            LOGGER.warn("Rule already evaluated in this change wave, possibly because of an undeclared dependency " +
+                    "cycle: " + node.rule);
+        } else if (!node.pending) {
+            node.pending = true;
+            pendingRules.add(node);
+        }
+    }
+
+    /**
+     * Evaluates all the pending rules in topological order, unless a change wave is already being processed.
+     * <p>
+     * Changes of fields occurring while evaluating the rules are part of the same change wave.
+     */
+    private void processWave() {
+        if (!inWave) {
+            inWave = true;
+            wave++;
+            try {
+                // Rules marked by an undeclared dependency are still evaluated, even if their index is lower
+                RuleNode<?> node = pendingRules.poll();
+                while (node != null) {
+                    node.pending = false;
+                    node.evaluatedWave = wave;
+                    node.evaluate();
+                    if ((node.outputField != null) && !(node.output instanceof ReadableProperty)) {
+                        // The output cannot be listened to
+                        for (RuleNode<?> dependentRule : node.outputField.dependentRules) {
+                            markPending(dependentRule);
+                        }
+                    }
+                    node = pendingRules.poll();
+                }
+            } finally {
+                for (RuleNode<?> node : pendingRules) {
+                    node.pending = false;
+                }
+                pendingRules.clear();
+                inWave = false;
+            }
+        }
+    }
+
+    /**
+     * Gets the rules, in the order in which they are evaluated.
+     *
+     * @return Read-only list of rules.
+     */
+    public List<CrossFieldRule<?>> getRules() {
+        List<CrossFieldRule<?>> sortedRules = new ArrayList<CrossFieldRule<?>>(rules.size());
+        for (RuleNode<?> node : rules) {
+            sortedRules.add(node.rule);
+        }
+        return Collections.unmodifiableList(sortedRules);
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        for (RuleNode<?> node : new ArrayList<RuleNode<?>>(rules)) {
+            removeRule(node.rule);
+        }
+    }
+}
@@ -31,6 +31,8 @@ import com.google.code.validationframework.api.rule.Rule;
 import com.google.code.validationframework.api.transform.Transformer;
 import com.google.code.validationframework.api.trigger.Trigger;
 import com.google.code.validationframework.base.dataprovider.PropertyValueProvider;
+import com.google.code.validationframework.base.transform.ParseResult;
+import com.google.code.validationframework.base.transform.ParseResultTransformer;
 import com.google.code.validationframework.base.validator.generalvalidator.GeneralValidator;
 
 import java.util.ArrayList;
@@ -113,11 +115,40 @@ public class SingleDataProviderContext<DPO> {
      * @return Context allowing further construction of the validator using the DSL.
      */
     public <TDPO> TransformedDataProviderContext<DPO, TDPO> transform(Transformer<DPO, TDPO> ruleInputTransformer) {
+        return addRuleInputTransformer(ruleInputTransformer);
+    }
+
+    /**
+     * Adds the specified parser as a rule input transformer to the validator under construction.
+     * <p>
+     * The rules will then receive the {@link ParseResult} of the data, so that the data is parsed only once for all the
+     * rules, whether they check that the data is parsable or the parsed value.
+     *
+     * @param parser Parser to be added as a rule input transformer.
+     * @param <T>    Type of parsed value.
+     *
+     * @return Context allowing further construction of the validator using the DSL.
+     */
+    public <T> TransformedDataProviderContext<DPO, ParseResult<T>> parse(ParseResultTransformer<T> parser) {
+        return addRuleInputTransformer(parser);
+    }
+
+    /**
+     * Adds the specified rule input transformer to the validator under construction.
+     *
+     * @param ruleInputTransformer Rule input transformer to be added.
+     * @param <TDPO>               Type of transformer output.
+     *
+     * @return Context allowing further construction of the validator using the DSL.
+     */
+    private <TDPO> TransformedDataProviderContext<DPO, TDPO> addRuleInputTransformer(Transformer<?,
+            TDPO> ruleInputTransformer) {
         List<Transformer> addedTransformers = new ArrayList<Transformer>();
         if (ruleInputTransformer != null) {
             addedTransformers.add(ruleInputTransformer);
         }
 
+        // Change context because output type has changed
         return new TransformedDataProviderContext<DPO, TDPO>(addedTriggers, addedDataProviders,
                 GeneralValidator.MappingStrategy.SPLIT, addedTransformers);
     }
@@ -29,6 +29,8 @@ import com.google.code.validationframework.api.dataprovider.DataProvider;
 import com.google.code.validationframework.api.rule.Rule;
 import com.google.code.validationframework.api.transform.Transformer;
 import com.google.code.validationframework.api.trigger.Trigger;
+import com.google.code.validationframework.base.transform.ParseResult;
+import com.google.code.validationframework.base.transform.ParseResultTransformer;
 import com.google.code.validationframework.base.validator.generalvalidator.GeneralValidator;
 
 import java.util.ArrayList;
@@ -90,6 +92,34 @@ public class TransformedDataProviderContext<DPO, TDPO> {
      * @return Context allowing further construction of the validator using the DSL.
      */
     public <TTDPO> TransformedDataProviderContext transform(Transformer<TDPO, TTDPO> ruleInputTransformer) {
+        return addRuleInputTransformer(ruleInputTransformer);
+    }
+
+    /**
+     * Adds the specified parser as a rule input transformer to the validator under construction.
+     * <p>
+     * The rules will then receive the {@link ParseResult} of the transformed data, so that the data is parsed only once
+     * for all the rules, whether they check that the data is parsable or the parsed value.
+     *
+     * @param parser Parser to be added as a rule input transformer.
+     * @param <T>    Type of parsed value.
+     *
+     * @return Context allowing further construction of the validator using the DSL.
+     */
+    public <T> TransformedDataProviderContext<DPO, ParseResult<T>> parse(ParseResultTransformer<T> parser) {
+        return addRuleInputTransformer(parser);
+    }
+
+    /**
+     * Adds the specified rule input transformer to the validator under construction.
+     *
+     * @param ruleInputTransformer Rule input transformer to be added.
+     * @param <TTDPO>              Type of transformer output.
+     *
+     * @return Context allowing further construction of the validator using the DSL.
+     */
+    private <TTDPO> TransformedDataProviderContext<DPO, TTDPO> addRuleInputTransformer(Transformer<?,
+            TTDPO> ruleInputTransformer) {
         if (ruleInputTransformer != null) {
             addedRuleInputTransformers.add(ruleInputTransformer);
         }
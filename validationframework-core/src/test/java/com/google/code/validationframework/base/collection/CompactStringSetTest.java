@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see CompactStringSet
+ */
+public class CompactStringSetTest {
+
+    @Test
+    public void testContains() {
+        CompactStringSet set = new CompactStringSet(Arrays.asList("FR", "DE", "", "BE", "DE"));
+
+        assertEquals(4, set.size());
+        assertTrue(set.contains("FR"));
+        assertTrue(set.contains(new StringBuilder("DE")));
+        assertTrue(set.contains(""));
+        assertFalse(set.contains("F"));
+        assertFalse(set.contains("FRA"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void testCollidingHashCodes() {
+        // "Aa" and "BB" have the same hash code
+        CompactStringSet set = new CompactStringSet(Arrays.asList("Aa", "AaBB"));
+
+        assertTrue(set.contains("Aa"));
+        assertFalse(set.contains("BB"));
+        assertTrue(set.contains("AaBB"));
+        assertFalse(set.contains("BBAa"));
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0);
+        List<String> strings = new ArrayList<String>();
+        for (int i = 0; i < 20000; i++) {
+            strings.add(Integer.toString(random.nextInt(50000), 36));
+        }
+        Set<String> expected = new HashSet<String>(strings);
+        CompactStringSet set = new CompactStringSet(strings);
+
+        assertEquals(expected.size(), set.size());
+        for (int i = 0; i < 100000; i++) {
+            String string = Integer.toString(random.nextInt(50000), 36);
+            assertEquals(expected.contains(string), set.contains(string));
+        }
+    }
+
+    @Test
+    public void testReadFrom() throws IOException {
+        CompactStringSet set = CompactStringSet.readFrom(new StringReader("EUR\n USD \n\nJPY\nEUR\n"));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains("USD"));
+        assertFalse(set.contains(" USD "));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.collection;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see CompactTrie
+ */
+public class CompactTrieTest {
+
+    @Test
+    public void testContains() {
+        CompactTrie trie = new CompactTrie(Arrays.asList("tap", "taps", "top", "tops", "to", "tap"));
+
+        assertEquals(5, trie.size());
+        assertTrue(trie.contains("tap"));
+        assertTrue(trie.contains(new StringBuilder("tops")));
+        assertTrue(trie.contains("to"));
+        assertFalse(trie.contains("t"));
+        assertFalse(trie.contains("ta"));
+        assertFalse(trie.contains("tip"));
+        assertFalse(trie.contains("topss"));
+        assertFalse(trie.contains(""));
+        assertFalse(trie.contains(null));
+        assertTrue(trie.contains(" [tops] ", 2, 5));
+    }
+
+    @Test
+    public void testContainsPrefix() {
+        CompactTrie trie = new CompactTrie(Arrays.asList("tap", "taps", "top", "tops"));
+
+        assertTrue(trie.containsPrefix(""));
+        assertTrue(trie.containsPrefix("t"));
+        assertTrue(trie.containsPrefix("ta"));
+        assertTrue(trie.containsPrefix("tops"));
+        assertFalse(trie.containsPrefix("ti"));
+        assertFalse(trie.containsPrefix("topsy"));
+        assertFalse(trie.containsPrefix(null));
+    }
+
+    @Test
+    public void testEmpty() {
+        CompactTrie trie = new CompactTrie(Collections.<String>emptyList());
+
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.contains(""));
+        assertFalse(trie.containsPrefix(""));
+
+        trie = new CompactTrie(Collections.singletonList(""));
+
+        assertEquals(1, trie.size());
+        assertTrue(trie.contains(""));
+        assertFalse(trie.contains("a"));
+    }
+
+    @Test
+    public void testSharedSuffixes() {
+        // "tap", "taps", "top" and "tops" only need the states of "t(a|o)ps?"
+        CompactTrie trie = new CompactTrie(Arrays.asList("tap", "taps", "top", "tops"));
+
+        assertEquals(5, trie.getStateCount());
+        assertEquals(5, trie.getTransitionCount());
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0);
+        List<String> words = new ArrayList<String>();
+        for (int i = 0; i < 20000; i++) {
+            words.add(Integer.toString(random.nextInt(500000), 36));
+        }
+        Set<String> expected = new HashSet<String>(words);
+        Set<String> prefixes = new HashSet<String>();
+        for (String word : expected) {
+            for (int i = 0; i <= word.length(); i++) {
+                prefixes.add(word.substring(0, i));
+            }
+        }
+        CompactTrie trie = new CompactTrie(words);
+
+        assertEquals(expected.size(), trie.size());
+        for (int i = 0; i < 100000; i++) {
+            String word = Integer.toString(random.nextInt(500000), 36);
+            assertEquals(expected.contains(word), trie.contains(word));
+            assertEquals(prefixes.contains(word), trie.containsPrefix(word));
+        }
+    }
+
+    @Test
+    public void testReadFrom() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String word : new TreeSet<String>(Arrays.asList("EUR", "USD", "JPY", "GBP"))) {
+            text.append(' ').append(word).append(" \n\n");
+        }
+        CompactTrie trie = CompactTrie.readFrom(new StringReader(text.toString()));
+
+        assertEquals(4, trie.size());
+        assertTrue(trie.contains("USD"));
+        assertFalse(trie.contains(" USD "));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFromUnsorted() throws IOException {
+        CompactTrie.readFrom(new StringReader("USD\nEUR\n"));
+    }
+}
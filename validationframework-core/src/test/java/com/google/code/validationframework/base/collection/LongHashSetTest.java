@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see LongHashSet
+ */
+public class LongHashSetTest {
+
+    @Test
+    public void testContains() {
+        LongHashSet set = new LongHashSet(0L, 5L, -5L, Long.MIN_VALUE, Long.MAX_VALUE, 5L);
+
+        assertEquals(5, set.size());
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(5L));
+        assertTrue(set.contains(-5L));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertFalse(set.contains(1L));
+        assertFalse(set.contains(-1L));
+    }
+
+    @Test
+    public void testEmpty() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0L));
+        assertFalse(set.contains(1L));
+    }
+
+    @Test
+    public void testHighBits() {
+        long value = 123456789L;
+        LongHashSet set = new LongHashSet(value, value + (1L << 40), 0L, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertEquals(5, set.size());
+        assertTrue(set.contains(value));
+        assertTrue(set.contains(value + (1L << 40)));
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertFalse(set.contains(value + (1L << 32)));
+        assertFalse(set.contains(value - (1L << 40)));
+        assertFalse(set.contains(Long.MIN_VALUE + 1));
+        assertFalse(set.contains(Long.MAX_VALUE - 1));
+        assertFalse(set.contains(1L << 40));
+    }
+
+    @Test
+    public void testValuesDifferingInHighBitsOnly() {
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 7L + ((long) i << 32);
+        }
+        LongHashSet set = new LongHashSet(values);
+
+        assertEquals(values.length, set.size());
+        for (int i = 0; i < values.length; i++) {
+            assertTrue(set.contains(values[i]));
+            assertFalse(set.contains(values[i] + 1));
+            assertFalse(set.contains(values[i] + (1L << 31)));
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0);
+        Set<Long> expected = new HashSet<Long>();
+        long[] values = new long[50000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+            expected.add(values[i]);
+        }
+        LongHashSet set = new LongHashSet(values);
+
+        assertEquals(expected.size(), set.size());
+        for (long value : values) {
+            assertTrue(set.contains(value));
+            // Same low 32 bits, different high 32 bits
+            long highBitsChanged = value ^ ((long) (random.nextInt() | 1) << 32);
+            assertEquals(expected.contains(highBitsChanged), set.contains(highBitsChanged));
+        }
+        for (int i = 0; i < 100000; i++) {
+            long value = random.nextLong();
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    public void testReadFrom() throws IOException {
+        LongHashSet set = LongHashSet.readFrom(new StringReader("1\n  2 \n\n-3\n"));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(2L));
+        assertTrue(set.contains(-3L));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testReadFromInvalid() throws IOException {
+        LongHashSet.readFrom(new StringReader("1\nabc\n"));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see PersistentList
+ */
+public class PersistentListTest {
+
+    @Test
+    public void testEmpty() {
+        PersistentList<Integer> list = PersistentList.empty();
+
+        assertTrue(list.isEmpty());
+        assertEquals(Collections.<Integer>emptyList(), list);
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @Test
+    public void testCopyOf() {
+        List<Integer> ref = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+        PersistentList<Integer> list = PersistentList.copyOf(ref);
+
+        assertEquals(ref, list);
+        assertEquals(ref.hashCode(), list.hashCode());
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void testOriginalUnchanged() {
+        PersistentList<Integer> list1 = PersistentList.copyOf(Arrays.asList(1, 2, 3));
+        PersistentList<Integer> list2 = list1.with(1, 5);
+        PersistentList<Integer> list3 = list2.plus(0, 0);
+        PersistentList<Integer> list4 = list3.minus(3);
+
+        assertEquals(Arrays.asList(1, 2, 3), list1);
+        assertEquals(Arrays.asList(1, 5, 3), list2);
+        assertEquals(Arrays.asList(0, 1, 5, 3), list3);
+        assertEquals(Arrays.asList(0, 1, 5), list4);
+    }
+
+    @Test
+    public void testWithSameItem() {
+        Integer item = 2;
+        PersistentList<Integer> list = PersistentList.copyOf(Arrays.asList(1, item, 3));
+
+        assertSame(list, list.with(1, item));
+        assertNotSame(list, list.with(1, 4));
+    }
+
+    @Test
+    public void testEquals() {
+        PersistentList<Integer> list1 = PersistentList.copyOf(Arrays.asList(1, 2, 3, 4, 5));
+        PersistentList<Integer> list2 = list1.with(3, 6);
+        PersistentList<Integer> list3 = list2.with(3, 4);
+        PersistentList<Integer> list4 = PersistentList.<Integer>empty().plus(1).plus(2).plus(3).plus(4).plus(5);
+
+        assertFalse(list1.equals(list2));
+        assertTrue(list1.equals(list3));
+        assertTrue(list1.equals(list4));
+        assertTrue(list4.equals(list1));
+        assertFalse(list4.equals(list2));
+        assertTrue(list1.equals(new ArrayList<Integer>(list1)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        PersistentList.copyOf(Arrays.asList(1, 2, 3)).get(3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        PersistentList.copyOf(Arrays.asList(1, 2, 3)).add(4);
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        List<Integer> ref = new ArrayList<Integer>();
+        PersistentList<Integer> list = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if ((operation == 0) || ref.isEmpty()) {
+                int index = random.nextInt(ref.size() + 1);
+                ref.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(ref.size());
+                ref.remove(index);
+                list = list.minus(index);
+            } else if (operation == 2) {
+                int index = random.nextInt(ref.size());
+                ref.set(index, -i);
+                list = list.with(index, -i);
+            } else {
+                list = list.plusAll(ref.size(), Arrays.asList(i, i + 1));
+                ref.addAll(Arrays.asList(i, i + 1));
+            }
+        }
+
+        assertEquals(ref, list);
+        assertEquals(ref, new ArrayList<Integer>(list));
+        for (int i = 0; i < ref.size(); i++) {
+            assertEquals(ref.get(i), list.get(i));
+        }
+    }
+}
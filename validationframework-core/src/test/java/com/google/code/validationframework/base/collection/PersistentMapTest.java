@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see PersistentMap
+ */
+public class PersistentMapTest {
+
+    /**
+     * Key with a poor hash code, to exercise hash collisions.
+     */
+    private static class CollidingKey {
+
+        private final int id;
+
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return (o instanceof CollidingKey) && (((CollidingKey) o).id == id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+
+        assertTrue(map.isEmpty());
+        assertEquals(Collections.<String, Integer>emptyMap(), map);
+        assertFalse(map.entrySet().iterator().hasNext());
+        assertSame(map, map.minus("a"));
+    }
+
+    @Test
+    public void testPlusAndMinus() {
+        PersistentMap<String, Integer> map0 = PersistentMap.empty();
+        PersistentMap<String, Integer> map1 = map0.plus("a", 1);
+        PersistentMap<String, Integer> map2 = map1.plus("b", 2);
+        PersistentMap<String, Integer> map3 = map2.plus("a", 3);
+        PersistentMap<String, Integer> map4 = map3.minus("b");
+
+        assertTrue(map0.isEmpty());
+        assertEquals(Collections.singletonMap("a", 1), map1);
+        assertEquals(2, map2.size());
+        assertEquals(Integer.valueOf(2), map2.get("b"));
+        assertEquals(2, map3.size());
+        assertEquals(Integer.valueOf(3), map3.get("a"));
+        assertEquals(Collections.singletonMap("a", 3), map4);
+
+        // Unchanged
+        assertSame(map3, map3.plus("a", map3.get("a")));
+        assertSame(map4, map4.minus("b"));
+    }
+
+    @Test
+    public void testNullKeyAndValue() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus(null, null).plus("a", 1);
+
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(null));
+        assertNull(map.get(null));
+        assertFalse(map.minus(null).containsKey(null));
+    }
+
+    @Test
+    public void testCollisions() {
+        Map<CollidingKey, Integer> ref = new HashMap<CollidingKey, Integer>();
+        PersistentMap<CollidingKey, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20; i++) {
+            ref.put(new CollidingKey(i), i);
+            map = map.plus(new CollidingKey(i), i);
+        }
+        assertEquals(ref, map);
+
+        for (int i = 0; i < 20; i += 2) {
+            ref.remove(new CollidingKey(i));
+            map = map.minus(new CollidingKey(i));
+        }
+        assertEquals(ref, map);
+        assertEquals(ref.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        Map<Integer, Integer> ref = new HashMap<Integer, Integer>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        List<PersistentMap<Integer, Integer>> versions = new ArrayList<PersistentMap<Integer, Integer>>();
+        List<Map<Integer, Integer>> refVersions = new ArrayList<Map<Integer, Integer>>();
+
+        for (int i = 0; i < 5000; i++) {
+            Integer key = random.nextInt(1000) * 65537;
+            if (random.nextInt(3) == 0) {
+                ref.remove(key);
+                map = map.minus(key);
+            } else {
+                ref.put(key, i);
+                map = map.plus(key, i);
+            }
+            if ((i % 500) == 0) {
+                versions.add(map);
+                refVersions.add(new HashMap<Integer, Integer>(ref));
+            }
+        }
+
+        assertEquals(ref.size(), map.size());
+        assertEquals(ref, map);
+        assertEquals(map, ref);
+        assertEquals(ref.keySet(), new HashSet<Integer>(map.keySet()));
+
+        // Previous versions are unchanged
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(refVersions.get(i), versions.get(i));
+        }
+    }
+}
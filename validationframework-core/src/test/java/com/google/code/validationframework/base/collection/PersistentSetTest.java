@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.collection;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see PersistentSet
+ */
+public class PersistentSetTest {
+
+    @Test
+    public void testEmpty() {
+        PersistentSet<String> set = PersistentSet.empty();
+
+        assertTrue(set.isEmpty());
+        assertEquals(Collections.<String>emptySet(), set);
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    public void testPlusAndMinus() {
+        Set<String> ref = new HashSet<String>(Arrays.asList("a", "b", "c"));
+        PersistentSet<String> set1 = PersistentSet.copyOf(ref);
+        PersistentSet<String> set2 = set1.plus("d");
+        PersistentSet<String> set3 = set2.minus("a");
+
+        assertEquals(ref, set1);
+        assertEquals(ref.hashCode(), set1.hashCode());
+        assertEquals(4, set2.size());
+        assertTrue(set2.contains("d"));
+        assertEquals(new HashSet<String>(Arrays.asList("b", "c", "d")), set3);
+
+        // Unchanged
+        assertSame(set2, set2.plus("a"));
+        assertSame(set3, set3.minus("a"));
+        assertSame(PersistentSet.empty(), PersistentSet.copyOf(Collections.singleton("a")).minus("a"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.common;
+
+import com.google.code.validationframework.base.validator.generalvalidator.GeneralValidator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see LeakDetector
+ */
+public class LeakDetectorTest {
+
+    @Before
+    public void setUp() {
+        LeakDetector.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        LeakDetector.setEnabled(false);
+    }
+
+    @Test
+    public void testUndisposedValidator() {
+        GeneralValidator<Object, Object, Object, Object> validator = new GeneralValidator<Object, Object, Object,
+                Object>();
+
+        Map<Object, Throwable> undisposed = LeakDetector.getUndisposed();
+        assertTrue(undisposed.containsKey(validator));
+        assertNotNull(undisposed.get(validator).getStackTrace());
+    }
+
+    @Test
+    public void testDisposedValidator() {
+        GeneralValidator<Object, Object, Object, Object> validator = new GeneralValidator<Object, Object, Object,
+                Object>();
+        validator.dispose();
+
+        assertFalse(LeakDetector.getUndisposed().containsKey(validator));
+    }
+
+    @Test
+    public void testDisabled() {
+        LeakDetector.setEnabled(false);
+        GeneralValidator<Object, Object, Object, Object> validator = new GeneralValidator<Object, Object, Object,
+                Object>();
+
+        assertFalse(LeakDetector.getUndisposed().containsKey(validator));
+    }
+}
@@ -31,10 +31,13 @@ import com.google.code.validationframework.test.ListMatcher;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static com.google.code.validationframework.test.TestUtils.haveEqualElements;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
@@ -95,4 +98,35 @@ public class CompositeReadablePropertyTest {
         verify(mockListener).valueChanged(eq(compositeProperty), argThat(new ListMatcher<Integer>(expectedOldValues))
                 , argThat(new ListMatcher<Integer>(expectedNewValues)));
     }
+
+    @Test
+    public void testRemoveProperty() {
+        SimpleIntegerProperty compoundProperty1 = new SimpleIntegerProperty(1);
+        SimpleIntegerProperty compoundProperty2 = new SimpleIntegerProperty(2);
+        SimpleIntegerProperty compoundProperty3 = new SimpleIntegerProperty(3);
+        CompositeReadableProperty<Integer> compositeProperty = new CompositeReadableProperty<Integer>
+                (compoundProperty1, compoundProperty2, compoundProperty3);
+
+        compositeProperty.removeProperty(compoundProperty2);
+        assertEquals(Arrays.asList(1, 3), new ArrayList<Integer>(compositeProperty.getValue()));
+
+        // Changes should be reflected at the shifted position, and no longer for the removed property
+        compoundProperty3.setValue(6);
+        compoundProperty2.setValue(5);
+        assertEquals(Arrays.asList(1, 6), new ArrayList<Integer>(compositeProperty.getValue()));
+    }
+
+    @Test
+    public void testClear() {
+        SimpleIntegerProperty compoundProperty1 = new SimpleIntegerProperty(1);
+        SimpleIntegerProperty compoundProperty2 = new SimpleIntegerProperty(2);
+        CompositeReadableProperty<Integer> compositeProperty = new CompositeReadableProperty<Integer>
+                (compoundProperty1, compoundProperty2);
+
+        compositeProperty.clear();
+        assertTrue(compositeProperty.getValue().isEmpty());
+
+        compoundProperty1.setValue(5);
+        assertEquals(Collections.<Integer>emptyList(), new ArrayList<Integer>(compositeProperty.getValue()));
+    }
 }
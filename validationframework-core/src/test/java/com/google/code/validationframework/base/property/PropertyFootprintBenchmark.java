@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.property;
+
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.base.property.simple.SimpleBooleanProperty;
+import com.google.code.validationframework.base.property.simple.SimpleIntegerProperty;
+import com.google.code.validationframework.base.property.simple.SimpleProperty;
+import com.google.code.validationframework.base.property.simple.SimpleStringProperty;
+
+/**
+ * Benchmark estimating the retained memory per property instance from heap usage deltas.
+ * <p>
+ * The figures depend on the JVM, the garbage collector and the use of compressed references. They are only meaningful
+ * when explicit garbage collection is enabled.
+ * <p>
+ * This is not a unit test: run the main method manually.
+ */
+public final class PropertyFootprintBenchmark {
+
+    private interface PropertyFactory {
+
+        AbstractReadableProperty<?> create();
+    }
+
+    private static final int INSTANCE_COUNT = 100000;
+
+    private static final ValueChangeListener<Object> SHARED_LISTENER = new ValueChangeListener<Object>() {
+        @Override
+        public void valueChanged(ReadableProperty<Object> property, Object oldValue, Object newValue) {
+            // Nothing to be done
+        }
+    };
+
+    private PropertyFootprintBenchmark() {
+        // Nothing to be done
+    }
+
+    public static void main(final String[] args) {
+        measure("SimpleProperty without listener", new PropertyFactory() {
+            @Override
+            public AbstractReadableProperty<?> create() {
+                return new SimpleProperty<Object>();
+            }
+        });
+        measure("SimpleProperty with one listener", new PropertyFactory() {
+            @Override
+            public AbstractReadableProperty<?> create() {
+                SimpleProperty<Object> property = new SimpleProperty<Object>();
+                property.addValueChangeListener(SHARED_LISTENER);
+                return property;
+            }
+        });
+        measure("SimpleBooleanProperty without listener", new PropertyFactory() {
+            @Override
+            public AbstractReadableProperty<?> create() {
+                return new SimpleBooleanProperty();
+            }
+        });
+        measure("SimpleIntegerProperty without listener", new PropertyFactory() {
+            @Override
+            public AbstractReadableProperty<?> create() {
+                return new SimpleIntegerProperty();
+            }
+        });
+        measure("SimpleStringProperty after inhibition", new PropertyFactory() {
+            @Override
+            public AbstractReadableProperty<?> create() {
+                SimpleStringProperty property = new SimpleStringProperty();
+                property.setInhibited(true);
+                property.setInhibited(false);
+                return property;
+            }
+        });
+    }
+
+    private static void measure(String description, PropertyFactory factory) {
+        Object[] instances = new Object[INSTANCE_COUNT];
+        long before = usedMemory();
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            instances[i] = factory.create();
+        }
+        long after = usedMemory();
+
+        long bytesPerInstance = (after - before) / INSTANCE_COUNT;
+        System.out.println(description + ": " + bytesPerInstance + " bytes (" + instances.length + " instances)");
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
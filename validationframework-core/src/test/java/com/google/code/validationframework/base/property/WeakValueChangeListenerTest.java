@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.property;
+
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.base.common.ReferenceSweeper;
+import com.google.code.validationframework.base.property.simple.SimpleIntegerProperty;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see WeakValueChangeListener
+ */
+public class WeakValueChangeListenerTest {
+
+    private static class RecordingListener implements ValueChangeListener<Integer> {
+
+        private final List<Integer> values = new ArrayList<Integer>();
+
+        @Override
+        public void valueChanged(ReadableProperty<Integer> property, Integer oldValue, Integer newValue) {
+            values.add(newValue);
+        }
+    }
+
+    @Test
+    public void testForwarding() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(0);
+        RecordingListener delegate = new RecordingListener();
+        new WeakValueChangeListener<Integer>(property, delegate);
+
+        property.setValue(1);
+        property.setValue(2);
+
+        assertEquals(2, delegate.values.size());
+        assertEquals(Integer.valueOf(2), delegate.values.get(1));
+    }
+
+    @Test
+    public void testDispose() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(0);
+        RecordingListener delegate = new RecordingListener();
+        WeakValueChangeListener<Integer> listener = new WeakValueChangeListener<Integer>(property, delegate);
+
+        listener.dispose();
+        property.setValue(1);
+
+        assertTrue(delegate.values.isEmpty());
+        assertTrue(property.getValueChangeListeners().isEmpty());
+    }
+
+    @Test
+    public void testSweepAfterGarbageCollection() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(0);
+        RecordingListener delegate = new RecordingListener();
+        WeakValueChangeListener<Integer> listener = new WeakValueChangeListener<Integer>(property, delegate);
+
+        // Simulate the garbage collection of the delegate
+        WeakReference<ValueChangeListener<Integer>> reference = listener.getDelegateReference();
+        reference.clear();
+        assertTrue(reference.enqueue());
+        assertTrue(ReferenceSweeper.sweep() >= 1);
+
+        assertNull(listener.getDelegate());
+        assertTrue(property.getValueChangeListeners().isEmpty());
+        property.setValue(1);
+        assertTrue(delegate.values.isEmpty());
+    }
+
+    @Test
+    public void testDisposeOnValueChangeAfterGarbageCollection() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty(0);
+        RecordingListener delegate = new RecordingListener();
+        WeakValueChangeListener<Integer> listener = new WeakValueChangeListener<Integer>(property, delegate);
+
+        // Simulate the garbage collection of the delegate, without sweeping
+        listener.getDelegateReference().clear();
+        property.setValue(1);
+
+        assertTrue(delegate.values.isEmpty());
+        assertTrue(property.getValueChangeListeners().isEmpty());
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.property.concurrent;
+
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see ConcurrentProperty
+ */
+public class ConcurrentPropertyTest {
+
+    private static class RecordingListener<T> implements ValueChangeListener<T> {
+
+        private final List<T> oldValues = new ArrayList<T>();
+
+        private final List<T> newValues = new ArrayList<T>();
+
+        @Override
+        public synchronized void valueChanged(ReadableProperty<T> property, T oldValue, T newValue) {
+            oldValues.add(oldValue);
+            newValues.add(newValue);
+        }
+    }
+
+    private static class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new LinkedList<Runnable>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        public void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+
+    @Test
+    public void testSetValue() {
+        ConcurrentProperty<String> property = new ConcurrentProperty<String>("a");
+        RecordingListener<String> listener = new RecordingListener<String>();
+        property.addValueChangeListener(listener);
+
+        property.setValue("b");
+        property.setValue("b");
+        property.setValue(null);
+
+        assertEquals(null, property.getValue());
+        assertEquals(2, listener.newValues.size());
+        assertEquals("a", listener.oldValues.get(0));
+        assertEquals("b", listener.newValues.get(0));
+        assertEquals("b", listener.oldValues.get(1));
+        assertEquals(null, listener.newValues.get(1));
+    }
+
+    @Test
+    public void testCompareAndSet() {
+        ConcurrentProperty<String> property = new ConcurrentProperty<String>("a");
+        RecordingListener<String> listener = new RecordingListener<String>();
+        property.addValueChangeListener(listener);
+
+        assertFalse(property.compareAndSet("b", "c"));
+        assertEquals("a", property.getValue());
+        assertTrue(property.compareAndSet("a", "c"));
+        assertEquals("c", property.getValue());
+        assertEquals(1, listener.newValues.size());
+    }
+
+    @Test
+    public void testSetValueFromListener() {
+        final ConcurrentIntegerProperty property = new ConcurrentIntegerProperty(0);
+        RecordingListener<Integer> recorder = new RecordingListener<Integer>();
+        property.addValueChangeListener(new ValueChangeListener<Integer>() {
+            @Override
+            public void valueChanged(ReadableProperty<Integer> p, Integer oldValue, Integer newValue) {
+                if (newValue < 3) {
+                    property.incrementAndGet();
+                }
+            }
+        });
+        property.addValueChangeListener(recorder);
+
+        property.setValue(1);
+
+        // All listeners are notified of an event before the next one is fired
+        assertEquals(3, property.getValue().intValue());
+        assertEquals(3, recorder.newValues.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, recorder.oldValues.get(i).intValue());
+            assertEquals(i + 1, recorder.newValues.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testExecutor() {
+        QueueExecutor executor = new QueueExecutor();
+        ConcurrentProperty<Integer> property = new ConcurrentProperty<Integer>(0, executor, false);
+        RecordingListener<Integer> listener = new RecordingListener<Integer>();
+        property.addValueChangeListener(listener);
+
+        property.setValue(1);
+        property.setValue(2);
+        property.setValue(3);
+        assertEquals(0, listener.newValues.size());
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(3, listener.newValues.size());
+        assertEquals(3, listener.newValues.get(2).intValue());
+    }
+
+    @Test
+    public void testListenerThrowingError() {
+        ConcurrentProperty<Integer> property = new ConcurrentProperty<Integer>(0);
+        RecordingListener<Integer> listener = new RecordingListener<Integer>();
+        property.addValueChangeListener(new ValueChangeListener<Integer>() {
+            @Override
+            public void valueChanged(ReadableProperty<Integer> p, Integer oldValue, Integer newValue) {
+                if (newValue == 1) {
+                    throw new AssertionError("Expected error");
+                }
+            }
+        });
+        property.addValueChangeListener(listener);
+
+        try {
+            property.setValue(1);
+            fail("Error should have been propagated");
+        } catch (AssertionError e) {
+            // Expected
+        }
+
+        // Next value changes should still be notified
+        property.setValue(2);
+        assertEquals(1, listener.newValues.size());
+        assertEquals(2, listener.newValues.get(0).intValue());
+    }
+
+    @Test
+    public void testRejectingExecutor() {
+        final QueueExecutor delegate = new QueueExecutor();
+        final List<ConcurrentProperty<Integer>> holder = new ArrayList<ConcurrentProperty<Integer>>();
+        Executor executor = new Executor() {
+
+            private int calls = 0;
+
+            @Override
+            public void execute(Runnable command) {
+                calls++;
+                if (calls == 1) {
+                    // Simulate a concurrent value change relying on this notification, then reject
+                    holder.get(0).setValue(2);
+                    throw new RejectedExecutionException("Expected rejection");
+                }
+                delegate.execute(command);
+            }
+        };
+        ConcurrentProperty<Integer> property = new ConcurrentProperty<Integer>(0, executor, false);
+        holder.add(property);
+        RecordingListener<Integer> listener = new RecordingListener<Integer>();
+        property.addValueChangeListener(listener);
+
+        // The rejection should be retried on behalf of the concurrent value change
+        property.setValue(1);
+        assertEquals(1, delegate.tasks.size());
+        delegate.runAll();
+        assertEquals(2, listener.newValues.size());
+        assertEquals(2, listener.newValues.get(1).intValue());
+
+        // Next value changes should still be notified
+        property.setValue(3);
+        delegate.runAll();
+        assertEquals(3, listener.newValues.size());
+    }
+
+    @Test
+    public void testConflation() {
+        QueueExecutor executor = new QueueExecutor();
+        ConcurrentProperty<Integer> property = new ConcurrentProperty<Integer>(0, executor, true);
+        RecordingListener<Integer> listener = new RecordingListener<Integer>();
+        property.addValueChangeListener(listener);
+
+        property.setValue(1);
+        property.setValue(2);
+        property.setValue(3);
+        executor.runAll();
+        assertEquals(1, listener.newValues.size());
+        assertEquals(0, listener.oldValues.get(0).intValue());
+        assertEquals(3, listener.newValues.get(0).intValue());
+
+        // Back to the last notified value: nothing to notify
+        property.setValue(4);
+        property.setValue(3);
+        executor.runAll();
+        assertEquals(1, listener.newValues.size());
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        final int threadCount = 4;
+        final int incrementCount = 10000;
+        final ConcurrentLongProperty property = new ConcurrentLongProperty(0L);
+        RecordingListener<Long> listener = new RecordingListener<Long>();
+        property.addValueChangeListener(listener);
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int j = 0; j < incrementCount; j++) {
+                        property.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // No update lost, no event lost, and events in order
+        long expected = (long) threadCount * incrementCount;
+        assertEquals(expected, property.getValue().longValue());
+        assertEquals(expected, listener.newValues.size());
+        for (int i = 0; i < listener.newValues.size(); i++) {
+            assertEquals(i, listener.oldValues.get(i).longValue());
+            assertEquals(i + 1, listener.newValues.get(i).longValue());
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.junit.Test;
 import org.mockito.Matchers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -175,6 +176,21 @@ public class SimpleListPropertyTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void testSet() {
+        SimpleListProperty<Integer> property = new SimpleListProperty<Integer>(Arrays.asList(1, 2, 3));
+        ListValueChangeListener<Integer> listener = mock(ListValueChangeListener.class);
+        property.addValueChangeListener(listener);
+
+        assertEquals(Integer.valueOf(2), property.set(1, 5));
+        assertEquals(Integer.valueOf(5), property.set(1, 5));
+
+        assertTrue(haveEqualElements(Arrays.asList(1, 5, 3), property));
+        verify(listener).valuesChanged(eq(property), eq(1), matches(Collections.singletonList(2)), matches
+                (Collections.singletonList(5)));
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void testAddAll() {
         SimpleListProperty<Integer> property = new SimpleListProperty<Integer>();
@@ -526,4 +542,21 @@ public class SimpleListPropertyTest {
         assertArrayEquals(ref, property.toArray());
         assertArrayEquals(ref, property.toArray(new Integer[3]));
     }
+
+    @Test
+    public void testSnapshot() {
+        SimpleListProperty<Integer> property = new SimpleListProperty<Integer>();
+        property.add(1);
+        property.add(2);
+        List<Integer> snapshot = property.snapshot();
+        List<Integer> view = property.asUnmodifiableList();
+
+        property.add(3);
+        property.set(0, 4);
+        property.remove(1);
+
+        assertEquals(Arrays.asList(1, 2), snapshot);
+        assertEquals(Arrays.asList(4, 3), view);
+        assertEquals(Arrays.asList(4, 3), property.snapshot());
+    }
 }
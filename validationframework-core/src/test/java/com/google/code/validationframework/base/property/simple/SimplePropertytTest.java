@@ -29,6 +29,8 @@ import com.google.code.validationframework.api.property.ValueChangeListener;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
@@ -110,4 +112,51 @@ public class SimplePropertytTest {
         // Check no event fired
         verify(listenerMock, never()).valueChanged(any(SimpleProperty.class), anyInt(), anyInt());
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAddAndRemoveListeners() {
+        SimpleProperty<Integer> property = new SimpleProperty<Integer>();
+        ValueChangeListener<Integer> listenerMock1 = (ValueChangeListener<Integer>) mock(ValueChangeListener.class);
+        ValueChangeListener<Integer> listenerMock2 = (ValueChangeListener<Integer>) mock(ValueChangeListener.class);
+        ValueChangeListener<Integer> listenerMock3 = (ValueChangeListener<Integer>) mock(ValueChangeListener.class);
+
+        property.addValueChangeListener(listenerMock1);
+        property.addValueChangeListener(listenerMock2);
+        property.addValueChangeListener(listenerMock3);
+        assertEquals(3, property.getValueChangeListeners().size());
+
+        property.removeValueChangeListener(listenerMock2);
+        property.setValue(1);
+        property.removeValueChangeListener(listenerMock1);
+        property.setValue(2);
+        property.removeValueChangeListener(listenerMock3);
+        property.setValue(3);
+
+        assertTrue(property.getValueChangeListeners().isEmpty());
+        verify(listenerMock1).valueChanged(property, null, 1);
+        verify(listenerMock2, never()).valueChanged(any(SimpleProperty.class), anyInt(), anyInt());
+        verify(listenerMock3).valueChanged(property, null, 1);
+        verify(listenerMock3).valueChanged(property, 1, 2);
+        verify(listenerMock3, times(2)).valueChanged(any(SimpleProperty.class), anyInt(), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInhibitWithInitialValue() {
+        SimpleProperty<Integer> property = new SimpleProperty<Integer>(2);
+        ValueChangeListener<Integer> listenerMock = (ValueChangeListener<Integer>) mock(ValueChangeListener.class);
+        property.addValueChangeListener(listenerMock);
+
+        property.setInhibited(true);
+        assertTrue(property.isInhibited());
+        property.setValue(3);
+        property.setValue(4);
+        property.setInhibited(false);
+        assertFalse(property.isInhibited());
+
+        // Check exactly one event fired, from the value before inhibition
+        verify(listenerMock).valueChanged(property, 2, 4);
+        verify(listenerMock).valueChanged(any(SimpleProperty.class), anyInt(), anyInt());
+    }
 }
@@ -28,6 +28,7 @@ package com.google.code.validationframework.base.property.simple;
 import com.google.code.validationframework.api.property.SetValueChangeListener;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -428,4 +429,20 @@ public class SimpleSetPropertyTest {
         assertArrayEquals(ref, property.toArray());
         assertArrayEquals(ref, property.toArray(new Integer[3]));
     }
+
+    @Test
+    public void testSnapshot() {
+        SimpleSetProperty<Integer> property = new SimpleSetProperty<Integer>();
+        property.add(1);
+        property.add(2);
+        Set<Integer> snapshot = property.snapshot();
+        Set<Integer> view = property.asUnmodifiableSet();
+
+        property.add(3);
+        property.remove(1);
+
+        assertEquals(new HashSet<Integer>(Arrays.asList(1, 2)), snapshot);
+        assertEquals(new HashSet<Integer>(Arrays.asList(2, 3)), view);
+        assertEquals(new HashSet<Integer>(Arrays.asList(2, 3)), property.snapshot());
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.resulthandler;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see CoalescingResultHandler
+ */
+public class CoalescingResultHandlerTest {
+
+    private static class RecordingResultHandler implements ResultHandler<Boolean>, Disposable {
+
+        private final List<Boolean> results = Collections.synchronizedList(new ArrayList<Boolean>());
+
+        private boolean disposed = false;
+
+        @Override
+        public void handleResult(Boolean result) {
+            results.add(result);
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+    }
+
+    private static class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new LinkedList<Runnable>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        public void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+
+    @Test
+    public void testCoalescing() {
+        RecordingResultHandler wrapped = new RecordingResultHandler();
+        QueueExecutor executor = new QueueExecutor();
+        CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped, executor);
+
+        resultHandler.handleResult(true);
+        resultHandler.handleResult(false);
+        resultHandler.handleResult(null);
+        assertEquals(1, executor.tasks.size());
+        assertTrue(wrapped.results.isEmpty());
+
+        executor.runAll();
+        assertEquals(Arrays.asList((Boolean) null), wrapped.results);
+
+        resultHandler.handleResult(false);
+        resultHandler.handleResult(true);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(Arrays.asList(null, true), wrapped.results);
+    }
+
+    @Test
+    public void testChangeOnly() {
+        RecordingResultHandler wrapped = new RecordingResultHandler();
+        CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped, null);
+
+        resultHandler.handleResult(false);
+        resultHandler.handleResult(false);
+        resultHandler.handleResult(true);
+        resultHandler.handleResult(true);
+        resultHandler.handleResult(null);
+        resultHandler.handleResult(null);
+        resultHandler.handleResult(false);
+
+        assertEquals(Arrays.asList(false, true, null, false), wrapped.results);
+    }
+
+    @Test
+    public void testFirstNullResult() {
+        RecordingResultHandler wrapped = new RecordingResultHandler();
+        CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped, null);
+
+        resultHandler.handleResult(null);
+
+        assertEquals(Arrays.asList((Boolean) null), wrapped.results);
+    }
+
+    @Test
+    public void testResultHandlerThrowingError() {
+        final RecordingResultHandler recorder = new RecordingResultHandler();
+        ResultHandler<Boolean> wrapped = new ResultHandler<Boolean>() {
+            @Override
+            public void handleResult(Boolean result) {
+                if (result == null) {
+                    throw new AssertionError("Expected error");
+                }
+                recorder.handleResult(result);
+            }
+        };
+        CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped, null);
+
+        try {
+            resultHandler.handleResult(null);
+            fail("Error should have been propagated");
+        } catch (AssertionError e) {
+            // Expected
+        }
+
+        // Next results should still be delivered
+        resultHandler.handleResult(true);
+        assertEquals(Arrays.asList(true), recorder.results);
+    }
+
+    @Test
+    public void testRejectingExecutor() {
+        RecordingResultHandler wrapped = new RecordingResultHandler();
+        final QueueExecutor delegate = new QueueExecutor();
+        final List<CoalescingResultHandler<Boolean>> holder = new ArrayList<CoalescingResultHandler<Boolean>>();
+        Executor executor = new Executor() {
+
+            private int calls = 0;
+
+            @Override
+            public void execute(Runnable task) {
+                calls++;
+                if (calls == 1) {
+                    // Simulate a concurrent result relying on this delivery, then reject
+                    holder.get(0).handleResult(false);
+                    throw new RejectedExecutionException("Expected rejection");
+                }
+                delegate.execute(task);
+            }
+        };
+        CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped, executor);
+        holder.add(resultHandler);
+
+        // The rejection should be retried on behalf of the concurrent result
+        resultHandler.handleResult(true);
+        assertEquals(1, delegate.tasks.size());
+        delegate.runAll();
+        assertEquals(Arrays.asList(false), wrapped.results);
+
+        // Next results should still be delivered
+        resultHandler.handleResult(true);
+        delegate.runAll();
+        assertEquals(Arrays.asList(false, true), wrapped.results);
+    }
+
+    @Test
+    public void testDispose() {
+        RecordingResultHandler wrapped = new RecordingResultHandler();
+        QueueExecutor executor = new QueueExecutor();
+        CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped, executor);
+
+        resultHandler.handleResult(true);
+        resultHandler.dispose();
+        executor.runAll();
+        resultHandler.handleResult(false);
+
+        assertTrue(wrapped.disposed);
+        assertTrue(wrapped.results.isEmpty());
+        assertTrue(executor.tasks.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentResults() throws InterruptedException {
+        RecordingResultHandler wrapped = new RecordingResultHandler();
+        ExecutorService deliveryExecutor = Executors.newSingleThreadExecutor();
+        final CoalescingResultHandler<Boolean> resultHandler = new CoalescingResultHandler<Boolean>(wrapped,
+                deliveryExecutor);
+
+        int threadCount = 4;
+        final int resultCount = 10000;
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < resultCount; i++) {
+                        resultHandler.handleResult((i % 2) == 0);
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        // Deliver the last result
+        resultHandler.handleResult(null);
+        deliveryExecutor.shutdown();
+        assertTrue(deliveryExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Successive results must always differ, and the latest one must have been delivered
+        List<Boolean> results = new ArrayList<Boolean>(wrapped.results);
+        assertTrue(results.size() < threadCount * resultCount);
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue((results.get(i - 1) == null) ? (results.get(i) != null) : !results.get(i - 1).equals(results
+                    .get(i)));
+        }
+        assertEquals(null, results.get(results.size() - 1));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.date;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see DateBetweenRule
+ */
+public class DateBetweenRuleTest {
+
+    @Test
+    public void testValidate() {
+        DateBetweenRule<Date> rule = new DateBetweenRule<Date>(new Date(1000), new Date(2000));
+
+        assertEquals(false, rule.validate(new Date(999)));
+        assertEquals(true, rule.validate(new Date(1000)));
+        assertEquals(true, rule.validate(new Date(2000)));
+        assertEquals(false, rule.validate(new Date(2001)));
+        assertEquals(false, rule.validate(null));
+    }
+
+    @Test
+    public void testOpenBounds() {
+        DateBetweenRule<Date> rule = new DateBetweenRule<Date>(null, new Date(2000));
+        assertEquals(true, rule.validate(new Date(Long.MIN_VALUE)));
+        assertEquals(false, rule.validate(new Date(2001)));
+
+        rule = new DateBetweenRule<Date>(new Date(1000), null);
+        assertEquals(false, rule.validate(new Date(999)));
+        assertEquals(true, rule.validate(new Date(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testCalendar() {
+        DateBetweenRule<Calendar> rule = new DateBetweenRule<Calendar>(new GregorianCalendar(2017, 0, 1), new
+                GregorianCalendar(2017, 11, 31));
+
+        assertEquals(true, rule.validate(new GregorianCalendar(2017, 5, 15)));
+        assertEquals(false, rule.validate(new GregorianCalendar(2018, 0, 1)));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.number;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see NumberRangesRule
+ */
+public class NumberRangesRuleTest {
+
+    @Test
+    public void testLongRanges() {
+        NumberRangesRule<Number> rule = new NumberRangesRule<Number>();
+        assertEquals(0, rule.addRange(10L, 20L));
+        assertEquals(1, rule.addRange(-5L, 0L));
+        assertEquals(2, rule.addRange(100L, 100L));
+
+        assertEquals(false, rule.validate(-6));
+        assertEquals(true, rule.validate(-5));
+        assertEquals(true, rule.validate(0L));
+        assertEquals(false, rule.validate((short) 1));
+        assertEquals(true, rule.validate((byte) 15));
+        assertEquals(false, rule.validate(21));
+        assertEquals(true, rule.validate(100));
+        assertEquals(true, rule.validate(100.0));
+        assertEquals(false, rule.validate(100.5));
+        assertEquals(true, rule.validate(new BigDecimal("12.5")));
+        assertEquals(true, rule.validate(BigInteger.valueOf(12)));
+        assertEquals(false, rule.validate(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)));
+        assertEquals(false, rule.validate(null));
+
+        assertEquals(1, rule.indexOfRange(-1L));
+        assertEquals(0, rule.indexOfRange(10.0));
+        assertEquals(NumberRangesRule.NO_RANGE, rule.indexOfRange(50L));
+        assertEquals(Long.valueOf(100L), rule.getRangeMinimum(2));
+    }
+
+    @Test
+    public void testDoubleRanges() {
+        NumberRangesRule<Number> rule = new NumberRangesRule<Number>();
+        rule.addRange(0.5, 1.5);
+        rule.addRange(2.25, 2.75);
+        rule.addRange(1e30, 2e30);
+
+        assertEquals(false, rule.validate(0));
+        assertEquals(true, rule.validate(1));
+        assertEquals(false, rule.validate(2));
+        assertEquals(true, rule.validate(2.5));
+        assertEquals(false, rule.validate(Double.NaN));
+        assertEquals(true, rule.validate(1.5e30));
+        assertEquals(false, rule.validate(Long.MAX_VALUE));
+        assertEquals(false, rule.validate(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void testOverlappingRanges() {
+        NumberRangesRule<Long> rule = new NumberRangesRule<Long>();
+        rule.addRange(0L, 1000L);
+        rule.addRange(10L, 20L);
+        rule.addRange(30L, 40L);
+
+        assertEquals(true, rule.validate(25L));
+        assertEquals(0, rule.indexOfRange(25L));
+        int index = rule.indexOfRange(35L);
+        assertTrue((index == 0) || (index == 2));
+        assertEquals(false, rule.validate(1001L));
+    }
+
+    @Test
+    public void testAgainstLinearSearch() {
+        Random random = new Random(0);
+        NumberRangesRule<Long> rule = new NumberRangesRule<Long>();
+        long[][] ranges = new long[1000][];
+        for (int i = 0; i < ranges.length; i++) {
+            long minimum = random.nextInt(1000000);
+            long maximum = minimum + random.nextInt((i % 10 == 0) ? 20000 : 200);
+            ranges[i] = new long[]{minimum, maximum};
+            rule.addRange(minimum, maximum);
+        }
+
+        for (int i = 0; i < 100000; i++) {
+            long value = random.nextInt(1010000) - 5000;
+            boolean expected = false;
+            for (long[] range : ranges) {
+                expected |= (range[0] <= value) && (value <= range[1]);
+            }
+            int index = rule.indexOfRange(value);
+            assertEquals(expected, index != NumberRangesRule.NO_RANGE);
+            if (expected) {
+                assertTrue((ranges[index][0] <= value) && (value <= ranges[index][1]));
+            }
+            assertEquals(expected, rule.indexOfRange((double) value) != NumberRangesRule.NO_RANGE);
+        }
+    }
+
+    @Test
+    public void testClear() {
+        NumberRangesRule<Integer> rule = new NumberRangesRule<Integer>();
+        rule.addRange(0L, 10L);
+        assertEquals(true, rule.validate(5));
+
+        rule.clearRanges();
+        assertEquals(0, rule.getRangeCount());
+        assertEquals(false, rule.validate(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        new NumberRangesRule<Integer>().addRange(10L, 0L);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.object;
+
+import com.google.code.validationframework.base.collection.CompactStringSet;
+import com.google.code.validationframework.base.collection.LongHashSet;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see AbstractInSetRule
+ */
+public class InSetRuleTest {
+
+    @Test
+    public void testObjects() {
+        Set<String> values = new HashSet<String>();
+        values.add("A");
+        values.add("B");
+        InSetRule<String> rule = new InSetRule<String>(values);
+
+        assertEquals(true, rule.validate("A"));
+        assertEquals(false, rule.validate("C"));
+        assertEquals(false, rule.validate(null));
+
+        // The rule should not be affected by later modifications of the set
+        values.add("C");
+        assertEquals(false, rule.validate("C"));
+
+        rule.setValues(values);
+        assertEquals(true, rule.validate("C"));
+
+        rule.setValues((Set<String>) null);
+        assertEquals(false, rule.validate("A"));
+    }
+
+    @Test
+    public void testInts() {
+        IntInSetRule<Number> rule = new IntInSetRule<Number>(1, 2, 3);
+
+        assertEquals(true, rule.validate(1));
+        assertEquals(true, rule.validate(2L));
+        assertEquals(true, rule.validate((short) 3));
+        assertEquals(true, rule.validate(3.0));
+        assertEquals(false, rule.validate(3.5));
+        assertEquals(false, rule.validate(4));
+        assertEquals(false, rule.validate(1L + (1L << 32)));
+        assertEquals(false, rule.validate(Double.NaN));
+    }
+
+    @Test
+    public void testLongs() {
+        LongInSetRule<Number> rule = new LongInSetRule<Number>(Long.MAX_VALUE, 0L);
+
+        assertEquals(true, rule.validate(Long.MAX_VALUE));
+        assertEquals(true, rule.validate(0));
+        assertEquals(true, rule.validate(new BigDecimal("0.0")));
+        assertEquals(false, rule.validate(1e19));
+        assertEquals(false, rule.validate(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testStrings() {
+        StringInSetRule<CharSequence> rule = new StringInSetRule<CharSequence>("EUR", "USD");
+
+        assertEquals(true, rule.validate("EUR"));
+        assertEquals(true, rule.validate(new StringBuilder("USD")));
+        assertEquals(false, rule.validate("eur"));
+        assertEquals(false, rule.validate(null));
+    }
+
+    @Test
+    public void testHotSwap() throws IOException {
+        StringInSetRule<String> stringRule = new StringInSetRule<String>("A");
+        LongInSetRule<Long> longRule = new LongInSetRule<Long>(1L);
+
+        stringRule.setValues(CompactStringSet.readFrom(new StringReader("B\nC\n")));
+        longRule.setValues(LongHashSet.readFrom(new StringReader("2\n3\n")));
+
+        assertEquals(false, stringRule.validate("A"));
+        assertEquals(true, stringRule.validate("C"));
+        assertEquals(false, longRule.validate(1L));
+        assertEquals(true, longRule.validate(3L));
+    }
+}
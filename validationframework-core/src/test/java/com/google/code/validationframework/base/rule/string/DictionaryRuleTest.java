@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import com.google.code.validationframework.base.collection.CompactTrie;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DictionaryRule
+ */
+public class DictionaryRuleTest {
+
+    private static final CompactTrie DICTIONARY = new CompactTrie(Arrays.asList("apple", "apricot", "banana"));
+
+    @Test
+    public void testWords() {
+        DictionaryRule rule = new DictionaryRule(DICTIONARY);
+
+        assertTrue(rule.validate("apple"));
+        assertTrue(rule.validate("  banana "));
+        assertTrue(rule.validate(new StringBuilder("apricot")));
+        assertFalse(rule.validate("ap"));
+        assertFalse(rule.validate("cherry"));
+        assertFalse(rule.validate(""));
+        assertFalse(rule.validate((String) null));
+    }
+
+    @Test
+    public void testPrefixes() {
+        DictionaryRule rule = new DictionaryRule(DICTIONARY, true);
+
+        assertTrue(rule.validate("apple"));
+        assertTrue(rule.validate("ap"));
+        assertTrue(rule.validate(""));
+        assertFalse(rule.validate("apples"));
+        assertFalse(rule.validate("c"));
+        assertFalse(rule.validate((String) null));
+    }
+
+    @Test
+    public void testNoTrimming() {
+        DictionaryRule rule = new DictionaryRule(DICTIONARY);
+        rule.setTrimDataBeforeValidation(false);
+
+        assertTrue(rule.validate("apple"));
+        assertFalse(rule.validate(" apple"));
+    }
+}
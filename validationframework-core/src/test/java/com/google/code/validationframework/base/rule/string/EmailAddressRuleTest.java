@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see EmailAddressRule
+ */
+public class EmailAddressRuleTest {
+
+    @Test
+    public void testValid() {
+        EmailAddressRule rule = new EmailAddressRule();
+
+        assertTrue(rule.validate("john.doe@example.com"));
+        assertTrue(rule.validate("john+tag@mail.example-domain.org"));
+        assertTrue(rule.validate("!#$%&'*+-/=?^_`{|}~@x1.io"));
+        assertTrue(rule.validate(" a@b.c "));
+    }
+
+    @Test
+    public void testInvalid() {
+        EmailAddressRule rule = new EmailAddressRule();
+
+        assertEquals(20, rule.getErrorIndex("john.doe.example.com"));
+        assertEquals(0, rule.getErrorIndex(".john@example.com"));
+        assertEquals(5, rule.getErrorIndex("john..doe@example.com"));
+        assertEquals(5, rule.getErrorIndex("john.@example.com"));
+        assertEquals(0, rule.getErrorIndex("@example.com"));
+        assertEquals(4, rule.getErrorIndex("john doe@example.com"));
+        assertEquals(12, rule.getErrorIndex("john@example"));
+        assertEquals(13, rule.getErrorIndex("john@example."));
+        assertEquals(13, rule.getErrorIndex("john@example..com"));
+        assertEquals(5, rule.getErrorIndex("john@-example.com"));
+        assertEquals(12, rule.getErrorIndex("john@exampl-.com"));
+        assertEquals(15, rule.getErrorIndex("john@example.co-"));
+        assertEquals(8, rule.getErrorIndex("john@exa@mple.com"));
+        assertFalse(rule.validate((String) null));
+    }
+
+    @Test
+    public void testLengths() {
+        EmailAddressRule rule = new EmailAddressRule();
+        StringBuilder local = new StringBuilder();
+        StringBuilder label = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            local.append('a');
+        }
+        for (int i = 0; i < 63; i++) {
+            label.append('b');
+        }
+
+        assertTrue(rule.validate(local + "@" + label + ".com"));
+        assertEquals(64, rule.getErrorIndex(local + "a@example.com"));
+        assertEquals(68, rule.getErrorIndex("john@" + label + "b.com"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see IbanRule
+ */
+public class IbanRuleTest {
+
+    @Test
+    public void testValid() {
+        IbanRule rule = new IbanRule();
+
+        assertTrue(rule.validate("GB82WEST12345698765432"));
+        assertTrue(rule.validate("DE89370400440532013000"));
+        assertTrue(rule.validate("FR1420041010050500013M02606"));
+        assertTrue(rule.validate("MT84MALT011000012345MTLCAST001S"));
+        assertEquals(AbstractStringFormatRule.NO_ERROR, rule.getErrorIndex(" BE68539007547034 "));
+    }
+
+    @Test
+    public void testInvalid() {
+        IbanRule rule = new IbanRule();
+
+        assertEquals(2, rule.getErrorIndex("GB83WEST12345698765432"));
+        assertEquals(1, rule.getErrorIndex("G382WEST12345698765432"));
+        assertEquals(3, rule.getErrorIndex("GB8XWEST12345698765432"));
+        assertEquals(4, rule.getErrorIndex("GB82west12345698765432"));
+        assertEquals(4, rule.getErrorIndex("GB82 WEST 1234 5698 7654 32"));
+        assertEquals(34, rule.getErrorIndex("GB82WEST123456987654321234567890123"));
+        assertEquals(4, rule.getErrorIndex("GB82"));
+        assertFalse(rule.validate((String) null));
+    }
+}
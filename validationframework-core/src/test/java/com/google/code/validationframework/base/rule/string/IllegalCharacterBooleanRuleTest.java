@@ -27,6 +27,7 @@ package com.google.code.validationframework.base.rule.string;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -46,4 +47,40 @@ public class IllegalCharacterBooleanRuleTest {
         assertFalse(rule.validate("b d"));
         assertFalse(rule.validate("ca"));
     }
+
+    @Test
+    public void testIndexOfIllegalCharacter() {
+        IllegalCharacterBooleanRule rule = new IllegalCharacterBooleanRule("<>\u20ac");
+
+        assertEquals(-1, rule.indexOfIllegalCharacter(null));
+        assertEquals(-1, rule.indexOfIllegalCharacter("abc"));
+        assertEquals(2, rule.indexOfIllegalCharacter("ab<c>"));
+        assertEquals(3, rule.indexOfIllegalCharacter("  a\u20ac"));
+        assertEquals(1, rule.indexOfIllegalCharacter(new StringBuilder("a>")));
+    }
+
+    @Test
+    public void testSupplementaryCharacters() {
+        String clef = new String(Character.toChars(0x1D11E));
+        String smiley = new String(Character.toChars(0x1F600));
+        IllegalCharacterBooleanRule rule = new IllegalCharacterBooleanRule("a" + clef);
+
+        assertEquals("a " + clef, rule.getIllegalCharactersSeparatedBySpaces());
+        assertTrue(rule.validate("b" + smiley));
+        assertFalse(rule.validate("b" + clef));
+        assertEquals(1, rule.indexOfIllegalCharacter("b" + clef));
+        assertEquals(2, rule.indexOfIllegalCharacter(smiley + "a"));
+    }
+
+    @Test
+    public void testTrim() {
+        IllegalCharacterBooleanRule rule = new IllegalCharacterBooleanRule(" ");
+
+        assertTrue(rule.validate(" ab "));
+        assertFalse(rule.validate(" a b "));
+
+        rule.setTrimDataBeforeValidation(false);
+        assertFalse(rule.validate(" ab "));
+        assertEquals(0, rule.indexOfIllegalCharacter(" ab "));
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see Ipv4AddressRule
+ */
+public class Ipv4AddressRuleTest {
+
+    @Test
+    public void testValid() {
+        Ipv4AddressRule rule = new Ipv4AddressRule();
+
+        assertTrue(rule.validate("192.168.0.1"));
+        assertTrue(rule.validate("0.0.0.0"));
+        assertTrue(rule.validate("255.255.255.255"));
+    }
+
+    @Test
+    public void testInvalid() {
+        Ipv4AddressRule rule = new Ipv4AddressRule();
+
+        assertEquals(2, rule.getErrorIndex("256.0.0.1"));
+        assertEquals(9, rule.getErrorIndex("192.168.01.1"));
+        assertEquals(9, rule.getErrorIndex("192.168.0"));
+        assertEquals(8, rule.getErrorIndex("192.168..1"));
+        assertEquals(11, rule.getErrorIndex("192.168.0.1.5"));
+        assertEquals(3, rule.getErrorIndex("192,168.0.1"));
+        assertEquals(0, rule.getErrorIndex(""));
+        assertFalse(rule.validate((String) null));
+    }
+}
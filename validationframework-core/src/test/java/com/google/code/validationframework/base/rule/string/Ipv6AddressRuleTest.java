@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see Ipv6AddressRule
+ */
+public class Ipv6AddressRuleTest {
+
+    @Test
+    public void testValid() {
+        Ipv6AddressRule rule = new Ipv6AddressRule();
+
+        assertTrue(rule.validate("2001:0db8:85a3:0000:0000:8a2e:0370:7334"));
+        assertTrue(rule.validate("2001:db8::ff00:42:8329"));
+        assertTrue(rule.validate("::"));
+        assertTrue(rule.validate("::1"));
+        assertTrue(rule.validate("fe80::"));
+        assertTrue(rule.validate("1:2:3:4:5:6:7::"));
+        assertTrue(rule.validate("::2:3:4:5:6:7:8"));
+        assertTrue(rule.validate("::ffff:192.168.0.1"));
+        assertTrue(rule.validate("1:2:3:4:5:6:192.168.0.1"));
+    }
+
+    @Test
+    public void testInvalid() {
+        Ipv6AddressRule rule = new Ipv6AddressRule();
+
+        assertEquals(1, rule.getErrorIndex(":1"));
+        assertEquals(1, rule.getErrorIndex(":"));
+        assertEquals(2, rule.getErrorIndex(":::"));
+        assertEquals(12, rule.getErrorIndex("2001:db8::1::2"));
+        assertEquals(4, rule.getErrorIndex("12345::"));
+        assertEquals(2, rule.getErrorIndex("1:g::"));
+        assertEquals(13, rule.getErrorIndex("1:2:3:4:5:6:7"));
+        assertEquals(14, rule.getErrorIndex("1:2:3:4:5:6:7:"));
+        assertEquals(16, rule.getErrorIndex("1:2:3:4:5:6:7:8:9"));
+        assertEquals(16, rule.getErrorIndex("1:2:3:4:5:6:7:8::"));
+        assertEquals(16, rule.getErrorIndex("::1:2:3:4:5:6:7:8"));
+        assertEquals(14, rule.getErrorIndex("1:2:3:4:5:6:7:1.2.3.4"));
+        assertEquals(16, rule.getErrorIndex("::ffff:192.168.0"));
+        assertFalse(rule.validate((String) null));
+    }
+}
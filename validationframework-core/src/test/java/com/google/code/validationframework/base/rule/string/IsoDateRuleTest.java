@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see IsoDateRule
+ */
+public class IsoDateRuleTest {
+
+    @Test
+    public void testValid() {
+        IsoDateRule rule = new IsoDateRule();
+
+        assertTrue(rule.validate("2017-01-31"));
+        assertTrue(rule.validate("2016-02-29"));
+        assertTrue(rule.validate("2000-02-29"));
+        assertTrue(rule.validate(" 1999-12-31 "));
+    }
+
+    @Test
+    public void testInvalid() {
+        IsoDateRule rule = new IsoDateRule();
+
+        assertEquals(8, rule.getErrorIndex("2017-02-29"));
+        assertEquals(8, rule.getErrorIndex("1900-02-29"));
+        assertEquals(8, rule.getErrorIndex("2017-04-31"));
+        assertEquals(8, rule.getErrorIndex("2017-04-00"));
+        assertEquals(5, rule.getErrorIndex("2017-13-01"));
+        assertEquals(5, rule.getErrorIndex("2017-00-01"));
+        assertEquals(4, rule.getErrorIndex("2017/01/01"));
+        assertEquals(9, rule.getErrorIndex("2017-01-1"));
+        assertEquals(10, rule.getErrorIndex("2017-01-011"));
+        assertEquals(10, rule.getErrorIndex("2017-01-01T00:00"));
+        assertFalse(rule.validate((String) null));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see IsoDateTimeRule
+ */
+public class IsoDateTimeRuleTest {
+
+    @Test
+    public void testValid() {
+        IsoDateTimeRule rule = new IsoDateTimeRule();
+
+        assertTrue(rule.validate("2017-01-31T23:59"));
+        assertTrue(rule.validate("2017-01-31T23:59:59"));
+        assertTrue(rule.validate("2016-12-31T23:59:60Z"));
+        assertTrue(rule.validate("2017-01-31T08:30:00.123456+01:00"));
+        assertTrue(rule.validate("2017-01-31T08:30:00,5-05:30"));
+        assertTrue(rule.validate("2017-01-31T08:30Z"));
+    }
+
+    @Test
+    public void testInvalid() {
+        IsoDateTimeRule rule = new IsoDateTimeRule();
+
+        assertEquals(10, rule.getErrorIndex("2017-01-31"));
+        assertEquals(10, rule.getErrorIndex("2017-01-31 08:30"));
+        assertEquals(11, rule.getErrorIndex("2017-01-31T24:00"));
+        assertEquals(14, rule.getErrorIndex("2017-01-31T08:60"));
+        assertEquals(13, rule.getErrorIndex("2017-01-31T08-30"));
+        assertEquals(17, rule.getErrorIndex("2017-01-31T08:30:61"));
+        assertEquals(20, rule.getErrorIndex("2017-01-31T08:30:00."));
+        assertEquals(19, rule.getErrorIndex("2017-01-31T08:30:00X"));
+        assertEquals(22, rule.getErrorIndex("2017-01-31T08:30:00+0100"));
+        assertEquals(20, rule.getErrorIndex("2017-01-31T08:30:00Z1"));
+        assertEquals(8, rule.getErrorIndex("2017-02-30T08:30:00Z"));
+        assertFalse(rule.validate((String) null));
+    }
+}
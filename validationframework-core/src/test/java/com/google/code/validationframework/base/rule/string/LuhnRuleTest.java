@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see LuhnRule
+ */
+public class LuhnRuleTest {
+
+    @Test
+    public void testValid() {
+        LuhnRule rule = new LuhnRule();
+
+        assertTrue(rule.validate("79927398713"));
+        assertTrue(rule.validate("4111111111111111"));
+        assertTrue(rule.validate(" 490154203237518 "));
+        assertTrue(rule.validate(new StringBuilder("18")));
+    }
+
+    @Test
+    public void testInvalid() {
+        LuhnRule rule = new LuhnRule();
+
+        assertFalse(rule.validate("79927398710"));
+        assertEquals(10, rule.getErrorIndex("79927398710"));
+        assertEquals(4, rule.getErrorIndex("4111 1111 1111 1111"));
+        assertEquals(1, rule.getErrorIndex("0"));
+        assertEquals(0, rule.getErrorIndex(""));
+        assertEquals(0, rule.getErrorIndex(null));
+        assertFalse(rule.validate((String) null));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Micro-benchmark comparing the format rules based on hand-written scanners with the equivalent {@link
+ * StringRegexRule}s.
+ * <p>
+ * This is not a unit test: run the main method manually.
+ */
+public final class StringFormatRuleBenchmark {
+
+    private static final int INPUT_COUNT = 1000;
+
+    private static final int ITERATION_COUNT = 500;
+
+    private StringFormatRuleBenchmark() {
+        // Nothing to be done
+    }
+
+    public static void main(final String[] args) {
+        final Random random = new Random(0);
+
+        final List<String> uuids = new ArrayList<String>();
+        final List<String> addresses = new ArrayList<String>();
+        final List<String> emails = new ArrayList<String>();
+        final List<String> dates = new ArrayList<String>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            final String uuid = UUID.randomUUID().toString();
+            uuids.add(((i % 2) == 0) ? uuid : uuid.substring(1));
+            addresses.add(random.nextInt(300) + "." + random.nextInt(256) + "." + random.nextInt(256) + "." + random
+                    .nextInt(256));
+            emails.add("user" + i + (((i % 2) == 0) ? "@mail.example.com" : ".example.com"));
+            dates.add((1900 + random.nextInt(200)) + "-" + pad(1 + random.nextInt(13)) + "-" + pad(1 + random
+                    .nextInt(31)));
+        }
+
+        for (int run = 0; run < 5; run++) {
+            System.out.println("Run " + run);
+            measure("UUID", uuids, new UuidRule(), new StringRegexRule
+                    ("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"));
+            measure("IPv4", addresses, new Ipv4AddressRule(), new StringRegexRule
+                    ("^((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)$"));
+            measure("E-mail", emails, new EmailAddressRule(), new StringRegexRule("^[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+" +
+                    "(\\.[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+)*@([A-Za-z0-9]([A-Za-z0-9-]*[A-Za-z0-9])?\\.)+" +
+                    "[A-Za-z0-9]([A-Za-z0-9-]*[A-Za-z0-9])?$"));
+            measure("Date", dates, new IsoDateRule(), new StringRegexRule
+                    ("^\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])$"));
+        }
+    }
+
+    private static String pad(final int value) {
+        return (value < 10) ? ("0" + value) : Integer.toString(value);
+    }
+
+    private static void measure(final String name, final List<String> inputs, final AbstractStringFormatRule
+            scannerRule, final StringRegexRule regexRule) {
+        int scannerMatches = 0;
+        long start = System.nanoTime();
+        for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+            for (final String input : inputs) {
+                if (scannerRule.validate(input)) {
+                    scannerMatches++;
+                }
+            }
+        }
+        final long scannerTime = System.nanoTime() - start;
+
+        int regexMatches = 0;
+        start = System.nanoTime();
+        for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+            for (final String input : inputs) {
+                if (regexRule.validate(input)) {
+                    regexMatches++;
+                }
+            }
+        }
+        final long regexTime = System.nanoTime() - start;
+
+        System.out.println("  " + name + ": scanner " + (scannerTime / 1000000) + " ms (" + scannerMatches + " " +
+                "matches), regex " + (regexTime / 1000000) + " ms (" + regexMatches + " matches)");
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.string;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Micro-benchmark comparing the {@link StringRegexRule} with the matching of each pattern separately, as done before
+ * the patterns were combined.
+ * <p>
+ * This is not a unit test: run the main method manually.
+ */
+public final class StringRegexRuleBenchmark {
+
+    private static final int PATTERN_COUNT = 30;
+
+    private static final int INPUT_COUNT = 1000;
+
+    private static final int ITERATION_COUNT = 200;
+
+    private StringRegexRuleBenchmark() {
+        // Nothing to be done
+    }
+
+    public static void main(final String[] args) {
+        final List<String> expressions = new ArrayList<String>();
+        for (int i = 0; i < PATTERN_COUNT; i++) {
+            expressions.add("^" + (char) ('A' + (i % 26)) + "[A-Z]{" + (1 + i % 3) + "}\\d{" + (4 + i % 5) + "}$");
+        }
+        final List<Pattern> patterns = new ArrayList<Pattern>();
+        for (final String expression : expressions) {
+            patterns.add(Pattern.compile(expression));
+        }
+        final StringRegexRule rule = new StringRegexRule(expressions.toArray(new String[expressions.size()]));
+
+        final Random random = new Random(0);
+        final List<String> inputs = new ArrayList<String>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            final StringBuilder input = new StringBuilder();
+            if ((i % 2) == 0) {
+                // Input matching one of the patterns
+                final int k = random.nextInt(PATTERN_COUNT);
+                input.append((char) ('A' + (k % 26)));
+                for (int j = 0; j < 1 + k % 3; j++) {
+                    input.append((char) ('A' + random.nextInt(26)));
+                }
+                for (int j = 0; j < 4 + k % 5; j++) {
+                    input.append((char) ('0' + random.nextInt(10)));
+                }
+            } else {
+                // Random input, most likely not matching any pattern
+                final int length = 4 + random.nextInt(10);
+                for (int j = 0; j < length; j++) {
+                    input.append(random.nextBoolean() ? (char) ('A' + random.nextInt(26)) : (char) ('0' + random
+                            .nextInt(10)));
+                }
+            }
+            inputs.add(input.toString());
+        }
+
+        // Warm up and measure a few times
+        for (int run = 0; run < 5; run++) {
+            int separateMatches = 0;
+            long start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                for (final String input : inputs) {
+                    for (final Pattern pattern : patterns) {
+                        final Matcher matcher = pattern.matcher(input);
+                        if (matcher.find()) {
+                            separateMatches++;
+                            break;
+                        }
+                    }
+                }
+            }
+            final long separateTime = System.nanoTime() - start;
+
+            int combinedMatches = 0;
+            start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                for (final String input : inputs) {
+                    if (rule.validate(input)) {
+                        combinedMatches++;
+                    }
+                }
+            }
+            final long combinedTime = System.nanoTime() - start;
+
+            System.out.println("Separate patterns: " + (separateTime / 1000000) + " ms (" + separateMatches + " " +
+                    "matches), combined rule: " + (combinedTime / 1000000) + " ms (" + combinedMatches + " matches)");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see StringRegexRule
+ */
+public class StringRegexRuleBudgetTest {
+
+    private static final String EVIL_PATTERN = "^(.*a){12}$";
+
+    private static String evilInput() {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            input.append('a');
+        }
+        return input.append('!').toString();
+    }
+
+    @Test
+    public void testStepBudget() {
+        final StringRegexRule rule = new StringRegexRule(EVIL_PATTERN);
+        rule.setMaxSteps(100000);
+
+        assertTrue(rule.validate("aaaaaaaaaaaa"));
+        assertFalse(rule.validate(evilInput()));
+
+        rule.setBudgetExceededResult(null);
+        assertNull(rule.validate(evilInput()));
+        assertFalse(rule.validate("aaaa"));
+    }
+
+    @Test(timeout = 10000)
+    public void testTimeBudget() {
+        final StringRegexRule rule = new StringRegexRule(EVIL_PATTERN);
+        rule.setMaxTime(50);
+        rule.setBudgetExceededResult(true);
+
+        assertTrue(rule.validate(evilInput()));
+        assertFalse(rule.validate("aaab"));
+    }
+
+    @Test
+    public void testSeveralPatterns() {
+        final StringRegexRule rule = new StringRegexRule("^\\d+$", "^[a-z]+$");
+        rule.setMaxSteps(100);
+
+        assertTrue(rule.validate("1234"));
+        assertTrue(rule.validate(" abcd "));
+        assertFalse(rule.validate("ab12"));
+    }
+
+    @Test
+    public void testNestedQuantifiers() {
+        assertTrue(StringRegexRule.hasNestedQuantifiers("(a+)+"));
+        assertTrue(StringRegexRule.hasNestedQuantifiers("^(\\w*\\s?)*$"));
+        assertTrue(StringRegexRule.hasNestedQuantifiers("((ab)*c)+"));
+        assertTrue(StringRegexRule.hasNestedQuantifiers("(?:x{2,}y){3}"));
+        assertTrue(StringRegexRule.hasNestedQuantifiers("((a)+b?)*"));
+
+        assertFalse(StringRegexRule.hasNestedQuantifiers("(a+)?"));
+        assertFalse(StringRegexRule.hasNestedQuantifiers("(a{1})+"));
+        assertFalse(StringRegexRule.hasNestedQuantifiers("(a++)+"));
+        assertFalse(StringRegexRule.hasNestedQuantifiers("(?>a+)+"));
+        assertFalse(StringRegexRule.hasNestedQuantifiers("\\(a+\\)+"));
+        assertFalse(StringRegexRule.hasNestedQuantifiers("[(a+)]+"));
+        assertFalse(StringRegexRule.hasNestedQuantifiers("\\Q(a+)\\E+"));
+    }
+
+    @Test
+    public void testRejectNestedQuantifiers() {
+        final StringRegexRule rule = new StringRegexRule();
+        rule.setRejectNestedQuantifiers(true);
+        rule.addPattern("^\\d+$");
+        rule.addPattern("(a+)+", Pattern.LITERAL);
+
+        try {
+            rule.addPattern(EVIL_PATTERN);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        assertFalse(rule.validate("aaaa"));
+        assertTrue(rule.validate("(a+)+"));
+        assertEquals(true, rule.getRejectNestedQuantifiers());
+    }
+}
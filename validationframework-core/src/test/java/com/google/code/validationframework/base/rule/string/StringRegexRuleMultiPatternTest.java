@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see StringRegexRule
+ */
+public class StringRegexRuleMultiPatternTest {
+
+    @Test
+    public void testCombinedPatterns() {
+        final StringRegexRule rule = new StringRegexRule("^[A-Z]{2}\\d{4}$", "^\\d{3}-\\d{3}$", "^X+$");
+
+        assertTrue(rule.validate("AB1234"));
+        assertTrue(rule.validate("123-456"));
+        assertTrue(rule.validate("XXX"));
+        assertFalse(rule.validate("AB123"));
+        assertFalse(rule.validate("XAB1234"));
+    }
+
+    @Test
+    public void testFlagsAreKeptPerPattern() {
+        final StringRegexRule rule = new StringRegexRule();
+        rule.addPattern("^abc$", Pattern.CASE_INSENSITIVE);
+        rule.addPattern("^def$");
+        rule.addPattern("a.b", Pattern.LITERAL);
+
+        assertTrue(rule.validate("ABC"));
+        assertTrue(rule.validate("def"));
+        assertFalse(rule.validate("DEF"));
+        assertTrue(rule.validate("xa.bx"));
+        assertFalse(rule.validate("axb"));
+    }
+
+    @Test
+    public void testBackReferencesAreMatchedSeparately() {
+        final StringRegexRule rule = new StringRegexRule("^(a)b$", "^(x)\\1$");
+
+        assertTrue(rule.validate("ab"));
+        assertTrue(rule.validate("xx"));
+        assertFalse(rule.validate("xa"));
+    }
+
+    @Test
+    public void testCommentsAreMatchedSeparately() {
+        final StringRegexRule rule = new StringRegexRule();
+        rule.addPattern("^a b$ # comment", Pattern.COMMENTS);
+        rule.addPattern("^c$");
+
+        assertTrue(rule.validate("ab"));
+        assertTrue(rule.validate("c"));
+        assertFalse(rule.validate("a b"));
+    }
+
+    @Test
+    public void testAddAndRemovePatterns() {
+        final StringRegexRule rule = new StringRegexRule("^a$");
+        assertTrue(rule.validate("a"));
+        assertFalse(rule.validate("b"));
+
+        rule.addPattern("^b$");
+        assertTrue(rule.validate("b"));
+
+        rule.removePattern("^a$");
+        assertFalse(rule.validate("a"));
+        assertTrue(rule.validate("b"));
+    }
+
+    @Test
+    public void testCharSequence() {
+        final StringRegexRule rule = new StringRegexRule("^ab$", "^c");
+
+        assertTrue(rule.validate(new StringBuilder("  ab ")));
+        assertTrue(rule.validate(new StringBuilder(" cd")));
+        assertFalse(rule.validate(new StringBuilder(" dc")));
+
+        rule.setTrimDataBeforeValidation(false);
+        assertFalse(rule.validate(new StringBuilder("  ab ")));
+        assertTrue(rule.asCharSequenceRule().validate(new StringBuilder("ab")));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.rule.string;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see UuidRule
+ */
+public class UuidRuleTest {
+
+    @Test
+    public void testValid() {
+        UuidRule rule = new UuidRule();
+
+        assertTrue(rule.validate("123e4567-e89b-12d3-a456-426614174000"));
+        assertTrue(rule.validate("123E4567-E89B-12D3-A456-426614174000"));
+        assertTrue(rule.validate(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    public void testInvalid() {
+        UuidRule rule = new UuidRule();
+
+        assertEquals(8, rule.getErrorIndex("123e4567_e89b-12d3-a456-426614174000"));
+        assertEquals(3, rule.getErrorIndex("123g4567-e89b-12d3-a456-426614174000"));
+        assertEquals(35, rule.getErrorIndex("123e4567-e89b-12d3-a456-42661417400"));
+        assertEquals(36, rule.getErrorIndex("123e4567-e89b-12d3-a456-4266141740000"));
+        assertEquals(8, rule.getErrorIndex("123e4567e89b12d3a456426614174000"));
+        assertFalse(rule.validate((String) null));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.base.utils.DateFormats;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DateParseTransformer
+ */
+public class DateParseTransformerTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    @Test
+    public void testParsing() {
+        DateParseTransformer transformer = new DateParseTransformer("yyyy-MM-dd", Locale.ENGLISH, UTC);
+
+        assertEquals(new Date(0), transformer.transform("1970-01-01"));
+        assertEquals(new Date(86400000L), transformer.transform("1970-01-02"));
+        assertNull(transformer.transform("1970-02-30"));
+        assertNull(transformer.transform("1970-01-01T00:00"));
+        assertNull(transformer.transform("invalid"));
+        assertNull(transformer.transform(null));
+    }
+
+    @Test
+    public void testComparable() {
+        DateParseTransformer transformer = new DateParseTransformer("dd MMM yyyy", Locale.ENGLISH, UTC);
+
+        assertTrue(transformer.transform("01 Feb 2017").compareTo(transformer.transform("31 Jan 2017")) > 0);
+    }
+
+    @Test
+    public void testFormatting() {
+        DateFormatTransformer transformer = new DateFormatTransformer("yyyy-MM-dd HH:mm", Locale.ENGLISH, UTC);
+
+        assertEquals("1970-01-02 01:00", transformer.transform(new Date(90000000L)));
+        assertNull(transformer.transform(null));
+    }
+
+    @Test
+    public void testCache() {
+        assertSame(DateFormats.getDateFormat("yyyy-MM-dd", Locale.ENGLISH, UTC), DateFormats.getDateFormat
+                ("yyyy-MM-dd", Locale.ENGLISH, UTC));
+        assertSame(new DateParseTransformer("yyyy", Locale.FRENCH, UTC).getParser(), new DateFormatTransformer
+                ("yyyy", Locale.FRENCH, UTC).getFormat());
+        assertTrue(DateFormats.getDateFormat("yyyy-MM-dd", Locale.ENGLISH, UTC) != DateFormats.getDateFormat
+                ("yyyy-MM-dd", Locale.GERMAN, UTC));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.transform.Transformer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see FusedTransformer
+ */
+public class FusedTransformerTest {
+
+    private static class IncrementTransformer implements Transformer<Integer, Integer>, Disposable {
+
+        private boolean disposed = false;
+
+        @Override
+        public Integer transform(Integer input) {
+            return input + 1;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+    }
+
+    @Test
+    public void testEmptyChain() {
+        Transformer<Object, Object> fused = new ChainedTransformer<Object, Object>(null).fuse();
+
+        assertTrue(fused instanceof FusedTransformer);
+        assertEquals(0, ((FusedTransformer<Object, Object>) fused).getStageCount());
+        assertEquals("value", fused.transform("value"));
+    }
+
+    @Test
+    public void testSingleTransformer() {
+        Transformer<Boolean, Boolean> negate = new NegateBooleanTransformer();
+        Transformer<Boolean, Boolean> fused = new ChainedTransformer<Boolean, Boolean>(negate).chain(new
+                CastTransformer<Boolean, Boolean>()).fuse();
+
+        assertSame(negate, fused);
+    }
+
+    @Test
+    public void testNestedChains() {
+        ChainedTransformer<Integer, Integer> inner = new ChainedTransformer<Integer, Integer>(new
+                IncrementTransformer()).chain(new IncrementTransformer());
+        ChainedTransformer<Integer, Integer> outer = new ChainedTransformer<Integer, Integer>(new
+                CastTransformer<Integer, Integer>()).chain(inner).chain(new IncrementTransformer());
+        Transformer<Integer, Integer> fused = outer.fuse();
+
+        assertTrue(fused instanceof FusedTransformer);
+        assertEquals(3, ((FusedTransformer<Integer, Integer>) fused).getStageCount());
+        assertEquals(outer.transform(5), fused.transform(5));
+        assertEquals(Integer.valueOf(8), fused.transform(5));
+
+        // Fusing again should not add any indirection
+        Transformer<Integer, Integer> refused = FusedTransformer.fuse(new ChainedTransformer<Integer,
+                Integer>(fused).chain(new IncrementTransformer()));
+        assertEquals(4, ((FusedTransformer<Integer, Integer>) refused).getStageCount());
+        assertEquals(Integer.valueOf(9), refused.transform(5));
+    }
+
+    @Test
+    public void testChainedTransformerSubclass() {
+        ChainedTransformer<Integer, Integer> doubling = new ChainedTransformer<Integer, Integer>(new
+                IncrementTransformer()) {
+            @Override
+            public Integer transform(Integer input) {
+                return super.transform(input) * 2;
+            }
+        };
+        ChainedTransformer<Integer, Integer> chain = new ChainedTransformer<Integer, Integer>(doubling).chain(new
+                IncrementTransformer());
+        Transformer<Integer, Integer> fused = chain.fuse();
+
+        assertEquals(2, ((FusedTransformer<Integer, Integer>) fused).getStageCount());
+        assertEquals(chain.transform(1), fused.transform(1));
+        assertEquals(Integer.valueOf(5), fused.transform(1));
+        assertSame(doubling, doubling.fuse());
+    }
+
+    @Test
+    public void testSnapshot() {
+        ChainedTransformer<Integer, Integer> chain = new ChainedTransformer<Integer, Integer>(new
+                IncrementTransformer());
+        Transformer<Integer, Integer> fused = chain.fuse();
+        chain.chain(new IncrementTransformer());
+
+        assertEquals(Integer.valueOf(2), fused.transform(1));
+        assertEquals(Integer.valueOf(3), chain.transform(1));
+    }
+
+    @Test
+    public void testStagesNotOwned() {
+        IncrementTransformer first = new IncrementTransformer();
+        IncrementTransformer second = new IncrementTransformer();
+        ChainedTransformer<Integer, Integer> chain = new ChainedTransformer<Integer, Integer>(first).chain(second);
+        Transformer<Integer, Integer> fused = chain.fuse();
+
+        // The stages remain usable through the original chain and are not disposed by the pipeline
+        assertFalse(fused instanceof Disposable);
+        assertEquals(Integer.valueOf(3), fused.transform(1));
+        assertEquals(Integer.valueOf(3), chain.transform(1));
+        assertFalse(first.disposed);
+        assertFalse(second.disposed);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Micro-benchmark comparing the {@link NumberParser} with a {@link NumberFormat} for the parsing of integers and
+ * decimal numbers.
+ * <p>
+ * This is not a unit test: run the main method manually.
+ */
+public final class NumberParserBenchmark {
+
+    private static final int INPUT_COUNT = 10000;
+
+    private static final int ITERATION_COUNT = 100;
+
+    private NumberParserBenchmark() {
+        // Nothing to be done
+    }
+
+    public static void main(final String[] args) {
+        final Random random = new Random(0);
+        final NumberFormat integerFormat = NumberFormat.getIntegerInstance(Locale.ENGLISH);
+        final NumberFormat decimalFormat = NumberFormat.getInstance(Locale.ENGLISH);
+        decimalFormat.setMaximumFractionDigits(4);
+        final List<String> integerInputs = new ArrayList<String>();
+        final List<String> decimalInputs = new ArrayList<String>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            integerInputs.add(integerFormat.format(random.nextInt()));
+            decimalInputs.add(decimalFormat.format(random.nextDouble() * 1000000.0 - 500000.0));
+        }
+        final NumberParser parser = new NumberParser(Locale.ENGLISH);
+
+        // Warm up and measure a few times
+        for (int run = 0; run < 5; run++) {
+            long checksum = 0;
+            long start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                for (final String input : integerInputs) {
+                    checksum += integerFormat.parse(input, new ParsePosition(0)).longValue();
+                }
+            }
+            final long integerFormatTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            final ParsePosition pos = new ParsePosition(0);
+            for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                for (final String input : integerInputs) {
+                    pos.setIndex(0);
+                    checksum -= parser.parseLong(input, pos);
+                }
+            }
+            final long integerParserTime = System.nanoTime() - start;
+
+            double sum = 0.0;
+            start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                for (final String input : decimalInputs) {
+                    sum += decimalFormat.parse(input, new ParsePosition(0)).doubleValue();
+                }
+            }
+            final long decimalFormatTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                for (final String input : decimalInputs) {
+                    pos.setIndex(0);
+                    sum -= parser.parseDouble(input, pos);
+                }
+            }
+            final long decimalParserTime = System.nanoTime() - start;
+
+            System.out.println("Integers: NumberFormat " + (integerFormatTime / 1000000) + " ms, NumberParser " +
+                    (integerParserTime / 1000000) + " ms; decimals: NumberFormat " + (decimalFormatTime / 1000000) +
+                    " ms, NumberParser " + (decimalParserTime / 1000000) + " ms (checksums " + checksum + ", " + sum +
+                    ")");
+        }
+    }
+}
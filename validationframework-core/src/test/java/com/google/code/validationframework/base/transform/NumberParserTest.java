@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see NumberParser
+ */
+public class NumberParserTest {
+
+    private static final Locale[] LOCALES = {Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, new Locale("de", "CH")};
+
+    private static final int RANDOM_INPUT_COUNT = 20000;
+
+    private static List<String> createInputs(DecimalFormatSymbols symbols) {
+        List<String> inputs = new ArrayList<String>();
+
+        String[] fixed = {"", "0", "-0", "7", "-7", "123", "00123", "1.5", "-1.5", "0.000123", "1,234,567",
+                "1,,2", "1,", ",5", "-,5", ".5", "-.5", ".", "-", "1.2.3", "1.2,3", "12abc", "abc", "1E3", "1E-3",
+                "1.5E2", "1E", "1E-", "-1E+3", "2.5E-1", "9223372036854775807", "9223372036854775808",
+                "-9223372036854775808", "-9223372036854775809", "2147483647", "2147483648", "-2147483648",
+                "-2147483649", "123456789012345678901234567890", "0.1234567890123456789", "1E400", "1E-400",
+                "1234567890123456.5", "9007199254740993", "1.7976931348623157E308", "4.9E-324",
+                "١٢٣", "1E99999999999999999999", "1E9223372036854775808", "1E-9223372036854775808",
+                "1,000E3", "1,E3", "100E-2", "1234.5678E-2"};
+        for (String input : fixed) {
+            inputs.add(localize(input, symbols));
+        }
+
+        Random random = new Random(0);
+        char[] alphabet = {'0', '1', '2', '5', '9', '0', '0', ',', '.', '-', 'E', 'x'};
+        for (int i = 0; i < RANDOM_INPUT_COUNT; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = 1 + random.nextInt(25);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            inputs.add(localize(input.toString(), symbols));
+        }
+
+        return inputs;
+    }
+
+    private static String localize(String input, DecimalFormatSymbols symbols) {
+        StringBuilder localized = new StringBuilder();
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
+            if (ch == ',') {
+                localized.append(symbols.getGroupingSeparator());
+            } else if (ch == '.') {
+                localized.append(symbols.getDecimalSeparator());
+            } else if (ch == '-') {
+                localized.append(symbols.getMinusSign());
+            } else if (ch == 'E') {
+                localized.append(symbols.getExponentSeparator());
+            } else {
+                localized.append(ch);
+            }
+        }
+        return localized.toString();
+    }
+
+    @Test
+    public void testLongLikeDecimalFormat() {
+        for (Locale locale : LOCALES) {
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+            DecimalFormat format = new DecimalFormat("#,##0", symbols);
+            format.setParseIntegerOnly(true);
+            NumberParser parser = new NumberParser(symbols, true);
+
+            for (String input : createInputs(symbols)) {
+                ParsePosition expectedPos = new ParsePosition(0);
+                Number expected = format.parse(input, expectedPos);
+                ParsePosition actualPos = new ParsePosition(0);
+                long actual = parser.parseLong(input, actualPos);
+
+                if ((expected == null) || (expected instanceof Double)) {
+                    assertEquals(input, 0, actualPos.getIndex());
+                    assertEquals(input, (expected == null) ? expectedPos.getErrorIndex() : 0,
+                            actualPos.getErrorIndex());
+                } else {
+                    assertEquals(input, expected.longValue(), actual);
+                    assertEquals(input, expectedPos.getIndex(), actualPos.getIndex());
+                    assertEquals(input, -1, actualPos.getErrorIndex());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleLikeDecimalFormat() {
+        for (Locale locale : LOCALES) {
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+            DecimalFormat format = new DecimalFormat("#,##0.###", symbols);
+            NumberParser parser = new NumberParser(symbols, true);
+
+            List<String> inputs = createInputs(symbols);
+            inputs.add(symbols.getNaN());
+            inputs.add(symbols.getInfinity());
+            inputs.add(symbols.getMinusSign() + symbols.getInfinity());
+            for (String input : inputs) {
+                ParsePosition expectedPos = new ParsePosition(0);
+                Number expected = format.parse(input, expectedPos);
+                ParsePosition actualPos = new ParsePosition(0);
+                double actual = parser.parseDouble(input, actualPos);
+
+                assertEquals(input, expectedPos.getIndex(), actualPos.getIndex());
+                assertEquals(input, expectedPos.getErrorIndex(), actualPos.getErrorIndex());
+                if (expected != null) {
+                    assertEquals(input, Double.doubleToLongBits(expected.doubleValue()), Double.doubleToLongBits
+                            (actual));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInt() {
+        NumberParser parser = new NumberParser(Locale.ENGLISH);
+
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(-2147483648, parser.parseInt("-2,147,483,648", pos));
+        assertEquals(14, pos.getIndex());
+
+        pos = new ParsePosition(0);
+        assertEquals(0, parser.parseInt("2147483648", pos));
+        assertEquals(0, pos.getIndex());
+        assertEquals(0, pos.getErrorIndex());
+    }
+
+    @Test
+    public void testStartIndex() {
+        NumberParser parser = new NumberParser(Locale.ENGLISH);
+
+        ParsePosition pos = new ParsePosition(4);
+        assertEquals(12.5, parser.parseDouble(new StringBuilder("abc:12.5;"), pos), 0.0);
+        assertEquals(8, pos.getIndex());
+
+        pos = new ParsePosition(3);
+        assertEquals(0, parser.parseLong("abc:12", pos));
+        assertEquals(3, pos.getIndex());
+        assertEquals(3, pos.getErrorIndex());
+    }
+
+    @Test
+    public void testWithoutGrouping() {
+        NumberParser parser = new NumberParser(new DecimalFormatSymbols(Locale.ENGLISH), false);
+
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(1, parser.parseLong("1,234", pos));
+        assertEquals(1, pos.getIndex());
+    }
+
+    @Test
+    public void testTransformers() {
+        assertEquals(Integer.valueOf(1234), new IntegerParseTransformer<String>(Locale.ENGLISH).transform("1,234"));
+        assertEquals(null, new IntegerParseTransformer<String>(Locale.ENGLISH).transform("1,234.5"));
+        assertEquals(Integer.valueOf(1234), new IntegerParseTransformer<String>(new NumberParser(Locale.ENGLISH),
+                false).transform("1,234.5"));
+        assertEquals(Long.valueOf(-5), new LongParseTransformer<StringBuilder>(Locale.GERMAN).transform(new
+                StringBuilder("-5")));
+        assertEquals(Double.valueOf(1234.5), new DoubleParseTransformer<String>(Locale.GERMAN).transform("1.234,5"));
+        assertEquals(null, new DoubleParseTransformer<String>(Locale.GERMAN).transform("abc"));
+        assertEquals(null, new DoubleParseTransformer<String>(Locale.GERMAN).transform(null));
+        assertEquals(NumberFormat.getInstance(Locale.FRENCH).format(1234.5), NumberFormat.getInstance(Locale.FRENCH)
+                .format(new DoubleParseTransformer<String>(Locale.FRENCH).transform(NumberFormat.getInstance(Locale
+                        .FRENCH).format(1234.5))));
+    }
+
+    @Test
+    public void testTransformerParseResult() {
+        IntegerParseTransformer<String> transformer = new IntegerParseTransformer<String>(Locale.ENGLISH);
+
+        ParseResult<Integer> result = transformer.parseResult("1,234");
+        assertTrue(result.isSuccessful());
+        assertEquals(Integer.valueOf(1234), result.getValue());
+
+        result = transformer.parseResult("1,234.5");
+        assertFalse(result.isSuccessful());
+        assertEquals(5, result.getErrorIndex());
+
+        result = transformer.parseResult("abc");
+        assertFalse(result.isSuccessful());
+        assertEquals(0, result.getErrorIndex());
+
+        assertFalse(transformer.parseResult(null).isSuccessful());
+
+        // The reused parse position must not leak the previous state
+        assertEquals(Integer.valueOf(42), transformer.transform("42"));
+        assertEquals(null, transformer.transform("4x"));
+        assertEquals(Integer.valueOf(7), transformer.transform("7"));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.transform;
+
+import com.google.code.validationframework.api.rule.Rule;
+import com.google.code.validationframework.base.property.simple.SimpleBooleanProperty;
+import com.google.code.validationframework.base.property.simple.SimpleStringProperty;
+import com.google.code.validationframework.base.rule.string.IsParsedRule;
+import com.google.code.validationframework.base.trigger.ManualTrigger;
+import com.google.code.validationframework.base.validator.generalvalidator.dsl.GeneralValidatorBuilder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ParseResultTransformer
+ */
+public class ParseResultTransformerTest {
+
+    private static class CountingFormat extends DecimalFormat {
+
+        private static final long serialVersionUID = 1L;
+
+        private int parseCount = 0;
+
+        @Override
+        public Number parse(String text, ParsePosition pos) {
+            parseCount++;
+            return super.parse(text, pos);
+        }
+    }
+
+    @BeforeClass
+    public static void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void testDefaultParsing() {
+        ParseResultTransformer<Number> transformer = new ParseResultTransformer<Number>(new DecimalFormat(), false);
+
+        assertEquals(1.23, transformer.transform("1.23").getValue());
+        assertEquals(45.6, transformer.transform("45.6invalid").getValue());
+        assertTrue(transformer.transform("45.6invalid").isSuccessful());
+        assertFalse(transformer.transform("invalid").isSuccessful());
+        assertFalse(transformer.transform("").isSuccessful());
+        assertFalse(transformer.transform(null).isSuccessful());
+    }
+
+    @Test
+    public void testStrictParsing() {
+        ParseResultTransformer<Number> transformer = new ParseResultTransformer<Number>(new DecimalFormat(), true);
+
+        ParseResult<Number> result = transformer.transform("1.23");
+        assertTrue(result.isSuccessful());
+        assertEquals(1.23, result.getValue());
+        assertEquals(-1, result.getErrorIndex());
+
+        result = transformer.transform("4.56invalid");
+        assertFalse(result.isSuccessful());
+        assertEquals(null, result.getValue());
+        assertEquals(4, result.getErrorIndex());
+
+        result = transformer.transform("invalid");
+        assertFalse(result.isSuccessful());
+        assertEquals(0, result.getErrorIndex());
+    }
+
+    @Test
+    public void testCache() {
+        CountingFormat format = new CountingFormat();
+        ParseResultTransformer<Number> transformer = new ParseResultTransformer<Number>(format);
+
+        ParseResult<Number> first = transformer.transform("12");
+        ParseResult<Number> second = transformer.transform(new StringBuilder("12"));
+        assertEquals(1, format.parseCount);
+        assertTrue(first == second);
+
+        transformer.transform("13");
+        assertEquals(2, format.parseCount);
+
+        transformer.setStrictParsing(false);
+        transformer.transform("13");
+        assertEquals(3, format.parseCount);
+
+        transformer.clearCache();
+        transformer.transform("13");
+        assertEquals(4, format.parseCount);
+    }
+
+    @Test
+    public void testCacheHoldsOnlyLastInput() {
+        CountingFormat format = new CountingFormat();
+        ParseResultTransformer<Number> transformer = new ParseResultTransformer<Number>(format);
+
+        transformer.transform("12");
+        transformer.transform("13");
+        transformer.transform("12");
+        assertEquals(3, format.parseCount);
+    }
+
+    @Test
+    public void testSingleParsingForConsecutiveValidators() {
+        CountingFormat format = new CountingFormat();
+        ParseResultTransformer<Number> parser = new ParseResultTransformer<Number>(format);
+        SimpleStringProperty input = new SimpleStringProperty("5");
+        SimpleBooleanProperty parsable = new SimpleBooleanProperty();
+        SimpleBooleanProperty positive = new SimpleBooleanProperty();
+        ManualTrigger trigger = new ManualTrigger();
+
+        GeneralValidatorBuilder //
+                .on(trigger) //
+                .read(input) //
+                .parse(parser) //
+                .check(new IsParsedRule<Number>()) //
+                .handleWith(parsable);
+        GeneralValidatorBuilder //
+                .on(trigger) //
+                .read(input) //
+                .parse(parser) //
+                .check(new Rule<ParseResult<Number>, Boolean>() {
+                    @Override
+                    public Boolean validate(ParseResult<Number> data) {
+                        return data.isSuccessful() && (data.getValue().doubleValue() > 0);
+                    }
+                }) //
+                .handleWith(positive);
+
+        trigger.trigger();
+        assertEquals(Boolean.TRUE, parsable.getValue());
+        assertEquals(Boolean.TRUE, positive.getValue());
+        assertEquals(1, format.parseCount);
+
+        input.setValue("-5");
+        trigger.trigger();
+        assertEquals(Boolean.TRUE, parsable.getValue());
+        assertEquals(Boolean.FALSE, positive.getValue());
+        assertEquals(2, format.parseCount);
+
+        input.setValue("abc");
+        trigger.trigger();
+        assertEquals(Boolean.FALSE, parsable.getValue());
+        assertEquals(Boolean.FALSE, positive.getValue());
+        assertEquals(3, format.parseCount);
+    }
+}
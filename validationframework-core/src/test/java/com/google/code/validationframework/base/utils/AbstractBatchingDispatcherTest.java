@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see AbstractBatchingDispatcher
+ */
+public class AbstractBatchingDispatcherTest {
+
+    private static class QueueDispatcher extends AbstractBatchingDispatcher {
+
+        private final Queue<Runnable> eventQueue = new LinkedList<Runnable>();
+
+        private boolean dispatching = false;
+
+        @Override
+        public boolean isDispatchThread() {
+            return dispatching;
+        }
+
+        @Override
+        protected void post(Runnable task) {
+            eventQueue.add(task);
+        }
+
+        public void dispatchOne() {
+            dispatching = true;
+            eventQueue.poll().run();
+            dispatching = false;
+        }
+    }
+
+    private static class RecordingTask implements Runnable {
+
+        private final List<Integer> runs;
+
+        private final int id;
+
+        private final long duration;
+
+        public RecordingTask(List<Integer> runs, int id, long duration) {
+            this.runs = runs;
+            this.id = id;
+            this.duration = duration;
+        }
+
+        @Override
+        public void run() {
+            if (duration > 0) {
+                try {
+                    Thread.sleep(duration);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            runs.add(id);
+        }
+    }
+
+    @Test
+    public void testBatching() {
+        QueueDispatcher dispatcher = new QueueDispatcher();
+        List<Integer> runs = new ArrayList<Integer>();
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.execute(new RecordingTask(runs, i, 0));
+        }
+        assertEquals(1, dispatcher.eventQueue.size());
+        assertEquals(100, dispatcher.getPendingTaskCount());
+
+        dispatcher.dispatchOne();
+        assertEquals(100, runs.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), runs.get(i));
+        }
+        assertTrue(dispatcher.eventQueue.isEmpty());
+
+        // Next task should post a new drain
+        dispatcher.execute(new RecordingTask(runs, 100, 0));
+        assertEquals(1, dispatcher.eventQueue.size());
+    }
+
+    @Test
+    public void testTaskSubmittedWhileDraining() {
+        final QueueDispatcher dispatcher = new QueueDispatcher();
+        final List<Integer> runs = new ArrayList<Integer>();
+
+        dispatcher.execute(new Runnable() {
+            @Override
+            public void run() {
+                runs.add(0);
+                dispatcher.execute(new RecordingTask(runs, 2, 0));
+            }
+        });
+        dispatcher.execute(new RecordingTask(runs, 1, 0));
+        dispatcher.dispatchOne();
+
+        // Task submitted while draining should be run by the next drain
+        assertEquals(Arrays.asList(0, 1), runs);
+        assertEquals(1, dispatcher.eventQueue.size());
+        assertEquals(1, dispatcher.getPendingTaskCount());
+
+        dispatcher.dispatchOne();
+        assertEquals(Arrays.asList(0, 1, 2), runs);
+        assertTrue(dispatcher.eventQueue.isEmpty());
+    }
+
+    @Test
+    public void testTaskResubmittingItself() {
+        final QueueDispatcher dispatcher = new QueueDispatcher();
+        final List<Integer> runs = new ArrayList<Integer>();
+
+        dispatcher.execute(new Runnable() {
+            @Override
+            public void run() {
+                runs.add(runs.size());
+                dispatcher.execute(this);
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatchOne();
+            assertEquals(i + 1, runs.size());
+            assertEquals(1, dispatcher.eventQueue.size());
+        }
+    }
+
+    @Test
+    public void testTaskThrowingError() {
+        QueueDispatcher dispatcher = new QueueDispatcher();
+        List<Integer> runs = new ArrayList<Integer>();
+
+        dispatcher.execute(new Runnable() {
+            @Override
+            public void run() {
+                throw new AssertionError("Expected error");
+            }
+        });
+        dispatcher.execute(new RecordingTask(runs, 1, 0));
+
+        try {
+            dispatcher.dispatchOne();
+            fail("Error should have been propagated");
+        } catch (AssertionError e) {
+            // Expected
+        }
+        dispatcher.dispatching = false;
+
+        // Remaining task should still be run by a new drain
+        assertEquals(1, dispatcher.eventQueue.size());
+        dispatcher.dispatchOne();
+        assertEquals(Arrays.asList(1), runs);
+
+        // Next task should post a new drain
+        dispatcher.execute(new RecordingTask(runs, 2, 0));
+        assertEquals(1, dispatcher.eventQueue.size());
+    }
+
+    @Test
+    public void testFailingTask() {
+        QueueDispatcher dispatcher = new QueueDispatcher();
+        List<Integer> runs = new ArrayList<Integer>();
+
+        dispatcher.execute(new RecordingTask(runs, 0, 0));
+        dispatcher.execute(new Runnable() {
+            @Override
+            public void run() {
+                throw new IllegalStateException("Expected failure");
+            }
+        });
+        dispatcher.execute(new RecordingTask(runs, 2, 0));
+        dispatcher.dispatchOne();
+
+        assertEquals(Arrays.asList(0, 2), runs);
+    }
+
+    @Test
+    public void testMaxDrainTime() {
+        QueueDispatcher dispatcher = new QueueDispatcher();
+        dispatcher.setMaxDrainTime(5);
+        List<Integer> runs = new ArrayList<Integer>();
+
+        for (int i = 0; i < 4; i++) {
+            dispatcher.execute(new RecordingTask(runs, i, 10));
+        }
+
+        // Each task exceeds the maximum drain time, so the dispatcher should yield after each of them
+        for (int i = 0; i < 4; i++) {
+            assertEquals(1, dispatcher.eventQueue.size());
+            dispatcher.dispatchOne();
+            assertEquals(i + 1, runs.size());
+        }
+        assertTrue(dispatcher.eventQueue.isEmpty());
+        assertEquals(0, dispatcher.getPendingTaskCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxDrainTime() {
+        new QueueDispatcher().setMaxDrainTime(-1);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.base.utils;
+
+import com.google.code.validationframework.base.transform.ParseTransformer;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @see PooledFormat
+ */
+public class PooledFormatTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private static final int ITERATION_COUNT = 2000;
+
+    private static SimpleDateFormat createDateFormat() {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        format.setLenient(false);
+        return format;
+    }
+
+    private static boolean parseConcurrently(final Format format) throws Exception {
+        final ParseTransformer<Date> transformer = new ParseTransformer<Date>(format);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            final int year = 2000 + t;
+            futures.add(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    boolean consistent = true;
+                    Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"), Locale.ENGLISH);
+                    for (int i = 0; i < ITERATION_COUNT; i++) {
+                        int day = 1 + (i % 28);
+                        Date date = transformer.transform(year + "-02-" + ((day < 10) ? "0" : "") + day);
+                        if (date == null) {
+                            consistent = false;
+                        } else {
+                            calendar.setTime(date);
+                            consistent &= (calendar.get(Calendar.YEAR) == year) && (calendar.get(Calendar
+                                    .DAY_OF_MONTH) == day);
+                        }
+                    }
+                    return consistent;
+                }
+            }));
+        }
+
+        boolean consistent = true;
+        for (Future<Boolean> future : futures) {
+            consistent &= future.get();
+        }
+        executor.shutdown();
+
+        return consistent;
+    }
+
+    @Test
+    public void testThreadLocalPool() throws Exception {
+        assertEquals(true, parseConcurrently(new PooledFormat(createDateFormat())));
+    }
+
+    @Test
+    public void testBoundedPool() throws Exception {
+        assertEquals(true, parseConcurrently(new PooledFormat(new BoundedFormatPool(createDateFormat(), 2))));
+    }
+
+    @Test
+    public void testFormatAndParse() {
+        Format format = new PooledFormat(new DecimalFormat("#,##0.00", new DecimalFormatSymbols(Locale.ENGLISH)));
+
+        assertEquals("1,234.50", format.format(1234.5));
+        assertEquals(1234.5, new ParseTransformer<Number>(format).transform("1,234.50"));
+        assertEquals(null, new ParseTransformer<Number>(format).transform("abc"));
+    }
+
+    @Test
+    public void testThreadLocalPoolReusesFormat() {
+        ThreadLocalFormatPool pool = new ThreadLocalFormatPool(createDateFormat());
+
+        Format first = pool.acquire();
+        pool.release(first);
+        Format second = pool.acquire();
+        pool.release(second);
+
+        assertSame(first, second);
+        assertNotSame(pool.getPrototype(), first);
+    }
+
+    @Test
+    public void testBoundedPoolDiscardsExtraFormats() {
+        BoundedFormatPool pool = new BoundedFormatPool(createDateFormat(), 1);
+
+        Format first = pool.acquire();
+        Format second = pool.acquire();
+        assertNotSame(first, second);
+        assertEquals(0, pool.getIdleCount());
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.getIdleCount());
+        assertSame(first, pool.acquire());
+        assertFalse(pool.getIdleCount() > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPrototype() {
+        new ThreadLocalFormatPool(null);
+    }
+}
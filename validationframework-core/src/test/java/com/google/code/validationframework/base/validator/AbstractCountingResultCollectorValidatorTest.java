@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import com.google.code.validationframework.api.transform.Aggregator;
+import com.google.code.validationframework.base.resulthandler.BooleanResultCollector;
+import com.google.code.validationframework.base.rule.TransformerRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see AbstractCountingResultCollectorValidator
+ */
+public abstract class AbstractCountingResultCollectorValidatorTest {
+
+    protected static class LastResultHandler implements ResultHandler<Boolean> {
+
+        protected Boolean lastResult = null;
+
+        protected int count = 0;
+
+        @Override
+        public void handleResult(Boolean result) {
+            lastResult = result;
+            count++;
+        }
+    }
+
+    private static final Boolean[] VALUES = {true, false, null};
+
+    protected abstract AbstractCountingResultCollectorValidator createValidator();
+
+    protected abstract AbstractCountingResultCollectorValidator createValidator(Boolean emptyCollectionValue,
+                                                                                Boolean nullElementValue);
+
+    protected abstract Aggregator<Boolean, Boolean> createReferenceAggregator();
+
+    protected abstract Aggregator<Boolean, Boolean> createReferenceAggregator(Boolean emptyCollectionValue,
+                                                                             Boolean nullElementValue);
+
+    protected static BooleanResultCollector createResultCollector(Boolean result) {
+        BooleanResultCollector resultCollector = new BooleanResultCollector();
+        resultCollector.handleResult(result);
+        return resultCollector;
+    }
+
+    private void checkSameAsAggregator(AbstractCountingResultCollectorValidator validator, Aggregator<Boolean,
+            Boolean> referenceAggregator) {
+        LastResultHandler resultHandler = new LastResultHandler();
+        validator.addResultHandler(resultHandler);
+
+        ResultCollectorValidator<Boolean, Boolean> referenceValidator = new ResultCollectorValidator<Boolean,
+                Boolean>();
+        referenceValidator.addRule(new TransformerRule<Collection<Boolean>, Boolean>(referenceAggregator));
+        LastResultHandler referenceResultHandler = new LastResultHandler();
+        referenceValidator.addResultHandler(referenceResultHandler);
+
+        assertEquals(referenceAggregator.transform(new ArrayList<Boolean>()), validator.getResult());
+
+        List<BooleanResultCollector> resultCollectors = new ArrayList<BooleanResultCollector>();
+        for (int i = 0; i < 5; i++) {
+            BooleanResultCollector resultCollector = new BooleanResultCollector();
+            resultCollectors.add(resultCollector);
+            validator.addResultCollector(resultCollector);
+            referenceValidator.addResultCollector(resultCollector);
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            BooleanResultCollector resultCollector = resultCollectors.get(random.nextInt(resultCollectors.size()));
+            resultCollector.handleResult(VALUES[random.nextInt(VALUES.length)]);
+
+            assertEquals(referenceResultHandler.lastResult, resultHandler.lastResult);
+            assertEquals(resultHandler.lastResult, validator.getResult());
+        }
+        assertEquals(500, resultHandler.count);
+        assertEquals(resultCollectors.size(), validator.getTrueCount() + validator.getFalseCount() + validator
+                .getNullCount());
+    }
+
+    @Test
+    public void testDefaultValues() {
+        checkSameAsAggregator(createValidator(), createReferenceAggregator());
+    }
+
+    @Test
+    public void testNullAsTrue() {
+        checkSameAsAggregator(createValidator(false, true), createReferenceAggregator(false, true));
+    }
+
+    @Test
+    public void testNullIgnored() {
+        checkSameAsAggregator(createValidator(null, null), createReferenceAggregator(null, null));
+    }
+
+    @Test
+    public void testAddRemove() {
+        AbstractCountingResultCollectorValidator validator = createValidator();
+        LastResultHandler resultHandler = new LastResultHandler();
+        validator.addResultHandler(resultHandler);
+
+        BooleanResultCollector resultCollector1 = createResultCollector(true);
+        BooleanResultCollector resultCollector2 = createResultCollector(false);
+
+        validator.addResultCollector(resultCollector1);
+        validator.addResultCollector(resultCollector2);
+        validator.addResultCollector(resultCollector2);
+        assertEquals(2, validator.getResultCollectorCount());
+        assertEquals(1, validator.getTrueCount());
+        assertEquals(1, validator.getFalseCount());
+        assertEquals(0, resultHandler.count);
+
+        validator.removeResultCollector(resultCollector2);
+        assertEquals(1, validator.getResultCollectorCount());
+        assertEquals(1, validator.getTrueCount());
+        assertEquals(0, validator.getFalseCount());
+
+        resultCollector2.handleResult(true);
+        assertEquals(0, resultHandler.count);
+        assertEquals(1, validator.getTrueCount());
+    }
+
+    @Test
+    public void testDispose() {
+        AbstractCountingResultCollectorValidator validator = createValidator();
+        LastResultHandler resultHandler = new LastResultHandler();
+        validator.addResultHandler(resultHandler);
+
+        BooleanResultCollector resultCollector = createResultCollector(true);
+        validator.addResultCollector(resultCollector);
+
+        validator.dispose();
+        resultCollector.handleResult(false);
+        assertEquals(0, resultHandler.count);
+        assertEquals(0, validator.getResultCollectorCount());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.api.rule.Rule;
+import com.google.code.validationframework.base.property.simple.SimpleListProperty;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ListElementValidator
+ */
+public class ListElementValidatorTest {
+
+    private static class PositiveRule implements Rule<Integer, Boolean> {
+
+        private int validationCount = 0;
+
+        @Override
+        public Boolean validate(Integer data) {
+            validationCount++;
+            return (data != null) && (data > 0);
+        }
+    }
+
+    @Test
+    public void testIncrementalValidation() {
+        SimpleListProperty<Integer> property = new SimpleListProperty<Integer>(Arrays.asList(1, -2, 3));
+        PositiveRule rule = new PositiveRule();
+        ListElementValidator<Integer> validator = new ListElementValidator<Integer>(property, rule);
+
+        assertEquals(3, rule.validationCount);
+        assertEquals(Arrays.asList(true, false, true), validator.getResults());
+        assertEquals(1, validator.getInvalidCount());
+        assertFalse(validator.isAllValid());
+
+        // Insert
+        property.add(0, -4);
+        assertEquals(4, rule.validationCount);
+        assertEquals(Arrays.asList(false, true, false, true), validator.getResults());
+        assertEquals(2, validator.getInvalidCount());
+
+        // Change
+        property.set(2, 2);
+        assertEquals(5, rule.validationCount);
+        assertEquals(Arrays.asList(false, true, true, true), validator.getResults());
+        assertEquals(1, validator.getInvalidCount());
+
+        // Remove
+        property.remove(0);
+        assertEquals(5, rule.validationCount);
+        assertEquals(Arrays.asList(true, true, true), validator.getResults());
+        assertTrue(validator.isAllValid());
+
+        // Bulk changes
+        property.addAll(1, Arrays.asList(-1, -1, 5));
+        assertEquals(Arrays.asList(true, false, false, true, true, true), validator.getResults());
+        assertEquals(2, validator.getInvalidCount());
+        property.clear();
+        assertTrue(validator.getResults().isEmpty());
+        assertTrue(validator.isAllValid());
+        assertEquals(8, rule.validationCount);
+    }
+
+    @Test
+    public void testAggregateProperties() {
+        SimpleListProperty<Integer> property = new SimpleListProperty<Integer>();
+        ListElementValidator<Integer> validator = new ListElementValidator<Integer>(property, new PositiveRule());
+        final List<Boolean> allValidValues = new ArrayList<Boolean>();
+        validator.getAllValidProperty().addValueChangeListener(new ValueChangeListener<Boolean>() {
+            @Override
+            public void valueChanged(ReadableProperty<Boolean> property, Boolean oldValue, Boolean newValue) {
+                allValidValues.add(newValue);
+            }
+        });
+
+        property.add(1);
+        property.add(-1);
+        property.add(-2);
+        property.remove(1);
+        property.remove(1);
+
+        assertEquals(Arrays.asList(false, true), allValidValues);
+        assertEquals(Integer.valueOf(0), validator.getInvalidCountProperty().getValue());
+    }
+
+    @Test
+    public void testDispose() {
+        SimpleListProperty<Integer> property = new SimpleListProperty<Integer>();
+        ListElementValidator<Integer> validator = new ListElementValidator<Integer>(property, new PositiveRule());
+        validator.dispose();
+        validator.dispose();
+
+        property.add(-1);
+        assertTrue(validator.getResults().isEmpty());
+        assertTrue(validator.isAllValid());
+    }
+}
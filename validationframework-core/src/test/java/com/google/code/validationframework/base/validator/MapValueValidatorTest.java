@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.base.property.simple.SimpleMapProperty;
+import com.google.code.validationframework.base.rule.string.StringNotEmptyRule;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see MapValueValidator
+ */
+public class MapValueValidatorTest {
+
+    @Test
+    public void testIncrementalValidation() {
+        Map<Integer, String> entries = new HashMap<Integer, String>();
+        entries.put(1, "one");
+        entries.put(2, "");
+        SimpleMapProperty<Integer, String> property = new SimpleMapProperty<Integer, String>(entries);
+        MapValueValidator<Integer, String> validator = new MapValueValidator<Integer, String>(property, new
+                StringNotEmptyRule());
+
+        assertEquals(1, validator.getInvalidCount());
+        assertEquals(Boolean.FALSE, validator.getResult(2));
+
+        property.put(2, "two");
+        assertTrue(validator.isAllValid());
+
+        property.put(3, null);
+        property.put(1, " ");
+        assertEquals(2, validator.getInvalidCount());
+
+        property.remove(3);
+        assertEquals(1, validator.getInvalidCount());
+        assertNull(validator.getResult(3));
+
+        property.clear();
+        assertTrue(validator.isAllValid());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.transform.Aggregator;
+import com.google.code.validationframework.base.resulthandler.BooleanResultCollector;
+import com.google.code.validationframework.base.transform.OrBooleanAggregator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see OrResultCollectorValidator
+ */
+public class OrResultCollectorValidatorTest extends AbstractCountingResultCollectorValidatorTest {
+
+    @Override
+    protected AbstractCountingResultCollectorValidator createValidator() {
+        return new OrResultCollectorValidator();
+    }
+
+    @Override
+    protected AbstractCountingResultCollectorValidator createValidator(Boolean emptyCollectionValue,
+                                                                       Boolean nullElementValue) {
+        return new OrResultCollectorValidator(emptyCollectionValue, nullElementValue);
+    }
+
+    @Override
+    protected Aggregator<Boolean, Boolean> createReferenceAggregator() {
+        return new OrBooleanAggregator();
+    }
+
+    @Override
+    protected Aggregator<Boolean, Boolean> createReferenceAggregator(Boolean emptyCollectionValue,
+                                                                    Boolean nullElementValue) {
+        return new OrBooleanAggregator(emptyCollectionValue, nullElementValue);
+    }
+
+    @Test
+    public void testRemoveResultCollectors() {
+        OrResultCollectorValidator validator = new OrResultCollectorValidator();
+        LastResultHandler resultHandler = new LastResultHandler();
+        validator.addResultHandler(resultHandler);
+
+        BooleanResultCollector trueResultCollector = createResultCollector(true);
+        BooleanResultCollector falseResultCollector = createResultCollector(false);
+        validator.addResultCollector(trueResultCollector);
+        validator.addResultCollector(falseResultCollector);
+        assertEquals(true, validator.getResult());
+
+        // Removing the only true collector makes the result false
+        validator.removeResultCollector(trueResultCollector);
+        assertEquals(false, validator.getResult());
+
+        // Removing the only false collector keeps the result true
+        validator.addResultCollector(trueResultCollector);
+        validator.removeResultCollector(falseResultCollector);
+        assertEquals(true, validator.getResult());
+
+        // A single true collector is enough to make the result true
+        validator.addResultCollector(createResultCollector(false));
+        assertEquals(true, validator.getResult());
+        assertEquals(0, resultHandler.count);
+    }
+}
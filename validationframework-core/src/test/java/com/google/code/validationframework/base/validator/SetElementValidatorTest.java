@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.base.property.simple.SimpleSetProperty;
+import com.google.code.validationframework.base.rule.string.StringNotEmptyRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see SetElementValidator
+ */
+public class SetElementValidatorTest {
+
+    @Test
+    public void testIncrementalValidation() {
+        SimpleSetProperty<String> property = new SimpleSetProperty<String>(new HashSet<String>(Arrays.asList("a",
+                " ")));
+        SetElementValidator<String> validator = new SetElementValidator<String>(property, new StringNotEmptyRule());
+
+        assertEquals(1, validator.getInvalidCount());
+        assertEquals(Boolean.FALSE, validator.getResult(" "));
+
+        property.add("");
+        property.add("b");
+        assertEquals(2, validator.getInvalidCount());
+        assertEquals(Boolean.TRUE, validator.getResult("b"));
+
+        property.removeAll(Arrays.asList(" ", "", "c"));
+        assertTrue(validator.isAllValid());
+        assertNull(validator.getResult(""));
+
+        property.clear();
+        assertTrue(validator.isAllValid());
+        assertNull(validator.getResult("a"));
+    }
+}
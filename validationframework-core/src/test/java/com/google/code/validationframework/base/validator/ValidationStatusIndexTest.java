@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator;
+
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import com.google.code.validationframework.api.transform.Transformer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ValidationStatusIndex
+ */
+public class ValidationStatusIndexTest {
+
+    private static class TabTransformer implements Transformer<Integer, String> {
+
+        @Override
+        public String transform(Integer input) {
+            return (input < 10) ? "first" : "second";
+        }
+    }
+
+    private static class ValueRecorder implements ValueChangeListener<Integer> {
+
+        private final List<Integer> values = new ArrayList<Integer>();
+
+        @Override
+        public void valueChanged(ReadableProperty<Integer> property, Integer oldValue, Integer newValue) {
+            values.add(newValue);
+        }
+    }
+
+    @Test
+    public void testInvalidKeys() {
+        ValidationStatusIndex<Integer> index = new ValidationStatusIndex<Integer>();
+        assertTrue(index.isAllValid());
+        assertNull(index.getFirstInvalid());
+
+        index.setResult(5, false);
+        index.setResult(3, true);
+        index.setResult(8, null);
+        index.setResult(1, false);
+        index.setResult(1, false);
+
+        assertEquals(4, index.size());
+        assertEquals(3, index.getInvalidCount());
+        assertFalse(index.isAllValid());
+        assertEquals(Arrays.asList(1, 5, 8), new ArrayList<Integer>(index.getInvalidKeys()));
+        assertEquals(Integer.valueOf(1), index.getFirstInvalid());
+        assertEquals(Integer.valueOf(5), index.getNextInvalid(3));
+        assertEquals(Integer.valueOf(8), index.getNextInvalid(5));
+        assertNull(index.getNextInvalid(8));
+        assertEquals(Integer.valueOf(1), index.getPreviousInvalid(5));
+        assertTrue(index.isInvalid(8));
+        assertFalse(index.isInvalid(3));
+
+        index.setResult(1, true);
+        index.remove(5);
+        assertEquals(Collections.singletonList(8), new ArrayList<Integer>(index.getInvalidKeys()));
+        assertEquals(3, index.size());
+
+        index.setResult(8, true);
+        assertTrue(index.isAllValid());
+        assertEquals(0, index.getInvalidCount());
+    }
+
+    @Test
+    public void testComparator() {
+        ValidationStatusIndex<Integer> index = new ValidationStatusIndex<Integer>(Collections.<Integer>reverseOrder());
+
+        index.setResult(1, false);
+        index.setResult(7, false);
+        index.setResult(4, false);
+
+        assertEquals(Integer.valueOf(7), index.getFirstInvalid());
+        assertEquals(Integer.valueOf(1), index.getNextInvalid(4));
+    }
+
+    @Test
+    public void testGroups() {
+        ValidationStatusIndex<Integer> index = new ValidationStatusIndex<Integer>(null, new TabTransformer());
+
+        index.setResult(12, false);
+        index.setResult(2, false);
+        index.setResult(15, false);
+        index.setResult(7, true);
+
+        assertEquals(1, index.getInvalidCount("first"));
+        assertEquals(2, index.getInvalidCount("second"));
+        assertEquals(0, index.getInvalidCount("third"));
+        assertEquals(Integer.valueOf(12), index.getFirstInvalid("second"));
+        assertNull(index.getFirstInvalid("third"));
+        assertEquals(Arrays.asList(12, 15), new ArrayList<Integer>(index.getInvalidKeys("second")));
+
+        index.setResult(2, true);
+        assertEquals(0, index.getInvalidCount("first"));
+        assertNull(index.getFirstInvalid("first"));
+    }
+
+    @Test
+    public void testProperties() {
+        ValidationStatusIndex<Integer> index = new ValidationStatusIndex<Integer>(null, new TabTransformer());
+        ValueRecorder countRecorder = new ValueRecorder();
+        index.getInvalidCountProperty().addValueChangeListener(countRecorder);
+        ValueRecorder groupCountRecorder = new ValueRecorder();
+        index.getInvalidCountProperty("second").addValueChangeListener(groupCountRecorder);
+
+        ResultHandler<Boolean> resultHandler1 = index.getResultHandler(1);
+        ResultHandler<Boolean> resultHandler11 = index.getResultHandler(11);
+        resultHandler1.handleResult(false);
+        resultHandler11.handleResult(false);
+        assertFalse(index.getAllValidProperty().getValue());
+        resultHandler11.handleResult(false);
+        resultHandler1.handleResult(true);
+        resultHandler11.handleResult(true);
+
+        assertEquals(Arrays.asList(1, 2, 1, 0), countRecorder.values);
+        assertEquals(Arrays.asList(1, 0), groupCountRecorder.values);
+        assertTrue(index.getAllValidProperty().getValue());
+
+        index.dispose();
+    }
+}
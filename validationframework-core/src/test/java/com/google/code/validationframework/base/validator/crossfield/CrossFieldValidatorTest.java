@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.base.validator.crossfield;
+
+import com.google.code.validationframework.api.resulthandler.ResultHandler;
+import com.google.code.validationframework.base.property.simple.SimpleBooleanProperty;
+import com.google.code.validationframework.base.property.simple.SimpleIntegerProperty;
+import com.google.code.validationframework.base.resulthandler.SimpleResultCollector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see CrossFieldValidator
+ */
+public class CrossFieldValidatorTest {
+
+    private static class RecordingResultHandler implements ResultHandler<Boolean> {
+
+        private final List<Boolean> results = new ArrayList<Boolean>();
+
+        @Override
+        public void handleResult(Boolean result) {
+            results.add(result);
+        }
+    }
+
+    private static class LessThanRule extends AbstractCrossFieldRule<Boolean> {
+
+        private final SimpleIntegerProperty low;
+
+        private final SimpleIntegerProperty high;
+
+        private int evaluationCount = 0;
+
+        public LessThanRule(SimpleIntegerProperty low, SimpleIntegerProperty high) {
+            super(low, high);
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        public Boolean validate() {
+            evaluationCount++;
+            return low.getValue() < high.getValue();
+        }
+    }
+
+    @Test
+    public void testTargetedReevaluation() {
+        SimpleIntegerProperty min = new SimpleIntegerProperty(0);
+        SimpleIntegerProperty max = new SimpleIntegerProperty(10);
+        SimpleIntegerProperty other = new SimpleIntegerProperty(5);
+        SimpleIntegerProperty limit = new SimpleIntegerProperty(20);
+        LessThanRule minMaxRule = new LessThanRule(min, max);
+        LessThanRule otherRule = new LessThanRule(other, limit);
+        RecordingResultHandler minMaxResults = new RecordingResultHandler();
+
+        CrossFieldValidator validator = new CrossFieldValidator();
+        validator.addRule(minMaxRule);
+        validator.addResultHandler(minMaxRule, minMaxResults);
+        validator.addRule(otherRule);
+        validator.validateAll();
+        assertEquals(1, minMaxRule.evaluationCount);
+        assertEquals(1, otherRule.evaluationCount);
+
+        max.setValue(-1);
+        assertEquals(2, minMaxRule.evaluationCount);
+        assertEquals(1, otherRule.evaluationCount);
+
+        other.setValue(30);
+        assertEquals(2, minMaxRule.evaluationCount);
+        assertEquals(2, otherRule.evaluationCount);
+        assertEquals(Arrays.asList(true, false), minMaxResults.results);
+
+        validator.dispose();
+        min.setValue(-5);
+        assertEquals(2, minMaxRule.evaluationCount);
+    }
+
+    @Test
+    public void testDerivedFields() {
+        final SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        final SimpleIntegerProperty b = new SimpleIntegerProperty(2);
+        final SimpleBooleanProperty aLessThanB = new SimpleBooleanProperty();
+        final SimpleBooleanProperty bPositive = new SimpleBooleanProperty();
+        final int[] evaluationCount = {0};
+        SimpleResultCollector<Boolean> formResult = new SimpleResultCollector<Boolean>();
+
+        CrossFieldValidator validator = new CrossFieldValidator();
+        // Added before the rules it depends on
+        AbstractCrossFieldRule<Boolean> formRule = new AbstractCrossFieldRule<Boolean>(aLessThanB, bPositive) {
+            @Override
+            public Boolean validate() {
+                evaluationCount[0]++;
+                return aLessThanB.getValue() && bPositive.getValue();
+            }
+        };
+        validator.addRule(formRule);
+        validator.addResultHandler(formRule, formResult);
+        validator.addRule(new LessThanRule(a, b), aLessThanB);
+        validator.addRule(new AbstractCrossFieldRule<Boolean>(b) {
+            @Override
+            public Boolean validate() {
+                return b.getValue() > 0;
+            }
+        }, bPositive);
+        validator.validateAll();
+        assertEquals(1, evaluationCount[0]);
+        assertTrue(formResult.getData());
+
+        // Both derived fields change, but the form rule is evaluated only once
+        b.setValue(-1);
+        assertEquals(2, evaluationCount[0]);
+        assertFalse(formResult.getData());
+
+        // No derived field changes
+        a.setValue(5);
+        assertEquals(2, evaluationCount[0]);
+    }
+
+    @Test
+    public void testRuleRemovedDuringWave() {
+        SimpleIntegerProperty min = new SimpleIntegerProperty(0);
+        SimpleIntegerProperty max = new SimpleIntegerProperty(10);
+        final LessThanRule firstRule = new LessThanRule(min, max);
+        final LessThanRule secondRule = new LessThanRule(min, max);
+
+        final CrossFieldValidator validator = new CrossFieldValidator();
+        validator.addRule(firstRule);
+        validator.addResultHandler(firstRule, new ResultHandler<Boolean>() {
+            @Override
+            public void handleResult(Boolean result) {
+                validator.removeRule(secondRule);
+            }
+        });
+        validator.addRule(secondRule);
+
+        max.setValue(5);
+        assertEquals(1, firstRule.evaluationCount);
+        assertEquals(0, secondRule.evaluationCount);
+        assertEquals(Arrays.<CrossFieldRule<?>>asList(firstRule), validator.getRules());
+
+        max.setValue(6);
+        assertEquals(2, firstRule.evaluationCount);
+        assertEquals(0, secondRule.evaluationCount);
+    }
+
+    @Test
+    public void testAddRemoveResultHandler() {
+        SimpleIntegerProperty min = new SimpleIntegerProperty(0);
+        SimpleIntegerProperty max = new SimpleIntegerProperty(10);
+        LessThanRule rule = new LessThanRule(min, max);
+        RecordingResultHandler results = new RecordingResultHandler();
+
+        CrossFieldValidator validator = new CrossFieldValidator();
+        try {
+            validator.addResultHandler(rule, results);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        validator.addRule(rule);
+        validator.addResultHandler(rule, results);
+        max.setValue(-1);
+        validator.removeResultHandler(rule, results);
+        max.setValue(5);
+
+        assertEquals(2, rule.evaluationCount);
+        assertEquals(Arrays.asList(false), results.results);
+    }
+
+    @Test
+    public void testCycle() {
+        final SimpleBooleanProperty x = new SimpleBooleanProperty(true);
+        final SimpleBooleanProperty y = new SimpleBooleanProperty(true);
+        CrossFieldValidator validator = new CrossFieldValidator();
+        AbstractCrossFieldRule<Boolean> xToY = new AbstractCrossFieldRule<Boolean>(x) {
+            @Override
+            public Boolean validate() {
+                return x.getValue();
+            }
+        };
+        AbstractCrossFieldRule<Boolean> yToX = new AbstractCrossFieldRule<Boolean>(y) {
+            @Override
+            public Boolean validate() {
+                return !y.getValue();
+            }
+        };
+        validator.addRule(xToY, y);
+
+        try {
+            validator.addRule(yToX, x);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        assertEquals(1, validator.getRules().size());
+
+        // The rejected rule must not be listening
+        y.setValue(false);
+        assertTrue(x.getValue());
+    }
+
+    @Test
+    public void testUndeclaredCycle() {
+        final SimpleIntegerProperty p = new SimpleIntegerProperty(0);
+        final SimpleIntegerProperty q = new SimpleIntegerProperty(0);
+        final int[] evaluationCounts = {0, 0};
+        CrossFieldValidator validator = new CrossFieldValidator();
+        AbstractCrossFieldRule<Integer> pRule = new AbstractCrossFieldRule<Integer>(p) {
+            @Override
+            public Integer validate() {
+                evaluationCounts[0]++;
+                return p.getValue() + 1;
+            }
+        };
+        validator.addRule(pRule);
+        validator.addResultHandler(pRule, new ResultHandler<Integer>() {
+            @Override
+            public void handleResult(Integer result) {
+                // Modifies a field without declaring it as output
+                q.setValue(result);
+            }
+        });
+        AbstractCrossFieldRule<Integer> qRule = new AbstractCrossFieldRule<Integer>(q) {
+            @Override
+            public Integer validate() {
+                evaluationCounts[1]++;
+                return q.getValue() + 1;
+            }
+        };
+        validator.addRule(qRule);
+        validator.addResultHandler(qRule, new ResultHandler<Integer>() {
+            @Override
+            public void handleResult(Integer result) {
+                p.setValue(result);
+            }
+        });
+
+        validator.validateAll();
+
+        assertEquals(1, evaluationCounts[0]);
+        assertEquals(1, evaluationCounts[1]);
+        assertEquals(Integer.valueOf(2), p.getValue());
+        assertEquals(Integer.valueOf(1), q.getValue());
+    }
+
+    @Test
+    public void testOtherFields() {
+        final List<String> dataProvider = new ArrayList<String>();
+        RecordingResultHandler results = new RecordingResultHandler();
+        CrossFieldValidator validator = new CrossFieldValidator();
+        AbstractCrossFieldRule<Boolean> rule = new AbstractCrossFieldRule<Boolean>(dataProvider) {
+            @Override
+            public Boolean validate() {
+                return !dataProvider.isEmpty();
+            }
+        };
+        validator.addRule(rule);
+        validator.addResultHandler(rule, results);
+
+        dataProvider.add("a");
+        validator.fieldChanged(dataProvider);
+        validator.fieldChanged(new ArrayList<String>());
+
+        assertEquals(Arrays.asList(true), results.results);
+    }
+}
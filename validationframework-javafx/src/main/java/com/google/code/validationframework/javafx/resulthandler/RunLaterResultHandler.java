@@ -26,7 +26,7 @@
 package com.google.code.validationframework.javafx.resulthandler;
 
 import com.google.code.validationframework.api.resulthandler.ResultHandler;
-import javafx.application.Platform;
+import com.google.code.validationframework.javafx.utils.RunLaterDispatcher;
 
 /**
  * Result handler wrapper to re-schedule the handling of the result by the wrapped result handler on the FX Application
@@ -112,9 +112,9 @@ public class RunLaterResultHandler<RHI> implements ResultHandler<RHI> {
      */
     @Override
     public void handleResult(RHI result) {
-        if (eventIfAlreadyOnApplicationThread || !Platform.isFxApplicationThread()) {
+        if (eventIfAlreadyOnApplicationThread || !RunLaterDispatcher.getInstance().isDispatchThread()) {
             // Either forced or not yet on application thread
-            Platform.runLater(new RescheduledResultHandler(result));
+            RunLaterDispatcher.getInstance().execute(new RescheduledResultHandler(result));
         } else {
             // Already on application thread
             wrappedResultHandler.handleResult(result);
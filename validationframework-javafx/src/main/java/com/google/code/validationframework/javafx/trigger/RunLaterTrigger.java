@@ -29,7 +29,7 @@ import com.google.code.validationframework.api.trigger.Trigger;
 import com.google.code.validationframework.api.trigger.TriggerEvent;
 import com.google.code.validationframework.api.trigger.TriggerListener;
 import com.google.code.validationframework.base.trigger.AbstractTrigger;
-import javafx.application.Platform;
+import com.google.code.validationframework.javafx.utils.RunLaterDispatcher;
 
 /**
  * Trigger wrapper to re-schedule the wrapped trigger on the FX Application Thread.
@@ -67,9 +67,9 @@ public class RunLaterTrigger extends AbstractTrigger {
          */
         @Override
         public void triggerValidation(TriggerEvent event) {
-            if (evenIfAlreadyOnApplicationThread || !Platform.isFxApplicationThread()) {
+            if (evenIfAlreadyOnApplicationThread || !RunLaterDispatcher.getInstance().isDispatchThread()) {
                 // Either forced or not yet on the application thread
-                Platform.runLater(this);
+                RunLaterDispatcher.getInstance().execute(this);
             } else {
                 // Already on the application thread
                 run();
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.dataprovider;
+
+import com.google.code.validationframework.api.dataprovider.DataProvider;
+import com.google.code.validationframework.swing.utils.DocumentCharSequence;
+
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+/**
+ * Data provider retrieving the text of a document as a character sequence, without copying it.
+ * <p>
+ * Unlike the {@link JTextComponentTextProvider}, which calls {@link JTextComponent#getText()} and copies the whole text
+ * on every validation, this data provider returns a {@link DocumentCharSequence} reading the document directly. This
+ * is particularly useful for large documents validated on every keystroke.
+ * <p>
+ * The string rules can be used with this data provider through {@link com.google.code.validationframework.base.rule
+ * .string.AbstractStringBooleanRule#asCharSequenceRule()}.
+ * <p>
+ * Note that the returned character sequence must not be used after the document has been modified.
+ *
+ * @see DataProvider
+ * @see DocumentCharSequence
+ */
+public class DocumentCharSequenceProvider implements DataProvider<CharSequence> {
+
+    /**
+     * Text component whose document is to be read, or null if a document was specified.
+     */
+    private final JTextComponent textComponent;
+
+    /**
+     * Document to be read, or null if a text component was specified.
+     */
+    private final Document document;
+
+    /**
+     * Constructor specifying the text component whose document is to be read.
+     * <p>
+     * If the document of the text component is replaced, the new document will be read.
+     *
+     * @param textComponent Text component whose document is to be read.
+     */
+    public DocumentCharSequenceProvider(JTextComponent textComponent) {
+        this.textComponent = textComponent;
+        this.document = null;
+    }
+
+    /**
+     * Constructor specifying the document to be read.
+     *
+     * @param document Document to be read.
+     */
+    public DocumentCharSequenceProvider(Document document) {
+        this.textComponent = null;
+        this.document = document;
+    }
+
+    /**
+     * Gets the document to be read.
+     *
+     * @return Document to be read.
+     */
+    public Document getDocument() {
+        return (textComponent == null) ? document : textComponent.getDocument();
+    }
+
+    /**
+     * @see DataProvider#getData()
+     */
+    @Override
+    public CharSequence getData() {
+        return new DocumentCharSequence(getDocument());
+    }
+}
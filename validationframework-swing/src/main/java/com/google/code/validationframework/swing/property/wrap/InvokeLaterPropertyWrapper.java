@@ -29,8 +29,7 @@ import com.google.code.validationframework.api.common.Disposable;
 import com.google.code.validationframework.api.property.ReadableProperty;
 import com.google.code.validationframework.api.property.ValueChangeListener;
 import com.google.code.validationframework.base.property.AbstractReadableProperty;
-
-import javax.swing.SwingUtilities;
+import com.google.code.validationframework.swing.utils.InvokeLaterDispatcher;
 
 /**
  * Wrapper for {@link ReadableProperty} that postpones the notifications of the {@link ValueChangeListener}s later on
@@ -47,11 +46,11 @@ public class InvokeLaterPropertyWrapper<R> extends AbstractReadableProperty<R> i
 
         /**
          * @see ValueChangeListener#valueChanged(ReadableProperty, Object, Object)
-         * @see SwingUtilities#invokeLater(Runnable)
+         * @see InvokeLaterDispatcher
          */
         @Override
         public void valueChanged(ReadableProperty<R> property, R oldValue, R newValue) {
-            SwingUtilities.invokeLater(this);
+            InvokeLaterDispatcher.getInstance().execute(this);
         }
 
         /**
@@ -26,8 +26,7 @@
 package com.google.code.validationframework.swing.resulthandler;
 
 import com.google.code.validationframework.api.resulthandler.ResultHandler;
-
-import javax.swing.SwingUtilities;
+import com.google.code.validationframework.swing.utils.InvokeLaterDispatcher;
 
 /**
  * Result handler wrapper to re-schedule the handling of the result by the wrapped result handler on the Event Dispatch
@@ -111,9 +110,9 @@ public class InvokeLaterResultHandler<RHI> implements ResultHandler<RHI> {
      */
     @Override
     public void handleResult(RHI result) {
-        if (eventIfAlreadyOnEDT || !SwingUtilities.isEventDispatchThread()) {
+        if (eventIfAlreadyOnEDT || !InvokeLaterDispatcher.getInstance().isDispatchThread()) {
             // Either forced or not yet on EDT
-            SwingUtilities.invokeLater(new RescheduledResultHandler(result));
+            InvokeLaterDispatcher.getInstance().execute(new RescheduledResultHandler(result));
         } else {
             // Already on EDT
             wrappedResultHandler.handleResult(result);
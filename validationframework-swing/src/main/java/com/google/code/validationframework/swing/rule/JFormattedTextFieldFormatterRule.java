@@ -32,6 +32,12 @@ import java.text.ParseException;
 
 /**
  * Convenience rule that will check if the formatter of a formatted textfield can successfully parse the input text.
+ * <p>
+ * Unlike the {@link com.google.code.validationframework.base.rule.string.IsParsableRule}, this rule does not use the
+ * {@link com.google.code.validationframework.base.transform.ParseResult} parsing path: the formatter of the textfield
+ * is not a {@link java.text.Format} and can only be called through
+ * {@link JFormattedTextField.AbstractFormatter#stringToValue(String)}, which the textfield also calls on its own when
+ * committing its value. So the text may be parsed more than once.
  */
 public class JFormattedTextFieldFormatterRule extends AbstractStringBooleanRule {
 
@@ -29,8 +29,7 @@ import com.google.code.validationframework.api.trigger.Trigger;
 import com.google.code.validationframework.api.trigger.TriggerEvent;
 import com.google.code.validationframework.api.trigger.TriggerListener;
 import com.google.code.validationframework.base.trigger.AbstractTrigger;
-
-import javax.swing.SwingUtilities;
+import com.google.code.validationframework.swing.utils.InvokeLaterDispatcher;
 
 /**
  * Trigger wrapper to re-schedule the wrapped trigger on the Event Dispatch Thread.
@@ -67,9 +66,9 @@ public class InvokeLaterTrigger extends AbstractTrigger {
          */
         @Override
         public void triggerValidation(TriggerEvent event) {
-            if (evenIfAlreadyOnEDT || !SwingUtilities.isEventDispatchThread()) {
+            if (evenIfAlreadyOnEDT || !InvokeLaterDispatcher.getInstance().isDispatchThread()) {
                 // Either forced or not yet on the EDT
-                SwingUtilities.invokeLater(this);
+                InvokeLaterDispatcher.getInstance().execute(this);
             } else {
                 // Already on the EDT
                 run();
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.utils;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+/**
+ * Character sequence reading the text of a {@link Document} without copying it.
+ * <p>
+ * The characters are read through a {@link Segment} with partial returns enabled, so that the document gives direct
+ * access to its internal buffer (for instance, both parts of the gap buffer of a {@link
+ * javax.swing.text.PlainDocument}) instead of copying the text into a new string. This allows rules to validate large
+ * documents on every keystroke.
+ * <p>
+ * The character sequence is a view of the document at the time it is created: it must not be used after the document
+ * has been modified. As for any access to a Swing document, it should be used on the Event Dispatch Thread or while
+ * holding the read lock of the document.
+ * <p>
+ * Note that only {@link #toString()} copies the text.
+ */
+public class DocumentCharSequence implements CharSequence {
+
+    /**
+     * Document to read the characters from.
+     */
+    private final Document document;
+
+    /**
+     * Position in the document of the first character of this sequence.
+     */
+    private final int offset;
+
+    /**
+     * Number of characters in this sequence.
+     */
+    private final int length;
+
+    /**
+     * Segment giving access to the part of the document that was last read.
+     */
+    private final Segment segment = new Segment();
+
+    /**
+     * Position in the document of the first character of the segment.
+     */
+    private int segmentOffset = 0;
+
+    /**
+     * Constructor specifying the document whose whole text is to be read.
+     *
+     * @param document Document to read the characters from.
+     */
+    public DocumentCharSequence(Document document) {
+        this(document, 0, document.getLength());
+    }
+
+    /**
+     * Constructor specifying the document and the part of its text to be read.
+     *
+     * @param document Document to read the characters from.
+     * @param offset   Position in the document of the first character of the sequence.
+     * @param length   Number of characters in the sequence.
+     */
+    public DocumentCharSequence(Document document, int offset, int length) {
+        if ((offset < 0) || (length < 0) || (offset + length > document.getLength())) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Document length: " +
+                    document.getLength());
+        }
+        this.document = document;
+        this.offset = offset;
+        this.length = length;
+        segment.setPartialReturn(true);
+    }
+
+    /**
+     * Gets the document to read the characters from.
+     *
+     * @return Document to read the characters from.
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * @see CharSequence#length()
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @see CharSequence#charAt(int)
+     */
+    @Override
+    public char charAt(int index) {
+        if ((index < 0) || (index >= length)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+
+        int documentIndex = offset + index;
+        if ((documentIndex < segmentOffset) || (documentIndex >= segmentOffset + segment.count)) {
+            loadSegment(documentIndex);
+        }
+        return segment.array[segment.offset + documentIndex - segmentOffset];
+    }
+
+    /**
+     * @see CharSequence#subSequence(int, int)
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if ((start < 0) || (end > length) || (start > end)) {
+            throw new IndexOutOfBoundsException("Start: " + start + ", End: " + end + ", Length: " + length);
+        }
+        return new DocumentCharSequence(document, offset + start, end - start);
+    }
+
+    /**
+     * Gets the text of this sequence.
+     * <p>
+     * Note that this copies the text.
+     *
+     * @return Text of this sequence.
+     *
+     * @see CharSequence#toString()
+     */
+    @Override
+    public String toString() {
+        try {
+            return document.getText(offset, length);
+        } catch (BadLocationException e) {
+            throw new IndexOutOfBoundsException("Document modified: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Makes the segment give access to the part of the document containing the specified position.
+     * <p>
+     * The parts are read from the beginning of the sequence so that both forward and backward reads mostly hit the
+     * same part: a document typically exposes its text as very few parts.
+     *
+     * @param documentIndex Position in the document of the character to be accessed.
+     */
+    private void loadSegment(int documentIndex) {
+        int partOffset = offset;
+        try {
+            do {
+                document.getText(partOffset, offset + length - partOffset, segment);
+                segmentOffset = partOffset;
+                partOffset += segment.count;
+            } while ((documentIndex >= partOffset) && (segment.count > 0));
+        } catch (BadLocationException e) {
+            throw new IndexOutOfBoundsException("Document modified: " + e.getMessage());
+        }
+        if (documentIndex >= partOffset) {
+            throw new IndexOutOfBoundsException("Document modified: " + documentIndex);
+        }
+    }
+}
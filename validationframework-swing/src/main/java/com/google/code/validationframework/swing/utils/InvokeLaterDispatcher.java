@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package com.google.code.validationframework.swing.utils;
+
+import com.google.code.validationframework.base.utils.AbstractBatchingDispatcher;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Dispatcher batching the tasks to be run on the Event Dispatch Thread.
+ * <p>
+ * All the "invoke later" wrappers of the framework share the same instance, so that the tasks they submit are run by a
+ * single runnable posted on the EDT, in the order in which they are submitted.
+ *
+ * @see #getInstance()
+ * @see AbstractBatchingDispatcher
+ */
+public final class InvokeLaterDispatcher extends AbstractBatchingDispatcher {
+
+    /**
+     * Shared instance.
+     */
+    private static final InvokeLaterDispatcher INSTANCE = new InvokeLaterDispatcher();
+
+    /**
+     * Private constructor for the shared instance.
+     */
+    private InvokeLaterDispatcher() {
+        super();
+    }
+
+    /**
+     * Gets the dispatcher shared by all the components running tasks later on the EDT.
+     *
+     * @return Shared instance.
+     */
+    public static InvokeLaterDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @see AbstractBatchingDispatcher#isDispatchThread()
+     */
+    @Override
+    public boolean isDispatchThread() {
+        return SwingUtilities.isEventDispatchThread();
+    }
+
+    /**
+     * @see AbstractBatchingDispatcher#post(Runnable)
+     */
+    @Override
+    protected void post(Runnable task) {
+        SwingUtilities.invokeLater(task);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.utils;
+
+import com.google.code.validationframework.base.resulthandler.CoalescingResultHandler;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor running the tasks later on the Event Dispatch Thread.
+ * <p>
+ * This can be used, for instance, with the {@link CoalescingResultHandler} to deliver the results on the EDT.
+ *
+ * @see InvokeLaterDispatcher
+ */
+public class InvokeLaterExecutor implements Executor {
+
+    /**
+     * Default behavior of running later if already on the EDT.
+     */
+    private static final boolean DEFAULT_EVEN_IF_ALREADY_ON_EDT = true;
+
+    /**
+     * Flag indicating whether the tasks should always be run later, or only if not already on the EDT.
+     */
+    private final boolean evenIfAlreadyOnEDT;
+
+    /**
+     * Default constructor.
+     * <p>
+     * By default, the tasks will always be run later, even if already on the EDT.
+     */
+    public InvokeLaterExecutor() {
+        this(DEFAULT_EVEN_IF_ALREADY_ON_EDT);
+    }
+
+    /**
+     * Constructor specifying whether the tasks should be run later even if already on the EDT.
+     *
+     * @param evenIfAlreadyOnEDT Flag indicating whether the tasks should always be run later, or only if not already on
+     *                           the EDT.
+     */
+    public InvokeLaterExecutor(boolean evenIfAlreadyOnEDT) {
+        this.evenIfAlreadyOnEDT = evenIfAlreadyOnEDT;
+    }
+
+    /**
+     * @see Executor#execute(Runnable)
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (evenIfAlreadyOnEDT || !InvokeLaterDispatcher.getInstance().isDispatchThread()) {
+            // Either forced or not yet on EDT
+            InvokeLaterDispatcher.getInstance().execute(task);
+        } else {
+            // Already on EDT
+            task.run();
+        }
+    }
+}
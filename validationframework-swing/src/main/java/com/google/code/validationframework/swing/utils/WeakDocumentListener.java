@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.utils;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.base.common.ReferenceSweeper;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import java.lang.ref.WeakReference;
+
+/**
+ * Document listener forwarding the document events to a delegate listener that is only referenced weakly.
+ * <p>
+ * This allows a document shared with long-lived components to notify a short-lived listener (for instance, a trigger
+ * of a dialog that is closed without being disposed) without preventing its garbage collection. Once the delegate
+ * listener has been garbage collected, this weak listener unregisters itself from the document, either on the next
+ * document event or when the {@link ReferenceSweeper} sweeps.
+ * <p>
+ * Note that the delegate listener must be strongly referenced elsewhere (typically by its owner) for as long as it
+ * needs to be notified.
+ * <p>
+ * The weak listener registers itself on the document at construction time.
+ *
+ * @see ReferenceSweeper
+ */
+public class WeakDocumentListener implements DocumentListener, Disposable {
+
+    /**
+     * Document to which this listener is registered.
+     */
+    private Document document;
+
+    /**
+     * Weak reference to the delegate listener.
+     */
+    private final WeakReference<DocumentListener> delegate;
+
+    /**
+     * Constructor specifying the document to listen to and the delegate listener to be referenced weakly.
+     *
+     * @param document Document to listen to.
+     * @param delegate Listener to be notified as long as it is not garbage collected.
+     */
+    public WeakDocumentListener(Document document, DocumentListener delegate) {
+        this.document = document;
+        this.delegate = ReferenceSweeper.track(delegate, this);
+        document.addDocumentListener(this);
+    }
+
+    /**
+     * @see DocumentListener#insertUpdate(DocumentEvent)
+     */
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        DocumentListener listener = getDelegateOrDispose();
+        if (listener != null) {
+            listener.insertUpdate(e);
+        }
+    }
+
+    /**
+     * @see DocumentListener#removeUpdate(DocumentEvent)
+     */
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        DocumentListener listener = getDelegateOrDispose();
+        if (listener != null) {
+            listener.removeUpdate(e);
+        }
+    }
+
+    /**
+     * @see DocumentListener#changedUpdate(DocumentEvent)
+     */
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        DocumentListener listener = getDelegateOrDispose();
+        if (listener != null) {
+            listener.changedUpdate(e);
+        }
+    }
+
+    /**
+     * Unregisters this listener from the document.
+     *
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (document != null) {
+            document.removeDocumentListener(this);
+            document = null;
+        }
+        delegate.clear();
+    }
+
+    /**
+     * Gets the delegate listener, or disposes this listener if the delegate has been garbage collected.
+     *
+     * @return Delegate listener, or null if it has been garbage collected.
+     */
+    private DocumentListener getDelegateOrDispose() {
+        DocumentListener listener = delegate.get();
+        if (listener == null) {
+            dispose();
+        }
+        return listener;
+    }
+}
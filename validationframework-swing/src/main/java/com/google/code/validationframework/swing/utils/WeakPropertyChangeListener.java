@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.utils;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.base.common.ReferenceSweeper;
+
+import java.awt.Component;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+
+/**
+ * Property change listener forwarding the bean property change events of a component to a delegate listener that is
+ * only referenced weakly.
+ * <p>
+ * This allows a long-lived component to notify a short-lived listener (for instance, a property of a dialog that is
+ * closed without being disposed) without preventing its garbage collection. Once the delegate listener has been garbage
+ * collected, this weak listener unregisters itself from the component, either on the next property change event or when
+ * the {@link ReferenceSweeper} sweeps.
+ * <p>
+ * Note that the delegate listener must be strongly referenced elsewhere (typically by its owner) for as long as it
+ * needs to be notified.
+ * <p>
+ * The weak listener registers itself on the component at construction time.
+ *
+ * @see ReferenceSweeper
+ */
+public class WeakPropertyChangeListener implements PropertyChangeListener, Disposable {
+
+    /**
+     * Component to which this listener is registered.
+     */
+    private Component component;
+
+    /**
+     * Name of the bean property to listen to, or null to listen to all bean properties.
+     */
+    private final String propertyName;
+
+    /**
+     * Weak reference to the delegate listener.
+     */
+    private final WeakReference<PropertyChangeListener> delegate;
+
+    /**
+     * Constructor specifying the component to listen to and the delegate listener to be referenced weakly.
+     *
+     * @param component    Component to listen to.
+     * @param propertyName Name of the bean property to listen to, or null to listen to all bean properties.
+     * @param delegate     Listener to be notified as long as it is not garbage collected.
+     */
+    public WeakPropertyChangeListener(Component component, String propertyName, PropertyChangeListener delegate) {
+        this.component = component;
+        this.propertyName = propertyName;
+        this.delegate = ReferenceSweeper.track(delegate, this);
+
+        if (propertyName == null) {
+            component.addPropertyChangeListener(this);
+        } else {
+            component.addPropertyChangeListener(propertyName, this);
+        }
+    }
+
+    /**
+     * @see PropertyChangeListener#propertyChange(PropertyChangeEvent)
+     */
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        PropertyChangeListener listener = delegate.get();
+        if (listener == null) {
+            dispose();
+        } else {
+            listener.propertyChange(evt);
+        }
+    }
+
+    /**
+     * Unregisters this listener from the component.
+     *
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (component != null) {
+            if (propertyName == null) {
+                component.removePropertyChangeListener(this);
+            } else {
+                component.removePropertyChangeListener(propertyName, this);
+            }
+            component = null;
+        }
+        delegate.clear();
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.validator;
+
+import com.google.code.validationframework.api.common.Disposable;
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.rule.Rule;
+import com.google.code.validationframework.base.property.simple.SimpleIntegerProperty;
+import com.google.code.validationframework.base.property.wrap.ReadOnlyPropertyWrapper;
+import com.google.code.validationframework.swing.utils.DocumentCharSequence;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+
+/**
+ * Validator checking each line of a document against a rule, and re-validating only the lines touched by each edit.
+ * <p>
+ * The result of each line is kept in an index. When the document is modified, the offset and length of the {@link
+ * DocumentEvent}, as well as the changes of the line elements, are used to update the index and to re-validate only
+ * the modified lines. This makes it possible to validate very large documents (for instance, configuration files of
+ * several megabytes) on every keystroke.
+ * <p>
+ * The lines are read through {@link DocumentCharSequence}, without copying the text, and without their line
+ * separator. The aggregated results are exposed as properties: the number of invalid lines, and the index of the first
+ * invalid line. These properties are updated together, once at the end of each document event.
+ * <p>
+ * The validator listens to the document from construction time until it is disposed. As for any listener of a Swing
+ * document, the document should only be modified on the Event Dispatch Thread.
+ *
+ * @see DocumentCharSequence
+ */
+public class DocumentLineValidator implements Disposable {
+
+    /**
+     * Listener to the changes of the document, re-validating the modified lines.
+     */
+    private class DocumentAdapter implements DocumentListener {
+
+        /**
+         * @see DocumentListener#insertUpdate(DocumentEvent)
+         */
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            processDocumentEvent(e, true);
+        }
+
+        /**
+         * @see DocumentListener#removeUpdate(DocumentEvent)
+         */
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            processDocumentEvent(e, false);
+        }
+
+        /**
+         * @see DocumentListener#changedUpdate(DocumentEvent)
+         */
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            // Attribute changes do not affect the text
+        }
+    }
+
+    /**
+     * Value of the first invalid line property when all lines are valid.
+     */
+    public static final int NO_INVALID_LINE = -1;
+
+    /**
+     * Initial capacity of the line result index.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Document to be validated.
+     */
+    private Document document;
+
+    /**
+     * Rule checking each line.
+     */
+    private final Rule<CharSequence, Boolean> lineRule;
+
+    /**
+     * Listener to the changes of the document.
+     */
+    private final DocumentListener documentAdapter = new DocumentAdapter();
+
+    /**
+     * Invalid flag of each line.
+     * <p>
+     * Only the first {@link #lineCount} elements are used.
+     */
+    private boolean[] invalidLines = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * Number of lines in the index.
+     */
+    private int lineCount = 0;
+
+    /**
+     * Number of invalid lines in the index, possibly not yet published to {@link #invalidLineCount}.
+     */
+    private int invalidCount = 0;
+
+    /**
+     * Index of the first invalid line in the index, possibly not yet published to {@link #firstInvalidLine}.
+     */
+    private int firstInvalid = NO_INVALID_LINE;
+
+    /**
+     * Number of invalid lines.
+     */
+    private final SimpleIntegerProperty invalidLineCount = new SimpleIntegerProperty(0);
+
+    /**
+     * Read-only version of {@link #invalidLineCount}.
+     */
+    private final ReadOnlyPropertyWrapper<Integer> readOnlyInvalidLineCount = new
+            ReadOnlyPropertyWrapper<Integer>(invalidLineCount);
+
+    /**
+     * Index of the first invalid line.
+     */
+    private final SimpleIntegerProperty firstInvalidLine = new SimpleIntegerProperty(NO_INVALID_LINE);
+
+    /**
+     * Read-only version of {@link #firstInvalidLine}.
+     */
+    private final ReadOnlyPropertyWrapper<Integer> readOnlyFirstInvalidLine = new
+            ReadOnlyPropertyWrapper<Integer>(firstInvalidLine);
+
+    /**
+     * Constructor specifying the document to be validated and the rule checking each line.
+     * <p>
+     * All the lines are validated at construction time.
+     *
+     * @param document Document to be validated.
+     * @param lineRule Rule checking each line, returning true if the line is valid.
+     */
+    public DocumentLineValidator(Document document, Rule<CharSequence, Boolean> lineRule) {
+        this.document = document;
+        this.lineRule = lineRule;
+
+        Element root = document.getDefaultRootElement();
+        replaceLines(0, 0, root.getElementCount());
+        publishResults();
+        document.addDocumentListener(documentAdapter);
+    }
+
+    /**
+     * Gets the document being validated.
+     *
+     * @return Document being validated, or null if this validator has been disposed.
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Gets the number of lines of the document.
+     *
+     * @return Number of lines.
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * States whether the specified line is valid.
+     *
+     * @param line Index of the line.
+     *
+     * @return True if the line is valid, false otherwise.
+     */
+    public boolean isLineValid(int line) {
+        if ((line < 0) || (line >= lineCount)) {
+            throw new IndexOutOfBoundsException("Line: " + line + ", Line count: " + lineCount);
+        }
+        return !invalidLines[line];
+    }
+
+    /**
+     * Gets the property holding the number of invalid lines.
+     *
+     * @return Read-only property holding the number of invalid lines.
+     */
+    public ReadableProperty<Integer> getInvalidLineCountProperty() {
+        return readOnlyInvalidLineCount;
+    }
+
+    /**
+     * Gets the property holding the index of the first invalid line.
+     *
+     * @return Read-only property holding the index of the first invalid line, or {@link #NO_INVALID_LINE} if all lines
+     * are valid.
+     */
+    public ReadableProperty<Integer> getFirstInvalidLineProperty() {
+        return readOnlyFirstInvalidLine;
+    }
+
+    /**
+     * Updates the line index and re-validates the lines touched by the specified document event.
+     *
+     * @param event  Insert or remove event.
+     * @param insert True for an insert event, false for a remove event.
+     */
+    private void processDocumentEvent(DocumentEvent event, boolean insert) {
+        Element root = document.getDefaultRootElement();
+
+        // Lines replaced by other lines, if any
+        int replacedFrom = 0;
+        int replacedTo = 0;
+        DocumentEvent.ElementChange change = event.getChange(root);
+        if (change != null) {
+            replacedFrom = change.getIndex();
+            replacedTo = replacedFrom + change.getChildrenAdded().length;
+            replaceLines(replacedFrom, change.getChildrenRemoved().length, change.getChildrenAdded().length);
+        }
+
+        // Lines whose text was modified, and that were not replaced
+        int firstLine = root.getElementIndex(event.getOffset());
+        int lastLine = insert ? root.getElementIndex(event.getOffset() + event.getLength()) : firstLine;
+        for (int line = firstLine; line <= lastLine; line++) {
+            if ((line < replacedFrom) || (line >= replacedTo)) {
+                replaceLines(line, 1, 1);
+            }
+        }
+
+        publishResults();
+    }
+
+    /**
+     * Replaces the specified number of lines in the index by the specified number of lines, validates the new lines,
+     * and updates the aggregated results without publishing them.
+     *
+     * @param index        Index of the first line to be replaced.
+     * @param removedCount Number of lines to be removed from the index.
+     * @param addedCount   Number of lines to be added to the index and validated.
+     */
+    private void replaceLines(int index, int removedCount, int addedCount) {
+        for (int i = index; i < index + removedCount; i++) {
+            if (invalidLines[i]) {
+                invalidCount--;
+            }
+        }
+
+        // Make room for the new lines
+        int newLineCount = lineCount - removedCount + addedCount;
+        if (newLineCount > invalidLines.length) {
+            boolean[] newInvalidLines = new boolean[Math.max(newLineCount, invalidLines.length * 2)];
+            System.arraycopy(invalidLines, 0, newInvalidLines, 0, index);
+            System.arraycopy(invalidLines, index + removedCount, newInvalidLines, index + addedCount, lineCount -
+                    index - removedCount);
+            invalidLines = newInvalidLines;
+        } else if (removedCount != addedCount) {
+            System.arraycopy(invalidLines, index + removedCount, invalidLines, index + addedCount, lineCount - index -
+                    removedCount);
+        }
+        lineCount = newLineCount;
+
+        // Validate the new lines
+        Element root = document.getDefaultRootElement();
+        for (int i = index; i < index + addedCount; i++) {
+            invalidLines[i] = !isValid(root.getElement(i));
+            if (invalidLines[i]) {
+                invalidCount++;
+            }
+        }
+
+        // Update the aggregated results
+        if ((firstInvalid == NO_INVALID_LINE) || (firstInvalid >= index)) {
+            // The lines before the modified ones are all valid
+            firstInvalid = NO_INVALID_LINE;
+            for (int i = index; (invalidCount > 0) && (firstInvalid == NO_INVALID_LINE) && (i < lineCount); i++) {
+                if (invalidLines[i]) {
+                    firstInvalid = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes the aggregated results to the properties, once all the lines touched by a document event are updated.
+     * <p>
+     * Both properties are inhibited while being set, so that the listeners of each property see the new value of the
+     * other one.
+     */
+    private void publishResults() {
+        invalidLineCount.setInhibited(true);
+        firstInvalidLine.setInhibited(true);
+        invalidLineCount.setValue(invalidCount);
+        firstInvalidLine.setValue(firstInvalid);
+        invalidLineCount.setInhibited(false);
+        firstInvalidLine.setInhibited(false);
+    }
+
+    /**
+     * Validates the specified line.
+     *
+     * @param line Line element.
+     *
+     * @return True if the line is valid, false otherwise.
+     */
+    private boolean isValid(Element line) {
+        int start = line.getStartOffset();
+        // Exclude the line separator, or the implied one after the last line
+        int end = Math.min(line.getEndOffset() - 1, document.getLength());
+        Boolean valid = lineRule.validate(new DocumentCharSequence(document, start, Math.max(0, end - start)));
+        return Boolean.TRUE.equals(valid);
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (document != null) {
+            document.removeDocumentListener(documentAdapter);
+            document = null;
+            readOnlyInvalidLineCount.dispose();
+            readOnlyFirstInvalidLine.dispose();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.utils;
+
+import com.google.code.validationframework.base.rule.string.StringLengthLessThanRule;
+import com.google.code.validationframework.base.rule.string.StringRegexRule;
+import org.junit.Test;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DocumentCharSequence
+ */
+public class DocumentCharSequenceTest {
+
+    private static PlainDocument createDocument() throws BadLocationException {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "world", null);
+        // Move the gap of the buffer in the middle of the text
+        document.insertString(0, "  hello ", null);
+        document.insertString(document.getLength(), " ! ", null);
+        return document;
+    }
+
+    @Test
+    public void testCharacters() throws BadLocationException {
+        PlainDocument document = createDocument();
+        String text = document.getText(0, document.getLength());
+        DocumentCharSequence sequence = new DocumentCharSequence(document);
+
+        assertEquals(text.length(), sequence.length());
+        for (int i = text.length() - 1; i >= 0; i--) {
+            assertEquals(text.charAt(i), sequence.charAt(i));
+        }
+        for (int i = 0; i < text.length(); i++) {
+            assertEquals(text.charAt(i), sequence.charAt(i));
+        }
+        assertEquals(text, sequence.toString());
+        assertEquals(text.substring(2, 7), sequence.subSequence(2, 7).toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() throws BadLocationException {
+        new DocumentCharSequence(createDocument()).charAt(100);
+    }
+
+    @Test
+    public void testStringRules() throws BadLocationException {
+        DocumentCharSequence sequence = new DocumentCharSequence(createDocument());
+
+        assertTrue(new StringRegexRule("^hello world !$").validate(sequence));
+        assertFalse(new StringRegexRule("^world").validate(sequence));
+        assertTrue(new StringLengthLessThanRule(14).asCharSequenceRule().validate(sequence));
+        assertFalse(new StringLengthLessThanRule(13).asCharSequenceRule().validate(sequence));
+    }
+}
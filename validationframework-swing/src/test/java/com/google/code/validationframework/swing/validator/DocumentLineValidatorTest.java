@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2017, ValidationFramework Authors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.google.code.validationframework.swing.validator;
+
+import com.google.code.validationframework.api.property.ReadableProperty;
+import com.google.code.validationframework.api.property.ValueChangeListener;
+import com.google.code.validationframework.api.rule.Rule;
+import com.google.code.validationframework.base.rule.string.StringRegexRule;
+import org.junit.Test;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DocumentLineValidator
+ */
+public class DocumentLineValidatorTest {
+
+    /**
+     * Rule accepting lines of the form key=value, or empty lines.
+     */
+    private static Rule<CharSequence, Boolean> createLineRule() {
+        StringRegexRule rule = new StringRegexRule("^$", "^\\w+=\\w*$");
+        rule.setTrimDataBeforeValidation(false);
+        return rule.asCharSequenceRule();
+    }
+
+    private static class CountingListener implements ValueChangeListener<Integer> {
+
+        private int count = 0;
+
+        @Override
+        public void valueChanged(ReadableProperty<Integer> property, Integer oldValue, Integer newValue) {
+            count++;
+        }
+    }
+
+    @Test
+    public void testInitialValidation() throws BadLocationException {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "a=1\nb\nc=3\nd", null);
+        DocumentLineValidator validator = new DocumentLineValidator(document, createLineRule());
+
+        assertEquals(4, validator.getLineCount());
+        assertTrue(validator.isLineValid(0));
+        assertFalse(validator.isLineValid(1));
+        assertEquals(2, validator.getInvalidLineCountProperty().getValue().intValue());
+        assertEquals(1, validator.getFirstInvalidLineProperty().getValue().intValue());
+
+        validator.dispose();
+    }
+
+    @Test
+    public void testEdits() throws BadLocationException {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "a=1\nb=2\nc=3", null);
+        DocumentLineValidator validator = new DocumentLineValidator(document, createLineRule());
+        assertEquals(0, validator.getInvalidLineCountProperty().getValue().intValue());
+        assertEquals(DocumentLineValidator.NO_INVALID_LINE, validator.getFirstInvalidLineProperty().getValue()
+                .intValue());
+
+        // Break the second line
+        document.remove(5, 1);
+        assertEquals(1, validator.getInvalidLineCountProperty().getValue().intValue());
+        assertEquals(1, validator.getFirstInvalidLineProperty().getValue().intValue());
+
+        // Insert lines before it
+        document.insertString(0, "x\ny=\n", null);
+        assertEquals(5, validator.getLineCount());
+        assertEquals(2, validator.getInvalidLineCountProperty().getValue().intValue());
+        assertEquals(0, validator.getFirstInvalidLineProperty().getValue().intValue());
+
+        // Remove the first two lines and fix the broken one
+        document.remove(0, 5);
+        document.insertString(5, "=", null);
+        assertEquals("a=1\nb=2\nc=3", document.getText(0, document.getLength()));
+        assertEquals(3, validator.getLineCount());
+        assertEquals(0, validator.getInvalidLineCountProperty().getValue().intValue());
+
+        validator.dispose();
+    }
+
+    @Test
+    public void testConsistentNotifications() throws BadLocationException {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, "a=1\nb=2", null);
+        final DocumentLineValidator validator = new DocumentLineValidator(document, createLineRule());
+        final int[] firstInvalidSeenByCountListener = {0};
+        CountingListener invalidCountListener = new CountingListener() {
+            @Override
+            public void valueChanged(ReadableProperty<Integer> property, Integer oldValue, Integer newValue) {
+                super.valueChanged(property, oldValue, newValue);
+                firstInvalidSeenByCountListener[0] = validator.getFirstInvalidLineProperty().getValue();
+            }
+        };
+        validator.getInvalidLineCountProperty().addValueChangeListener(invalidCountListener);
+
+        // Break the first line
+        document.remove(1, 1);
+        assertEquals(1, invalidCountListener.count);
+        assertEquals(0, firstInvalidSeenByCountListener[0]);
+
+        // Repair it
+        document.insertString(1, "=", null);
+        assertEquals(2, invalidCountListener.count);
+        assertEquals(DocumentLineValidator.NO_INVALID_LINE, firstInvalidSeenByCountListener[0]);
+
+        validator.dispose();
+    }
+
+    @Test
+    public void testRandomEdits() throws BadLocationException {
+        Random random = new Random(7);
+        String alphabet = "ab=\n ";
+        PlainDocument document = new PlainDocument();
+        Rule<CharSequence, Boolean> rule = createLineRule();
+        final DocumentLineValidator validator = new DocumentLineValidator(document, rule);
+        CountingListener invalidCountListener = new CountingListener() {
+            @Override
+            public void valueChanged(ReadableProperty<Integer> property, Integer oldValue, Integer newValue) {
+                super.valueChanged(property, oldValue, newValue);
+                // The first invalid line is already up to date when the count changes
+                assertEquals(newValue == 0, validator.getFirstInvalidLineProperty().getValue() ==
+                        DocumentLineValidator.NO_INVALID_LINE);
+            }
+        };
+        validator.getInvalidLineCountProperty().addValueChangeListener(invalidCountListener);
+        CountingListener firstInvalidListener = new CountingListener() {
+            @Override
+            public void valueChanged(ReadableProperty<Integer> property, Integer oldValue, Integer newValue) {
+                super.valueChanged(property, oldValue, newValue);
+                // The count is already up to date when the first invalid line changes
+                assertEquals(newValue == DocumentLineValidator.NO_INVALID_LINE, validator
+                        .getInvalidLineCountProperty().getValue() == 0);
+            }
+        };
+        validator.getFirstInvalidLineProperty().addValueChangeListener(firstInvalidListener);
+
+        for (int i = 0; i < 2000; i++) {
+            invalidCountListener.count = 0;
+            firstInvalidListener.count = 0;
+
+            int length = document.getLength();
+            if ((length > 0) && random.nextBoolean()) {
+                int offset = random.nextInt(length);
+                document.remove(offset, Math.min(1 + random.nextInt(3), length - offset));
+            } else {
+                StringBuilder text = new StringBuilder();
+                for (int j = random.nextInt(4); j >= 0; j--) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                document.insertString(random.nextInt(length + 1), text.toString(), null);
+            }
+
+            // Compare with a full validation
+            String[] lines = document.getText(0, document.getLength()).split("\n", -1);
+            int invalidCount = 0;
+            int firstInvalid = DocumentLineValidator.NO_INVALID_LINE;
+            for (int line = 0; line < lines.length; line++) {
+                boolean valid = rule.validate(lines[line]);
+                assertEquals(valid, validator.isLineValid(line));
+                if (!valid) {
+                    invalidCount++;
+                    if (firstInvalid == DocumentLineValidator.NO_INVALID_LINE) {
+                        firstInvalid = line;
+                    }
+                }
+            }
+            assertEquals(lines.length, validator.getLineCount());
+            assertEquals(invalidCount, validator.getInvalidLineCountProperty().getValue().intValue());
+            assertEquals(firstInvalid, validator.getFirstInvalidLineProperty().getValue().intValue());
+
+            // At most one notification per property and per edit
+            assertTrue(invalidCountListener.count <= 1);
+            assertTrue(firstInvalidListener.count <= 1);
+        }
+
+        validator.dispose();
+    }
+}